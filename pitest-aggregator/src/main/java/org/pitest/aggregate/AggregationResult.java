@@ -2,17 +2,22 @@ package org.pitest.aggregate;
 
 import java.math.BigDecimal;
 
+import org.pitest.mutationtest.tooling.CombinedStatistics;
+
 public class AggregationResult {
   private final long mutations;
   private final long mutationsSurvived;
   private final BigDecimal mutationCoverage;
   private final BigDecimal testStrength;
+  private final CombinedStatistics statistics;
 
-  public AggregationResult(long mutations, long mutationsSurvived, BigDecimal mutationCoverage, BigDecimal testStrength) {
+  public AggregationResult(long mutations, long mutationsSurvived, BigDecimal mutationCoverage, BigDecimal testStrength,
+                           CombinedStatistics statistics) {
     this.mutations = mutations;
     this.mutationsSurvived = mutationsSurvived;
     this.mutationCoverage = mutationCoverage;
     this.testStrength = testStrength;
+    this.statistics = statistics;
   }
 
   public long getMutations() {
@@ -30,4 +35,12 @@ public class AggregationResult {
   public BigDecimal getTestStrength() {
     return testStrength;
   }
+
+  /**
+   * Statistics for the merged results, as a single run would give them, to
+   * check thresholds against.
+   */
+  public CombinedStatistics getStatistics() {
+    return statistics;
+  }
 }
@@ -1,20 +1,29 @@
 package org.pitest.aggregate;
 
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.BlockCoverage;
 import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.ClassLines;
 import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.CoverageSummary;
 import org.pitest.coverage.ReportCoverage;
 import org.pitest.coverage.analysis.LineMapper;
 import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.SourceLocator;
 import org.pitest.mutationtest.build.CoverageTransformer;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.report.html.MutationHtmlReportListener;
+import org.pitest.mutationtest.report.xml.XMLReportListener;
+import org.pitest.mutationtest.statistics.MutationStatistics;
+import org.pitest.mutationtest.statistics.MutationStatisticsListener;
+import org.pitest.mutationtest.tooling.CombinedStatistics;
 import org.pitest.mutationtest.tooling.SmartSourceLocator;
 import org.pitest.util.Log;
 import org.pitest.util.ResultOutputStrategy;
@@ -28,8 +37,11 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -49,6 +61,8 @@ public final class ReportAggregator {
   private final Charset inputCharset;
   private final Charset outputCharset;
   private final int thresholdPrecision;
+  private final Collection<String> mutatorNames;
+  private final boolean xmlReport;
 
   private ReportAggregator(SettingsFactory settings,
                            ResultOutputStrategy resultOutputStrategy,
@@ -58,7 +72,9 @@ public final class ReportAggregator {
                            Set<File> compiledCodeDirs,
                            Charset inputCharset,
                            Charset outputCharset,
-                           int thresholdPrecision) {
+                           int thresholdPrecision,
+                           Collection<String> mutatorNames,
+                           boolean xmlReport) {
     this.settings = settings;
     this.resultOutputStrategy = resultOutputStrategy;
     this.blockCoverageLoader = new BlockCoverageDataLoader(lineCoverageFiles);
@@ -68,6 +84,8 @@ public final class ReportAggregator {
     this.inputCharset = inputCharset;
     this.outputCharset = outputCharset;
     this.thresholdPrecision = thresholdPrecision;
+    this.mutatorNames = mutatorNames;
+    this.xmlReport = xmlReport;
   }
 
   public AggregationResult aggregateReport() throws ReportAggregationException {
@@ -75,29 +93,83 @@ public final class ReportAggregator {
 
     boolean partialCoverage = scanForPartialCoverageFlag(mutationFiles);
 
-    final MutationResultListener mutationResultListener = createResultListener(sourceLocator, Collections.emptySet(), partialCoverage);
+    final CodeSource codeSource = this.codeSourceAggregator.createCodeSource();
+    final Set<BlockCoverage> blockCoverage = this.blockCoverageLoader.loadData();
+    final ReportCoverage coverage = calculateCoverage(codeSource, blockCoverage);
+
+    final List<MutationResultListener> listeners = new ArrayList<>();
+    listeners.add(createResultListener(coverage, sourceLocator, this.mutatorNames, partialCoverage));
+    if (this.xmlReport) {
+      listeners.add(new XMLReportListener(this.resultOutputStrategy, false, partialCoverage));
+    }
+    final MutationStatisticsListener statisticsListener = new MutationStatisticsListener();
+    listeners.add(statisticsListener);
     final ReportAggregatorResultListener reportAggregatorResultListener = new ReportAggregatorResultListener(thresholdPrecision);
+    listeners.add(reportAggregatorResultListener);
 
-    reportAggregatorResultListener.runStart();
-    mutationResultListener.runStart();
+    listeners.forEach(MutationResultListener::runStart);
 
+    final Map<MutationIdentifier, File> seen = new HashMap<>();
     for (File file : mutationFiles) {
 
       // hack so only source files from within a given module are resolved
       sourceLocator.sourceRootHint(file.getParentFile().toPath());
 
       MutationResultDataLoader loader = new MutationResultDataLoader(asList(file));
-      MutationMetaData mutationMetaData = new MutationMetaData(new ArrayList<>(loader.loadData()));
+      List<MutationResult> results = new ArrayList<>(loader.loadData());
+      for (MutationResult result : results) {
+        checkNotSeenBefore(result, file, seen);
+      }
+      MutationMetaData mutationMetaData = new MutationMetaData(results);
       for (ClassMutationResults classResult : mutationMetaData.toClassResults()) {
-        reportAggregatorResultListener.handleMutationResult(classResult);
-        mutationResultListener.handleMutationResult(classResult);
+        listeners.forEach(l -> l.handleMutationResult(classResult));
       }
 
     }
-    reportAggregatorResultListener.runEnd();
-    mutationResultListener.runEnd();
+    listeners.forEach(MutationResultListener::runEnd);
+
+    final MutationStatistics mutationStatistics = statisticsListener.getStatistics();
+    final CombinedStatistics statistics = new CombinedStatistics(mutationStatistics,
+            createSummary(countTests(blockCoverage), coverage, mutationStatistics.mutatedClasses()),
+            Collections.emptyList());
+
+    return reportAggregatorResultListener.result(statistics);
+  }
+
+  // shards of a run each hold different mutants, so a mutant in more than one
+  // file means the shards were created from differing settings, code or
+  // coverage, and the results cannot be safely combined
+  private static void checkNotSeenBefore(MutationResult result, File file,
+      Map<MutationIdentifier, File> seen) throws ReportAggregationException {
+    final File first = seen.putIfAbsent(result.getDetails().getId(), file);
+    if (first != null) {
+      throw new ReportAggregationException("Result for "
+          + result.getDetails().getId() + " found in both " + first + " and "
+          + file + ". Shards of a run must be created from the same settings"
+          + ", code and coverage.");
+    }
+  }
+
+  // matches the summary of a single run, except that tests covering no code
+  // do not appear in the coverage files so are not counted
+  private CoverageSummary createSummary(int numberOfTests, ReportCoverage coverage, Set<ClassName> mutatedClasses) {
+    int numberOfCodeLines = mutatedClasses.stream()
+            .map(coverage::getCodeLinesForClass)
+            .map(ClassLines::getNumberOfCodeLines)
+            .reduce(0, Integer::sum);
+
+    int coveredLines = mutatedClasses.stream()
+            .mapToInt(c -> coverage.getCoveredLines(c).size())
+            .sum();
 
-    return reportAggregatorResultListener.result();
+    return new CoverageSummary(numberOfCodeLines, coveredLines, numberOfTests);
+  }
+
+  private int countTests(Set<BlockCoverage> blockCoverage) {
+    return (int) blockCoverage.stream()
+            .flatMap(b -> b.getTests().stream())
+            .distinct()
+            .count();
   }
 
   private boolean scanForPartialCoverageFlag(Set<File> mutationFiles) {
@@ -116,12 +188,9 @@ public final class ReportAggregator {
     return true;
   }
 
-  private MutationResultListener createResultListener(SourceLocator sourceLocator, Collection<String> mutatorNames, boolean partialCoverage) throws ReportAggregationException {
-    final CodeSource codeSource = this.codeSourceAggregator.createCodeSource();
-    final ReportCoverage coverageDatabase = calculateCoverage(codeSource);
-
+  private MutationResultListener createResultListener(ReportCoverage coverage, SourceLocator sourceLocator, Collection<String> mutatorNames, boolean partialCoverage) {
     return new MutationHtmlReportListener(outputCharset,
-            coverageDatabase,
+            coverage,
             this.resultOutputStrategy,
             mutatorNames,
             partialCoverage,
@@ -137,9 +206,9 @@ public final class ReportAggregator {
             .collect(Collectors.toList());
   }
 
-  private ReportCoverage calculateCoverage(final CodeSource codeSource) throws ReportAggregationException {
+  private ReportCoverage calculateCoverage(final CodeSource codeSource, final Set<BlockCoverage> blockCoverage) throws ReportAggregationException {
     try {
-      Collection<BlockLocation> coverageData = this.blockCoverageLoader.loadData().stream()
+      Collection<BlockLocation> coverageData = blockCoverage.stream()
               .map(BlockCoverage::getBlock)
               .collect(Collectors.toList());
       CoverageData cd = new CoverageData(codeSource, new LineMapper(codeSource), 0);
@@ -173,6 +242,8 @@ public final class ReportAggregator {
     private Charset inputCharset = Charset.defaultCharset();
     private Charset outputCharset = Charset.defaultCharset();
     private int thresholdPrecision = 0;
+    private final Set<String>    mutatorNames            = new LinkedHashSet<>();
+    private boolean xmlReport = false;
 
     public Builder inputCharSet(Charset inputCharset) {
       this.inputCharset = inputCharset;
@@ -189,6 +260,25 @@ public final class ReportAggregator {
       return this;
     }
 
+    /**
+     * Names of the mutators the results were produced with, listed in the
+     * html report as a single run would.
+     */
+    public Builder mutatorNames(final Collection<String> mutatorNames) {
+      this.mutatorNames.clear();
+      this.mutatorNames.addAll(mutatorNames);
+      return this;
+    }
+
+    /**
+     * Also write the merged results as mutations.xml, so that results split
+     * between shards can be used as those of a single run.
+     */
+    public Builder xmlReport(final boolean xmlReport) {
+      this.xmlReport = xmlReport;
+      return this;
+    }
+
     public Builder resultOutputStrategy(final ResultOutputStrategy resultOutputStrategy) {
       this.resultOutputStrategy = resultOutputStrategy;
       return this;
@@ -302,7 +392,9 @@ public final class ReportAggregator {
               this.compiledCodeDirectories,
               inputCharset,
               outputCharset,
-              thresholdPrecision);
+              thresholdPrecision,
+              this.mutatorNames,
+              this.xmlReport);
     }
 
     /*
@@ -3,6 +3,7 @@ package org.pitest.aggregate;
 import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.report.html.MutationTotals;
+import org.pitest.mutationtest.tooling.CombinedStatistics;
 
 public class ReportAggregatorResultListener implements MutationResultListener {
   MutationTotals totals = new MutationTotals();
@@ -28,8 +29,8 @@ public class ReportAggregatorResultListener implements MutationResultListener {
   public void runEnd() {
   }
 
-  public AggregationResult result() {
+  public AggregationResult result(CombinedStatistics statistics) {
     return new AggregationResult(totals.getNumberOfMutations(), totals.getNumberOfMutations() - totals.getNumberOfMutationsDetected(),
-        totals.getMutationCoverage(thresholdPrecision), totals.getTestStrength(thresholdPrecision));
+        totals.getMutationCoverage(thresholdPrecision), totals.getTestStrength(thresholdPrecision), statistics);
   }
 }
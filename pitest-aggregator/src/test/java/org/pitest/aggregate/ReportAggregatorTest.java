@@ -0,0 +1,131 @@
+package org.pitest.aggregate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.pitest.aggregate.TestInvocationHelper.getCompiledDirectory;
+import static org.pitest.aggregate.TestInvocationHelper.getCoverageFile;
+import static org.pitest.aggregate.TestInvocationHelper.getMutationFile;
+import static org.pitest.aggregate.TestInvocationHelper.getSourceDirectory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.coverage.CoverageSummary;
+import org.pitest.mutationtest.statistics.MutationStatistics;
+import org.pitest.mutationtest.tooling.CombinedStatistics;
+
+public class ReportAggregatorTest {
+
+  private static final Pattern MUTATION = Pattern.compile("(?s)<mutation .*?</mutation>");
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final Map<String, StringWriter> written = new HashMap<>();
+
+  @Test
+  public void shouldGiveSameStatisticsForMergedShardsAsForSingleRun() throws Exception {
+    final CombinedStatistics single = aggregate(false, getMutationFile()).getStatistics();
+    final CombinedStatistics merged = aggregate(false, splitIntoShards()).getStatistics();
+
+    final MutationStatistics expected = single.getMutationStatistics();
+    final MutationStatistics actual = merged.getMutationStatistics();
+    assertThat(actual.getTotalMutations()).isEqualTo(expected.getTotalMutations()).isEqualTo(2);
+    assertThat(actual.getTotalDetectedMutations()).isEqualTo(expected.getTotalDetectedMutations());
+    assertThat(actual.getTotalSurvivingMutations()).isEqualTo(expected.getTotalSurvivingMutations());
+    assertThat(actual.getTotalMutationsWithCoverage()).isEqualTo(expected.getTotalMutationsWithCoverage());
+    assertThat(actual.mutatedClasses()).isEqualTo(expected.mutatedClasses());
+
+    final CoverageSummary expectedCoverage = single.getCoverageSummary();
+    final CoverageSummary actualCoverage = merged.getCoverageSummary();
+    assertThat(actualCoverage.getNumberOfLines()).isEqualTo(expectedCoverage.getNumberOfLines());
+    assertThat(actualCoverage.getNumberOfCoveredLines()).isEqualTo(expectedCoverage.getNumberOfCoveredLines());
+    assertThat(actualCoverage.getNumberOfTests()).isEqualTo(expectedCoverage.getNumberOfTests());
+  }
+
+  @Test
+  public void shouldFailWhenMutantFoundInMoreThanOneShard() throws Exception {
+    final File copy = new File(this.folder.newFolder("copy"), "mutations.xml");
+    Files.copy(getMutationFile().toPath(), copy.toPath());
+
+    assertThatThrownBy(() -> aggregate(false, getMutationFile(), copy))
+        .isInstanceOf(ReportAggregationException.class)
+        .hasMessageContaining(copy.toString());
+  }
+
+  @Test
+  public void shouldCountTestsFoundInCoverage() throws Exception {
+    final CombinedStatistics actual = aggregate(false, getMutationFile()).getStatistics();
+    assertThat(actual.getCoverageSummary().getNumberOfTests()).isGreaterThan(0);
+  }
+
+  @Test
+  public void shouldWriteMergedResultsAsXmlWhenRequested() throws Exception {
+    aggregate(true, splitIntoShards());
+
+    final String xml = this.written.get("mutations.xml").toString();
+    final Matcher matcher = MUTATION.matcher(xml);
+    int count = 0;
+    while (matcher.find()) {
+      count = count + 1;
+    }
+    assertThat(count).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotWriteXmlByDefault() throws Exception {
+    aggregate(false, getMutationFile());
+
+    assertThat(this.written).doesNotContainKey("mutations.xml");
+    assertThat(this.written).containsKey("index.html");
+  }
+
+  private AggregationResult aggregate(boolean xmlReport, File... mutationFiles)
+      throws ReportAggregationException {
+    this.written.clear();
+    return ReportAggregator.builder()
+        .resultOutputStrategy(name -> {
+          final StringWriter writer = new StringWriter();
+          this.written.put(name, writer);
+          return writer;
+        })
+        .mutationResultsFiles(Arrays.asList(mutationFiles))
+        .lineCoverageFiles(Arrays.asList(getCoverageFile()))
+        .sourceCodeDirectories(Arrays.asList(getSourceDirectory()))
+        .compiledCodeDirectories(Arrays.asList(getCompiledDirectory()))
+        .xmlReport(xmlReport)
+        .build()
+        .aggregateReport();
+  }
+
+  // writes each mutation to a results file of its own, as if each had been
+  // analysed by a different shard
+  private File[] splitIntoShards() throws IOException {
+    final String xml = new String(Files.readAllBytes(getMutationFile().toPath()),
+        StandardCharsets.UTF_8);
+    final List<File> shards = new ArrayList<>();
+    final Matcher matcher = MUTATION.matcher(xml);
+    while (matcher.find()) {
+      final File shard = this.folder.newFolder("shard" + (shards.size() + 1));
+      final File file = new File(shard, "mutations.xml");
+      Files.write(file.toPath(), ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<mutations>\n"
+          + matcher.group() + "\n</mutations>\n").getBytes(StandardCharsets.UTF_8));
+      shards.add(file);
+    }
+    return shards.toArray(new File[0]);
+  }
+
+}
@@ -256,6 +256,14 @@ public class PitestTask extends Task { // NO_UCD (test only)
     this.setOption(ConfigOption.FULL_MUTATION_MATRIX, value);
   }
 
+  public void setJournal(final String value) {
+    this.setOption(ConfigOption.JOURNAL, value);
+  }
+
+  public void setResume(final String value) {
+    this.setOption(ConfigOption.RESUME, value);
+  }
+
   public void setJVM(String value) {
     this.setOption(ConfigOption.JVM_PATH, value);
   }
@@ -489,6 +489,20 @@ public class PitestTaskTest {
     verify(this.arg).setValue("--fullMutationMatrix=true");
   }
 
+  @Test
+  public void shouldPassJournalFlagToJavaTask() {
+    this.pitestTask.setJournal("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--journal=true");
+  }
+
+  @Test
+  public void shouldPassResumeFlagToJavaTask() {
+    this.pitestTask.setResume("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--resume=true");
+  }
+
   @Test
   public void passesInputEncodingToJavaTask() {
     this.pitestTask.setInputEncoding("US-ASCII");
@@ -0,0 +1,106 @@
+package org.pitest.coverage;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import sun.pitest.CodeCoverageStore;
+
+/**
+ * Compares the cost of collecting and resetting coverage at the end of a test
+ * that touches a few classes, when tracking the classes a test touched against
+ * scanning every instrumented class.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoverageStoreBenchmark {
+
+  private static final int PROBES = 20;
+
+  @Param({ "1000", "10000", "50000" })
+  private int instrumentedClasses;
+
+  @Param({ "20" })
+  private int touchedClasses;
+
+  private final Map<Integer, boolean[]> allClasses = new ConcurrentHashMap<>();
+  private int[]                         touched;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    CodeCoverageStore.resetAllStaticState();
+    for (int i = 0; i != this.instrumentedClasses; i++) {
+      CodeCoverageStore.getOrRegisterClassProbes(i, PROBES);
+      this.allClasses.put(i, new boolean[PROBES + 1]);
+    }
+    // spread the touched classes across the id range
+    this.touched = new int[this.touchedClasses];
+    final int step = this.instrumentedClasses / this.touchedClasses;
+    for (int i = 0; i != this.touchedClasses; i++) {
+      this.touched[i] = i * step;
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    CodeCoverageStore.resetAllStaticState();
+  }
+
+  @Benchmark
+  public void touchedClassTracking(Blackhole bh) {
+    for (final int each : this.touched) {
+      final boolean[] probes = CodeCoverageStore.getOrRegisterClassProbes(each, PROBES);
+      if (!probes[0]) {
+        CodeCoverageStore.classHit(each);
+      }
+      probes[1] = true;
+    }
+    CodeCoverageStore.visitHits((probes, classId) -> bh.consume(probes[1]));
+    CodeCoverageStore.reset();
+  }
+
+  @Benchmark
+  public void scanAllClasses(Blackhole bh) {
+    for (final int each : this.touched) {
+      final boolean[] probes = this.allClasses.get(each);
+      probes[0] = true;
+      probes[1] = true;
+    }
+    synchronized (this) {
+      for (final Entry<Integer, boolean[]> each : this.allClasses.entrySet()) {
+        if (each.getValue()[0]) {
+          bh.consume(each.getValue()[1]);
+        }
+      }
+    }
+    synchronized (this) {
+      for (final Entry<Integer, boolean[]> each : this.allClasses.entrySet()) {
+        if (each.getValue()[0]) {
+          Arrays.fill(each.getValue(), false);
+        }
+      }
+    }
+  }
+
+}
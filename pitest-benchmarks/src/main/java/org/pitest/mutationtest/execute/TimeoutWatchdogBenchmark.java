@@ -0,0 +1,120 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.testapi.AbstractTestUnit;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.testapi.TestUnit;
+
+/**
+ * Measures the cost the timeout watchdog adds to each test, by running many
+ * trivial tests with and without a time limit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeoutWatchdogBenchmark {
+
+  @Param({ "10000" })
+  private int tests;
+
+  private final List<TestUnit> plain   = new ArrayList<>();
+  private final List<TestUnit> watched = new ArrayList<>();
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final PercentAndConstantTimeoutStrategy timeouts = new PercentAndConstantTimeoutStrategy(
+        PercentAndConstantTimeoutStrategy.DEFAULT_FACTOR,
+        PercentAndConstantTimeoutStrategy.DEFAULT_CONSTANT);
+    for (int i = 0; i != this.tests; i++) {
+      final TestUnit test = new TrivialTest(i);
+      this.plain.add(test);
+      this.watched.add(new MutationTimeoutDecorator(test, () -> {
+        throw new AssertionError("trivial test timed out");
+      }, timeouts, 1));
+    }
+  }
+
+  @Benchmark
+  public void unwatched(Blackhole bh) {
+    run(this.plain, bh);
+  }
+
+  @Benchmark
+  public void watched(Blackhole bh) {
+    run(this.watched, bh);
+  }
+
+  private static void run(List<TestUnit> tests, Blackhole bh) {
+    final ResultCollector rc = new Collector(bh);
+    for (final TestUnit each : tests) {
+      each.execute(rc);
+    }
+  }
+
+  private static final class TrivialTest extends AbstractTestUnit {
+    TrivialTest(int i) {
+      super(new Description("test" + i));
+    }
+
+    @Override
+    public void execute(ResultCollector rc) {
+      rc.notifyStart(getDescription());
+      rc.notifyEnd(getDescription());
+    }
+  }
+
+  private static final class Collector implements ResultCollector {
+    private final Blackhole bh;
+
+    Collector(Blackhole bh) {
+      this.bh = bh;
+    }
+
+    @Override
+    public void notifyEnd(Description description, Throwable t) {
+      this.bh.consume(t);
+    }
+
+    @Override
+    public void notifyEnd(Description description) {
+      this.bh.consume(description);
+    }
+
+    @Override
+    public void notifyStart(Description description) {
+      this.bh.consume(description);
+    }
+
+    @Override
+    public void notifySkipped(Description description) {
+      this.bh.consume(description);
+    }
+
+    @Override
+    public boolean shouldExit() {
+      return false;
+    }
+  }
+
+}
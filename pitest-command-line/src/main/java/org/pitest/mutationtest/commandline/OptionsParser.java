@@ -66,6 +66,7 @@ import static org.pitest.mutationtest.config.ConfigOption.EXPORT_LINE_COVERAGE;
 import static org.pitest.mutationtest.config.ConfigOption.FAIL_WHEN_NOT_MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.FEATURES;
 import static org.pitest.mutationtest.config.ConfigOption.FULL_MUTATION_MATRIX;
+import static org.pitest.mutationtest.config.ConfigOption.JOURNAL;
 import static org.pitest.mutationtest.config.ConfigOption.HISTORY_INPUT_LOCATION;
 import static org.pitest.mutationtest.config.ConfigOption.HISTORY_OUTPUT_LOCATION;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_GROUPS;
@@ -84,6 +85,7 @@ import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
 import static org.pitest.mutationtest.config.ConfigOption.PLUGIN_CONFIGURATION;
 import static org.pitest.mutationtest.config.ConfigOption.PROJECT_BASE;
 import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
+import static org.pitest.mutationtest.config.ConfigOption.RESUME;
 import static org.pitest.mutationtest.config.ConfigOption.CONFIG_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.SKIP_FAILING_TESTS;
 import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
@@ -141,6 +143,8 @@ public class OptionsParser {
   private final OptionSpec<String>                   includedGroupsSpec;
   private final OptionSpec<String>                   includedTestMethodsSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> fullMutationMatrixSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> journalSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> resumeSpec;
   private final OptionSpec<Integer>                  mutationUnitSizeSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> timestampedReportsSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> detectInlinedCode;
@@ -365,6 +369,20 @@ public class OptionsParser {
             "Whether to create a full mutation matrix")
         .defaultsTo(FULL_MUTATION_MATRIX.getDefault(Boolean.class));
 
+    this.journalSpec = parserAccepts(JOURNAL)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .describedAs(
+            "Whether to journal results so that an incomplete run can be resumed")
+        .defaultsTo(JOURNAL.getDefault(Boolean.class));
+
+    this.resumeSpec = parserAccepts(RESUME)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .describedAs(
+            "Whether to reuse the results of a run that did not complete")
+        .defaultsTo(RESUME.getDefault(Boolean.class));
+
     this.mutationUnitSizeSpec = parserAccepts(MUTATION_UNIT_SIZE)
         .withRequiredArg()
         .ofType(Integer.class)
@@ -477,6 +495,8 @@ public class OptionsParser {
 
     data.addChildJVMArgs(this.jvmArgsProcessor.values(userArgs));
     data.setFullMutationMatrix(booleanValue(fullMutationMatrixSpec, userArgs));
+    data.setJournal(booleanValue(journalSpec, userArgs));
+    data.setResume(booleanValue(resumeSpec, userArgs));
 
     data.setDetectInlinedCode(booleanValue(detectInlinedCode, userArgs));
 
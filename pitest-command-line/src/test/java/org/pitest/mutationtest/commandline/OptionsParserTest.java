@@ -651,6 +651,30 @@ public class OptionsParserTest {
     assertThat(actual.isFullMutationMatrix()).isFalse();
   }
 
+  @Test
+  public void shouldNotJournalByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertThat(actual.isJournal()).isFalse();
+  }
+
+  @Test
+  public void shouldJournalWhenFlagIsSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--journal");
+    assertThat(actual.isJournal()).isTrue();
+  }
+
+  @Test
+  public void shouldNotResumeByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertThat(actual.isResume()).isFalse();
+  }
+
+  @Test
+  public void shouldResumeWhenFlagIsSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--resume");
+    assertThat(actual.isResume()).isTrue();
+  }
+
   @Test
   public void shouldParseProjectBase() {
     final ReportOptions actual = parseAddingRequiredArgs(
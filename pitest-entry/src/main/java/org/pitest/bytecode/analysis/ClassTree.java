@@ -29,7 +29,7 @@ import static org.pitest.functional.Streams.asStream;
 public class ClassTree {
 
   private final ClassNode rawNode;
-  private List<MethodTree> lazyMethods;
+  private volatile List<MethodTree> lazyMethods;
 
   public ClassTree(ClassNode rawNode) {
     this.rawNode = rawNode;
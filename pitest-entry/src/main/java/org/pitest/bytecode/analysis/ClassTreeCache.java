@@ -0,0 +1,123 @@
+package org.pitest.bytecode.analysis;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.util.Timings;
+
+/**
+ * Bounded cache of parsed classes, so that the coverage, mutation and
+ * reporting stages do not each parse the same bytes again.
+ *
+ * Entries are keyed by class name and checked against a hash of the bytes
+ * they were parsed from, so a changed class is parsed afresh. The cache holds
+ * at most an estimated capacity in bytes, evicting the least recently used
+ * classes first. Trees are softly referenced, so the garbage collector may
+ * also discard them on large classpaths before the limit is reached.
+ */
+public class ClassTreeCache {
+
+  // rough ratio between the size of a parsed tree and the class file
+  private static final int EXPANSION = 10;
+
+  private final long                          capacity;
+  private final LinkedHashMap<ClassName, Entry> entries = new LinkedHashMap<>(
+      64, 0.75f, true);
+
+  private long weight;
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  public ClassTreeCache() {
+    this(Runtime.getRuntime().maxMemory() / 8);
+  }
+
+  /**
+   * @param capacity
+   *          estimated memory in bytes the cached trees may occupy
+   */
+  public ClassTreeCache(long capacity) {
+    this.capacity = capacity;
+  }
+
+  public ClassTree get(ClassName name, byte[] bytes) {
+    final long hash = hash(bytes);
+    synchronized (this) {
+      final Entry entry = this.entries.get(name);
+      if (entry != null && entry.hash == hash) {
+        final ClassTree tree = entry.tree.get();
+        if (tree != null) {
+          this.hits = this.hits + 1;
+          return tree;
+        }
+      }
+      this.misses = this.misses + 1;
+    }
+
+    // parse outside the lock so other classes can be served meanwhile
+    final ClassTree tree = ClassTree.fromBytes(bytes);
+    put(name, new Entry(hash, (long) bytes.length * EXPANSION, tree));
+    return tree;
+  }
+
+  public synchronized long hits() {
+    return this.hits;
+  }
+
+  public synchronized long misses() {
+    return this.misses;
+  }
+
+  public synchronized long evictions() {
+    return this.evictions;
+  }
+
+  public synchronized void recordStatistics(Timings timings) {
+    timings.increment(Timings.Counter.CLASS_TREE_CACHE_HITS, this.hits);
+    timings.increment(Timings.Counter.CLASS_TREE_CACHE_MISSES, this.misses);
+    timings.increment(Timings.Counter.CLASS_TREE_CACHE_EVICTIONS, this.evictions);
+  }
+
+  private synchronized void put(ClassName name, Entry entry) {
+    if (entry.weight > this.capacity) {
+      return;
+    }
+    final Entry previous = this.entries.put(name, entry);
+    if (previous != null) {
+      this.weight = this.weight - previous.weight;
+    }
+    this.weight = this.weight + entry.weight;
+
+    final Iterator<Map.Entry<ClassName, Entry>> it = this.entries.entrySet().iterator();
+    while (this.weight > this.capacity && it.hasNext()) {
+      final Entry eldest = it.next().getValue();
+      it.remove();
+      this.weight = this.weight - eldest.weight;
+      this.evictions = this.evictions + 1;
+    }
+  }
+
+  private static long hash(byte[] bytes) {
+    final CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length);
+    return (crc.getValue() << 32) | bytes.length;
+  }
+
+  private static final class Entry {
+    private final long                     hash;
+    private final long                     weight;
+    private final SoftReference<ClassTree> tree;
+
+    Entry(long hash, long weight, ClassTree tree) {
+      this.hash = hash;
+      this.weight = weight;
+      this.tree = new SoftReference<>(tree);
+    }
+  }
+
+}
@@ -0,0 +1,285 @@
+package org.pitest.classinfo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.classpath.ArchiveClassPathRoot;
+import org.pitest.classpath.ClassPath;
+import org.pitest.util.Log;
+
+/**
+ * Records the names, hashes, super classes and outer classes of the classes
+ * in each archive on the classpath, so that they need not be read and hashed
+ * again in later runs.
+ *
+ * An archive's entries are trusted while its path, size and modification time
+ * are unchanged. Directories are never indexed, as they usually hold the
+ * code under test, and classes found in a directory before any archive are
+ * always read from it. The root each class is found in is remembered for the
+ * rest of the run, so directories are searched at most once per class.
+ */
+public class ClassPathIndex {
+
+  private static final Logger LOG     = Log.getLogger();
+
+  private static final int    VERSION = 1;
+
+  private final File                   file;
+  private final List<File>             roots;
+  private final Map<String, IndexedRoot> indexed;
+  private final Set<String>            validated = new HashSet<>();
+  private final Map<String, Optional<IndexedRoot>> located = new HashMap<>();
+  private boolean                      changed;
+
+  ClassPathIndex(File file, List<File> roots, Map<String, IndexedRoot> indexed) {
+    this.file = file;
+    this.roots = roots;
+    this.indexed = indexed;
+  }
+
+  public static ClassPathIndex none() {
+    return new ClassPathIndex(null, new ArrayList<>(), new HashMap<>());
+  }
+
+  /**
+   * @return true if the index is neither read nor written
+   */
+  public boolean isNone() {
+    return this.file == null;
+  }
+
+  /**
+   * @param file
+   *          location of the index. Its contents are ignored if missing or
+   *          unreadable.
+   * @param classPath
+   *          classpath the index describes
+   */
+  public static ClassPathIndex load(File file, ClassPath classPath) {
+    final List<File> roots = new ArrayList<>();
+    for (final String each : classPath.getLocalClassPath().split(File.pathSeparator)) {
+      if (!each.isEmpty()) {
+        roots.add(new File(each));
+      }
+    }
+    return new ClassPathIndex(file, roots, read(file));
+  }
+
+  /**
+   * Writes the index if anything has been added to it.
+   */
+  public synchronized void save() {
+    if (this.file == null || !this.changed) {
+      return;
+    }
+    try {
+      final File parent = this.file.getAbsoluteFile().getParentFile();
+      parent.mkdirs();
+      final File temp = File.createTempFile("classpath", ".tmp", parent);
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          Files.newOutputStream(temp.toPath())))) {
+        write(out);
+      }
+      Files.move(temp.toPath(), this.file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING);
+      this.changed = false;
+    } catch (final IOException ex) {
+      LOG.warning("Could not write classpath index to " + this.file + " " + ex.getMessage());
+    }
+  }
+
+  synchronized Optional<ClassInfoBuilder> find(ClassName name) {
+    final IndexedRoot root = locate(name);
+    if (root == null) {
+      return Optional.empty();
+    }
+    final Entry entry = root.entries.get(name.asJavaName());
+    if (entry == null) {
+      return Optional.empty();
+    }
+    final ClassInfoBuilder builder = new ClassInfoBuilder();
+    builder.id = new ClassIdentifier(entry.hash, name);
+    builder.superClass = entry.superClass;
+    builder.outerClass = entry.outerClass;
+    return Optional.of(builder);
+  }
+
+  synchronized void record(ClassInfoBuilder info) {
+    final IndexedRoot root = locate(info.id.getName());
+    if (root != null) {
+      root.entries.put(info.id.getName().asJavaName(),
+          new Entry(info.id.getHash(), info.superClass, info.outerClass));
+      this.changed = true;
+    }
+  }
+
+  // finds the archive the class would be loaded from, if the class is not
+  // first found in a directory
+  private IndexedRoot locate(ClassName name) {
+    if (this.roots.isEmpty()) {
+      return null;
+    }
+    return this.located.computeIfAbsent(name.asJavaName(),
+        n -> Optional.ofNullable(search(name))).orElse(null);
+  }
+
+  private IndexedRoot search(ClassName name) {
+    final String javaName = name.asJavaName();
+    for (final File each : this.roots) {
+      if (each.isDirectory()) {
+        if (new File(each, name.asInternalName() + ".class").exists()) {
+          return null;
+        }
+      } else if (each.isFile()) {
+        final IndexedRoot root = validate(each);
+        if (root.names.contains(javaName)) {
+          return root;
+        }
+      }
+    }
+    return null;
+  }
+
+  private IndexedRoot validate(File archive) {
+    final String path = archive.getAbsolutePath();
+    if (this.validated.contains(path)) {
+      return this.indexed.get(path);
+    }
+
+    final String key = key(archive);
+    IndexedRoot root = this.indexed.get(path);
+    if (root == null || !root.key.equals(key)) {
+      root = new IndexedRoot(key,
+          new HashSet<>(new ArchiveClassPathRoot(archive).classNames()),
+          new HashMap<>());
+      this.indexed.put(path, root);
+      this.changed = true;
+    }
+    this.validated.add(path);
+    return root;
+  }
+
+  private static String key(File archive) {
+    return archive.length() + ":" + archive.lastModified();
+  }
+
+  private void write(DataOutputStream out) throws IOException {
+    // only roots still on the classpath are kept
+    final Map<String, IndexedRoot> current = new LinkedHashMap<>();
+    for (final File each : this.roots) {
+      final IndexedRoot root = this.indexed.get(each.getAbsolutePath());
+      if (root != null) {
+        current.putIfAbsent(each.getAbsolutePath(), root);
+      }
+    }
+
+    out.writeInt(VERSION);
+    out.writeInt(current.size());
+    for (final Map.Entry<String, IndexedRoot> each : current.entrySet()) {
+      final IndexedRoot root = each.getValue();
+      out.writeUTF(each.getKey());
+      out.writeUTF(root.key);
+      out.writeInt(root.names.size());
+      for (final String name : root.names) {
+        out.writeUTF(name);
+      }
+      out.writeInt(root.entries.size());
+      for (final Map.Entry<String, Entry> entry : root.entries.entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeLong(entry.getValue().hash);
+        writeNullable(out, entry.getValue().superClass);
+        writeNullable(out, entry.getValue().outerClass);
+      }
+    }
+  }
+
+  private static Map<String, IndexedRoot> read(File file) {
+    final Map<String, IndexedRoot> indexed = new HashMap<>();
+    if (!file.exists()) {
+      return indexed;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+        Files.newInputStream(file.toPath())))) {
+      if (in.readInt() != VERSION) {
+        return indexed;
+      }
+      final int roots = in.readInt();
+      for (int i = 0; i != roots; i++) {
+        final String path = in.readUTF();
+        final String key = in.readUTF();
+        final String[] names = new String[in.readInt()];
+        for (int n = 0; n != names.length; n++) {
+          names[n] = in.readUTF();
+        }
+        final int entryCount = in.readInt();
+        final Map<String, Entry> entries = new HashMap<>();
+        for (int e = 0; e != entryCount; e++) {
+          entries.put(in.readUTF(), new Entry(in.readLong(), readNullable(in),
+              readNullable(in)));
+        }
+        indexed.put(path, new IndexedRoot(key, new HashSet<>(Arrays.asList(names)),
+            entries));
+      }
+      return indexed;
+    } catch (final IOException ex) {
+      LOG.warning("Ignoring unreadable classpath index " + file + " " + ex.getMessage());
+      return new HashMap<>();
+    }
+  }
+
+  private static void writeNullable(DataOutputStream out, String value)
+      throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static String readNullable(DataInputStream in) throws IOException {
+    if (in.readBoolean()) {
+      return in.readUTF();
+    }
+    return null;
+  }
+
+  static final class IndexedRoot {
+    private final String             key;
+    private final Set<String>        names;
+    private final Map<String, Entry> entries;
+
+    IndexedRoot(String key, Set<String> names, Map<String, Entry> entries) {
+      this.key = key;
+      this.names = names;
+      this.entries = entries;
+    }
+  }
+
+  private static final class Entry {
+    private final long   hash;
+    private final String superClass;
+    private final String outerClass;
+
+    Entry(long hash, String superClass, String outerClass) {
+      this.hash = hash;
+      this.superClass = superClass;
+      this.outerClass = outerClass;
+    }
+  }
+
+}
@@ -27,18 +27,31 @@ public class Repository implements ClassHashSource {
   private final Map<ClassName, ClassInfo> knownClasses   = new HashMap<>();
   private final Set<ClassName>            unknownClasses = new HashSet<>();
   private final ClassByteArraySource      source;
+  private final ClassPathIndex            index;
 
   public Repository(final ClassByteArraySource source) {
-    this(source, new AddlerHash());
+    this(source, ClassPathIndex.none());
+  }
+
+  public Repository(final ClassByteArraySource source, final ClassPathIndex index) {
+    this(source, new AddlerHash(), index);
   }
 
   Repository(final ClassByteArraySource source, final HashFunction hashFunction) {
+    this(source, hashFunction, ClassPathIndex.none());
+  }
+
+  Repository(final ClassByteArraySource source, final HashFunction hashFunction,
+      final ClassPathIndex index) {
     this.source = source;
     this.hashFunction = hashFunction;
+    this.index = index;
   }
 
   public boolean hasClass(final ClassName name) {
-    return this.knownClasses.containsKey(name) || querySource(name).isPresent();
+    return this.knownClasses.containsKey(name)
+        || this.index.find(name).isPresent()
+        || querySource(name).isPresent();
   }
 
   @Override
@@ -66,10 +79,16 @@ public class Repository implements ClassHashSource {
   }
 
   private Optional<ClassInfo> nameToClassInfo(final ClassName name) {
+    final Optional<ClassInfoBuilder> indexed = this.index.find(name);
+    if (indexed.isPresent()) {
+      return constructClassInfo(indexed.get());
+    }
+
     final Optional<byte[]> bytes = querySource(name);
     if (bytes.isPresent()) {
       final ClassInfoBuilder classData = ClassInfoVisitor.getClassInfo(name,
           bytes.get(), this.hashFunction.hash(bytes.get()));
+      this.index.record(classData);
       return constructClassInfo(classData);
     } else {
       return Optional.empty();
@@ -11,6 +11,7 @@ import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassHash;
 import org.pitest.classinfo.ClassHashSource;
 import org.pitest.classinfo.ClassName;
+import org.pitest.util.Timings;
 
 /**
  * Provides access to code and tests on the classpath
@@ -38,6 +39,17 @@ public interface CodeSource extends ClassHashSource, ClassByteArraySource {
 
   Optional<byte[]> fetchClassBytes(ClassName clazz);
 
+  default Optional<ClassTree> fetchClassTree(ClassName clazz) {
+    return fetchClassBytes(clazz).map(ClassTree::fromBytes);
+  }
+
+  /**
+   * Records statistics for any caching performed by the source
+   */
+  default void recordStatistics(Timings timings) {
+    // none by default
+  }
+
   Optional<ClassHash> fetchClassHash(ClassName clazz);
 
   Collection<ClassHash> fetchClassHashes(Collection<ClassName> classes);
@@ -1,10 +1,13 @@
 package org.pitest.classpath;
 
 import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.ClassTreeCache;
 import org.pitest.classinfo.ClassHash;
 import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.ClassPathIndex;
 import org.pitest.classinfo.Repository;
 import org.pitest.classinfo.TestToClassMapper;
+import org.pitest.util.Timings;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -16,23 +19,36 @@ import java.util.stream.Stream;
 public class DefaultCodeSource implements CodeSource {
     private final ProjectClassPaths   classPath;
     private final Repository classRepository;
+    private final ClassTreeCache trees;
 
     public DefaultCodeSource(final ProjectClassPaths classPath) {
+        this(classPath, ClassPathIndex.none());
+    }
+
+    public DefaultCodeSource(final ProjectClassPaths classPath,
+               final ClassPathIndex index) {
         this(classPath, new Repository(new ClassPathByteArraySource(
-                classPath.getClassPath())));
+                classPath.getClassPath()), index));
     }
 
     public DefaultCodeSource(final ProjectClassPaths classPath,
                final Repository classRepository) {
+        this(classPath, classRepository, new ClassTreeCache());
+    }
+
+    public DefaultCodeSource(final ProjectClassPaths classPath,
+               final Repository classRepository,
+               final ClassTreeCache trees) {
         this.classPath = classPath;
         this.classRepository = classRepository;
+        this.trees = trees;
     }
 
     public Stream<ClassTree> codeTrees() {
         return this.classPath.code().stream()
-                .map(c -> this.getBytes(c.asJavaName()))
+                .map(this::fetchClassTree)
                 .filter(Optional::isPresent)
-                .map(maybe -> ClassTree.fromBytes(maybe.get()));
+                .map(Optional::get);
     }
 
     public Set<ClassName> getCodeUnderTestNames() {
@@ -45,9 +61,9 @@ public class DefaultCodeSource implements CodeSource {
 
     public Stream<ClassTree> testTrees() {
         return this.classPath.test().stream()
-                .map(c -> this.getBytes(c.asJavaName()))
+                .map(this::fetchClassTree)
                 .filter(Optional::isPresent)
-                .map(maybe -> ClassTree.fromBytes(maybe.get()))
+                .map(Optional::get)
                 .filter(t -> !t.isAbstract());
     }
 
@@ -70,6 +86,16 @@ public class DefaultCodeSource implements CodeSource {
         return this.classRepository.querySource(clazz);
     }
 
+    @Override
+    public Optional<ClassTree> fetchClassTree(final ClassName clazz) {
+        return fetchClassBytes(clazz).map(bytes -> this.trees.get(clazz, bytes));
+    }
+
+    @Override
+    public void recordStatistics(final Timings timings) {
+        this.trees.recordStatistics(timings);
+    }
+
     @Override
     public Optional<ClassHash> fetchClassHash(final ClassName clazz) {
         return this.classRepository.fetchClassHash(clazz);
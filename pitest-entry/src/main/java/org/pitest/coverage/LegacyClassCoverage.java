@@ -43,8 +43,7 @@ public class LegacyClassCoverage implements ReportCoverage {
 
     @Override
     public ClassLines getCodeLinesForClass(final ClassName clazz) {
-        return code.fetchClassBytes(clazz)
-                .map(ClassTree::fromBytes)
+        return code.fetchClassTree(clazz)
                 .map(ClassLines::fromTree)
                 .orElse(new ClassLines(clazz, Collections.emptySet()));
     }
@@ -5,6 +5,7 @@ import java.net.ServerSocket;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 import org.pitest.coverage.CoverageResult;
 import org.pitest.process.ProcessArgs;
@@ -20,10 +21,22 @@ public class CoverageProcess {
   public CoverageProcess(final ProcessArgs processArgs,
       final CoverageOptions arguments, final ServerSocket socket,
       final List<String> testClasses, final Consumer<CoverageResult> handler) {
+    this(processArgs, arguments, socket, testClasses, handler, millis -> { });
+  }
+
+  /**
+   * @param startups
+   *          receives the time the minion took to become ready for work
+   */
+  public CoverageProcess(final ProcessArgs processArgs,
+      final CoverageOptions arguments, final ServerSocket socket,
+      final List<String> testClasses, final Consumer<CoverageResult> handler,
+      final LongConsumer startups) {
     this.process = WrappingProcess.create(socket.getLocalPort(), processArgs,
         CoverageMinion.class);
 
-    this.crt = new CommunicationThread(socket, new SendData(arguments, testClasses), new Receive(handler));
+    this.crt = new CommunicationThread(socket, new SendData(arguments, testClasses),
+        new Receive(handler, startups));
   }
 
   public void start() throws IOException, InterruptedException {
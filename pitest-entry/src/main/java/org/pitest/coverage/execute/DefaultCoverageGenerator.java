@@ -43,8 +43,10 @@ import org.pitest.util.Verbosity;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -63,6 +65,7 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   private final TestStatListener testStats;
   private final CoverageExporter exporter;
   private final Verbosity        verbosity;
+  private final int              shards;
 
   public DefaultCoverageGenerator(File workingDir,
                                   CoverageOptions coverageOptions,
@@ -72,6 +75,19 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
                                   TestStatListener testStats,
                                   Timings timings,
                                   Verbosity verbosity) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, testStats,
+        timings, verbosity, 1);
+  }
+
+  public DefaultCoverageGenerator(File workingDir,
+                                  CoverageOptions coverageOptions,
+                                  LaunchOptions launchOptions,
+                                  CodeSource code,
+                                  CoverageExporter exporter,
+                                  TestStatListener testStats,
+                                  Timings timings,
+                                  Verbosity verbosity,
+                                  int shards) {
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -80,6 +96,7 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     this.exporter = exporter;
     this.testStats = testStats;
     this.verbosity = verbosity;
+    this.shards = Math.max(1, shards);
   }
 
   @Override
@@ -143,19 +160,50 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
 
     final Consumer<CoverageResult> handler = resultProcessor(coverage);
 
+    // Each shard is read by its own Receive, which translates the class ids
+    // allocated within that minion into class names before the results are
+    // merged, so ids never need to be shared between minions.
     final SocketFinder sf = new SocketFinder();
-    final ServerSocket socket = sf.getNextAvailableServerSocket();
+    final List<CoverageProcess> processes = new ArrayList<>();
+    for (final List<String> shard : shard(tests)) {
+      final ServerSocket socket = sf.getNextAvailableServerSocket();
+      final CoverageProcess process = new CoverageProcess(ProcessArgs
+          .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
+          .andLaunchOptions(this.launchOptions).andStderr(logInfo())
+          .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
+          socket, shard, handler, startupRecorder());
+      process.start();
+      processes.add(process);
+    }
+
+    if (processes.size() > 1) {
+      LOG.fine("Gathering coverage in " + processes.size() + " minions");
+    }
 
-    final CoverageProcess process = new CoverageProcess(ProcessArgs
-        .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
-        .andLaunchOptions(this.launchOptions).andStderr(logInfo())
-        .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
-        socket, tests, handler);
+    // wait for every minion before checking, so none are left running
+    final List<ExitCode> exitCodes = new ArrayList<>();
+    for (final CoverageProcess each : processes) {
+      exitCodes.add(each.waitToDie());
+    }
 
-    process.start();
+    for (final ExitCode exitCode : exitCodes) {
+      checkExitCode(exitCode);
+    }
+  }
 
-    final ExitCode exitCode = process.waitToDie();
+  private List<List<String>> shard(List<String> tests) {
+    final int n = Math.min(this.shards, tests.size());
+    final List<List<String>> shards = new ArrayList<>();
+    for (int i = 0; i != n; i++) {
+      shards.add(new ArrayList<>());
+    }
+    for (int i = 0; i != tests.size(); i++) {
+      shards.get(i % n).add(tests.get(i));
+    }
+    return shards;
+  }
 
+  private static void checkExitCode(ExitCode exitCode) {
     if (exitCode == ExitCode.TEST_PLUGIN_ISSUE) {
       LOG.severe("Pitest could not run any tests. Please check that you have installed the pitest plugin for your testing library (eg JUnit 5, TestNG). If your project uses JUnit 4 "
               + "the plugin is automatically included, but a recent version of JUnit 4 must be on the classpath.");
@@ -170,6 +218,13 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     }
   }
 
+  private LongConsumer startupRecorder() {
+    if (this.verbosity.showMinionOutput()) {
+      return this.timings::recordMinionStartup;
+    }
+    return millis -> { };
+  }
+
   private Consumer<String> captureStandardOutIfVerbose() {
     if (this.verbosity.showMinionOutput()) {
       return log();
@@ -192,8 +247,9 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
           "\u0008\\", "\u0008|" };
       int i = 0;
 
+      // results from several shards may arrive at once
       @Override
-      public void accept(final CoverageResult cr) {
+      public synchronized void accept(final CoverageResult cr) {
         testStats.accept(cr);
         if (cr.isGreenTest() || !coverageOptions.getPitConfig().skipFailingTests()) {
           coverage.calculateClassCoverage(cr);
@@ -6,31 +6,51 @@ import org.pitest.coverage.CoverageResult;
 import org.pitest.mutationtest.engine.Location;
 import org.pitest.testapi.Description;
 import org.pitest.util.Id;
+import org.pitest.util.PitError;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
-import sun.pitest.CodeCoverageStore;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 final class Receive implements ReceiveStrategy {
 
   private final Map<Integer, ClassName>     classIdToName = new ConcurrentHashMap<>();
-  private final Map<Long, BlockLocation>    probeToBlock  = new ConcurrentHashMap<>();
+  private final Map<Integer, ClassProbes>   classProbes   = new ConcurrentHashMap<>();
+  private final List<Description>           descriptions  = new ArrayList<>();
 
   private final Consumer<CoverageResult> handler;
+  private final LongConsumer             startups;
 
   Receive(final Consumer<CoverageResult> handler) {
+    this(handler, millis -> { });
+  }
+
+  Receive(final Consumer<CoverageResult> handler, final LongConsumer startups) {
     this.handler = handler;
+    this.startups = startups;
   }
 
   @Override
   public void apply(final byte control, final SafeDataInputStream is) {
     switch (control) {
+    case Id.VERSION:
+      checkVersion(is.readInt());
+      break;
+    case Id.STARTED:
+      this.startups.accept(is.readLong());
+      break;
+    case Id.DESCRIBE:
+      handleDescription(is);
+      break;
     case Id.CLAZZ:
       final int id = is.readInt();
       final String name = is.readString();
@@ -47,6 +67,24 @@ final class Receive implements ReceiveStrategy {
     }
   }
 
+  private static void checkVersion(final int version) {
+    if (version != CoveragePipe.PROTOCOL_VERSION) {
+      throw new PitError("Coverage minion uses protocol version " + version
+          + " but version " + CoveragePipe.PROTOCOL_VERSION
+          + " was expected. Check that only one version of pitest is on the classpath.");
+    }
+  }
+
+  private void handleDescription(final SafeDataInputStream is) {
+    final int id = is.readInt();
+    final String testClass = is.readBoolean() ? is.readString() : null;
+    final String name = is.readString();
+    while (this.descriptions.size() <= id) {
+      this.descriptions.add(null);
+    }
+    this.descriptions.set(id, new Description(name, testClass));
+  }
+
   private void handleProbes(final SafeDataInputStream is) {
     final int classId = is.readInt();
     final String methodName = is.readString();
@@ -55,36 +93,43 @@ final class Receive implements ReceiveStrategy {
     final int last = is.readInt();
     final Location loc = Location.location(this.classIdToName.get(classId),
         methodName, methodSig);
+    final ClassProbes probes = this.classProbes.computeIfAbsent(classId,
+        k -> new ClassProbes());
     for (int i = first; i != (last + 1); i++) {
       // nb, convert from classwide id to method scoped index within
       // BlockLocation
-      this.probeToBlock.put(CodeCoverageStore.encode(classId, i),
-          new BlockLocation(loc, i - first));
+      probes.put(i, new BlockLocation(loc, i - first));
     }
   }
 
   private void handleTestEnd(final SafeDataInputStream is) {
-    final Description d = is.read(Description.class);
-    final int numberOfResults = is.readInt();
-
-    final Set<BlockLocation> hits = new HashSet<>(numberOfResults);
+    final Description d = this.descriptions.get(is.readInt());
 
-    for (int i = 0; i != numberOfResults; i++) {
-      readProbeHit(is, hits);
+    final Set<BlockLocation> hits = new HashSet<>();
+    int classId = is.readInt();
+    while (classId != CoveragePipe.END_OF_CLASSES) {
+      readClassHits(is, this.classProbes.get(classId), hits);
+      classId = is.readInt();
     }
 
     this.handler.accept(createCoverageResult(is, d, hits));
   }
 
-  private void readProbeHit(final SafeDataInputStream is,
-      final Set<BlockLocation> hits) {
-    final long encoded = is.readLong();
-    final BlockLocation location = probeToBlock(encoded);
-    hits.add(location);
-  }
-
-  private BlockLocation probeToBlock(long encoded) {
-    return this.probeToBlock.get(encoded);
+  private static void readClassHits(final SafeDataInputStream is,
+      final ClassProbes probes, final Set<BlockLocation> hits) {
+    final int runs = is.readInt();
+    for (int i = 0; i != runs; i++) {
+      final int start = is.readInt();
+      final int length = is.readInt();
+      // runs of a class whose probes were never registered are read but
+      // not recorded
+      if (probes == null) {
+        continue;
+      }
+      for (int probe = start; probe != start + length; probe++) {
+        hits.add(probes.get(probe));
+      }
+    }
   }
 
   private CoverageResult createCoverageResult(final SafeDataInputStream is,
@@ -95,4 +140,26 @@ final class Receive implements ReceiveStrategy {
         visitedBlocks);
   }
 
-}
\ No newline at end of file
+  /**
+   * Blocks of a single class, indexed by class wide probe id.
+   */
+  private static final class ClassProbes {
+    private BlockLocation[] blocks = new BlockLocation[8];
+
+    synchronized void put(final int probe, final BlockLocation block) {
+      if (probe >= this.blocks.length) {
+        this.blocks = Arrays.copyOf(this.blocks,
+            Math.max(probe + 1, this.blocks.length * 2));
+      }
+      this.blocks[probe] = block;
+    }
+
+    synchronized BlockLocation get(final int probe) {
+      if (probe >= this.blocks.length) {
+        return null;
+      }
+      return this.blocks[probe];
+    }
+  }
+
+}
@@ -78,6 +78,18 @@ public class MutationStatusMap {
         .collect(Collectors.toList());
   }
 
+  public int countWithStatus(final Collection<MutationDetails> mutations,
+      final DetectionStatus status) {
+    return (int) mutations.stream()
+        .map(this.mutationMap::get)
+        .filter(pair -> pair != null && pair.getStatus().equals(status))
+        .count();
+  }
+
+  public void removeMutations(final Collection<MutationDetails> mutations) {
+    mutations.forEach(this.mutationMap::remove);
+  }
+
   public Set<MutationDetails> allMutations() {
     return this.mutationMap.keySet();
   }
@@ -0,0 +1,46 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Calculates time limits from how long each test takes against unmutated
+ * code in the minion that runs it, instead of from the time it took while
+ * coverage was gathered. Measurements are kept in the config directory, or
+ * the report directory if none is set, so later runs start calibrated.
+ *
+ * As the calibrated times are representative, a smaller timeout constant
+ * than usual may be given with the constant parameter. The configured
+ * constant is used otherwise.
+ */
+public class AdaptiveTimeouts implements ConfigurationUpdater {
+
+    private static final FeatureParameter CONSTANT = FeatureParameter.named("constant")
+            .withDescription("Milliseconds added to the calibrated time of each test, in place of the timeout constant");
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        toModify.setAdaptiveTimeouts(true);
+        if (conf != null) {
+            conf.getInteger(CONSTANT.name())
+                    .ifPresent(constant -> toModify.setTimeoutConstant(constant));
+        }
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("adaptive_timeouts")
+                .withOnByDefault(false)
+                .withDescription(description())
+                .withParameter(CONSTANT);
+    }
+
+    @Override
+    public String description() {
+        return "Calibrate time limits by timing each test in the minion before mutants are run";
+    }
+
+}
@@ -0,0 +1,32 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Groups mutants into units using the time their tests took during coverage
+ * analysis, so that expensive classes are split and run first instead of
+ * leaving a single thread busy at the end of the run.
+ */
+public class BalanceUnits implements ConfigurationUpdater {
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        toModify.setBalanceUnits(true);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("balance_units")
+                .withOnByDefault(false)
+                .withDescription(description());
+    }
+
+    @Override
+    public String description() {
+        return "Group mutants into units of similar estimated cost";
+    }
+
+}
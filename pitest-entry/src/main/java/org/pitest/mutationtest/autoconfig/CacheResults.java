@@ -0,0 +1,57 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+import java.io.File;
+
+/**
+ * Stores the result of each mutant in a directory shared between runs, keyed
+ * by the mutated class, the tests that cover the mutant and the classes those
+ * tests depend on, so results can be reused by other branches and modules.
+ * The cache is kept in the user's home directory unless the dir parameter is
+ * given, and least recently used results are deleted once it grows beyond
+ * max_mb.
+ */
+public class CacheResults implements ConfigurationUpdater {
+
+    private static final int DEFAULT_MAX_MB = 256;
+
+    private static final FeatureParameter DIR = FeatureParameter.named("dir")
+            .withDescription("Directory to store results in");
+
+    private static final FeatureParameter MAX_MB = FeatureParameter.named("max_mb")
+            .withDescription("Size in megabytes above which old results are deleted");
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        final String defaultDir = new File(System.getProperty("user.home"),
+                ".pitest" + File.separator + "result-cache").getPath();
+        if (conf == null) {
+            toModify.setResultCacheDir(defaultDir);
+            toModify.setResultCacheMaxMb(DEFAULT_MAX_MB);
+            return;
+        }
+        toModify.setResultCacheDir(conf.getString(DIR.name()).orElse(defaultDir));
+        toModify.setResultCacheMaxMb(Math.max(1,
+                conf.getInteger(MAX_MB.name()).orElse(DEFAULT_MAX_MB)));
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("result_cache")
+                .withOnByDefault(false)
+                .withDescription(description())
+                .withParameter(DIR)
+                .withParameter(MAX_MB);
+    }
+
+    @Override
+    public String description() {
+        return "Reuse mutant results from a cache shared between runs";
+    }
+
+}
@@ -0,0 +1,31 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Keeps an index of the classes in each archive on the classpath, reused
+ * in later runs while the archive is unchanged.
+ */
+public class ClassPathIndexing implements ConfigurationUpdater {
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        toModify.setClassPathIndex(true);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("classpath_index")
+                .withOnByDefault(false)
+                .withDescription(description());
+    }
+
+    @Override
+    public String description() {
+        return "Reuse class hashes from an index of unchanged archives";
+    }
+
+}
@@ -0,0 +1,42 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Runs several mutants at once within each minion, each in its own
+ * classloader, so more cores can be used without launching more jvms. Only
+ * used with test plugins that support it, currently junit 4. By default the
+ * cores not given a thread of their own are shared between the minions.
+ */
+public class ConcurrentMutants implements ConfigurationUpdater {
+
+    private static final FeatureParameter MAX = FeatureParameter.named("max")
+            .withDescription("Maximum number of mutants each minion runs at once");
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        final int perMinion = Math.max(2, Runtime.getRuntime().availableProcessors()
+                / Math.max(1, toModify.getNumberOfThreads()));
+        final int max = conf == null ? perMinion
+                : conf.getInteger(MAX.name()).orElse(perMinion);
+        toModify.setConcurrentMutants(Math.max(1, max));
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("concurrent_mutants")
+                .withOnByDefault(false)
+                .withDescription(description())
+                .withParameter(MAX);
+    }
+
+    @Override
+    public String description() {
+        return "Run several mutants at once in each minion using separate classloaders";
+    }
+
+}
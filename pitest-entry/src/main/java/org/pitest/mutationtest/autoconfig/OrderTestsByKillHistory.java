@@ -0,0 +1,33 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Records which tests killed mutants at each location and for each mutator,
+ * and runs the tests most likely to kill a mutant quickly first in later
+ * runs. The history is kept in the config directory, or the report
+ * directory if none is set.
+ */
+public class OrderTestsByKillHistory implements ConfigurationUpdater {
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        toModify.setKillHistory(true);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("kill_history")
+                .withOnByDefault(false)
+                .withDescription(description());
+    }
+
+    @Override
+    public String description() {
+        return "Order tests by how often they killed similar mutants in earlier runs";
+    }
+
+}
@@ -0,0 +1,31 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Finds and filters the mutants of different classes on separate threads,
+ * each with its own chain of interceptors.
+ */
+public class ParallelDiscovery implements ConfigurationUpdater {
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        toModify.setParallelDiscovery(true);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("parallel_discovery")
+                .withOnByDefault(false)
+                .withDescription(description());
+    }
+
+    @Override
+    public String description() {
+        return "Discover mutants on one thread per configured thread";
+    }
+
+}
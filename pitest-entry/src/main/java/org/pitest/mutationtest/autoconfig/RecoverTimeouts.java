@@ -0,0 +1,32 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Runs tests in the minion on a separate thread, so that when a test times out
+ * it can be interrupted and abandoned instead of killing the jvm. The minion is
+ * still replaced if the timed out thread keeps consuming cpu or holds locks.
+ */
+public class RecoverTimeouts implements ConfigurationUpdater {
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        toModify.setRecoverTimeouts(true);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("recover_timeouts")
+                .withOnByDefault(false)
+                .withDescription(description());
+    }
+
+    @Override
+    public String description() {
+        return "Try to continue in the same minion after a test times out";
+    }
+
+}
@@ -0,0 +1,36 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Keeps minion processes alive after they complete a unit of work, so later
+ * units can be run without paying the cost of launching and warming up
+ * another jvm.
+ *
+ * Between units the minion swaps the last mutated class back to its original
+ * bytes and resets the environment, but any other state left behind by the
+ * tests will carry across. Disabled by default for that reason.
+ */
+public class ReuseMinions implements ConfigurationUpdater {
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        toModify.setReuseMinions(true);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("reuse_minions")
+                .withOnByDefault(false)
+                .withDescription(description());
+    }
+
+    @Override
+    public String description() {
+        return "Reuse minion processes for more than one unit of work";
+    }
+
+}
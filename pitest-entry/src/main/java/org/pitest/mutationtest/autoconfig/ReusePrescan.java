@@ -0,0 +1,32 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Keeps the mutants found by the pre scan so that the main scan does not need
+ * to find them again. Interceptors that run in the pre scan see no coverage
+ * or history, and are not run again.
+ */
+public class ReusePrescan implements ConfigurationUpdater {
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        toModify.setReusePrescan(true);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("reuse_prescan")
+                .withOnByDefault(false)
+                .withDescription(description());
+    }
+
+    @Override
+    public String description() {
+        return "Reuse mutants found in the pre scan instead of scanning again";
+    }
+
+}
@@ -0,0 +1,35 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Compiles the mutants of a class into a single schema class, so the class is
+ * redefined once per unit of work rather than once per mutant. Code compiled
+ * by the jit survives between mutants as a result.
+ *
+ * Mutants that cannot be combined, such as those in constructors and static
+ * initializers, are still inserted one at a time.
+ */
+public class Schemata implements ConfigurationUpdater {
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        toModify.setSchemata(true);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("schemata")
+                .withOnByDefault(false)
+                .withDescription(description());
+    }
+
+    @Override
+    public String description() {
+        return "Run mutants of each class from a single mutant schema";
+    }
+
+}
@@ -0,0 +1,31 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Splits the test classes between one coverage minion per thread, so that
+ * coverage is gathered in parallel.
+ */
+public class ShardCoverage implements ConfigurationUpdater {
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        toModify.setShardCoverage(true);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("shard_coverage")
+                .withOnByDefault(false)
+                .withDescription(description());
+    }
+
+    @Override
+    public String description() {
+        return "Gather coverage in parallel across one minion per thread";
+    }
+
+}
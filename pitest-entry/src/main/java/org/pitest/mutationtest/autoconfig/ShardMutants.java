@@ -0,0 +1,55 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+import java.util.Collections;
+
+/**
+ * Analyses only one share of the mutants, so that a run can be split between
+ * several machines. Each machine is given the same count and its own index,
+ * counting from 1, and writes xml results and line coverage that the report
+ * aggregator merges into the report a single run would give. Thresholds apply
+ * to the whole run, so should be checked against the merged results rather
+ * than by each shard.
+ */
+public class ShardMutants implements ConfigurationUpdater {
+
+    private static final FeatureParameter INDEX = FeatureParameter.named("index")
+            .withDescription("Shard to analyse, counting from 1");
+
+    private static final FeatureParameter COUNT = FeatureParameter.named("count")
+            .withDescription("Number of shards the run is split between");
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        final int index = conf == null ? 1 : conf.getInteger(INDEX.name()).orElse(1);
+        final int count = conf == null ? 1 : conf.getInteger(COUNT.name()).orElse(1);
+        if (count < 1 || index < 1 || index > count) {
+            throw new IllegalArgumentException("Shard index must be between 1 and "
+                    + count + " but was " + index);
+        }
+        toModify.setShardIndex(index);
+        toModify.setShardCount(count);
+        toModify.addOutputFormats(Collections.singletonList("XML"));
+        toModify.setExportLineCoverage(true);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("shard")
+                .withOnByDefault(false)
+                .withDescription(description())
+                .withParameter(INDEX)
+                .withParameter(COUNT);
+    }
+
+    @Override
+    public String description() {
+        return "Analyse one share of the mutants, for merging with the other shards";
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Writes a class data sharing archive from the first minion launched, and
+ * launches later minions with it so the classes they share need not be
+ * loaded and verified again. Requires java 13 or above, older jvms are
+ * launched as normal.
+ */
+public class ShareClassData implements ConfigurationUpdater {
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        toModify.setClassDataSharing(true);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("class_data_sharing")
+                .withOnByDefault(false)
+                .withDescription(description());
+    }
+
+    @Override
+    public String description() {
+        return "Share loaded classes between minions using a cds archive";
+    }
+
+}
@@ -0,0 +1,32 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Lets threads that have run out of units take mutants that have not yet been
+ * started from units still running on other threads, instead of sitting idle
+ * until the largest unit completes.
+ */
+public class StealWork implements ConfigurationUpdater {
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        toModify.setStealWork(true);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("steal_work")
+                .withOnByDefault(false)
+                .withDescription(description());
+    }
+
+    @Override
+    public String description() {
+        return "Hand unstarted mutants of running units to idle threads";
+    }
+
+}
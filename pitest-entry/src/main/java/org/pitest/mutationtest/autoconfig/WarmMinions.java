@@ -0,0 +1,41 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.plugin.FeatureSetting;
+
+/**
+ * Launches minions ahead of need, so each analysis thread finds a booted jvm
+ * waiting for its next unit of work instead of starting one. The number of
+ * idle jvms waiting at any time is capped by the max parameter, which
+ * defaults to one per thread.
+ */
+public class WarmMinions implements ConfigurationUpdater {
+
+    private static final FeatureParameter MAX = FeatureParameter.named("max")
+            .withDescription("Maximum number of launched minions waiting for work");
+
+    @Override
+    public void updateConfig(FeatureSetting conf, ReportOptions toModify) {
+        final int perThread = Math.max(1, toModify.getNumberOfThreads());
+        final int max = conf == null ? perThread
+                : conf.getInteger(MAX.name()).orElse(perThread);
+        toModify.setWarmMinions(Math.max(0, max));
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("warm_minions")
+                .withOnByDefault(false)
+                .withDescription(description())
+                .withParameter(MAX);
+    }
+
+    @Override
+    public String description() {
+        return "Launch minions before they are needed to hide jvm startup";
+    }
+
+}
@@ -0,0 +1,114 @@
+package org.pitest.mutationtest.build;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingLong;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Groups mutants into units of similar estimated cost, so that threads finish
+ * at about the same time.
+ *
+ * Each unit still contains mutants of only one class. Classes whose mutants are
+ * estimated to cost more than a share of the total are split, with mutants
+ * shared between the parts so that each costs about the same. Units are
+ * returned most expensive first.
+ */
+public class CostBalancedGrouper implements MutationGrouper {
+
+  // aim for several units per thread, so that threads that finish early have
+  // smaller units left to pick up
+  private static final int UNITS_PER_THREAD = 4;
+
+  // roughly the cost of launching a minion, below which splitting a class
+  // does more harm than good
+  private static final long MINIMUM_UNIT_COST = 1000;
+
+  private final int numberOfThreads;
+  private final int unitSize;
+
+  public CostBalancedGrouper(final int numberOfThreads, final int unitSize) {
+    this.numberOfThreads = Math.max(1, numberOfThreads);
+    this.unitSize = unitSize;
+  }
+
+  @Override
+  public List<List<MutationDetails>> groupMutations(
+      final Collection<ClassName> codeClasses,
+      final Collection<MutationDetails> mutations) {
+    final long target = Math.max(MINIMUM_UNIT_COST, MutationCost.of(mutations)
+        / ((long) this.numberOfThreads * UNITS_PER_THREAD));
+
+    final Map<ClassName, Collection<MutationDetails>> bucketed = FCollection
+        .bucket(mutations, MutationDetails::getClassName);
+    final List<Unit> units = new ArrayList<>();
+    for (final Collection<MutationDetails> each : bucketed.values()) {
+      units.addAll(split(each, target));
+    }
+
+    units.sort(comparingLong((Unit u) -> u.cost).reversed());
+
+    final List<List<MutationDetails>> grouped = new ArrayList<>();
+    for (final Unit each : units) {
+      each.mutants.sort(comparing(MutationDetails::getId));
+      grouped.add(each.mutants);
+    }
+    return grouped;
+  }
+
+  private List<Unit> split(Collection<MutationDetails> mutants, long target) {
+    int parts = (int) Math.min(mutants.size(),
+        divideRoundingUp(MutationCost.of(mutants), target));
+    int capacity = Integer.MAX_VALUE;
+    if (this.unitSize > 0) {
+      parts = Math.max(parts, (int) divideRoundingUp(mutants.size(), this.unitSize));
+      capacity = this.unitSize;
+    }
+
+    final List<Unit> units = new ArrayList<>();
+    for (int i = 0; i != parts; i++) {
+      units.add(new Unit());
+    }
+
+    // place the most expensive mutants first, each in the cheapest unit with room
+    final List<MutationDetails> byCost = new ArrayList<>(mutants);
+    byCost.sort(comparingLong((MutationDetails m) -> MutationCost.of(m)).reversed());
+    for (final MutationDetails each : byCost) {
+      cheapestWithRoom(units, capacity).add(each);
+    }
+    return units;
+  }
+
+  private static Unit cheapestWithRoom(List<Unit> units, int capacity) {
+    Unit cheapest = null;
+    for (final Unit each : units) {
+      if (each.mutants.size() < capacity
+          && (cheapest == null || each.cost < cheapest.cost)) {
+        cheapest = each;
+      }
+    }
+    return cheapest;
+  }
+
+  private static long divideRoundingUp(long a, long b) {
+    return (a + b - 1) / b;
+  }
+
+  private static class Unit {
+    private final List<MutationDetails> mutants = new ArrayList<>();
+    private long                        cost;
+
+    void add(MutationDetails mutant) {
+      this.mutants.add(mutant);
+      this.cost = this.cost + MutationCost.of(mutant);
+    }
+  }
+
+}
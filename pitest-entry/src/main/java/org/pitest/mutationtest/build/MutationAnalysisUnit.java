@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.build;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.concurrent.Callable;
 
 import org.pitest.mutationtest.MutationMetaData;
@@ -14,4 +15,15 @@ public interface MutationAnalysisUnit extends Callable<MutationMetaData> {
   int priority();
 
   Collection<MutationDetails> mutants();
+
+  /**
+   * Hands over part of the work of a running unit, so that it can be carried
+   * out on another thread. The results of the returned unit are included in
+   * the results of this one, and should not be reported separately.
+   *
+   * @return a unit analysing mutants taken from this one, if any could be taken
+   */
+  default Optional<MutationAnalysisUnit> split() {
+    return Optional.empty();
+  }
 }
@@ -0,0 +1,42 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Estimates the cost of analysing mutants from the time their covering tests
+ * took during coverage analysis.
+ *
+ * A surviving mutant runs all of its tests, so their total time is used. Each
+ * mutant is also charged a nominal amount for creating and inserting it, so
+ * that mutants without timing information are still counted.
+ *
+ * Where estimates must agree between machines, the number of covering tests,
+ * rounded down to a power of two, is used in place of their times.
+ */
+final class MutationCost {
+
+  private static final long PER_MUTANT = 1;
+
+  private MutationCost() {
+  }
+
+  static long of(MutationDetails mutant) {
+    return PER_MUTANT + mutant.getTestsInOrder().stream()
+        .mapToLong(TestInfo::getTime)
+        .sum();
+  }
+
+  static long ofTestCount(MutationDetails mutant) {
+    return PER_MUTANT + Long.highestOneBit(mutant.getTestsInOrder().size());
+  }
+
+  static long of(Collection<MutationDetails> mutants) {
+    return mutants.stream()
+        .mapToLong(MutationCost::of)
+        .sum();
+  }
+
+}
@@ -0,0 +1,116 @@
+package org.pitest.mutationtest.build;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingLong;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+/**
+ * Selects the share of the mutants one of several machines should analyse,
+ * so that a run can be split between them and their results merged.
+ *
+ * Every machine must select from the same mutants, so shards are chosen after
+ * all project level filtering. Mutants are placed most expensive first, each
+ * on the shard with the least estimated cost so far, and mutants of equal
+ * cost are ordered by a stable hash of their identifier.
+ *
+ * The estimate must be the same on every machine, so test times are not used.
+ * Cost is instead taken from the number of covering tests, rounded down to a
+ * power of two, so that small differences in coverage between machines do not
+ * change the partition. Should the machines still disagree, the aggregator
+ * rejects results that hold a mutant more than once.
+ */
+public class MutationSharder {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final int index;
+  private final int count;
+
+  /**
+   * @param index
+   *          the shard to select, counting from 1
+   * @param count
+   *          number of shards the run is split into
+   */
+  public MutationSharder(int index, int count) {
+    if (count < 1 || index < 1 || index > count) {
+      throw new IllegalArgumentException("Shard " + index + " of " + count
+          + " does not exist");
+    }
+    this.index = index;
+    this.count = count;
+  }
+
+  public static MutationSharder none() {
+    return new MutationSharder(1, 1);
+  }
+
+  public List<MutationDetails> select(Collection<MutationDetails> mutants) {
+    if (this.count == 1) {
+      return new ArrayList<>(mutants);
+    }
+
+    final List<MutationDetails> ordered = new ArrayList<>(mutants);
+    ordered.sort(placementOrder());
+
+    final PriorityQueue<Shard> shards = new PriorityQueue<>(
+        comparingLong((Shard s) -> s.cost).thenComparingInt(s -> s.index));
+    for (int i = 1; i <= this.count; i++) {
+      shards.add(new Shard(i));
+    }
+
+    final List<MutationDetails> selected = new ArrayList<>();
+    for (final MutationDetails each : ordered) {
+      final Shard cheapest = shards.poll();
+      cheapest.cost = cheapest.cost + MutationCost.ofTestCount(each);
+      if (cheapest.index == this.index) {
+        selected.add(each);
+      }
+      shards.add(cheapest);
+    }
+
+    selected.sort(comparing(MutationDetails::getId));
+    LOG.info("Shard " + this.index + " of " + this.count + " holds "
+        + selected.size() + " of " + mutants.size() + " mutations");
+    return selected;
+  }
+
+  private static Comparator<MutationDetails> placementOrder() {
+    return comparingLong(MutationCost::ofTestCount).reversed()
+        .thenComparingLong(m -> stableHash(m.getId()))
+        .thenComparing(MutationDetails::getId);
+  }
+
+  // String.hashCode is specified by the language, so gives the same value on
+  // every machine. The bits are mixed so neighbouring mutants are spread out.
+  static long stableHash(MutationIdentifier id) {
+    long h = id.getLocation().toString().hashCode() * 31L
+        + id.getMutator().hashCode();
+    for (final int each : id.getIndexes()) {
+      h = h * 31 + each;
+    }
+    h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+    h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+    return h ^ (h >>> 31);
+  }
+
+  private static final class Shard {
+    private final int index;
+    private long      cost;
+
+    Shard(int index) {
+      this.index = index;
+    }
+  }
+
+}
@@ -24,6 +24,8 @@ import org.pitest.mutationtest.engine.MutationDetails;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 public class MutationSource {
 
@@ -31,34 +33,79 @@ public class MutationSource {
   private final TestPrioritiser      testPrioritiser;
   private final ClassByteArraySource source;
   private final MutationInterceptor interceptor;
+  private final PreScanResults       preScan;
+  private final Function<ClassName, Optional<ClassTree>> trees;
 
   public MutationSource(final MutationConfig mutationConfig,
       final TestPrioritiser testPrioritiser,
       final ClassByteArraySource source,
       final MutationInterceptor interceptor) {
+    this(mutationConfig, testPrioritiser, source, interceptor, null);
+  }
+
+  public MutationSource(final MutationConfig mutationConfig,
+      final TestPrioritiser testPrioritiser,
+      final ClassByteArraySource source,
+      final MutationInterceptor interceptor,
+      final PreScanResults preScan) {
+    this(mutationConfig, testPrioritiser, source, interceptor, preScan,
+        c -> Optional.empty());
+  }
+
+  /**
+   * @param preScan
+   *          if not null, the mutants of each class are recorded the first
+   *          time it is scanned and reused once when it is scanned again, so the
+   *          interceptor used for the second scan must not repeat those run
+   *          in the first
+   * @param trees
+   *          supplies previously parsed classes. Classes it cannot supply are
+   *          parsed from the byte source.
+   */
+  public MutationSource(final MutationConfig mutationConfig,
+      final TestPrioritiser testPrioritiser,
+      final ClassByteArraySource source,
+      final MutationInterceptor interceptor,
+      final PreScanResults preScan,
+      final Function<ClassName, Optional<ClassTree>> trees) {
     this.mutationConfig = mutationConfig;
     this.testPrioritiser = testPrioritiser;
     this.source = source;
     this.interceptor = interceptor;
+    this.preScan = preScan;
+    this.trees = trees;
   }
 
   public Collection<MutationDetails> createMutations(final ClassName clazz) {
 
     final Mutater m = this.mutationConfig.createMutator(this.source);
 
+    if (this.preScan != null) {
+      final Optional<PreScanResults.ScannedClass> scanned = this.preScan.take(clazz);
+      if (scanned.isPresent()) {
+        final List<MutationDetails> mutants = scanned.get().mutants();
+        if (mutants.isEmpty()) {
+          return mutants;
+        }
+        return interceptAndAssignTests(scanned.get().tree(), mutants, m);
+      }
+    }
+
     final Collection<MutationDetails> availableMutations = m
         .findMutations(clazz);
 
     if (availableMutations.isEmpty()) {
+      record(clazz, null, availableMutations);
       return availableMutations;
     } else {
-      final ClassTree tree = ClassTree
-          .fromBytes(this.source.getBytes(clazz.asJavaName()).get());
+      final ClassTree tree = this.trees.apply(clazz)
+          .orElseGet(() -> ClassTree
+              .fromBytes(this.source.getBytes(clazz.asJavaName()).get()));
+
+      final Collection<MutationDetails> updatedMutations = intercept(tree,
+          availableMutations, m);
 
-      this.interceptor.begin(tree);
-      final Collection<MutationDetails> updatedMutations = this.interceptor
-          .intercept(availableMutations, m);
-      this.interceptor.end();
+      record(clazz, tree, updatedMutations);
 
       assignTestsToMutations(updatedMutations);
 
@@ -66,6 +113,30 @@ public class MutationSource {
     }
   }
 
+  private Collection<MutationDetails> interceptAndAssignTests(ClassTree tree,
+      Collection<MutationDetails> mutations, Mutater m) {
+    final Collection<MutationDetails> updatedMutations = intercept(tree,
+        mutations, m);
+    assignTestsToMutations(updatedMutations);
+    return updatedMutations;
+  }
+
+  private Collection<MutationDetails> intercept(ClassTree tree,
+      Collection<MutationDetails> mutations, Mutater m) {
+    this.interceptor.begin(tree);
+    final Collection<MutationDetails> updatedMutations = this.interceptor
+        .intercept(mutations, m);
+    this.interceptor.end();
+    return updatedMutations;
+  }
+
+  private void record(ClassName clazz, ClassTree tree,
+      Collection<MutationDetails> mutations) {
+    if (this.preScan != null) {
+      this.preScan.record(clazz, tree, mutations);
+    }
+  }
+
   private void assignTestsToMutations(
       final Collection<MutationDetails> availableMutations) {
     for (final MutationDetails mutation : availableMutations) {
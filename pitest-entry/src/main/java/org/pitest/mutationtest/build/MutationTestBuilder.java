@@ -21,11 +21,18 @@ import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.config.ExecutionMode;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Unchecked;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Comparator.comparing;
@@ -33,11 +40,13 @@ import static java.util.Comparator.comparing;
 public class MutationTestBuilder {
 
   private final ExecutionMode mode;
-  private final MutationSource   mutationSource;
+  private final Supplier<MutationSource> mutationSources;
+  private final int              discoveryThreads;
   private final History analyser;
   private final WorkerFactory    workerFactory;
   private final MutationGrouper  grouper;
   private final ProjectMutationInterceptor projectFilter;
+  private final MutationSharder  sharder;
 
   public MutationTestBuilder(ExecutionMode mode,
                              WorkerFactory workerFactory,
@@ -45,24 +54,58 @@ public class MutationTestBuilder {
                              MutationSource mutationSource,
                              MutationGrouper grouper,
                              ProjectMutationInterceptor projectFilter) {
+    this(mode, workerFactory, analyser, () -> mutationSource, 1, grouper, projectFilter);
+  }
+
+  /**
+   * @param mutationSources
+   *          supplies a source for each thread used to discover mutants, as
+   *          sources hold state for the class being scanned
+   * @param discoveryThreads
+   *          number of threads to discover mutants with
+   */
+  public MutationTestBuilder(ExecutionMode mode,
+                             WorkerFactory workerFactory,
+                             History analyser,
+                             Supplier<MutationSource> mutationSources,
+                             int discoveryThreads,
+                             MutationGrouper grouper,
+                             ProjectMutationInterceptor projectFilter) {
+    this(mode, workerFactory, analyser, mutationSources, discoveryThreads,
+        grouper, projectFilter, MutationSharder.none());
+  }
+
+  /**
+   * @param sharder
+   *          selects the mutants this machine analyses once the project
+   *          filter has run
+   */
+  public MutationTestBuilder(ExecutionMode mode,
+                             WorkerFactory workerFactory,
+                             History analyser,
+                             Supplier<MutationSource> mutationSources,
+                             int discoveryThreads,
+                             MutationGrouper grouper,
+                             ProjectMutationInterceptor projectFilter,
+                             MutationSharder sharder) {
 
     this.mode = mode;
-    this.mutationSource = mutationSource;
+    this.mutationSources = mutationSources;
+    this.discoveryThreads = discoveryThreads;
     this.analyser = analyser;
     this.workerFactory = workerFactory;
     this.grouper = grouper;
     this.projectFilter = projectFilter;
+    this.sharder = sharder;
   }
 
   public List<MutationAnalysisUnit> createMutationTestUnits(
       final Collection<ClassName> codeClasses) {
     final List<MutationAnalysisUnit> tus = new ArrayList<>();
 
-    final List<MutationDetails> mutations = codeClasses.stream()
-                    .flatMap(c -> mutationSource.createMutations(c).stream())
-                            .collect(Collectors.toList());
+    final List<MutationDetails> mutations = findMutations(codeClasses);
 
-    final List<MutationDetails> filteredMutations = new ArrayList<>(projectFilter.intercept(mutations));
+    final List<MutationDetails> filteredMutations = this.sharder.select(projectFilter.intercept(mutations));
 
     filteredMutations.sort(comparing(MutationDetails::getId));
 
@@ -89,6 +132,53 @@ public class MutationTestBuilder {
     return tus;
   }
 
+  private List<MutationDetails> findMutations(Collection<ClassName> codeClasses) {
+    final int threads = Math.min(this.discoveryThreads, codeClasses.size());
+    if (threads <= 1) {
+      final MutationSource mutationSource = this.mutationSources.get();
+      return codeClasses.stream()
+                      .flatMap(c -> mutationSource.createMutations(c).stream())
+                              .collect(Collectors.toList());
+    }
+
+    // each thread takes the next unscanned class until none remain
+    final List<ClassName> classes = new ArrayList<>(codeClasses);
+    final AtomicInteger next = new AtomicInteger();
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<List<MutationDetails>>> results = new ArrayList<>();
+      for (int i = 0; i != threads; i++) {
+        results.add(executor.submit(() -> {
+          final MutationSource mutationSource = this.mutationSources.get();
+          final List<MutationDetails> found = new ArrayList<>();
+          for (int c = next.getAndIncrement(); c < classes.size(); c = next.getAndIncrement()) {
+            found.addAll(mutationSource.createMutations(classes.get(c)));
+          }
+          return found;
+        }));
+      }
+
+      final List<MutationDetails> mutations = new ArrayList<>();
+      for (final Future<List<MutationDetails>> each : results) {
+        mutations.addAll(each.get());
+      }
+      // the order classes finish in varies, so impose one
+      mutations.sort(comparing(MutationDetails::getId));
+      return mutations;
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw Unchecked.translateCheckedException(ex);
+    } catch (final ExecutionException ex) {
+      // rethrow as is, so that help errors reach the user unchanged
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw Unchecked.translateCheckedException(ex.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   private static Collection<MutationDetails> filterAlreadyAnalysedMutations(List<MutationDetails> mutations, Collection<MutationResult> analysedMutations) {
     final Set<MutationIdentifier> alreadyAnalysed = analysedMutations.stream()
             .map(mr -> mr.getDetails().getId())
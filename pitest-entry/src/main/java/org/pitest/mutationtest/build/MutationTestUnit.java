@@ -15,8 +15,13 @@
 package org.pitest.mutationtest.build;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -24,9 +29,10 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.engine.MutationDetails;
-import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.execute.MinionProcess;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Log;
 
@@ -37,6 +43,14 @@ public class MutationTestUnit implements MutationAnalysisUnit {
   private final Collection<MutationDetails> availableMutations;
   private final WorkerFactory               workerFactory;
 
+  // results of mutants handed over to other threads
+  private final List<CompletableFuture<MutationMetaData>> handedOver = new ArrayList<>();
+
+  // the minion currently running and the range it was sent, so that
+  // mutants it has not started can be handed over
+  private MutationStatusMap                 mutations;
+  private MinionProcess                     current;
+  private List<MutationDetails>             currentRange;
 
   public MutationTestUnit(Collection<MutationDetails> availableMutations, WorkerFactory workerFactory) {
     this.availableMutations = availableMutations;
@@ -52,14 +66,25 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
     mutations.markUncoveredMutations();
 
+    synchronized (this) {
+      this.mutations = mutations;
+    }
+
     runTestsInSeperateProcess(mutations);
 
+    collectHandedOverResults(mutations);
+
     return reportResults(mutations);
   }
 
   @Override
   public int priority() {
-    return this.availableMutations.size();
+    if (!this.workerFactory.prioritisesByCost()) {
+      return this.availableMutations.size();
+    }
+    // leave the top value for units that do not need analysis
+    return (int) Math.min(Integer.MAX_VALUE - 1,
+        MutationCost.of(this.availableMutations));
   }
 
   @Override
@@ -67,6 +92,46 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     return availableMutations;
   }
 
+  @Override
+  public Optional<MutationAnalysisUnit> split() {
+    final CompletableFuture<Optional<MutationAnalysisUnit>> taken = new CompletableFuture<>();
+    synchronized (this) {
+      final List<MutationDetails> range = this.currentRange;
+      if (this.current == null
+          || !this.current.split(at -> taken.complete(handOver(range, at)))) {
+        return Optional.empty();
+      }
+    }
+    return taken.join();
+  }
+
+  private synchronized Optional<MutationAnalysisUnit> handOver(
+      List<MutationDetails> range, int at) {
+    if (at < 0) {
+      return Optional.empty();
+    }
+    final List<MutationDetails> tail = new ArrayList<>(range.subList(at, range.size()));
+    LOG.fine("Handing over " + tail.size() + " of " + range.size() + " mutants");
+    this.mutations.removeMutations(tail);
+    final CompletableFuture<MutationMetaData> result = new CompletableFuture<>();
+    this.handedOver.add(result);
+    return Optional.of(new HandedOverUnit(
+        new MutationTestUnit(tail, this.workerFactory), result));
+  }
+
+  private void collectHandedOverResults(final MutationStatusMap mutations)
+      throws InterruptedException, ExecutionException {
+    final List<CompletableFuture<MutationMetaData>> results;
+    synchronized (this) {
+      results = new ArrayList<>(this.handedOver);
+    }
+    for (final CompletableFuture<MutationMetaData> each : results) {
+      for (final MutationResult result : each.get().getMutations()) {
+        mutations.setStatusForMutation(result.getDetails(), result.getStatusTestPair());
+      }
+    }
+  }
+
   private void runTestsInSeperateProcess(final MutationStatusMap mutations)
       throws IOException, InterruptedException {
     while (mutations.hasUnrunMutations()) {
@@ -78,18 +143,34 @@ public class MutationTestUnit implements MutationAnalysisUnit {
       final MutationStatusMap mutations) throws IOException,
       InterruptedException {
 
-    final Collection<MutationDetails> remainingMutations = mutations
-        .getUnrunMutations();
-    final MutationTestProcess worker = this.workerFactory.createWorker(
+    final List<MutationDetails> remainingMutations = new ArrayList<>(mutations
+        .getUnrunMutations());
+    final MinionProcess worker = this.workerFactory.createWorker(
         remainingMutations, testClassesFor(remainingMutations));
     worker.start();
 
     setFirstMutationToStatusOfStartedInCaseMinionFailsAtBoot(mutations,
         remainingMutations);
 
+    synchronized (this) {
+      this.current = worker;
+      this.currentRange = remainingMutations;
+    }
+
     final ExitCode exitCode = waitForMinionToDie(worker);
+
+    synchronized (this) {
+      this.current = null;
+      this.currentRange = null;
+    }
+
     worker.results(mutations);
 
+    // the minion only reports a time out itself if it abandoned the test
+    // and carried on, otherwise it is set below from the exit code
+    this.workerFactory.recordRecoveredTimeouts(
+        mutations.countWithStatus(remainingMutations, DetectionStatus.TIMED_OUT));
+
     correctResultForProcessExitCode(mutations, exitCode);
   }
 
@@ -99,7 +180,7 @@ public class MutationTestUnit implements MutationAnalysisUnit {
             .collect(Collectors.toSet());
   }
 
-  private static ExitCode waitForMinionToDie(final MutationTestProcess worker) {
+  private static ExitCode waitForMinionToDie(final MinionProcess worker) {
     final ExitCode exitCode = worker.waitToDie();
     LOG.fine("Exit code was - " + exitCode);
     if (exitCode == ExitCode.MINION_DIED) {
@@ -138,6 +219,47 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     return new MutationMetaData(mutationsMap.createMutationResults());
   }
 
+  /**
+   * Runs mutants taken from another unit, passing the results back to it.
+   */
+  private static class HandedOverUnit implements MutationAnalysisUnit {
+    private final MutationAnalysisUnit                unit;
+    private final CompletableFuture<MutationMetaData> result;
+
+    HandedOverUnit(MutationAnalysisUnit unit,
+        CompletableFuture<MutationMetaData> result) {
+      this.unit = unit;
+      this.result = result;
+    }
+
+    @Override
+    public MutationMetaData call() throws Exception {
+      try {
+        final MutationMetaData metaData = this.unit.call();
+        this.result.complete(metaData);
+        return metaData;
+      } catch (final Throwable t) {
+        this.result.completeExceptionally(t);
+        throw t;
+      }
+    }
+
+    @Override
+    public int priority() {
+      return this.unit.priority();
+    }
+
+    @Override
+    public Collection<MutationDetails> mutants() {
+      return this.unit.mutants();
+    }
+
+    @Override
+    public Optional<MutationAnalysisUnit> split() {
+      return this.unit.split();
+    }
+  }
+
 
 
 }
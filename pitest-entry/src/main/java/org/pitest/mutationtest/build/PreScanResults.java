@@ -0,0 +1,74 @@
+package org.pitest.mutationtest.build;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the mutants found in each class by the pre scan, after the
+ * interceptors included in the pre scan have been applied, along with the
+ * parsed class. The main scan can then skip finding and intercepting mutants
+ * again, and apply only the remaining interceptors.
+ *
+ * Each class is released once the main scan has taken it, so parsed classes
+ * are not held for the rest of the run.
+ */
+public class PreScanResults {
+
+  private final Map<ClassName, ScannedClass> classes = new ConcurrentHashMap<>();
+  private volatile boolean recording = true;
+
+  void record(ClassName clazz, ClassTree tree, Collection<MutationDetails> mutants) {
+    if (this.recording) {
+      this.classes.put(clazz, new ScannedClass(tree, new ArrayList<>(mutants)));
+    }
+  }
+
+  /**
+   * Removes and returns the results for a class, so each is reused once.
+   */
+  Optional<ScannedClass> take(ClassName clazz) {
+    return Optional.ofNullable(this.classes.remove(clazz));
+  }
+
+  /**
+   * Marks the end of the pre scan. Classes scanned afterwards are not
+   * recorded, as nothing would take them.
+   */
+  public void stopRecording() {
+    this.recording = false;
+  }
+
+  static final class ScannedClass {
+    private final ClassTree             tree;
+    private final List<MutationDetails> mutants;
+
+    private ScannedClass(ClassTree tree, List<MutationDetails> mutants) {
+      this.tree = tree;
+      this.mutants = mutants;
+    }
+
+    ClassTree tree() {
+      return this.tree;
+    }
+
+    /**
+     * @return copies of the mutants, without any tests assigned during the
+     * pre scan
+     */
+    List<MutationDetails> mutants() {
+      return this.mutants.stream()
+          .map(m -> m.withDescription(m.getDescription()))
+          .collect(Collectors.toList());
+    }
+  }
+
+}
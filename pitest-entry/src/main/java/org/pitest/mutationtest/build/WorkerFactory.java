@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.build;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.NoTestStats;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
@@ -8,15 +9,22 @@ import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.execute.MinionArguments;
+import org.pitest.mutationtest.execute.MinionPool;
+import org.pitest.mutationtest.execute.MinionProcess;
 import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.execute.PooledMutationTestProcess;
+import org.pitest.mutationtest.execute.TimeoutSettings;
+import org.pitest.mutationtest.incremental.TimeoutCalibration;
 import org.pitest.process.ProcessArgs;
 import org.pitest.util.Log;
 import org.pitest.util.SocketFinder;
+import org.pitest.util.Timings;
 import org.pitest.util.Verbosity;
 
 import java.io.File;
 import java.util.Collection;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 import static org.pitest.functional.prelude.Prelude.printlnWith;
 
@@ -25,11 +33,16 @@ public class WorkerFactory {
   private final String                classPath;
   private final File                  baseDir;
   private final TestPluginArguments   pitConfig;
-  private final TimeoutLengthStrategy timeoutStrategy;
+  private final TimeoutSettings       timeouts;
   private final Verbosity             verbosity;
   private final boolean               fullMutationMatrix;
   private final MutationConfig        config;
   private final EngineArguments       args;
+  private final MinionPool            minionPool;
+  private final Timings               timings;
+  private final int                   concurrentMutants;
+  private final boolean               prioritiseByCost;
+  private final TimeoutCalibration    calibration;
 
   public WorkerFactory(final File baseDir,
       final TestPluginArguments pitConfig,
@@ -39,31 +52,111 @@ public class WorkerFactory {
       final Verbosity verbosity,
       final boolean fullMutationMatrix,
       final String classPath) {
+    this(baseDir, pitConfig, mutationConfig, args,
+        TimeoutSettings.limitedBy(timeoutStrategy), TimeoutCalibration.none(),
+        verbosity, fullMutationMatrix, classPath, null, 1, false,
+        new Timings(new NoTestStats()));
+  }
+
+  /**
+   * @param timeouts
+   *          how minions time tests out, and if they try to abandon timed out
+   *          tests rather than exit
+   * @param calibration
+   *          if enabled, minions measure tests against unmutated code and
+   *          calculate time limits from those measurements
+   * @param minionPool
+   *          pool of reusable or prelaunched minions, or null if each range
+   *          of mutants should be analysed in a jvm launched for it
+   * @param concurrentMutants
+   *          number of mutants each minion may run at once, if its test
+   *          plugin supports it
+   * @param prioritiseByCost
+   *          if true units are started in order of the estimated cost of
+   *          their mutants, rather than of the number of mutants they hold
+   * @param timings
+   *          records statistics about the minions
+   */
+  public WorkerFactory(final File baseDir,
+      final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final EngineArguments args,
+      final TimeoutSettings timeouts,
+      final TimeoutCalibration calibration,
+      final Verbosity verbosity,
+      final boolean fullMutationMatrix,
+      final String classPath,
+      final MinionPool minionPool,
+      final int concurrentMutants,
+      final boolean prioritiseByCost,
+      final Timings timings) {
     this.pitConfig = pitConfig;
-    this.timeoutStrategy = timeoutStrategy;
+    this.timeouts = timeouts;
+    this.calibration = calibration;
     this.verbosity = verbosity;
     this.fullMutationMatrix = fullMutationMatrix;
     this.classPath = classPath;
     this.baseDir = baseDir;
     this.config = mutationConfig;
     this.args = args;
+    this.minionPool = minionPool;
+    this.concurrentMutants = concurrentMutants;
+    this.prioritiseByCost = prioritiseByCost;
+    this.timings = timings;
   }
 
-  public MutationTestProcess createWorker(
+  /**
+   * If true units are started in order of the estimated cost of their
+   * mutants, rather than of the number of mutants they hold.
+   */
+  public boolean prioritisesByCost() {
+    return this.prioritiseByCost;
+  }
+
+  public MinionProcess createWorker(
       final Collection<MutationDetails> remainingMutations,
       final Collection<ClassName> testClasses) {
+    final boolean reuse = canReuseMinion(remainingMutations);
     final MinionArguments fileArgs = new MinionArguments(remainingMutations,
-        testClasses, this.config.getEngine().getName(), this.args, this.timeoutStrategy,
-        Log.verbosity(), this.fullMutationMatrix, this.pitConfig);
+        testClasses, this.config.getEngine().getName(), this.args,
+        this.timeouts.withBaselines(this.calibration.forMutants(remainingMutations)),
+        Log.verbosity(), this.fullMutationMatrix, this.pitConfig, reuse,
+        this.concurrentMutants);
 
     final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
         .andLaunchOptions(this.config.getLaunchOptions())
         .andBaseDir(this.baseDir).andStdout(captureStdOutIfVerbose())
         .andStderr(captureStdErrIfVerbose());
 
+    if (this.minionPool != null) {
+      return new PooledMutationTestProcess(this.minionPool, args, fileArgs,
+          startupRecorder(), this.calibration::record);
+    }
+
     final SocketFinder sf = new SocketFinder();
     return new MutationTestProcess(
-        sf.getNextAvailableServerSocket(), args, fileArgs);
+        sf.getNextAvailableServerSocket(), args, fileArgs, startupRecorder(),
+        this.calibration::record);
+  }
+
+  void recordRecoveredTimeouts(int count) {
+    if (count != 0) {
+      this.timings.increment(Timings.Counter.RECOVERED_TIMEOUTS, count);
+    }
+  }
+
+  private boolean canReuseMinion(Collection<MutationDetails> mutations) {
+    // Restoring the original bytes of a class does not undo any state
+    // created by its static initializer, so mutants there get a fresh jvm
+    return this.minionPool != null && this.minionPool.reusesMinions()
+        && mutations.stream().noneMatch(m -> m.getMethod().equals("<clinit>"));
+  }
+
+  private LongConsumer startupRecorder() {
+    if (this.verbosity.showMinionOutput()) {
+      return this.timings::recordMinionStartup;
+    }
+    return millis -> { };
   }
 
   private Consumer<String> captureStdOutIfVerbose() {
@@ -172,6 +172,17 @@ public enum ConfigOption {
    */
   FULL_MUTATION_MATRIX("fullMutationMatrix", false),
 
+  /**
+   * Whether to journal results as they are found, so that a run that does
+   * not complete can be resumed.
+   */
+  JOURNAL("journal", false),
+
+  /**
+   * Whether to reuse the results journaled by a run that did not complete.
+   */
+  RESUME("resume", false),
+
   /**
    * Maximum number of mutations to include within a single unit of analysis.
    */
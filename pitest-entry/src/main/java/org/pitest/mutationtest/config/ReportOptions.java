@@ -158,6 +158,46 @@ public class ReportOptions {
 
   private ExecutionMode mode = ExecutionMode.NORMAL;
 
+  private boolean reuseMinions = false;
+
+  private boolean schemata = false;
+
+  private boolean recoverTimeouts = false;
+
+  private boolean balanceUnits = false;
+
+  private boolean stealWork = false;
+
+  private boolean shardCoverage = false;
+
+  private boolean reusePrescan = false;
+
+  private boolean parallelDiscovery = false;
+
+  private boolean classPathIndex = false;
+
+  private int warmMinions = 0;
+
+  private boolean classDataSharing = false;
+
+  private boolean killHistory = false;
+
+  private String resultCacheDir;
+
+  private int concurrentMutants = 1;
+
+  private int resultCacheMaxMb = 256;
+
+  private boolean adaptiveTimeouts = false;
+
+  private boolean journal = false;
+
+  private boolean resume = false;
+
+  private int shardIndex = 1;
+
+  private int shardCount = 1;
+
   // currently used only via maven
   private Map<String,String> environmentVariables = new HashMap<>();
 
@@ -690,6 +730,166 @@ public class ReportOptions {
     this.mode = mode;
   }
 
+  public boolean isReuseMinions() {
+    return reuseMinions;
+  }
+
+  public void setReuseMinions(boolean reuseMinions) {
+    this.reuseMinions = reuseMinions;
+  }
+
+  public boolean isSchemata() {
+    return schemata;
+  }
+
+  public void setSchemata(boolean schemata) {
+    this.schemata = schemata;
+  }
+
+  public boolean isRecoverTimeouts() {
+    return recoverTimeouts;
+  }
+
+  public void setRecoverTimeouts(boolean recoverTimeouts) {
+    this.recoverTimeouts = recoverTimeouts;
+  }
+
+  public boolean isBalanceUnits() {
+    return balanceUnits;
+  }
+
+  public void setBalanceUnits(boolean balanceUnits) {
+    this.balanceUnits = balanceUnits;
+  }
+
+  public boolean isStealWork() {
+    return stealWork;
+  }
+
+  public void setStealWork(boolean stealWork) {
+    this.stealWork = stealWork;
+  }
+
+  public boolean isShardCoverage() {
+    return shardCoverage;
+  }
+
+  public void setShardCoverage(boolean shardCoverage) {
+    this.shardCoverage = shardCoverage;
+  }
+
+  public boolean isReusePrescan() {
+    return reusePrescan;
+  }
+
+  public void setReusePrescan(boolean reusePrescan) {
+    this.reusePrescan = reusePrescan;
+  }
+
+  public boolean isParallelDiscovery() {
+    return parallelDiscovery;
+  }
+
+  public void setParallelDiscovery(boolean parallelDiscovery) {
+    this.parallelDiscovery = parallelDiscovery;
+  }
+
+  public boolean isClassPathIndex() {
+    return classPathIndex;
+  }
+
+  public void setClassPathIndex(boolean classPathIndex) {
+    this.classPathIndex = classPathIndex;
+  }
+
+  public int getWarmMinions() {
+    return warmMinions;
+  }
+
+  public void setWarmMinions(int warmMinions) {
+    this.warmMinions = warmMinions;
+  }
+
+  public boolean isClassDataSharing() {
+    return classDataSharing;
+  }
+
+  public void setClassDataSharing(boolean classDataSharing) {
+    this.classDataSharing = classDataSharing;
+  }
+
+  public boolean isKillHistory() {
+    return killHistory;
+  }
+
+  public void setKillHistory(boolean killHistory) {
+    this.killHistory = killHistory;
+  }
+
+  public String getResultCacheDir() {
+    return resultCacheDir;
+  }
+
+  public void setResultCacheDir(String resultCacheDir) {
+    this.resultCacheDir = resultCacheDir;
+  }
+
+  public int getConcurrentMutants() {
+    return concurrentMutants;
+  }
+
+  public void setConcurrentMutants(int concurrentMutants) {
+    this.concurrentMutants = concurrentMutants;
+  }
+
+  public int getResultCacheMaxMb() {
+    return resultCacheMaxMb;
+  }
+
+  public void setResultCacheMaxMb(int resultCacheMaxMb) {
+    this.resultCacheMaxMb = resultCacheMaxMb;
+  }
+
+  public boolean isAdaptiveTimeouts() {
+    return adaptiveTimeouts;
+  }
+
+  public void setAdaptiveTimeouts(boolean adaptiveTimeouts) {
+    this.adaptiveTimeouts = adaptiveTimeouts;
+  }
+
+  public boolean isJournal() {
+    return journal;
+  }
+
+  public void setJournal(boolean journal) {
+    this.journal = journal;
+  }
+
+  public boolean isResume() {
+    return resume;
+  }
+
+  public void setResume(boolean resume) {
+    this.resume = resume;
+  }
+
+  public int getShardIndex() {
+    return shardIndex;
+  }
+
+  public void setShardIndex(int shardIndex) {
+    this.shardIndex = shardIndex;
+  }
+
+  public int getShardCount() {
+    return shardCount;
+  }
+
+  public void setShardCount(int shardCount) {
+    this.shardCount = shardCount;
+  }
+
   @Override
   public String toString() {
     return new StringJoiner(", ", ReportOptions.class.getSimpleName() + "[", "]")
@@ -740,6 +940,26 @@ public class ReportOptions {
             .add("outputEncoding=" + outputEncoding)
             .add("reportCoverage=" + reportCoverage)
             .add("arcmutateMissing=" + arcmutateMissing)
+            .add("reuseMinions=" + reuseMinions)
+            .add("schemata=" + schemata)
+            .add("recoverTimeouts=" + recoverTimeouts)
+            .add("balanceUnits=" + balanceUnits)
+            .add("stealWork=" + stealWork)
+            .add("shardCoverage=" + shardCoverage)
+            .add("reusePrescan=" + reusePrescan)
+            .add("parallelDiscovery=" + parallelDiscovery)
+            .add("classPathIndex=" + classPathIndex)
+            .add("warmMinions=" + warmMinions)
+            .add("classDataSharing=" + classDataSharing)
+            .add("killHistory=" + killHistory)
+            .add("resultCacheDir='" + resultCacheDir + "'")
+            .add("resultCacheMaxMb=" + resultCacheMaxMb)
+            .add("concurrentMutants=" + concurrentMutants)
+            .add("adaptiveTimeouts=" + adaptiveTimeouts)
+            .add("journal=" + journal)
+            .add("resume=" + resume)
+            .add("shardIndex=" + shardIndex)
+            .add("shardCount=" + shardCount)
             .toString();
   }
 
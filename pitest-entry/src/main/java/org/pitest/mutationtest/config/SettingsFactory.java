@@ -1,5 +1,7 @@
 package org.pitest.mutationtest.config;
 
+import org.pitest.classinfo.ClassPathIndex;
+import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.CodeSource;
 import org.pitest.classpath.CodeSourceFactory;
 import org.pitest.classpath.DefaultCodeSource;
@@ -9,6 +11,7 @@ import org.pitest.coverage.CompoundTestStatListener;
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.TestStatListener;
 import org.pitest.coverage.TestStatListenerFactory;
+import org.pitest.mutationtest.History;
 import org.pitest.mutationtest.HistoryFactory;
 import org.pitest.mutationtest.build.CoverageTransformer;
 import org.pitest.mutationtest.build.CoverageTransformerFactory;
@@ -20,9 +23,11 @@ import org.pitest.mutationtest.MutationEngineFactory;
 import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.build.CompoundInterceptorFactory;
 import org.pitest.mutationtest.build.CompoundProjectMutationFilterFactory;
+import org.pitest.mutationtest.build.CostBalancedGrouperFactory;
 import org.pitest.mutationtest.build.DefaultMutationGrouperFactory;
 import org.pitest.mutationtest.build.DefaultTestPrioritiserFactory;
 import org.pitest.mutationtest.build.FilteringPrioritiser;
+import org.pitest.mutationtest.build.KillHistoryPrioritiser;
 import org.pitest.mutationtest.build.MutationGrouperFactory;
 import org.pitest.mutationtest.build.MutationInterceptorFactory;
 import org.pitest.mutationtest.build.ProjectMutationInterceptorFactory;
@@ -30,7 +35,13 @@ import org.pitest.mutationtest.build.TestFilter;
 import org.pitest.mutationtest.build.TestFilterFactory;
 import org.pitest.mutationtest.build.TestFilterParams;
 import org.pitest.mutationtest.build.TestPrioritiserFactory;
+import org.pitest.mutationtest.incremental.CachingHistory;
 import org.pitest.mutationtest.incremental.ErroringHistoryFactory;
+import org.pitest.mutationtest.incremental.KillHistory;
+import org.pitest.mutationtest.incremental.ResultCache;
+import org.pitest.mutationtest.incremental.ResumedHistory;
+import org.pitest.mutationtest.incremental.RunJournal;
+import org.pitest.mutationtest.incremental.TimeoutCalibration;
 import org.pitest.mutationtest.verify.BuildVerifierFactory;
 import org.pitest.mutationtest.verify.CompoundBuildVerifierFactory;
 import org.pitest.plugin.Feature;
@@ -38,18 +49,21 @@ import org.pitest.plugin.FeatureParser;
 import org.pitest.plugin.FeatureSelector;
 import org.pitest.plugin.FeatureSetting;
 import org.pitest.plugin.ProvidesFeature;
+import org.pitest.process.ClassDataArchive;
 import org.pitest.process.DefaultJavaExecutableLocator;
 import org.pitest.process.JavaExecutableLocator;
 import org.pitest.process.KnownLocationJavaExecutableLocator;
 import org.pitest.util.PitError;
 import org.pitest.util.ResultOutputStrategy;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -140,13 +154,24 @@ public class SettingsFactory {
     // a JVM or else the last mutation will poison the next. This restriction can only
     // be removed if the hotswap functionality is reworked.
     // Grouping behaviour is therefore hard coded for now.
+    if (this.options.isBalanceUnits()) {
+      return new CostBalancedGrouperFactory();
+    }
     return new DefaultMutationGrouperFactory();
   }
 
   public CodeSource createCodeSource(ProjectClassPaths classPath) {
+    return createCodeSource(classPath, ClassPathIndex.none());
+  }
+
+  /**
+   * Creates a code source that resolves classes through the index. Code
+   * sources provided by plugins are given the classpath alone.
+   */
+  public CodeSource createCodeSource(ProjectClassPaths classPath, ClassPathIndex index) {
     List<CodeSourceFactory> sources = this.plugins.findCodeSources();
     if (sources.isEmpty()) {
-      return new DefaultCodeSource(classPath);
+      return new DefaultCodeSource(classPath, index);
     }
     if (sources.size() > 1) {
        throw new RuntimeException("More than one CodeSource found on classpath.");
@@ -154,6 +179,106 @@ public class SettingsFactory {
     return sources.get(0).createCodeSource(classPath);
   }
 
+  public ClassPathIndex createClassPathIndex(ClassPath classPath) {
+    if (!this.options.isClassPathIndex()) {
+      return ClassPathIndex.none();
+    }
+    return ClassPathIndex.load(new File(stateDir(), "classpath.index"), classPath);
+  }
+
+  public ClassDataArchive createClassDataArchive() {
+    if (!this.options.isClassDataSharing()) {
+      return ClassDataArchive.disabled();
+    }
+    return new ClassDataArchive(new File(stateDir(), "cds"));
+  }
+
+  public KillHistory createKillHistory() {
+    if (!this.options.isKillHistory()) {
+      return KillHistory.none();
+    }
+    return KillHistory.load(new File(stateDir(), "kill.history"));
+  }
+
+  public TimeoutCalibration createTimeoutCalibration() {
+    if (!this.options.isAdaptiveTimeouts()) {
+      return TimeoutCalibration.none();
+    }
+    return TimeoutCalibration.load(new File(stateDir(), "timeout.calibration"));
+  }
+
+  /**
+   * Creates the journal the results of the run are written to, loading the
+   * results of an earlier run if the run is to be resumed. Journaling costs
+   * a write, and periodically an fsync, as each unit completes, so results
+   * are only journaled when asked for. A resumed run is always journaled so
+   * that it can itself be resumed.
+   */
+  public RunJournal createRunJournal(CodeSource code) {
+    final String dir = stateDir();
+    if (dir == null || !(this.options.isJournal() || this.options.isResume())) {
+      return RunJournal.none();
+    }
+    return RunJournal.create(new File(dir, "run.journal"), code,
+        runJournalConfig(), this.options.isResume());
+  }
+
+  /**
+   * Wraps a history so that mutants it cannot analyse are given the results
+   * held by the run journal, if the run is resumed.
+   */
+  public History withResumedResults(History history, RunJournal journal) {
+    if (!this.options.isResume()) {
+      return history;
+    }
+    return new ResumedHistory(history, journal);
+  }
+
+  /**
+   * Wraps a history so that mutants it cannot analyse are looked up in the
+   * result cache, if one is enabled.
+   */
+  public History withResultCache(History history, CodeSource code) {
+    if (this.options.getResultCacheDir() == null) {
+      return history;
+    }
+    final ResultCache cache = new ResultCache(new File(this.options.getResultCacheDir()),
+        this.options.getResultCacheMaxMb() * 1024L * 1024L);
+    return new CachingHistory(history, cache, code, resultCacheConfig());
+  }
+
+  // settings that change the outcome of running a test against a mutant
+  // state kept between runs goes in the config directory, or the report
+  // directory if none is set
+  private String stateDir() {
+    return this.options.getConfigDir() != null
+        ? this.options.getConfigDir() : this.options.getReportDir();
+  }
+
+  private String resultCacheConfig() {
+    final TestPluginArguments args = this.options.createMinionSettings();
+    return new StringJoiner("\n")
+        .add(String.valueOf(SettingsFactory.class.getPackage().getImplementationVersion()))
+        .add(args.getGroupConfig().toString())
+        .add(String.valueOf(args.getExcludedRunners()))
+        .add(String.valueOf(args.getIncludedTestMethods()))
+        .add(String.valueOf(args.skipFailingTests()))
+        .toString();
+  }
+
+  // settings that change which mutants are created, or their results
+  private String runJournalConfig() {
+    return new StringJoiner("\n")
+        .add(resultCacheConfig())
+        .add(String.valueOf(this.options.getMutators()))
+        .add(String.valueOf(this.options.getFeatures()))
+        .add(String.valueOf(this.options.getExcludedMethods()))
+        .add(String.valueOf(this.options.isFullMutationMatrix()))
+        .add(String.valueOf(this.options.getTimeoutFactor()))
+        .add(String.valueOf(this.options.getTimeoutConstant()))
+        .toString();
+  }
+
   public HistoryFactory createHistory() {
     List<HistoryFactory> available = this.plugins.findHistory();
 
@@ -210,10 +335,16 @@ public class SettingsFactory {
   }
 
   public TestPrioritiserFactory getTestPrioritiser() {
+    return getTestPrioritiser(KillHistory.none());
+  }
+
+  public TestPrioritiserFactory getTestPrioritiser(KillHistory killHistory) {
     final Collection<? extends TestPrioritiserFactory> testPickers = this.plugins
         .findTestPrioritisers();
     TestFilter filter = createTestFilter();
-    return new FilteringPrioritiser(firstOrDefault(testPickers, new DefaultTestPrioritiserFactory()), filter);
+    TestPrioritiserFactory picker = new KillHistoryPrioritiser(
+        firstOrDefault(testPickers, new DefaultTestPrioritiserFactory()), killHistory);
+    return new FilteringPrioritiser(picker, filter);
   }
 
   public CoverageOptions createCoverageOptions() {
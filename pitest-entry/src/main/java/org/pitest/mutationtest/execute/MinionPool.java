@@ -0,0 +1,223 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Log;
+import org.pitest.util.SocketFinder;
+
+/**
+ * Holds minions that have completed a unit of work, so they can be handed the
+ * next one instead of paying the cost of launching a new jvm. Minions that
+ * exit abnormally are destroyed rather than returned to the pool.
+ *
+ * The pool may also launch minions ahead of need. Each time a unit cannot be
+ * given an idle minion, replacements are launched in the background, so that
+ * the next unit finds a jvm that has already booted and loaded its plugins,
+ * and is waiting for its arguments. The number of these warm minions is
+ * capped, as each holds a jvm's worth of memory while it waits, and no more
+ * are launched than there are units still to be given a minion.
+ */
+public class MinionPool implements Closeable {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final boolean             reuse;
+  private final int                 maxWarm;
+  private final Launcher            launcher;
+  private final Queue<PooledMinion> idle = new ConcurrentLinkedQueue<>();
+  private final Queue<PooledMinion> warm = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger       launched = new AtomicInteger();
+  private final AtomicInteger       units = new AtomicInteger();
+  private final AtomicInteger       warmStarts = new AtomicInteger();
+  // warm minions waiting or being launched
+  private final AtomicInteger       warming = new AtomicInteger();
+  private volatile int              expectedUnits = Integer.MAX_VALUE;
+
+  private ExecutorService           executor;
+  private volatile boolean          closed;
+
+  public MinionPool() {
+    this(true, 0);
+  }
+
+  /**
+   * @param reuse
+   *          if minions may be sent more than one unit of work
+   * @param maxWarm
+   *          maximum number of minions to launch ahead of need
+   */
+  public MinionPool(boolean reuse, int maxWarm) {
+    this(reuse, maxWarm, launchWith(new SocketFinder()));
+  }
+
+  MinionPool(boolean reuse, int maxWarm, Launcher launcher) {
+    this.reuse = reuse;
+    this.maxWarm = maxWarm;
+    this.launcher = launcher;
+  }
+
+  public boolean reusesMinions() {
+    return this.reuse;
+  }
+
+  /**
+   * @param units
+   *          number of units the pool will be asked for minions for, so that
+   *          minions are not launched ahead of need once every unit has one
+   */
+  public void expectUnits(int units) {
+    this.expectedUnits = units;
+  }
+
+  /**
+   * @param reuse
+   *          if the unit may be run in a minion that has run others, and the
+   *          minion may be kept afterwards. Otherwise a minion that has not
+   *          yet been given work is returned.
+   */
+  PooledMinion borrow(ProcessArgs processArgs, boolean reuse) throws IOException {
+    this.units.incrementAndGet();
+    PooledMinion minion = reuse ? poll(this.idle) : null;
+    if (minion != null) {
+      return minion;
+    }
+
+    minion = poll(this.warm);
+    if (minion != null) {
+      this.warming.decrementAndGet();
+      this.warmStarts.incrementAndGet();
+    } else {
+      minion = launch(processArgs);
+    }
+    prelaunch(processArgs);
+    return minion;
+  }
+
+  void release(PooledMinion minion, ExitCode exitCode, boolean reuse) {
+    if (reuse && exitCode.isOk() && minion.isAlive()) {
+      this.idle.add(minion);
+    } else {
+      minion.destroy();
+    }
+  }
+
+  int warmMinions() {
+    return this.warm.size();
+  }
+
+  @Override
+  public void close() {
+    this.closed = true;
+    synchronized (this) {
+      if (this.executor != null) {
+        this.executor.shutdownNow();
+      }
+    }
+    PooledMinion minion = this.idle.poll();
+    while (minion != null) {
+      minion.shutdown();
+      minion = this.idle.poll();
+    }
+    destroyWarm();
+    if (this.units.get() != 0) {
+      LOG.fine("Ran " + this.units.get() + " units in " + this.launched.get()
+          + " pooled minions, " + this.warmStarts.get() + " launched ahead of need");
+    }
+  }
+
+  private PooledMinion poll(Queue<PooledMinion> queue) {
+    PooledMinion minion = queue.poll();
+    while (minion != null) {
+      if (minion.isAlive()) {
+        return minion;
+      }
+      if (queue == this.warm) {
+        this.warming.decrementAndGet();
+      }
+      minion.destroy();
+      minion = queue.poll();
+    }
+    return null;
+  }
+
+  private void prelaunch(ProcessArgs processArgs) {
+    while (!this.closed) {
+      final int current = this.warming.get();
+      final int remaining = this.expectedUnits - this.units.get();
+      if (current >= Math.min(this.maxWarm, remaining)) {
+        return;
+      }
+      if (this.warming.compareAndSet(current, current + 1)
+          && !submit(() -> launchWarm(processArgs))) {
+        this.warming.decrementAndGet();
+        return;
+      }
+    }
+  }
+
+  private void launchWarm(ProcessArgs processArgs) {
+    try {
+      this.warm.add(launch(processArgs));
+      // the pool may have closed while the minion was launching
+      if (this.closed) {
+        destroyWarm();
+      }
+    } catch (final IOException | RuntimeException e) {
+      this.warming.decrementAndGet();
+      LOG.log(Level.FINE, "Could not launch minion ahead of need", e);
+    }
+  }
+
+  private void destroyWarm() {
+    PooledMinion minion = this.warm.poll();
+    while (minion != null) {
+      minion.destroy();
+      minion = this.warm.poll();
+    }
+  }
+
+  private synchronized boolean submit(Runnable task) {
+    if (this.closed) {
+      return false;
+    }
+    if (this.executor == null) {
+      this.executor = Executors.newSingleThreadExecutor(r -> {
+        final Thread t = new Thread(r, "pit-minion-launcher");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+    this.executor.execute(task);
+    return true;
+  }
+
+  private PooledMinion launch(ProcessArgs processArgs) throws IOException {
+    final PooledMinion minion = this.launcher.launch(processArgs);
+    this.launched.incrementAndGet();
+    return minion;
+  }
+
+  private static Launcher launchWith(SocketFinder sockets) {
+    return processArgs -> {
+      final PooledMinion minion = new PooledMinion(
+          sockets.getNextAvailableServerSocket(), processArgs);
+      minion.start();
+      return minion;
+    };
+  }
+
+  interface Launcher {
+    PooledMinion launch(ProcessArgs processArgs) throws IOException;
+  }
+
+}
@@ -0,0 +1,35 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.util.function.IntConsumer;
+
+import org.pitest.mutationtest.MutationStatusMap;
+import org.pitest.util.ExitCode;
+
+/**
+ * A minion analysing a range of mutants on behalf of a MutationTestUnit.
+ */
+public interface MinionProcess {
+
+  void start() throws IOException, InterruptedException;
+
+  ExitCode waitToDie();
+
+  void results(MutationStatusMap allmutations) throws IOException;
+
+  /**
+   * Asks the minion to hand over the second half of the mutants in its range
+   * that it has not yet started.
+   *
+   * The response is passed to the supplied consumer on the thread reading the
+   * minion's results, before the minion's exit is reported by
+   * {@link #waitToDie()}. It receives the index within the range of the first
+   * mutant the minion will no longer run, or -1 if it will run them all.
+   *
+   * @return false if the request could not be sent
+   */
+  default boolean split(IntConsumer onResponse) {
+    return false;
+  }
+
+}
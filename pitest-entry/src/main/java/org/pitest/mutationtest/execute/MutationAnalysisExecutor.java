@@ -1,10 +1,15 @@
 package org.pitest.mutationtest.execute;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -15,6 +20,7 @@ import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResultInterceptor;
 import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.incremental.RunJournal;
 import org.pitest.util.Log;
 import org.pitest.util.Unchecked;
 
@@ -22,15 +28,37 @@ public class MutationAnalysisExecutor {
 
   private static final Logger                LOG = Log.getLogger();
 
+  // how long a thread with nothing to do waits before looking for work again
+  private static final long                  STEAL_POLL_MILLIS = 500;
+
   private final List<MutationResultListener> listeners;
   private final ThreadPoolExecutor           executor;
+  private final int                          numberOfThreads;
+  private final boolean                      stealWork;
 
   private final MutationResultInterceptor resultInterceptor;
+  private final RunJournal                journal;
+
+  // units currently being analysed, which work may be taken from
+  private final List<MutationAnalysisUnit>   running = new CopyOnWriteArrayList<>();
 
   public MutationAnalysisExecutor(int numberOfThreads, MutationResultInterceptor interceptor,
       List<MutationResultListener> listeners) {
+    this(numberOfThreads, interceptor, listeners, false);
+  }
+
+  public MutationAnalysisExecutor(int numberOfThreads, MutationResultInterceptor interceptor,
+      List<MutationResultListener> listeners, boolean stealWork) {
+    this(numberOfThreads, interceptor, listeners, stealWork, RunJournal.none());
+  }
+
+  public MutationAnalysisExecutor(int numberOfThreads, MutationResultInterceptor interceptor,
+      List<MutationResultListener> listeners, boolean stealWork, RunJournal journal) {
     this.resultInterceptor = interceptor;
+    this.journal = journal;
     this.listeners = listeners;
+    this.numberOfThreads = numberOfThreads;
+    this.stealWork = stealWork;
     this.executor = new ThreadPoolExecutor(numberOfThreads, numberOfThreads,
         10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
         Executors.defaultThreadFactory());
@@ -42,31 +70,85 @@ public class MutationAnalysisExecutor {
     LOG.fine("Running " + testUnits.size() + " units");
 
     signalRunStartToAllListeners();
+    this.journal.start();
 
-    final List<Future<MutationMetaData>> results = new ArrayList<>(
-        testUnits.size());
+    final CompletionService<MutationMetaData> results = new ExecutorCompletionService<>(
+        this.executor);
 
     for (final MutationAnalysisUnit unit : testUnits) {
-      results.add(this.executor.submit(unit));
+      results.submit(() -> track(unit));
+    }
+
+    // queued behind the units, so only start once all units have been started
+    if (this.stealWork) {
+      for (int i = 0; i != this.numberOfThreads; i++) {
+        this.executor.submit(this::stealWork);
+      }
     }
 
     this.executor.shutdown();
 
     try {
-      processResult(results);
+      processResult(results, testUnits.size());
     } catch (final InterruptedException | ExecutionException e) {
+      this.journal.close();
       throw Unchecked.translateCheckedException(e);
     }
 
     signalRunEndToAllListeners();
+    this.journal.complete();
 
   }
 
-  private void processResult(List<Future<MutationMetaData>> results)
+  private MutationMetaData track(MutationAnalysisUnit unit) throws Exception {
+    this.running.add(unit);
+    try {
+      return unit.call();
+    } finally {
+      this.running.remove(unit);
+    }
+  }
+
+  /**
+   * Keeps an otherwise idle thread busy by taking mutants that have not yet
+   * been started from running units. The results of taken work are reported
+   * by the unit it was taken from.
+   */
+  private Void stealWork() throws Exception {
+    while (!this.running.isEmpty()) {
+      final Optional<MutationAnalysisUnit> taken = takeWork();
+      if (taken.isPresent()) {
+        track(taken.get());
+      } else {
+        Thread.sleep(STEAL_POLL_MILLIS);
+      }
+    }
+    return null;
+  }
+
+  private Optional<MutationAnalysisUnit> takeWork() {
+    final List<MutationAnalysisUnit> candidates = new ArrayList<>(this.running);
+    candidates.sort(Comparator.comparingInt(MutationAnalysisUnit::priority).reversed());
+    for (final MutationAnalysisUnit each : candidates) {
+      final Optional<MutationAnalysisUnit> taken = each.split();
+      if (taken.isPresent()) {
+        return taken;
+      }
+    }
+    return Optional.empty();
+  }
+
+  // results are handled as each unit completes, so that listeners are not held
+  // up by slow units, and finished results need not be kept in memory
+  private void processResult(CompletionService<MutationMetaData> results, int units)
           throws InterruptedException, ExecutionException {
-    for (Future<MutationMetaData> f : results) {
-      MutationMetaData metaData = f.get();
-      for (ClassMutationResults cr : resultInterceptor.modify(metaData.toClassResults())) {
+    for (int i = 0; i != units; i++) {
+      MutationMetaData metaData = results.take().get();
+      // results are journaled before interception, so that those resumed
+      // from the journal are intercepted as they would have been
+      final Collection<ClassMutationResults> classResults = metaData.toClassResults();
+      classResults.forEach(this.journal::record);
+      for (ClassMutationResults cr : resultInterceptor.modify(classResults)) {
         for (MutationResultListener listener : this.listeners) {
           listener.handleMutationResult(cr);
         }
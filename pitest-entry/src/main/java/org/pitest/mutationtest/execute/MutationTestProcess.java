@@ -5,6 +5,9 @@ import java.net.ServerSocket;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.ObjIntConsumer;
 
 import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.MutationStatusTestPair;
@@ -15,27 +18,52 @@ import org.pitest.process.WrappingProcess;
 import org.pitest.util.CommunicationThread;
 import org.pitest.util.ExitCode;
 
-public class MutationTestProcess {
+public class MutationTestProcess implements MinionProcess {
 
   private final WrappingProcess process;
   private final CommunicationThread thread;
   private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+  private final SplitRequests splits = new SplitRequests();
 
   public MutationTestProcess(final ServerSocket socket,
       final ProcessArgs processArgs, final MinionArguments arguments) {
+    this(socket, processArgs, arguments, millis -> { });
+  }
+
+  /**
+   * @param startups
+   *          receives the time the minion took to become ready for work
+   */
+  public MutationTestProcess(final ServerSocket socket,
+      final ProcessArgs processArgs, final MinionArguments arguments,
+      final LongConsumer startups) {
+    this(socket, processArgs, arguments, startups, (test, millis) -> { });
+  }
+
+  /**
+   * @param baselines
+   *          receives the time each test took against unmutated code, when
+   *          the minion measures them
+   */
+  public MutationTestProcess(final ServerSocket socket,
+      final ProcessArgs processArgs, final MinionArguments arguments,
+      final LongConsumer startups, final ObjIntConsumer<String> baselines) {
     this.process = WrappingProcess.create(socket.getLocalPort(), processArgs,
         MutationTestMinion.class);
 
     this.idMap = new ConcurrentHashMap<>();
-    this.thread = new CommunicationThread(socket, new SendData(arguments), new Receive(idMap));
+    this.thread = new CommunicationThread(socket, new SendData(arguments, this.splits),
+        new Receive(this.idMap, this.splits, startups, baselines));
 
   }
 
+  @Override
   public void start() throws IOException, InterruptedException {
     this.thread.start();
     this.process.start();
   }
 
+  @Override
   public void results(final MutationStatusMap allmutations) throws IOException {
 
     for (final MutationDetails each : allmutations.allMutations()) {
@@ -47,6 +75,12 @@ public class MutationTestProcess {
 
   }
 
+  @Override
+  public boolean split(IntConsumer onResponse) {
+    return this.splits.request(onResponse);
+  }
+
+  @Override
   public ExitCode waitToDie() {
     try {
       // Wait a moment to give the monitoring thread time to finish naturally. This
@@ -71,6 +105,7 @@ public class MutationTestProcess {
       // before reporting its exit
       return maybeExit.orElse(ExitCode.MINION_DIED);
     } finally {
+      this.splits.finished();
       this.process.destroy();
     }
 
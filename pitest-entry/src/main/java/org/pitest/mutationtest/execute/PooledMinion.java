@@ -0,0 +1,130 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
+import org.pitest.util.Log;
+import org.pitest.util.ReceiveStrategy;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * A mutation test minion that may be sent more than one unit of work
+ * over the same connection.
+ */
+class PooledMinion {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final int ACCEPT_POLL_MILLIS = 1000;
+
+  private final ServerSocket    serverSocket;
+  private final WrappingProcess process;
+
+  private Socket                socket;
+  private SafeDataInputStream   is;
+  private SafeDataOutputStream  os;
+  private int                   unitsRun;
+
+  PooledMinion(ServerSocket serverSocket, ProcessArgs processArgs) {
+    this.serverSocket = serverSocket;
+    this.process = WrappingProcess.create(serverSocket.getLocalPort(), processArgs,
+        MutationTestMinion.class);
+  }
+
+  void start() throws IOException {
+    this.process.start();
+  }
+
+  /**
+   * Sends a unit of work to the minion and blocks until it reports it is done.
+   * Any mutant reported by the minion is passed to the supplied strategy.
+   */
+  ExitCode run(Consumer<SafeDataOutputStream> send, ReceiveStrategy receive) {
+    try {
+      connectIfRequired();
+      if (this.unitsRun != 0) {
+        this.os.writeByte(Id.NEXT);
+      }
+      this.unitsRun = this.unitsRun + 1;
+      send.accept(this.os);
+
+      byte control = this.is.readByte();
+      while (control != Id.DONE) {
+        receive.apply(control, this.is);
+        control = this.is.readByte();
+      }
+      return ExitCode.fromCode(this.is.readInt());
+    } catch (final IOException | RuntimeException e) {
+      LOG.log(Level.FINE, "Lost connection to minion", e);
+      return ExitCode.MINION_DIED;
+    }
+  }
+
+  boolean isAlive() {
+    return this.process.isAlive();
+  }
+
+  int unitsRun() {
+    return this.unitsRun;
+  }
+
+  void shutdown() {
+    try {
+      if (this.os != null) {
+        this.os.writeByte(Id.DONE);
+        this.os.flush();
+      }
+    } catch (final RuntimeException e) {
+      LOG.log(Level.FINE, "Minion already closed", e);
+    } finally {
+      destroy();
+    }
+  }
+
+  void destroy() {
+    closeQuietly();
+    this.process.destroy();
+  }
+
+  private void connectIfRequired() throws IOException {
+    if (this.socket != null) {
+      return;
+    }
+
+    this.serverSocket.setSoTimeout(ACCEPT_POLL_MILLIS);
+    while (this.socket == null) {
+      try {
+        this.socket = this.serverSocket.accept();
+      } catch (final SocketTimeoutException e) {
+        if (!this.process.isAlive()) {
+          throw new IOException("Minion exited before connecting", e);
+        }
+      }
+    }
+    this.is = new SafeDataInputStream(new BufferedInputStream(this.socket.getInputStream()));
+    this.os = new SafeDataOutputStream(this.socket.getOutputStream());
+  }
+
+  private void closeQuietly() {
+    try {
+      if (this.socket != null) {
+        this.socket.close();
+      }
+      this.serverSocket.close();
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Error closing minion socket", e);
+    }
+  }
+
+}
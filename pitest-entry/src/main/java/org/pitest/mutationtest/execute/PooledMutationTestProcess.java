@@ -0,0 +1,93 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.ObjIntConsumer;
+
+import org.pitest.mutationtest.MutationStatusMap;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.ExitCode;
+
+/**
+ * Runs a range of mutants in a minion borrowed from a pool. The minion is
+ * returned to the pool if it completes the range normally and may be reused.
+ */
+public class PooledMutationTestProcess implements MinionProcess {
+
+  private final MinionPool      pool;
+  private final ProcessArgs     processArgs;
+  private final MinionArguments arguments;
+  private final LongConsumer    startups;
+  private final ObjIntConsumer<String> baselines;
+  private final Map<MutationIdentifier, MutationStatusTestPair> idMap = new ConcurrentHashMap<>();
+  private final SplitRequests   splits = new SplitRequests();
+
+  private PooledMinion          minion;
+
+  public PooledMutationTestProcess(MinionPool pool, ProcessArgs processArgs,
+      MinionArguments arguments) {
+    this(pool, processArgs, arguments, millis -> { });
+  }
+
+  /**
+   * @param startups
+   *          receives the time the minion took to become ready for work, if it
+   *          had not been used before
+   */
+  public PooledMutationTestProcess(MinionPool pool, ProcessArgs processArgs,
+      MinionArguments arguments, LongConsumer startups) {
+    this(pool, processArgs, arguments, startups, (test, millis) -> { });
+  }
+
+  /**
+   * @param baselines
+   *          receives the time each test took against unmutated code, when
+   *          the minion measures them
+   */
+  public PooledMutationTestProcess(MinionPool pool, ProcessArgs processArgs,
+      MinionArguments arguments, LongConsumer startups,
+      ObjIntConsumer<String> baselines) {
+    this.pool = pool;
+    this.processArgs = processArgs;
+    this.arguments = arguments;
+    this.startups = startups;
+    this.baselines = baselines;
+  }
+
+  @Override
+  public void start() throws IOException {
+    this.minion = this.pool.borrow(this.processArgs, this.arguments.reuse());
+  }
+
+  @Override
+  public ExitCode waitToDie() {
+    final ExitCode exitCode = this.minion.run(new SendData(this.arguments, this.splits),
+        new Receive(this.idMap, this.splits, this.startups, this.baselines));
+    // no requests may be sent once the minion could be running another range
+    this.splits.finished();
+    this.pool.release(this.minion, exitCode, this.arguments.reuse());
+    return exitCode;
+  }
+
+  @Override
+  public boolean split(IntConsumer onResponse) {
+    return this.splits.request(onResponse);
+  }
+
+  @Override
+  public void results(MutationStatusMap allmutations) {
+    for (final MutationDetails each : allmutations.allMutations()) {
+      final MutationStatusTestPair status = this.idMap.get(each.getId());
+      if (status != null) {
+        allmutations.setStatusForMutation(each, status);
+      }
+    }
+  }
+
+}
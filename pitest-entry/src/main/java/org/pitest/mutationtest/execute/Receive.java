@@ -9,15 +9,39 @@ import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 
 import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.function.ObjIntConsumer;
 import java.util.logging.Logger;
 
 class Receive implements ReceiveStrategy {
     private static final Logger LOG = Log.getLogger();
 
     private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+    private final SplitRequests splits;
+    private final LongConsumer startups;
+    private final ObjIntConsumer<String> baselines;
 
     Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
+        this(idMap, new SplitRequests());
+    }
+
+    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+            final SplitRequests splits) {
+        this(idMap, splits, millis -> { });
+    }
+
+    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+            final SplitRequests splits, final LongConsumer startups) {
+        this(idMap, splits, startups, (test, millis) -> { });
+    }
+
+    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+            final SplitRequests splits, final LongConsumer startups,
+            final ObjIntConsumer<String> baselines) {
         this.idMap = idMap;
+        this.splits = splits;
+        this.startups = startups;
+        this.baselines = baselines;
     }
 
     @Override
@@ -29,6 +53,15 @@ class Receive implements ReceiveStrategy {
             case Id.REPORT:
                 handleReport(is);
                 break;
+            case Id.SPLIT:
+                this.splits.responded(is.readInt());
+                break;
+            case Id.STARTED:
+                this.startups.accept(is.readLong());
+                break;
+            case Id.BASELINE:
+                this.baselines.accept(is.readString(), is.readInt());
+                break;
             default:
                 LOG.severe("Unknown control byte " + control);
         }
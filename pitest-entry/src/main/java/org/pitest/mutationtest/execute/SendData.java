@@ -6,14 +6,21 @@ import java.util.function.Consumer;
 
 class SendData implements Consumer<SafeDataOutputStream> {
     private final MinionArguments arguments;
+    private final SplitRequests splits;
 
     SendData(final MinionArguments arguments) {
+        this(arguments, new SplitRequests());
+    }
+
+    SendData(final MinionArguments arguments, final SplitRequests splits) {
         this.arguments = arguments;
+        this.splits = splits;
     }
 
     @Override
     public void accept(final SafeDataOutputStream dos) {
         dos.write(this.arguments);
         dos.flush();
+        this.splits.connected(dos);
     }
 }
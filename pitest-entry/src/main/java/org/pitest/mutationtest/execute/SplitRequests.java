@@ -0,0 +1,74 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.function.IntConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.util.Id;
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Sends requests to a minion to split the range of mutants it is running, and
+ * matches them to its responses. Only one request may be outstanding at a time.
+ */
+class SplitRequests {
+
+  private static final Logger  LOG = Log.getLogger();
+
+  private SafeDataOutputStream os;
+  private IntConsumer          pending;
+  private boolean              finished;
+
+  /**
+   * Called once the range has been sent to the minion.
+   */
+  synchronized void connected(SafeDataOutputStream os) {
+    this.os = os;
+  }
+
+  synchronized boolean request(IntConsumer onResponse) {
+    if (this.os == null || this.finished || this.pending != null) {
+      return false;
+    }
+    try {
+      this.os.writeByte(Id.SPLIT);
+      this.os.flush();
+    } catch (final RuntimeException e) {
+      LOG.log(Level.FINE, "Could not send split request to minion", e);
+      return false;
+    }
+    this.pending = onResponse;
+    return true;
+  }
+
+  /**
+   * Called with the minion's response, on the thread reading its results.
+   */
+  void responded(int at) {
+    complete(at);
+  }
+
+  /**
+   * Called once the minion has finished the range. Any outstanding request
+   * was not seen by the minion.
+   */
+  void finished() {
+    synchronized (this) {
+      this.finished = true;
+    }
+    complete(-1);
+  }
+
+  private void complete(int at) {
+    final IntConsumer toNotify;
+    synchronized (this) {
+      toNotify = this.pending;
+      this.pending = null;
+    }
+    if (toNotify != null) {
+      toNotify.accept(at);
+    }
+  }
+
+}
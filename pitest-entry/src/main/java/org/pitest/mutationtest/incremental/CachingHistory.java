@@ -0,0 +1,296 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.pitest.classinfo.ClassHash;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.History;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+import org.pitest.util.PitError;
+
+/**
+ * Looks up mutants that another history cannot analyse in a result cache,
+ * and stores the results of the mutants it analyses.
+ *
+ * A result is keyed by the test configuration, the mutant's identifier and
+ * the hash of the mutated class, and the name and hash of each test class
+ * that covers the mutant together with the hashes of every class those tests
+ * cover. The key also includes a digest of the content of the libraries and
+ * resources on the classpath, each named by its place on the classpath
+ * rather than its location on disk, so the same key is produced by other
+ * checkouts of the same code. A change to any of these produces a different
+ * key, so results are reused only when the same tests meet the same mutant
+ * in the same code.
+ * Only killed and surviving mutants are stored, as other statuses depend on
+ * timing and the environment.
+ */
+public class CachingHistory implements History {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final History     delegate;
+  private final ResultCache cache;
+  private final CodeSource  code;
+  private final String      config;
+
+  private final Map<MutationIdentifier, String> keys = new ConcurrentHashMap<>();
+  private final Map<ClassName, Optional<String>> classHashes = new ConcurrentHashMap<>();
+  private CoverageDatabase          coverage;
+  private Map<ClassName, String>    testDependencies;
+  private String                    environment;
+
+  /**
+   * @param config
+   *          description of the settings that affect the outcome of tests,
+   *          included in every key
+   */
+  public CachingHistory(History delegate, ResultCache cache, CodeSource code,
+      String config) {
+    this.delegate = delegate;
+    this.cache = cache;
+    this.code = code;
+    this.config = config;
+  }
+
+  @Override
+  public void initialize() {
+    this.delegate.initialize();
+  }
+
+  @Override
+  public Predicate<ClassName> limitTests(List<MutationDetails> mutants) {
+    return this.delegate.limitTests(mutants);
+  }
+
+  @Override
+  public void processCoverage(CoverageDatabase coverageData) {
+    this.coverage = coverageData;
+    this.delegate.processCoverage(coverageData);
+  }
+
+  @Override
+  public List<MutationResult> analyse(List<MutationDetails> mutationsForClasses) {
+    final List<MutationResult> results = new ArrayList<>(
+        this.delegate.analyse(mutationsForClasses));
+    final Set<MutationIdentifier> analysed = results.stream()
+        .map(r -> r.getDetails().getId())
+        .collect(Collectors.toSet());
+
+    int hits = 0;
+    for (final MutationDetails each : mutationsForClasses) {
+      if (analysed.contains(each.getId()) || each.getTestsInOrder().isEmpty()) {
+        continue;
+      }
+      final Optional<String> key = key(each);
+      if (!key.isPresent()) {
+        continue;
+      }
+      final Optional<MutationStatusTestPair> cached = this.cache.lookup(key.get());
+      if (cached.isPresent()) {
+        // no tests were run against the mutant in this run
+        final MutationStatusTestPair result = cached.get();
+        results.add(new MutationResult(each, new MutationStatusTestPair(0,
+            result.getStatus(), result.getKillingTests(),
+            result.getSucceedingTests(), result.getCoveringTests())));
+        hits = hits + 1;
+      } else {
+        this.keys.put(each.getId(), key.get());
+      }
+    }
+    LOG.fine("Result cache provided " + hits + " of "
+        + mutationsForClasses.size() + " results");
+    return results;
+  }
+
+  @Override
+  public void recordResult(MutationResult result) {
+    this.delegate.recordResult(result);
+    final String key = this.keys.remove(result.getDetails().getId());
+    final DetectionStatus status = result.getStatus();
+    if (key != null && result.getNumberOfTestsRun() != 0
+        && (status == DetectionStatus.KILLED || status == DetectionStatus.SURVIVED)) {
+      this.cache.store(key, new MutationStatusTestPair(result.getNumberOfTestsRun(),
+          status, result.getKillingTests(), result.getSucceedingTests(),
+          result.getCoveringTests()));
+    }
+  }
+
+  @Override
+  public void close() {
+    this.delegate.close();
+    this.cache.evict();
+  }
+
+  private Optional<String> key(MutationDetails mutant) {
+    final Optional<String> classHash = classHash(mutant.getClassName());
+    if (!classHash.isPresent()) {
+      return Optional.empty();
+    }
+
+    final MutationIdentifier id = mutant.getId();
+    final Location location = id.getLocation();
+    final StringBuilder sb = new StringBuilder(this.config).append('\n')
+        .append(environment()).append('\n')
+        .append(location.getClassName().asJavaName()).append('.')
+        .append(location.getMethodName()).append(location.getMethodDesc())
+        .append(id.getIndexes()).append(id.getMutator()).append('\n')
+        .append(classHash.get()).append('\n');
+
+    // tests are sorted so the key does not depend on their priority
+    final Map<String, ClassName> tests = new TreeMap<>();
+    for (final TestInfo each : mutant.getTestsInOrder()) {
+      tests.put(each.getName(), TestInfo.toDefiningClassName().apply(each));
+    }
+    final Map<ClassName, String> dependencies = testDependencies();
+    for (final Map.Entry<String, ClassName> each : tests.entrySet()) {
+      final Optional<String> testHash = classHash(each.getValue());
+      if (!testHash.isPresent()) {
+        return Optional.empty();
+      }
+      sb.append(each.getKey()).append(':').append(testHash.get()).append(':')
+          .append(dependencies.getOrDefault(each.getValue(), "")).append('\n');
+    }
+    return Optional.of(sb.toString());
+  }
+
+  private Optional<String> classHash(ClassName clazz) {
+    return this.classHashes.computeIfAbsent(clazz, c -> this.code.fetchClassHash(c)
+        .map(ClassHash::getHierarchicalId)
+        .map(CachingHistory::hash));
+  }
+
+  static String hash(HierarchicalClassId id) {
+    return Long.toHexString(id.getId().getHash()) + ":" + id.getHierarchicalHash();
+  }
+
+  // a digest of everything on the classpath that is not hashed as code under
+  // test or as a test
+  private synchronized String environment() {
+    if (this.environment == null) {
+      final List<File> roots = new ArrayList<>();
+      for (final String each : this.code.getClassPath().getLocalClassPath()
+          .split(File.pathSeparator)) {
+        if (!each.isEmpty()) {
+          roots.add(new File(each));
+        }
+      }
+      this.environment = describeClassPath(roots,
+          this.code.getAllClassAndTestNames());
+    }
+    return this.environment;
+  }
+
+  // archives are named by their file name, and files in directories by their
+  // path within the directory, so the description does not depend on where
+  // the classpath is found. Classes that are hashed are skipped, so
+  // recompiling the project does not change the description.
+  static String describeClassPath(List<File> roots, Set<ClassName> hashed) {
+    final Map<String, String> entries = new TreeMap<>();
+    for (final File root : roots) {
+      if (!root.isDirectory()) {
+        entries.merge(root.getName(), contentHash(root.toPath()), CachingHistory::both);
+        continue;
+      }
+      final Path base = root.toPath();
+      try (Stream<Path> files = Files.walk(base)) {
+        files.filter(Files::isRegularFile)
+            .map(f -> base.relativize(f).toString().replace(File.separatorChar, '/'))
+            .filter(f -> !isHashed(f, hashed))
+            .forEach(f -> entries.merge(f, contentHash(base.resolve(f)),
+                CachingHistory::both));
+      } catch (final IOException | UncheckedIOException ex) {
+        LOG.fine("Could not describe classpath root " + root + " " + ex.getMessage());
+        entries.merge(root.getName(), "unreadable", CachingHistory::both);
+      }
+    }
+
+    final StringBuilder sb = new StringBuilder();
+    for (final Map.Entry<String, String> each : entries.entrySet()) {
+      sb.append(each.getKey()).append(':').append(each.getValue()).append('\n');
+    }
+    return ResultCache.digest(sb.toString());
+  }
+
+  // entries of the same name are kept in classpath order
+  private static String both(String first, String second) {
+    return first + "," + second;
+  }
+
+  private static String contentHash(Path file) {
+    try (InputStream in = Files.newInputStream(file)) {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      final byte[] buffer = new byte[8192];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+      return new BigInteger(1, digest.digest()).toString(16);
+    } catch (final IOException ex) {
+      LOG.fine("Could not read " + file + " " + ex.getMessage());
+      return "unreadable";
+    } catch (final NoSuchAlgorithmException ex) {
+      throw new PitError("SHA-256 is not available", ex);
+    }
+  }
+
+  private static boolean isHashed(String file, Set<ClassName> hashed) {
+    return file.endsWith(".class") && hashed.contains(ClassName.fromString(
+        file.substring(0, file.length() - ".class".length())));
+  }
+
+  // a digest of the name and hash of each class covered by each test class
+  private synchronized Map<ClassName, String> testDependencies() {
+    if (this.testDependencies != null) {
+      return this.testDependencies;
+    }
+
+    final Map<ClassName, Set<String>> covered = new HashMap<>();
+    for (final ClassHash each : this.code.fetchClassHashes(this.code.getCodeUnderTestNames())) {
+      final String entry = each.getName().asJavaName() + ":"
+          + hash(each.getHierarchicalId());
+      for (final TestInfo test : this.coverage.getTestsForClass(each.getName())) {
+        covered.computeIfAbsent(TestInfo.toDefiningClassName().apply(test),
+            t -> new TreeSet<>()).add(entry);
+      }
+    }
+
+    this.testDependencies = new HashMap<>();
+    for (final Map.Entry<ClassName, Set<String>> each : covered.entrySet()) {
+      this.testDependencies.put(each.getKey(),
+          ResultCache.digest(String.join("\n", each.getValue())));
+    }
+    return this.testDependencies;
+  }
+
+}
@@ -13,7 +13,8 @@ public class ErroringHistoryFactory implements HistoryFactory {
     @Override
     public History makeHistory(HistoryParams params, WriterFactory output, Optional<Reader> input) {
         throw new PitError("\nHistory has been enabled but no history plugin has been installed/activated.\n"
-                + "If you are using https://www.arcmutate.com remember to activate the history plugin with +arcmutate_history");
+                + "Activate the built in history with +file_history, or if you are using https://www.arcmutate.com\n"
+                + "remember to activate the history plugin with +arcmutate_history");
     }
 
     @Override
@@ -0,0 +1,310 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.pitest.classinfo.ClassHash;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.History;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.incremental.HistoryFile.ClassRecord;
+import org.pitest.mutationtest.incremental.HistoryFile.Contents;
+import org.pitest.mutationtest.incremental.HistoryFile.Killer;
+import org.pitest.mutationtest.incremental.HistoryFile.ResultRecord;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * Reuses the results of an earlier run for mutants whose class, and the tests
+ * that cover it, are unchanged.
+ *
+ * Tests are split into those whose outcome may have changed since the earlier
+ * run, because the test class or a class it covered has changed, and stable
+ * tests that can be assumed to behave as they did before. Coverage is only
+ * gathered for tests whose outcome may have changed, together with every
+ * earlier covering test of any class they touched or that has mutants that
+ * must be analysed again, so mutants that are analysed again are run against
+ * all the tests that cover them.
+ *
+ * For a class whose hash is unchanged, a mutant previously killed by a stable
+ * test is still killed, and a mutant that survived still survives if its
+ * class is covered by the same unchanged tests, which is checked by comparing
+ * coverage ids. All other mutants are analysed again.
+ */
+public class FileHistory implements History {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final CodeSource code;
+  private final File       input;
+  private final HistoryFile output;
+
+  private Contents         previous = new Contents();
+  private final Map<ClassName, HierarchicalClassId> currentTests = new HashMap<>();
+  // tests whose outcome may differ from the earlier run
+  private final Set<ClassName> unstable = new HashSet<>();
+  // tests for which coverage was gathered in this run
+  private Predicate<ClassName> covered = c -> true;
+  private CoverageDatabase   coverage;
+  private final Map<String, ClassName> testClasses = new HashMap<>();
+
+  /**
+   * @param input
+   *          history from an earlier run, or null
+   * @param output
+   *          file to write the history of this run to, or null. May be the
+   *          same file as the input.
+   */
+  public FileHistory(CodeSource code, File input, File output) {
+    this.code = code;
+    this.input = input;
+    this.output = output != null ? new HistoryFile(output) : null;
+  }
+
+  @Override
+  public void initialize() {
+    // read in full before the output, which may be the same file, is opened
+    this.previous = HistoryFile.read(this.input);
+    for (final ResultRecord each : this.previous.results.values()) {
+      for (final Killer killer : each.killers) {
+        this.testClasses.put(killer.test, killer.testClass);
+      }
+    }
+
+    for (final ClassHash each : this.code.fetchClassHashes(this.code.getTestClassNames())) {
+      this.currentTests.put(each.getName(), each.getHierarchicalId());
+    }
+    LOG.fine("Read history of " + this.previous.results.size() + " mutants");
+  }
+
+  @Override
+  public Predicate<ClassName> limitTests(List<MutationDetails> mutants) {
+    if (this.previous.isEmpty()) {
+      return this.covered;
+    }
+
+    // new, changed and removed tests
+    for (final Map.Entry<ClassName, HierarchicalClassId> each : this.currentTests.entrySet()) {
+      if (!each.getValue().equals(this.previous.tests.get(each.getKey()))) {
+        this.unstable.add(each.getKey());
+      }
+    }
+    for (final ClassName each : this.previous.tests.keySet()) {
+      if (!this.currentTests.containsKey(each)) {
+        this.unstable.add(each);
+      }
+    }
+
+    // tests that covered changed or removed classes
+    final Map<ClassName, Optional<HierarchicalClassId>> currentClasses = new HashMap<>();
+    for (final Map.Entry<ClassName, ClassRecord> each : this.previous.classes.entrySet()) {
+      if (!currentId(currentClasses, each.getKey()).equals(Optional.of(each.getValue().id))) {
+        this.unstable.addAll(each.getValue().tests);
+      }
+    }
+
+    // every test of a class touched by those tests, so mutants they killed
+    // can be run against all of them
+    final Set<ClassName> toCover = new HashSet<>(this.unstable);
+    for (final ClassRecord each : this.previous.classes.values()) {
+      if (!Collections.disjoint(each.tests, this.unstable)) {
+        toCover.addAll(each.tests);
+      }
+    }
+
+    // mutants that will be run again need all their tests
+    for (final MutationDetails each : mutants) {
+      final ResultRecord result = this.previous.results.get(each.getId());
+      if (result == null || result.status != DetectionStatus.KILLED
+          && result.status != DetectionStatus.SURVIVED) {
+        final ClassRecord clazz = this.previous.classes.get(each.getClassName());
+        if (clazz != null) {
+          toCover.addAll(clazz.tests);
+        }
+      }
+    }
+
+    LOG.info("Incremental analysis gathering coverage for " + toCover.size() + " of "
+        + this.currentTests.size() + " test classes");
+    this.covered = toCover::contains;
+    return this.covered;
+  }
+
+  @Override
+  public void processCoverage(CoverageDatabase coverageData) {
+    this.coverage = coverageData;
+    if (this.output == null) {
+      return;
+    }
+
+    try {
+      for (final Map.Entry<ClassName, HierarchicalClassId> each : this.currentTests.entrySet()) {
+        this.output.writeTest(each.getKey(), each.getValue());
+      }
+      for (final ClassHash each : this.code.fetchClassHashes(this.code.getCodeUnderTestNames())) {
+        final Set<ClassName> tests = coveringTests(each.getName());
+        this.output.writeClass(each.getName(), each.getHierarchicalId(),
+            coverageId(each.getName()), tests);
+      }
+      this.output.flush();
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+  @Override
+  public List<MutationResult> analyse(List<MutationDetails> mutationsForClasses) {
+    final Map<ClassName, Boolean> unchanged = new HashMap<>();
+    final Map<ClassName, Boolean> sameCoverage = new HashMap<>();
+    final List<MutationResult> results = new ArrayList<>();
+    for (final MutationDetails each : mutationsForClasses) {
+      final ResultRecord previousResult = this.previous.results.get(each.getId());
+      if (previousResult == null
+          || !unchanged.computeIfAbsent(each.getClassName(), this::isUnchanged)) {
+        continue;
+      }
+
+      if (previousResult.status == DetectionStatus.KILLED
+          && killedByStableTest(previousResult)) {
+        results.add(new MutationResult(each, new MutationStatusTestPair(0,
+            DetectionStatus.KILLED, killers(previousResult),
+            Collections.emptyList(), Collections.emptyList())));
+      } else if (previousResult.status == DetectionStatus.SURVIVED
+          && sameCoverage.computeIfAbsent(each.getClassName(), this::hasSameCoverage)) {
+        results.add(new MutationResult(each, new MutationStatusTestPair(0,
+            DetectionStatus.SURVIVED, Collections.emptyList(),
+            Collections.emptyList(), Collections.emptyList())));
+      }
+    }
+    LOG.info("Incremental analysis reused " + results.size() + " of "
+        + mutationsForClasses.size() + " results");
+    return results;
+  }
+
+  @Override
+  public void recordResult(MutationResult result) {
+    if (this.output == null) {
+      return;
+    }
+
+    final MutationDetails details = result.getDetails();
+    final List<Killer> killers = new ArrayList<>();
+    for (final String each : result.getKillingTests()) {
+      final ClassName testClass = testClass(details, each);
+      if (testClass != null) {
+        killers.add(new Killer(each, testClass));
+      }
+    }
+
+    try {
+      this.output.writeResult(details.getId(), result.getStatus(), killers);
+      this.output.flush();
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (this.output == null) {
+      return;
+    }
+    try {
+      this.output.close();
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+  private Optional<HierarchicalClassId> currentId(
+      Map<ClassName, Optional<HierarchicalClassId>> cache, ClassName clazz) {
+    return cache.computeIfAbsent(clazz,
+        c -> this.code.fetchClassHash(c).map(ClassHash::getHierarchicalId));
+  }
+
+  private boolean isUnchanged(ClassName clazz) {
+    final ClassRecord record = this.previous.classes.get(clazz);
+    return record != null && this.code.fetchClassHash(clazz)
+        .map(ClassHash::getHierarchicalId)
+        .filter(record.id::equals)
+        .isPresent();
+  }
+
+  private boolean killedByStableTest(ResultRecord result) {
+    return !result.killers.isEmpty() && result.killers.stream()
+        .allMatch(k -> this.currentTests.containsKey(k.testClass)
+            && !this.unstable.contains(k.testClass));
+  }
+
+  private boolean hasSameCoverage(ClassName clazz) {
+    final ClassRecord record = this.previous.classes.get(clazz);
+    final Set<ClassName> tests = coveringTests(clazz);
+    return Collections.disjoint(tests, this.unstable)
+        && coverageId(clazz).equals(record.coverageId);
+  }
+
+  // tests run in this run that cover the class, together with those that
+  // covered it in the earlier run and were not run again
+  private Set<ClassName> coveringTests(ClassName clazz) {
+    final Set<ClassName> tests = new LinkedHashSet<>();
+    for (final TestInfo each : this.coverage.getTestsForClass(clazz)) {
+      tests.add(TestInfo.toDefiningClassName().apply(each));
+    }
+    tests.addAll(testsNotRun(clazz));
+    return tests;
+  }
+
+  private BigInteger coverageId(ClassName clazz) {
+    BigInteger id = this.coverage.getCoverageIdForClass(clazz);
+    for (final ClassName each : testsNotRun(clazz)) {
+      id = id.add(new BigInteger(this.currentTests.get(each).getHierarchicalHash(), 16));
+    }
+    return id;
+  }
+
+  private List<ClassName> testsNotRun(ClassName clazz) {
+    final ClassRecord record = this.previous.classes.get(clazz);
+    if (record == null) {
+      return Collections.emptyList();
+    }
+    return record.tests.stream()
+        .filter(t -> !this.covered.test(t) && this.currentTests.containsKey(t))
+        .collect(Collectors.toList());
+  }
+
+  private ClassName testClass(MutationDetails details, String test) {
+    for (final TestInfo each : details.getTestsInOrder()) {
+      if (each.getName().equals(test)) {
+        return TestInfo.toDefiningClassName().apply(each);
+      }
+    }
+    return this.testClasses.get(test);
+  }
+
+  private static List<String> killers(ResultRecord result) {
+    return result.killers.stream()
+        .map(k -> k.test)
+        .collect(Collectors.toList());
+  }
+
+}
@@ -0,0 +1,46 @@
+package org.pitest.mutationtest.incremental;
+
+import org.pitest.mutationtest.History;
+import org.pitest.mutationtest.HistoryFactory;
+import org.pitest.mutationtest.HistoryParams;
+import org.pitest.plugin.Feature;
+import org.pitest.util.Unchecked;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Optional;
+
+/**
+ * Stores history in a compact binary file. As the format is binary, the
+ * history locations are read and written directly rather than through the
+ * supplied text reader and writer.
+ */
+public class FileHistoryFactory implements HistoryFactory {
+
+    @Override
+    public History makeHistory(HistoryParams params, WriterFactory output, Optional<Reader> input) {
+        input.ifPresent(FileHistoryFactory::close);
+        return new FileHistory(params.code(), params.data().getHistoryInputLocation(),
+                params.data().getHistoryOutputLocation());
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("file_history")
+                .withOnByDefault(false)
+                .withDescription(description());
+    }
+
+    @Override
+    public String description() {
+        return "Reuse results for unchanged code and tests from the history file";
+    }
+
+    private static void close(Reader reader) {
+        try {
+            reader.close();
+        } catch (final IOException ex) {
+            throw Unchecked.translateCheckedException(ex);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+/**
+ * Reads and appends the binary records that make up a history file.
+ *
+ * Each string is written once, in a record of its own, and referred to by
+ * index thereafter. Later records replace earlier ones for the same class or
+ * mutant. Records are flushed as they are appended, so the file left by a
+ * run that did not complete holds every record written before it stopped, and
+ * a partly written final record is ignored when read.
+ */
+class HistoryFile {
+
+  private static final Logger LOG     = Log.getLogger();
+
+  private static final int    MAGIC   = 0x50495448;
+  private static final int    VERSION = 1;
+
+  private static final byte   STRING  = 0;
+  private static final byte   CLASS   = 1;
+  private static final byte   TEST    = 2;
+  private static final byte   RESULT  = 3;
+
+  private static final DetectionStatus[] STATUSES = DetectionStatus.values();
+
+  private final File             file;
+  private final Map<String, Integer> strings = new HashMap<>();
+  private DataOutputStream       out;
+
+  HistoryFile(File file) {
+    this.file = file;
+  }
+
+  /**
+   * Reads the records of a history file. A missing or unreadable file is
+   * treated as empty.
+   */
+  static Contents read(File file) {
+    final Contents contents = new Contents();
+    if (file == null || !file.exists() || file.length() == 0) {
+      return contents;
+    }
+
+    final List<String> strings = new ArrayList<>();
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+        Files.newInputStream(file.toPath())))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        LOG.warning("Ignoring history file " + file + " as it is not in the expected format");
+        return contents;
+      }
+      while (readRecord(in, strings, contents)) {
+        // until end of file
+      }
+    } catch (final EOFException ex) {
+      LOG.fine("History file " + file + " ends with an incomplete record");
+    } catch (final IOException | RuntimeException ex) {
+      LOG.warning("Ignoring unreadable history file " + file + " " + ex.getMessage());
+      return new Contents();
+    }
+    return contents;
+  }
+
+  synchronized void writeClass(ClassName name, HierarchicalClassId id,
+      BigInteger coverageId, Collection<ClassName> tests) throws IOException {
+    final int nameRef = ref(name.asJavaName());
+    final int hashRef = ref(id.getHierarchicalHash());
+    final int coverageRef = ref(coverageId.toString(16));
+    final int[] testRefs = new int[tests.size()];
+    int i = 0;
+    for (final ClassName each : tests) {
+      testRefs[i++] = ref(each.asJavaName());
+    }
+
+    out().writeByte(CLASS);
+    this.out.writeInt(nameRef);
+    this.out.writeLong(id.getId().getHash());
+    this.out.writeInt(hashRef);
+    this.out.writeInt(coverageRef);
+    writeRefs(testRefs);
+  }
+
+  synchronized void writeTest(ClassName name, HierarchicalClassId id)
+      throws IOException {
+    final int nameRef = ref(name.asJavaName());
+    final int hashRef = ref(id.getHierarchicalHash());
+    out().writeByte(TEST);
+    this.out.writeInt(nameRef);
+    this.out.writeLong(id.getId().getHash());
+    this.out.writeInt(hashRef);
+  }
+
+  synchronized void writeResult(MutationIdentifier id, DetectionStatus status,
+      List<Killer> killers) throws IOException {
+    final Location location = id.getLocation();
+    final int classRef = ref(location.getClassName().asJavaName());
+    final int methodRef = ref(location.getMethodName());
+    final int descRef = ref(location.getMethodDesc());
+    final int mutatorRef = ref(id.getMutator());
+    final int[] killerRefs = new int[killers.size() * 2];
+    for (int i = 0; i != killers.size(); i++) {
+      killerRefs[i * 2] = ref(killers.get(i).test);
+      killerRefs[i * 2 + 1] = ref(killers.get(i).testClass.asJavaName());
+    }
+
+    out().writeByte(RESULT);
+    this.out.writeInt(classRef);
+    this.out.writeInt(methodRef);
+    this.out.writeInt(descRef);
+    this.out.writeInt(mutatorRef);
+    this.out.writeShort(id.getIndexes().size());
+    for (final int each : id.getIndexes()) {
+      this.out.writeInt(each);
+    }
+    this.out.writeByte(status.ordinal());
+    writeRefs(killerRefs);
+  }
+
+  synchronized void flush() throws IOException {
+    if (this.out != null) {
+      this.out.flush();
+    }
+  }
+
+  synchronized void close() throws IOException {
+    if (this.out != null) {
+      this.out.close();
+      this.out = null;
+    }
+  }
+
+  private DataOutputStream out() throws IOException {
+    if (this.out == null) {
+      this.file.getAbsoluteFile().getParentFile().mkdirs();
+      this.out = new DataOutputStream(new BufferedOutputStream(
+          Files.newOutputStream(this.file.toPath())));
+      this.out.writeInt(MAGIC);
+      this.out.writeInt(VERSION);
+    }
+    return this.out;
+  }
+
+  private int ref(String value) throws IOException {
+    final Integer existing = this.strings.get(value);
+    if (existing != null) {
+      return existing;
+    }
+    out().writeByte(STRING);
+    this.out.writeUTF(value);
+    final int index = this.strings.size();
+    this.strings.put(value, index);
+    return index;
+  }
+
+  private void writeRefs(int[] refs) throws IOException {
+    this.out.writeInt(refs.length);
+    for (final int each : refs) {
+      this.out.writeInt(each);
+    }
+  }
+
+  private static boolean readRecord(DataInputStream in, List<String> strings,
+      Contents contents) throws IOException {
+    final int type = in.read();
+    switch (type) {
+    case -1:
+      return false;
+    case STRING:
+      strings.add(in.readUTF());
+      return true;
+    case CLASS:
+      readClass(in, strings, contents);
+      return true;
+    case TEST:
+      readTest(in, strings, contents);
+      return true;
+    case RESULT:
+      readResult(in, strings, contents);
+      return true;
+    default:
+      throw new IOException("Unknown record type " + type);
+    }
+  }
+
+  private static void readClass(DataInputStream in, List<String> strings,
+      Contents contents) throws IOException {
+    final ClassName name = ClassName.fromString(strings.get(in.readInt()));
+    final HierarchicalClassId id = new HierarchicalClassId(in.readLong(), name,
+        strings.get(in.readInt()));
+    final BigInteger coverageId = new BigInteger(strings.get(in.readInt()), 16);
+    final Set<ClassName> tests = new LinkedHashSet<>();
+    for (final int each : readRefs(in)) {
+      tests.add(ClassName.fromString(strings.get(each)));
+    }
+    contents.classes.put(name, new ClassRecord(id, coverageId, tests));
+  }
+
+  private static void readTest(DataInputStream in, List<String> strings,
+      Contents contents) throws IOException {
+    final ClassName name = ClassName.fromString(strings.get(in.readInt()));
+    contents.tests.put(name, new HierarchicalClassId(in.readLong(), name,
+        strings.get(in.readInt())));
+  }
+
+  private static void readResult(DataInputStream in, List<String> strings,
+      Contents contents) throws IOException {
+    final Location location = Location.location(
+        ClassName.fromString(strings.get(in.readInt())),
+        strings.get(in.readInt()), strings.get(in.readInt()));
+    final String mutator = strings.get(in.readInt());
+    final int indexCount = in.readUnsignedShort();
+    final List<Integer> indexes = new ArrayList<>(indexCount);
+    for (int i = 0; i != indexCount; i++) {
+      indexes.add(in.readInt());
+    }
+    final DetectionStatus status = STATUSES[in.readUnsignedByte()];
+    final int[] killerRefs = readRefs(in);
+    final List<Killer> killers = new ArrayList<>(killerRefs.length / 2);
+    for (int i = 0; i + 1 < killerRefs.length; i = i + 2) {
+      killers.add(new Killer(strings.get(killerRefs[i]),
+          ClassName.fromString(strings.get(killerRefs[i + 1]))));
+    }
+    contents.results.put(new MutationIdentifier(location, indexes, mutator),
+        new ResultRecord(status, killers));
+  }
+
+  private static int[] readRefs(DataInputStream in) throws IOException {
+    final int[] refs = new int[in.readInt()];
+    for (int i = 0; i != refs.length; i++) {
+      refs[i] = in.readInt();
+    }
+    return refs;
+  }
+
+  static final class Contents {
+    final Map<ClassName, ClassRecord>                classes = new HashMap<>();
+    final Map<ClassName, HierarchicalClassId>        tests   = new HashMap<>();
+    final Map<MutationIdentifier, ResultRecord>      results = new HashMap<>();
+
+    boolean isEmpty() {
+      return this.classes.isEmpty();
+    }
+  }
+
+  static final class ClassRecord {
+    final HierarchicalClassId id;
+    final BigInteger          coverageId;
+    final Set<ClassName>      tests;
+
+    ClassRecord(HierarchicalClassId id, BigInteger coverageId,
+        Set<ClassName> tests) {
+      this.id = id;
+      this.coverageId = coverageId;
+      this.tests = tests;
+    }
+  }
+
+  static final class ResultRecord {
+    final DetectionStatus status;
+    final List<Killer>    killers;
+
+    ResultRecord(DetectionStatus status, List<Killer> killers) {
+      this.status = status;
+      this.killers = killers;
+    }
+  }
+
+  static final class Killer {
+    final String    test;
+    final ClassName testClass;
+
+    Killer(String test, ClassName testClass) {
+      this.test = test;
+      this.testClass = testClass;
+    }
+  }
+
+}
@@ -0,0 +1,260 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.Log;
+
+/**
+ * Counts how often each test has been run against, and has killed, mutants
+ * at each method and mutants created by each mutator, across runs.
+ *
+ * A test counts as run against a mutant if it was one of the tests executed
+ * against it, which for a killed mutant are those up to and including the
+ * first to kill it. Mutants with other statuses are not recorded, as it is
+ * not known which tests ran. Counts are halved once a test has been run
+ * against a location or mutator many times, so that older runs carry less
+ * weight.
+ */
+public class KillHistory {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final int VERSION = 1;
+
+  // attempts after which counts are halved
+  static final int MAX_ATTEMPTS = 64;
+
+  private final File                            file;
+  private final Map<String, Map<String, Stats>> byLocation;
+  private final Map<String, Map<String, Stats>> byMutator;
+  private boolean                               changed;
+
+  KillHistory(File file, Map<String, Map<String, Stats>> byLocation,
+      Map<String, Map<String, Stats>> byMutator) {
+    this.file = file;
+    this.byLocation = byLocation;
+    this.byMutator = byMutator;
+  }
+
+  public static KillHistory none() {
+    return new KillHistory(null, new HashMap<>(), new HashMap<>());
+  }
+
+  /**
+   * @param file
+   *          location of the history. Its contents are ignored if missing or
+   *          unreadable.
+   */
+  public static KillHistory load(File file) {
+    final Map<String, Map<String, Stats>> byLocation = new HashMap<>();
+    final Map<String, Map<String, Stats>> byMutator = new HashMap<>();
+    if (read(file, byLocation, byMutator)) {
+      return new KillHistory(file, byLocation, byMutator);
+    }
+    return new KillHistory(file, new HashMap<>(), new HashMap<>());
+  }
+
+  public boolean isEmpty() {
+    return this.byLocation.isEmpty() && this.byMutator.isEmpty();
+  }
+
+  /**
+   * Estimates the probability that a test kills a mutant, from the history
+   * of the mutant's method if the test has been run against it, otherwise
+   * from the history of its mutator.
+   *
+   * @return the estimate, or a negative value if the test has no history for
+   *         either
+   */
+  public synchronized double killProbability(MutationDetails mutant, String test) {
+    Stats stats = find(this.byLocation, key(mutant.getId().getLocation()), test);
+    if (stats == null) {
+      stats = find(this.byMutator, mutant.getMutator(), test);
+    }
+    if (stats == null) {
+      return -1;
+    }
+    // laplace smoothing, so single observations are not treated as certain
+    return (stats.kills + 1d) / (stats.attempts + 2d);
+  }
+
+  public synchronized void record(MutationResult result) {
+    final DetectionStatus status = result.getStatus();
+    // results carried over from an earlier analysis did not run any tests
+    if (status != DetectionStatus.KILLED && status != DetectionStatus.SURVIVED
+        || result.getNumberOfTestsRun() == 0) {
+      return;
+    }
+
+    final MutationDetails details = result.getDetails();
+    final List<String> killers = result.getKillingTests();
+    final Set<String> run = new LinkedHashSet<>();
+    final List<TestInfo> assigned = details.getTestsInOrder();
+    final int count = Math.min(result.getNumberOfTestsRun(), assigned.size());
+    for (int i = 0; i != count; i++) {
+      run.add(assigned.get(i).getName());
+    }
+    run.addAll(killers);
+
+    final String location = key(details.getId().getLocation());
+    for (final String each : run) {
+      final boolean killed = killers.contains(each);
+      update(this.byLocation, location, each, killed);
+      update(this.byMutator, details.getMutator(), each, killed);
+    }
+    this.changed = this.changed || !run.isEmpty();
+  }
+
+  /**
+   * Writes the history if anything has been recorded.
+   */
+  public synchronized void save() {
+    if (this.file == null || !this.changed) {
+      return;
+    }
+    try {
+      final File parent = this.file.getAbsoluteFile().getParentFile();
+      parent.mkdirs();
+      final File temp = File.createTempFile("kill", ".tmp", parent);
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          Files.newOutputStream(temp.toPath())))) {
+        write(out);
+      }
+      Files.move(temp.toPath(), this.file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING);
+      this.changed = false;
+    } catch (final IOException ex) {
+      LOG.warning("Could not write kill history to " + this.file + " " + ex.getMessage());
+    }
+  }
+
+  private static String key(Location location) {
+    return location.getClassName().asJavaName() + "." + location.getMethodName()
+        + location.getMethodDesc();
+  }
+
+  private static Stats find(Map<String, Map<String, Stats>> stats, String key,
+      String test) {
+    final Map<String, Stats> tests = stats.get(key);
+    return tests != null ? tests.get(test) : null;
+  }
+
+  private static void update(Map<String, Map<String, Stats>> stats, String key,
+      String test, boolean killed) {
+    final Stats each = stats.computeIfAbsent(key, k -> new HashMap<>())
+        .computeIfAbsent(test, t -> new Stats(0, 0));
+    each.attempts = each.attempts + 1;
+    if (killed) {
+      each.kills = each.kills + 1;
+    }
+    if (each.attempts > MAX_ATTEMPTS) {
+      each.attempts = each.attempts / 2;
+      each.kills = each.kills / 2;
+    }
+  }
+
+  private void write(DataOutputStream out) throws IOException {
+    // test names are written once and referred to by index
+    final Map<String, Integer> names = new HashMap<>();
+    final List<String> ordered = new ArrayList<>();
+    for (final Map<String, Map<String, Stats>> each : List.of(this.byLocation, this.byMutator)) {
+      for (final Map<String, Stats> tests : each.values()) {
+        for (final String test : tests.keySet()) {
+          if (names.putIfAbsent(test, ordered.size()) == null) {
+            ordered.add(test);
+          }
+        }
+      }
+    }
+
+    out.writeInt(VERSION);
+    out.writeInt(ordered.size());
+    for (final String each : ordered) {
+      out.writeUTF(each);
+    }
+    writeStats(out, this.byLocation, names);
+    writeStats(out, this.byMutator, names);
+  }
+
+  private static void writeStats(DataOutputStream out,
+      Map<String, Map<String, Stats>> stats, Map<String, Integer> names)
+      throws IOException {
+    out.writeInt(stats.size());
+    for (final Map.Entry<String, Map<String, Stats>> each : stats.entrySet()) {
+      out.writeUTF(each.getKey());
+      out.writeInt(each.getValue().size());
+      for (final Map.Entry<String, Stats> test : each.getValue().entrySet()) {
+        out.writeInt(names.get(test.getKey()));
+        out.writeShort(test.getValue().attempts);
+        out.writeShort(test.getValue().kills);
+      }
+    }
+  }
+
+  private static boolean read(File file, Map<String, Map<String, Stats>> byLocation,
+      Map<String, Map<String, Stats>> byMutator) {
+    if (!file.exists()) {
+      return false;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+        Files.newInputStream(file.toPath())))) {
+      if (in.readInt() != VERSION) {
+        return false;
+      }
+      final String[] names = new String[in.readInt()];
+      for (int i = 0; i != names.length; i++) {
+        names[i] = in.readUTF();
+      }
+      readStats(in, names, byLocation);
+      readStats(in, names, byMutator);
+      return true;
+    } catch (final IOException | RuntimeException ex) {
+      LOG.warning("Ignoring unreadable kill history " + file + " " + ex.getMessage());
+      return false;
+    }
+  }
+
+  private static void readStats(DataInputStream in, String[] names,
+      Map<String, Map<String, Stats>> stats) throws IOException {
+    final int keys = in.readInt();
+    for (int i = 0; i != keys; i++) {
+      final String key = in.readUTF();
+      final int tests = in.readInt();
+      final Map<String, Stats> each = new HashMap<>();
+      for (int t = 0; t != tests; t++) {
+        each.put(names[in.readInt()], new Stats(in.readShort(), in.readShort()));
+      }
+      stats.put(key, each);
+    }
+  }
+
+  static final class Stats {
+    private int attempts;
+    private int kills;
+
+    Stats(int attempts, int kills) {
+      this.attempts = attempts;
+      this.kills = kills;
+    }
+  }
+
+}
@@ -0,0 +1,32 @@
+package org.pitest.mutationtest.incremental;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResultInterceptor;
+
+import java.util.Collection;
+
+/**
+ * Records which tests killed each mutant before other interceptors are
+ * applied, so later runs can order tests by their kill history.
+ */
+public class KillHistoryResultInterceptor implements MutationResultInterceptor {
+
+    private final KillHistory history;
+
+    public KillHistoryResultInterceptor(KillHistory history) {
+        this.history = history;
+    }
+
+    @Override
+    public Collection<ClassMutationResults> modify(Collection<ClassMutationResults> results) {
+        results.stream()
+                .flatMap(c -> c.getMutations().stream())
+                .forEach(this.history::record);
+        return results;
+    }
+
+    @Override
+    public int priority() {
+        return 0;
+    }
+}
@@ -0,0 +1,232 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.util.Log;
+import org.pitest.util.PitError;
+
+/**
+ * A directory of mutant results, each stored in a file named after a digest
+ * of its key, so that any number of projects, worktrees and branches can
+ * share the directory.
+ *
+ * Entries are written to a temporary file and moved into place, so readers
+ * never see a partly written entry and concurrent writers of the same entry
+ * simply replace each other's identical result. The modification time of an
+ * entry is updated each time it is read, and once the directory grows beyond
+ * its maximum size the least recently used entries are deleted. An entry
+ * deleted while it is being read is treated as a miss.
+ */
+public class ResultCache {
+
+  private static final Logger LOG     = Log.getLogger();
+
+  private static final int    VERSION = 1;
+  private static final String SUFFIX  = ".result";
+
+  private static final DetectionStatus[] STATUSES = DetectionStatus.values();
+
+  private final Path dir;
+  private final long maxBytes;
+  private boolean    written;
+
+  /**
+   * @param dir
+   *          directory holding the cache
+   * @param maxBytes
+   *          size above which least recently used entries are deleted
+   */
+  public ResultCache(File dir, long maxBytes) {
+    this.dir = dir.toPath();
+    this.maxBytes = maxBytes;
+  }
+
+  public Optional<MutationStatusTestPair> lookup(String key) {
+    final Path entry = entryFor(key);
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+        Files.newInputStream(entry)))) {
+      if (in.readInt() != VERSION) {
+        return Optional.empty();
+      }
+      final DetectionStatus status = STATUSES[in.readUnsignedByte()];
+      final int testsRun = in.readInt();
+      final MutationStatusTestPair result = new MutationStatusTestPair(testsRun,
+          status, readList(in), readList(in), readList(in));
+      touch(entry);
+      return Optional.of(result);
+    } catch (final NoSuchFileException ex) {
+      return Optional.empty();
+    } catch (final IOException | RuntimeException ex) {
+      LOG.fine("Ignoring unreadable cached result " + entry + " " + ex.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  public void store(String key, MutationStatusTestPair result) {
+    final Path entry = entryFor(key);
+    try {
+      Files.createDirectories(entry.getParent());
+      final Path temp = entry.resolveSibling("." + UUID.randomUUID() + ".tmp");
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          Files.newOutputStream(temp)))) {
+        out.writeInt(VERSION);
+        out.writeByte(result.getStatus().ordinal());
+        out.writeInt(result.getNumberOfTestsRun());
+        writeList(out, result.getKillingTests());
+        writeList(out, result.getSucceedingTests());
+        writeList(out, result.getCoveringTests());
+      }
+      move(temp, entry);
+      synchronized (this) {
+        this.written = true;
+      }
+    } catch (final IOException ex) {
+      LOG.warning("Could not write cached result to " + entry + " " + ex.getMessage());
+    }
+  }
+
+  /**
+   * Deletes least recently used entries until the cache is below its
+   * maximum size, if anything has been written to it.
+   */
+  public synchronized void evict() {
+    if (!this.written || !Files.isDirectory(this.dir)) {
+      return;
+    }
+    this.written = false;
+
+    final List<Entry> entries = new ArrayList<>();
+    try (Stream<Path> files = Files.walk(this.dir, 2)) {
+      for (final Path each : files.filter(p -> p.toString().endsWith(SUFFIX))
+          .collect(Collectors.toList())) {
+        try {
+          entries.add(new Entry(each, Files.size(each),
+              Files.getLastModifiedTime(each).toMillis()));
+        } catch (final NoSuchFileException ex) {
+          // removed by another process
+        }
+      }
+    } catch (final IOException | UncheckedIOException ex) {
+      LOG.warning("Could not read result cache " + this.dir + " " + ex.getMessage());
+      return;
+    }
+
+    long size = entries.stream().mapToLong(e -> e.size).sum();
+    if (size <= this.maxBytes) {
+      return;
+    }
+
+    // trim below the limit so eviction is not needed after every run
+    final long target = this.maxBytes - (this.maxBytes / 10);
+    entries.sort(Comparator.comparingLong(e -> e.lastUsed));
+    int deleted = 0;
+    for (final Entry each : entries) {
+      if (size <= target) {
+        break;
+      }
+      try {
+        Files.deleteIfExists(each.path);
+        deleted = deleted + 1;
+      } catch (final IOException ex) {
+        LOG.fine("Could not delete cached result " + each.path);
+      }
+      size = size - each.size;
+    }
+    LOG.fine("Evicted " + deleted + " entries from result cache " + this.dir);
+  }
+
+  private Path entryFor(String key) {
+    final String digest = digest(key);
+    return this.dir.resolve(digest.substring(0, 2))
+        .resolve(digest.substring(2) + SUFFIX);
+  }
+
+  static String digest(String key) {
+    try {
+      final byte[] hash = MessageDigest.getInstance("SHA-256")
+          .digest(key.getBytes(StandardCharsets.UTF_8));
+      final StringBuilder sb = new StringBuilder(hash.length * 2);
+      for (final byte each : hash) {
+        sb.append(Character.forDigit((each >> 4) & 0xf, 16))
+            .append(Character.forDigit(each & 0xf, 16));
+      }
+      return sb.toString();
+    } catch (final NoSuchAlgorithmException ex) {
+      throw new PitError("SHA-256 is not available", ex);
+    }
+  }
+
+  private static void move(Path temp, Path entry) throws IOException {
+    try {
+      Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final AtomicMoveNotSupportedException ex) {
+      Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private static void touch(Path entry) {
+    try {
+      Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (final IOException ex) {
+      // evicted by another process, or read only
+    }
+  }
+
+  private static void writeList(DataOutputStream out, List<String> values)
+      throws IOException {
+    out.writeInt(values.size());
+    for (final String each : values) {
+      out.writeUTF(each);
+    }
+  }
+
+  private static List<String> readList(DataInputStream in) throws IOException {
+    final int size = in.readInt();
+    final List<String> values = new ArrayList<>(size);
+    for (int i = 0; i != size; i++) {
+      values.add(in.readUTF());
+    }
+    return values;
+  }
+
+  private static final class Entry {
+    private final Path path;
+    private final long size;
+    private final long lastUsed;
+
+    Entry(Path path, long size, long lastUsed) {
+      this.path = path;
+      this.size = size;
+      this.lastUsed = lastUsed;
+    }
+  }
+
+}
@@ -0,0 +1,87 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.mutationtest.History;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+/**
+ * Supplies the results a run journal holds for mutants another history
+ * cannot analyse, so that a resumed run only analyses the mutants the run it
+ * resumes did not complete.
+ */
+public class ResumedHistory implements History {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final History    delegate;
+  private final RunJournal journal;
+
+  public ResumedHistory(History delegate, RunJournal journal) {
+    this.delegate = delegate;
+    this.journal = journal;
+  }
+
+  @Override
+  public void initialize() {
+    this.delegate.initialize();
+  }
+
+  @Override
+  public Predicate<ClassName> limitTests(List<MutationDetails> mutants) {
+    return this.delegate.limitTests(mutants);
+  }
+
+  @Override
+  public void processCoverage(CoverageDatabase coverageData) {
+    this.delegate.processCoverage(coverageData);
+  }
+
+  @Override
+  public List<MutationResult> analyse(List<MutationDetails> mutationsForClasses) {
+    final List<MutationResult> results = new ArrayList<>(
+        this.delegate.analyse(mutationsForClasses));
+    final Set<MutationIdentifier> analysed = results.stream()
+        .map(r -> r.getDetails().getId())
+        .collect(Collectors.toSet());
+
+    int resumed = 0;
+    for (final MutationDetails each : mutationsForClasses) {
+      if (analysed.contains(each.getId())) {
+        continue;
+      }
+      final Optional<MutationStatusTestPair> result = this.journal
+          .resumedResult(each.getId());
+      if (result.isPresent()) {
+        results.add(new MutationResult(each, result.get()));
+        resumed = resumed + 1;
+      }
+    }
+    LOG.info("Resumed " + resumed + " of " + mutationsForClasses.size()
+        + " results from the run journal");
+    return results;
+  }
+
+  @Override
+  public void recordResult(MutationResult result) {
+    this.delegate.recordResult(result);
+  }
+
+  @Override
+  public void close() {
+    this.delegate.close();
+  }
+
+}
@@ -0,0 +1,454 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import org.pitest.classinfo.ClassHash;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+/**
+ * An append only record of the results of a run, from which a run that did
+ * not complete can be resumed.
+ *
+ * The results of each class are appended as a record of their own, framed by
+ * its length and checksum, as units complete. Records are flushed as they are
+ * written and synced to disk at most once a second, so a run that is killed
+ * loses at most the results of its last second, and a partly written final
+ * record is ignored when read. The journal is deleted once a run completes.
+ *
+ * The journal starts with a digest of the configuration and of every test
+ * class, and is only resumed from if neither has changed. Each record holds
+ * the hash of its class, and is only reused if the class is unchanged.
+ */
+public class RunJournal {
+
+  private static final Logger LOG     = Log.getLogger();
+
+  private static final int    MAGIC   = 0x5049544a;
+  private static final int    VERSION = 1;
+
+  private static final long   SYNC_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+  private static final DetectionStatus[] STATUSES = DetectionStatus.values();
+
+  private final File       file;
+  private final CodeSource code;
+  private final String     config;
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> resumed = new HashMap<>();
+  private final List<byte[]> resumedRecords = new ArrayList<>();
+
+  private DataOutputStream out;
+  private FileChannel      channel;
+  private long             lastSync;
+  private boolean          started;
+  private String           digest;
+
+  RunJournal(File file, CodeSource code, String config) {
+    this.file = file;
+    this.code = code;
+    this.config = config;
+  }
+
+  public static RunJournal none() {
+    return new RunJournal(null, null, "");
+  }
+
+  /**
+   * @param file
+   *          location of the journal
+   * @param config
+   *          description of the settings that affect the outcome of the run
+   * @param resume
+   *          whether results held by an existing journal should be reused
+   */
+  public static RunJournal create(File file, CodeSource code, String config,
+      boolean resume) {
+    final RunJournal journal = new RunJournal(file, code, config);
+    if (resume) {
+      journal.read();
+    }
+    return journal;
+  }
+
+  /**
+   * @return the result recorded for the mutant by an earlier run, if it can
+   *         be reused
+   */
+  Optional<MutationStatusTestPair> resumedResult(MutationIdentifier id) {
+    return Optional.ofNullable(this.resumed.get(id));
+  }
+
+  /**
+   * Starts a new journal, holding the results resumed from the last.
+   */
+  public synchronized void start() {
+    if (this.file == null || this.started) {
+      return;
+    }
+    this.started = true;
+    try {
+      final Path target = this.file.toPath();
+      Files.createDirectories(target.toAbsolutePath().getParent());
+      final Path temp = target.resolveSibling(this.file.getName() + ".tmp");
+      try (FileOutputStream fos = new FileOutputStream(temp.toFile());
+          DataOutputStream header = new DataOutputStream(new BufferedOutputStream(fos))) {
+        header.writeInt(MAGIC);
+        header.writeInt(VERSION);
+        header.writeUTF(configDigest());
+        for (final byte[] each : this.resumedRecords) {
+          writeFramed(header, each);
+        }
+        header.flush();
+        fos.getChannel().force(false);
+      }
+      move(temp, target);
+
+      final FileOutputStream fos = new FileOutputStream(this.file, true);
+      this.channel = fos.getChannel();
+      this.out = new DataOutputStream(new BufferedOutputStream(fos));
+      this.lastSync = System.nanoTime();
+    } catch (final IOException ex) {
+      LOG.warning("Could not write run journal to " + this.file + " " + ex.getMessage());
+      this.out = null;
+    }
+  }
+
+  /**
+   * Appends the results of a class, other than those resumed from an earlier
+   * run.
+   */
+  public synchronized void record(ClassMutationResults results) {
+    if (this.out == null) {
+      return;
+    }
+    final List<MutationResult> fresh = new ArrayList<>();
+    for (final MutationResult each : results.getMutations()) {
+      if (!this.resumed.containsKey(each.getDetails().getId())) {
+        fresh.add(each);
+      }
+    }
+    if (fresh.isEmpty()) {
+      return;
+    }
+
+    final ClassName clazz = results.getMutatedClass();
+    final Optional<String> hash = classHash(clazz);
+    if (!hash.isPresent()) {
+      return;
+    }
+
+    try {
+      writeFramed(this.out, encode(clazz, hash.get(), fresh));
+      this.out.flush();
+      final long now = System.nanoTime();
+      if (now - this.lastSync >= SYNC_INTERVAL) {
+        this.channel.force(false);
+        this.lastSync = now;
+      }
+    } catch (final IOException ex) {
+      LOG.warning("Could not write run journal " + this.file + " " + ex.getMessage());
+      closeQuietly();
+    }
+  }
+
+  /**
+   * Deletes the journal, as the run it records has completed.
+   */
+  public synchronized void complete() {
+    closeQuietly();
+    if (this.file != null && this.started) {
+      try {
+        Files.deleteIfExists(this.file.toPath());
+      } catch (final IOException ex) {
+        LOG.warning("Could not delete run journal " + this.file + " " + ex.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Closes the journal, leaving it in place for a later run to resume from.
+   */
+  public synchronized void close() {
+    closeQuietly();
+  }
+
+  private void closeQuietly() {
+    if (this.out == null) {
+      return;
+    }
+    try {
+      this.out.flush();
+      this.channel.force(false);
+      this.out.close();
+    } catch (final IOException ex) {
+      LOG.warning("Could not close run journal " + this.file + " " + ex.getMessage());
+    }
+    this.out = null;
+  }
+
+  private void read() {
+    if (!this.file.exists()) {
+      LOG.info("No run journal found at " + this.file + ", so nothing to resume");
+      return;
+    }
+
+    try (CountingInputStream counted = new CountingInputStream(
+        new BufferedInputStream(Files.newInputStream(this.file.toPath())));
+        DataInputStream in = new DataInputStream(counted)) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        LOG.warning("Ignoring run journal " + this.file + " as it is not in the expected format");
+        return;
+      }
+      if (!in.readUTF().equals(configDigest())) {
+        LOG.warning("Ignoring run journal " + this.file
+            + " as the configuration or tests have changed since it was written");
+        return;
+      }
+      final long size = this.file.length();
+      while (readRecord(in, size - counted.count)) {
+        // until end of file
+      }
+    } catch (final EOFException ex) {
+      LOG.fine("Run journal " + this.file + " ends with an incomplete record");
+    } catch (final IOException | RuntimeException ex) {
+      LOG.warning("Ignoring unreadable run journal " + this.file + " " + ex.getMessage());
+      this.resumed.clear();
+      this.resumedRecords.clear();
+      return;
+    }
+    LOG.info("Resuming " + this.resumed.size() + " results from run journal " + this.file);
+  }
+
+  private boolean readRecord(DataInputStream in, long remaining)
+      throws IOException {
+    final int length;
+    try {
+      length = in.readInt();
+    } catch (final EOFException ex) {
+      return false;
+    }
+    // a length the rest of the file cannot hold was never fully written
+    if (length < 0 || length > remaining - 8) {
+      LOG.fine("Run journal " + this.file + " ends with an incomplete record");
+      return false;
+    }
+    final int checksum = in.readInt();
+    final byte[] record = new byte[length];
+    in.readFully(record);
+    if (checksum != checksum(record)) {
+      LOG.fine("Run journal " + this.file + " ends with a damaged record");
+      return false;
+    }
+    decode(record);
+    return true;
+  }
+
+  private void decode(byte[] record) throws IOException {
+    final DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+    final ClassName clazz = ClassName.fromString(in.readUTF());
+    final String hash = in.readUTF();
+    if (!classHash(clazz).map(hash::equals).orElse(false)) {
+      return;
+    }
+
+    final String[] strings = new String[in.readInt()];
+    for (int i = 0; i != strings.length; i++) {
+      strings[i] = in.readUTF();
+    }
+
+    final int count = in.readInt();
+    for (int i = 0; i != count; i++) {
+      final Location location = Location.location(clazz, strings[in.readInt()],
+          strings[in.readInt()]);
+      final String mutator = strings[in.readInt()];
+      final int indexCount = in.readUnsignedShort();
+      final List<Integer> indexes = new ArrayList<>(indexCount);
+      for (int j = 0; j != indexCount; j++) {
+        indexes.add(in.readInt());
+      }
+      final DetectionStatus status = STATUSES[in.readUnsignedByte()];
+      final int testsRun = in.readInt();
+      this.resumed.put(new MutationIdentifier(location, indexes, mutator),
+          new MutationStatusTestPair(testsRun, status, readRefs(in, strings),
+              readRefs(in, strings), readRefs(in, strings)));
+    }
+    this.resumedRecords.add(record);
+  }
+
+  private static byte[] encode(ClassName clazz, String hash,
+      Collection<MutationResult> results) throws IOException {
+    // each record holds its own strings, so can be read without the others
+    final Map<String, Integer> strings = new HashMap<>();
+    final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    final DataOutputStream out = new DataOutputStream(body);
+    out.writeInt(results.size());
+    for (final MutationResult each : results) {
+      final MutationIdentifier id = each.getDetails().getId();
+      out.writeInt(ref(strings, id.getLocation().getMethodName()));
+      out.writeInt(ref(strings, id.getLocation().getMethodDesc()));
+      out.writeInt(ref(strings, id.getMutator()));
+      out.writeShort(id.getIndexes().size());
+      for (final int index : id.getIndexes()) {
+        out.writeInt(index);
+      }
+      out.writeByte(each.getStatus().ordinal());
+      out.writeInt(each.getNumberOfTestsRun());
+      writeRefs(out, strings, each.getKillingTests());
+      writeRefs(out, strings, each.getSucceedingTests());
+      writeRefs(out, strings, each.getCoveringTests());
+    }
+
+    final ByteArrayOutputStream record = new ByteArrayOutputStream(body.size() + 64);
+    final DataOutputStream header = new DataOutputStream(record);
+    header.writeUTF(clazz.asJavaName());
+    header.writeUTF(hash);
+    final String[] byRef = new String[strings.size()];
+    for (final Map.Entry<String, Integer> each : strings.entrySet()) {
+      byRef[each.getValue()] = each.getKey();
+    }
+    header.writeInt(byRef.length);
+    for (final String each : byRef) {
+      header.writeUTF(each);
+    }
+    body.writeTo(header);
+    return record.toByteArray();
+  }
+
+  private static int ref(Map<String, Integer> strings, String value) {
+    return strings.computeIfAbsent(value, v -> strings.size());
+  }
+
+  private static void writeRefs(DataOutputStream out,
+      Map<String, Integer> strings, List<String> values) throws IOException {
+    out.writeInt(values.size());
+    for (final String each : values) {
+      out.writeInt(ref(strings, each));
+    }
+  }
+
+  private static List<String> readRefs(DataInputStream in, String[] strings)
+      throws IOException {
+    final int size = in.readInt();
+    final List<String> values = new ArrayList<>(size);
+    for (int i = 0; i != size; i++) {
+      values.add(strings[in.readInt()]);
+    }
+    return values;
+  }
+
+  private static void writeFramed(DataOutputStream out, byte[] record)
+      throws IOException {
+    out.writeInt(record.length);
+    out.writeInt(checksum(record));
+    out.write(record);
+  }
+
+  private static int checksum(byte[] record) {
+    final CRC32 crc = new CRC32();
+    crc.update(record, 0, record.length);
+    return (int) crc.getValue();
+  }
+
+  private Optional<String> classHash(ClassName clazz) {
+    return this.code.fetchClassHash(clazz)
+        .map(ClassHash::getHierarchicalId)
+        .map(CachingHistory::hash);
+  }
+
+  // tests are not recorded against each result, so a change to any test
+  // invalidates the whole journal
+  private String configDigest() {
+    if (this.digest != null) {
+      return this.digest;
+    }
+    final Map<String, String> tests = new TreeMap<>();
+    for (final ClassHash each : this.code.fetchClassHashes(this.code.getTestClassNames())) {
+      tests.put(each.getName().asJavaName(), CachingHistory.hash(each.getHierarchicalId()));
+    }
+    final StringBuilder sb = new StringBuilder(this.config);
+    for (final Map.Entry<String, String> each : tests.entrySet()) {
+      sb.append('\n').append(each.getKey()).append(':').append(each.getValue());
+    }
+    this.digest = ResultCache.digest(sb.toString());
+    return this.digest;
+  }
+
+  private static void move(Path temp, Path target) throws IOException {
+    try {
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final AtomicMoveNotSupportedException ex) {
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static final class CountingInputStream extends FilterInputStream {
+
+    private long count;
+
+    CountingInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int b = super.read();
+      if (b != -1) {
+        this.count++;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      final int read = super.read(b, off, len);
+      if (read > 0) {
+        this.count += read;
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      final long skipped = super.skip(n);
+      this.count += skipped;
+      return skipped;
+    }
+
+  }
+
+}
@@ -0,0 +1,158 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.execute.BaselineTimings;
+import org.pitest.util.Log;
+
+/**
+ * Times taken by tests against unmutated code, as measured by minions, kept
+ * across runs so that time limits are calibrated from the start of a run.
+ *
+ * When disabled, minions are not asked to measure tests, and time limits are
+ * calculated from the times recorded when gathering coverage.
+ */
+public class TimeoutCalibration {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final int VERSION = 1;
+
+  private final File            file;
+  private final boolean         enabled;
+  private final BaselineTimings timings;
+  private boolean               changed;
+
+  TimeoutCalibration(File file, boolean enabled, BaselineTimings timings) {
+    this.file = file;
+    this.enabled = enabled;
+    this.timings = timings;
+  }
+
+  public static TimeoutCalibration none() {
+    return new TimeoutCalibration(null, false, new BaselineTimings());
+  }
+
+  /**
+   * @param file
+   *          location of the calibration, or null if it should not be kept.
+   *          Its contents are ignored if missing or unreadable.
+   */
+  public static TimeoutCalibration load(File file) {
+    return new TimeoutCalibration(file, true, read(file));
+  }
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  /**
+   * @return timings of the tests covering the mutants, to be sent to the
+   *         minion that will run them, or null if minions should not
+   *         measure tests
+   */
+  public BaselineTimings forMutants(Collection<MutationDetails> mutants) {
+    if (!this.enabled) {
+      return null;
+    }
+    final Set<String> tests = new LinkedHashSet<>();
+    for (final MutationDetails each : mutants) {
+      for (final TestInfo test : each.getTestsInOrder()) {
+        tests.add(test.getName());
+      }
+    }
+    return this.timings.forTests(tests);
+  }
+
+  /**
+   * Records a time measured by a minion. Called from the threads
+   * communicating with minions.
+   */
+  public void record(String test, int millis) {
+    this.timings.record(test, millis);
+    synchronized (this) {
+      this.changed = true;
+    }
+  }
+
+  /**
+   * Writes the calibration if anything has been recorded.
+   */
+  public synchronized void save() {
+    if (this.file == null || !this.changed) {
+      return;
+    }
+    try {
+      final File parent = this.file.getAbsoluteFile().getParentFile();
+      parent.mkdirs();
+      final File temp = File.createTempFile("timeouts", ".tmp", parent);
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          Files.newOutputStream(temp.toPath())))) {
+        write(out);
+      }
+      Files.move(temp.toPath(), this.file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING);
+      this.changed = false;
+    } catch (final IOException | UncheckedIOException ex) {
+      LOG.warning("Could not write timeout calibration to " + this.file + " "
+          + ex.getMessage());
+    }
+  }
+
+  private void write(DataOutputStream out) throws IOException {
+    out.writeInt(VERSION);
+    this.timings.forEach((test, millis) -> {
+      try {
+        out.writeBoolean(true);
+        out.writeUTF(test);
+        out.writeByte(millis.length);
+        for (final int each : millis) {
+          out.writeInt(each);
+        }
+      } catch (final IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    });
+    out.writeBoolean(false);
+  }
+
+  private static BaselineTimings read(File file) {
+    final BaselineTimings timings = new BaselineTimings();
+    if (file == null || !file.exists()) {
+      return timings;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+        Files.newInputStream(file.toPath())))) {
+      if (in.readInt() != VERSION) {
+        return timings;
+      }
+      while (in.readBoolean()) {
+        final String test = in.readUTF();
+        final int count = in.readUnsignedByte();
+        for (int i = 0; i != count; i++) {
+          timings.record(test, in.readInt());
+        }
+      }
+      return timings;
+    } catch (final IOException | RuntimeException ex) {
+      LOG.warning("Ignoring unreadable timeout calibration " + file + " "
+          + ex.getMessage());
+      return new BaselineTimings();
+    }
+  }
+
+}
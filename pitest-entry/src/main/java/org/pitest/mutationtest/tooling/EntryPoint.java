@@ -2,6 +2,7 @@ package org.pitest.mutationtest.tooling;
 
 import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.classinfo.ClassPathIndex;
 import org.pitest.classpath.CodeSource;
 import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.coverage.CoverageGenerator;
@@ -12,6 +13,10 @@ import org.pitest.mutationtest.History;
 import org.pitest.mutationtest.HistoryFactory;
 import org.pitest.mutationtest.HistoryParams;
 import org.pitest.mutationtest.incremental.HistoryResultInterceptor;
+import org.pitest.mutationtest.incremental.KillHistory;
+import org.pitest.mutationtest.incremental.KillHistoryResultInterceptor;
+import org.pitest.mutationtest.incremental.RunJournal;
+import org.pitest.mutationtest.incremental.TimeoutCalibration;
 import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
@@ -110,27 +115,40 @@ public class EntryPoint {
 
     final CoverageOptions coverageOptions = settings.createCoverageOptions();
     final LaunchOptions launchOptions = new LaunchOptions(ja,
-        settings.getJavaExecutable(), createJvmArgs(data), environmentVariables);
+        settings.getJavaExecutable(), createJvmArgs(data), environmentVariables,
+        settings.createClassDataArchive());
 
     final ProjectClassPaths cps = data.getMutationClassPaths();
 
-    final CodeSource code = settings.createCodeSource(cps);
+    final ClassPathIndex classPathIndex = settings.createClassPathIndex(cps.getClassPath());
+    final CodeSource code = settings.createCodeSource(cps, classPathIndex);
 
     TestStatListener stats = settings.createTestStatListener();
     final Timings timings = new Timings(stats);
     final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
         baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), stats, timings, data.getVerbosity());
+        settings.createCoverageExporter(), stats, timings, data.getVerbosity(),
+        data.isShardCoverage() ? data.getNumberOfThreads() : 1);
 
     final Optional<WriterFactory> maybeWriter = data.createHistoryWriter();
     WriterFactory historyWriter = maybeWriter.orElse(new NullWriterFactory());
     HistoryFactory historyFactory = settings.createHistory();
-    final History history = pickHistoryStore(code, data, maybeWriter, historyFactory);
+    final RunJournal runJournal = settings.createRunJournal(code);
+    final History history = settings.withResumedResults(settings.withResultCache(
+        pickHistoryStore(code, data, maybeWriter, historyFactory), code), runJournal);
+
+    final KillHistory killHistory = settings.createKillHistory();
+    final TimeoutCalibration timeoutCalibration = settings.createTimeoutCalibration();
 
     final MutationStrategies strategies = new MutationStrategies(
-        settings.createEngine(), history, coverageDatabase, reportFactory, settings.getResultInterceptor().add(new HistoryResultInterceptor(history)),
+        settings.createEngine(), history, coverageDatabase, reportFactory, settings.getResultInterceptor()
+            .add(new HistoryResultInterceptor(history))
+            .add(new KillHistoryResultInterceptor(killHistory)),
         settings.createCoverageTransformer(code),
-            reportOutput, settings.createVerifier().create(new BuildVerifierArguments(code, data)));
+            reportOutput, settings.createVerifier().create(new BuildVerifierArguments(code, data)))
+        .with(killHistory)
+        .with(timeoutCalibration)
+        .with(runJournal);
 
     final MutationCoverage report = new MutationCoverage(strategies, baseDir,
         code, data, settings, timings);
@@ -143,6 +161,12 @@ public class EntryPoint {
       jac.close();
       ja.close();
       historyWriter.close();
+      classPathIndex.save();
+      killHistory.save();
+      timeoutCalibration.save();
+      runJournal.close();
+      cp.close();
+      cps.getClassPath().close();
     }
 
   }
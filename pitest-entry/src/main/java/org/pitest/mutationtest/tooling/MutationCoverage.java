@@ -39,7 +39,9 @@ import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.mutationtest.build.MutationGrouper;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.build.MutationSource;
+import org.pitest.mutationtest.build.MutationSharder;
 import org.pitest.mutationtest.build.MutationTestBuilder;
+import org.pitest.mutationtest.build.PreScanResults;
 import org.pitest.mutationtest.build.ProjectMutationInterceptor;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
 import org.pitest.mutationtest.build.TestPrioritiser;
@@ -48,7 +50,9 @@ import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MinionPool;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
+import org.pitest.mutationtest.execute.TimeoutSettings;
 import org.pitest.mutationtest.incremental.HistoryListener;
 import org.pitest.mutationtest.incremental.NullHistory;
 import org.pitest.mutationtest.statistics.MutationStatistics;
@@ -58,6 +62,7 @@ import org.pitest.mutationtest.verify.BuildMessage;
 import org.pitest.util.Log;
 import org.pitest.util.StringUtil;
 import org.pitest.util.Timings;
+import org.pitest.util.Verbosity;
 
 import java.io.File;
 import java.io.IOException;
@@ -70,6 +75,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -89,6 +95,7 @@ public class MutationCoverage {
   private final CodeSource         code;
   private final File               baseDir;
   private final SettingsFactory    settings;
+  private final PreScanResults     preScan;
 
   public MutationCoverage(final MutationStrategies strategies,
       final File baseDir, final CodeSource code, final ReportOptions data,
@@ -99,6 +106,7 @@ public class MutationCoverage {
     this.timings = timings;
     this.code = code;
     this.baseDir = baseDir;
+    this.preScan = data.isReusePrescan() ? new PreScanResults() : null;
   }
 
   public CombinedStatistics runReport() throws IOException {
@@ -124,7 +132,8 @@ public class MutationCoverage {
 
     final EngineArguments args = EngineArguments.arguments()
             .withExcludedMethods(this.data.getExcludedMethods())
-            .withMutators(this.data.getMutators());
+            .withMutators(this.data.getMutators())
+            .withSchemata(this.data.isSchemata());
     final MutationEngine engine = this.strategies.factory().createEngine(args);
 
     List<MutationAnalysisUnit> preScanMutations = findMutations(engine, args);
@@ -150,6 +159,13 @@ public class MutationCoverage {
 
   }
 
+  private MinionPool createMinionPool() {
+    if (this.data.isReuseMinions() || this.data.getWarmMinions() > 0) {
+      return new MinionPool(this.data.isReuseMinions(), this.data.getWarmMinions());
+    }
+    return null;
+  }
+
   private CombinedStatistics emptyStatistics() {
     MutationStatistics mutationStatistics = new MutationStatistics(emptyList(),0,0,0,0, emptySet());
     return new CombinedStatistics(mutationStatistics, new CoverageSummary(0,0, 0), Collections.emptyList());
@@ -168,13 +184,23 @@ public class MutationCoverage {
         + (runtime.freeMemory() / MB) + " mb");
 
 
+    try (MinionPool pool = createMinionPool()) {
+      return buildAndRunMutationTests(runtime, t0, args, engine, issues, history, coverageData, pool);
+    }
+  }
+
+  private CombinedStatistics buildAndRunMutationTests(Runtime runtime, long t0, EngineArguments args, MutationEngine engine,
+      List<BuildMessage> issues, History history, CoverageDatabase coverageData, MinionPool pool) {
     this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
 
     final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData, history,
-            engine, args, allInterceptors());
+            engine, args, allInterceptors(), notRunInPrescan(), pool);
     this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
 
     LOG.info("Created " + tus.size() + " mutation test units" );
+    if (pool != null) {
+      pool.expectUnits(tus.size());
+    }
 
     LOG.fine("Used memory before analysis start "
         + ((runtime.totalMemory() - runtime.freeMemory()) / MB) + " mb");
@@ -187,7 +213,8 @@ public class MutationCoverage {
                 stats, engine, issues);
 
     final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
-        numberOfThreads(), resultInterceptor(), config);
+        numberOfThreads(), resultInterceptor(), config, this.data.isStealWork(),
+        this.strategies.runJournal());
     this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
     mae.run(tus);
     this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
@@ -230,6 +257,14 @@ public class MutationCoverage {
     return i -> true;
   }
 
+  private Predicate<InterceptorType> notRunInPrescan() {
+    if (this.preScan != null) {
+      // mutants are reused from the pre scan, which has already applied these
+      return i -> !i.includeInPrescan();
+    }
+    return allInterceptors();
+  }
+
   private List<MutationAnalysisUnit> findMutations(MutationEngine engine, EngineArguments args) {
     // Run mutant discovery without coverage data or history.
     // Ideally we'd ony discover mutants once, but the process is currently tightly
@@ -239,8 +274,11 @@ public class MutationCoverage {
     // are found, e.g if pitest is being run against diffs.
     this.timings.registerStart(Timings.Stage.MUTATION_PRE_SCAN);
     List<MutationAnalysisUnit> mutants = buildMutationTests(new NoCoverage(),
-            new NullHistory(), engine, args, noReportsOrFilters());
+            new NullHistory(), engine, args, noReportsOrFilters(), noReportsOrFilters(), null);
     this.timings.registerEnd(Timings.Stage.MUTATION_PRE_SCAN);
+    if (this.preScan != null) {
+      this.preScan.stopRecording();
+    }
     return mutants;
   }
 
@@ -265,6 +303,10 @@ public class MutationCoverage {
     return Math.max(1, this.data.getNumberOfThreads());
   }
 
+  private int discoveryThreads() {
+    return this.data.isParallelDiscovery() ? numberOfThreads() : 1;
+  }
+
   private List<MutationResultListener> createConfig(long t0,
                                                     ReportCoverage coverageData,
                                                     History history,
@@ -313,6 +355,10 @@ public class MutationCoverage {
     ps.println(StringUtil.separatorLine('='));
     ps.println("- Timings");
     ps.println(StringUtil.separatorLine('='));
+    this.code.recordStatistics(this.timings);
+    if (isVerbose()) {
+      this.timings.increment(Timings.Counter.ARCHIVE_OPENS, this.code.getClassPath().archiveOpens());
+    }
     this.timings.report(ps);
 
     ps.println(StringUtil.separatorLine('='));
@@ -347,27 +393,41 @@ public class MutationCoverage {
     return new PrintStream(OutputStream.nullOutputStream());
   }
 
+  private boolean isVerbose() {
+    return this.data.getVerbosity() == Verbosity.VERBOSE
+        || this.data.getVerbosity() == Verbosity.VERBOSE_NO_SPINNER;
+  }
+
   private List<MutationAnalysisUnit> buildMutationTests(CoverageDatabase coverageData,
                                                         History history,
                                                         MutationEngine engine,
                                                         EngineArguments args,
-                                                        Predicate<InterceptorType> interceptorFilter) {
+                                                        Predicate<InterceptorType> interceptorFilter,
+                                                        Predicate<InterceptorType> classInterceptorFilter,
+                                                        MinionPool pool) {
 
     final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
         .getLaunchOptions());
 
     final ClassByteArraySource bas = new CachingByteArraySource(fallbackToClassLoader(new ClassPathByteArraySource(
-        this.data.getClassPath())), 200);
+        this.code.getClassPath())), 200);
 
-    final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser()
+    final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser(this.strategies.killHistory())
         .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
             coverageData);
 
-    final MutationInterceptor interceptor = this.settings.getInterceptor()
-            .createInterceptor(this.data, coverageData, bas, testPrioritiser, code, history)
-            .filter(interceptorFilter);
+    // interceptors hold state for the class being scanned, so each discovery
+    // thread needs its own
+    final Supplier<MutationSource> sources = () -> {
+      final MutationInterceptor interceptor = this.settings.getInterceptor()
+              .createInterceptor(this.data, coverageData, bas, testPrioritiser, code, history)
+              .filter(classInterceptorFilter);
+
+      interceptor.initialise(this.code);
 
-    interceptor.initialise(this.code);
+      return new MutationSource(mutationConfig, testPrioritiser, bas, interceptor,
+          this.preScan, this.code::fetchClassTree);
+    };
 
     final ProjectMutationInterceptor projectFilter = this.settings.getProjectFilter()
             .createFilter(this.data, coverageData, bas, testPrioritiser, this.code, history)
@@ -375,21 +435,27 @@ public class MutationCoverage {
 
     projectFilter.initialise(this.code);
 
-    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor);
 
+    final TimeoutSettings timeouts = TimeoutSettings.limitedBy(
+        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
+            this.data.getTimeoutConstant()))
+        .withRecovery(this.data.isRecoverTimeouts());
 
     final WorkerFactory wf = new WorkerFactory(this.baseDir, coverage()
-        .getConfiguration(), mutationConfig, args,
-        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
-            this.data.getTimeoutConstant()), this.data.getVerbosity(), this.data.isFullMutationMatrix(),
-            this.data.getClassPath().getLocalClassPath());
+        .getConfiguration(), mutationConfig, args, timeouts,
+        this.strategies.timeoutCalibration(), this.data.getVerbosity(),
+        this.data.isFullMutationMatrix(),
+        this.data.getClassPath().getLocalClassPath(), pool,
+        this.data.getConcurrentMutants(), this.data.isBalanceUnits(),
+        this.timings);
 
     final MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
         this.data.getFreeFormProperties(), this.code,
         this.data.getNumberOfThreads(), this.data.getMutationUnitSize());
 
     final MutationTestBuilder builder = new MutationTestBuilder(data.mode(), wf, history,
-        source, grouper, projectFilter);
+        sources, discoveryThreads(), grouper, projectFilter,
+        new MutationSharder(this.data.getShardIndex(), this.data.getShardCount()));
 
     return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
   }
@@ -6,6 +6,9 @@ import org.pitest.mutationtest.build.CoverageTransformer;
 import org.pitest.mutationtest.MutationEngineFactory;
 import org.pitest.mutationtest.MutationResultInterceptor;
 import org.pitest.mutationtest.MutationResultListenerFactory;
+import org.pitest.mutationtest.incremental.KillHistory;
+import org.pitest.mutationtest.incremental.RunJournal;
+import org.pitest.mutationtest.incremental.TimeoutCalibration;
 import org.pitest.mutationtest.verify.BuildVerifier;
 import org.pitest.util.ResultOutputStrategy;
 
@@ -20,6 +23,9 @@ public class MutationStrategies {
   private final BuildVerifier                 buildVerifier;
   private final MutationEngineFactory         factory;
   private final ResultOutputStrategy          output;
+  private final KillHistory                   killHistory;
+  private final TimeoutCalibration            timeoutCalibration;
+  private final RunJournal                    runJournal;
 
   public MutationStrategies(final MutationEngineFactory factory,
                             final History history, final CoverageGenerator coverage,
@@ -27,6 +33,20 @@ public class MutationStrategies {
                             final MutationResultInterceptor resultsInterceptor,
                             final CoverageTransformer coverageTransformer,
                             final ResultOutputStrategy output, final BuildVerifier buildVerifier) {
+    this(factory, history, coverage, listenerFactory, resultsInterceptor, coverageTransformer,
+        output, buildVerifier, KillHistory.none(), TimeoutCalibration.none(),
+        RunJournal.none());
+  }
+
+  private MutationStrategies(final MutationEngineFactory factory,
+                             final History history, final CoverageGenerator coverage,
+                             final MutationResultListenerFactory listenerFactory,
+                             final MutationResultInterceptor resultsInterceptor,
+                             final CoverageTransformer coverageTransformer,
+                             final ResultOutputStrategy output, final BuildVerifier buildVerifier,
+                             final KillHistory killHistory,
+                             final TimeoutCalibration timeoutCalibration,
+                             final RunJournal runJournal) {
     this.history = history;
     this.coverage = coverage;
     this.listenerFactory = listenerFactory;
@@ -35,6 +55,9 @@ public class MutationStrategies {
     this.buildVerifier = buildVerifier;
     this.factory = factory;
     this.output = output;
+    this.killHistory = killHistory;
+    this.timeoutCalibration = timeoutCalibration;
+    this.runJournal = runJournal;
   }
 
   public History history() {
@@ -65,14 +88,46 @@ public class MutationStrategies {
     return this.output;
   }
 
+  public KillHistory killHistory() {
+    return this.killHistory;
+  }
+
+  public TimeoutCalibration timeoutCalibration() {
+    return this.timeoutCalibration;
+  }
+
+  public RunJournal runJournal() {
+    return this.runJournal;
+  }
+
   public MutationStrategies with(final MutationEngineFactory factory) {
     return new MutationStrategies(factory, this.history, this.coverage,
-        this.listenerFactory, this.resultsInterceptor, this.coverageTransformer, this.output, this.buildVerifier);
+        this.listenerFactory, this.resultsInterceptor, this.coverageTransformer, this.output, this.buildVerifier,
+        this.killHistory, this.timeoutCalibration, this.runJournal);
   }
 
   public MutationStrategies with(final BuildVerifier verifier) {
     return new MutationStrategies(this.factory, this.history, this.coverage,
-        this.listenerFactory, this.resultsInterceptor, this.coverageTransformer, this.output, verifier);
+        this.listenerFactory, this.resultsInterceptor, this.coverageTransformer, this.output, verifier,
+        this.killHistory, this.timeoutCalibration, this.runJournal);
+  }
+
+  public MutationStrategies with(final KillHistory killHistory) {
+    return new MutationStrategies(this.factory, this.history, this.coverage,
+        this.listenerFactory, this.resultsInterceptor, this.coverageTransformer, this.output, this.buildVerifier,
+        killHistory, this.timeoutCalibration, this.runJournal);
+  }
+
+  public MutationStrategies with(final TimeoutCalibration timeoutCalibration) {
+    return new MutationStrategies(this.factory, this.history, this.coverage,
+        this.listenerFactory, this.resultsInterceptor, this.coverageTransformer, this.output, this.buildVerifier,
+        this.killHistory, timeoutCalibration, this.runJournal);
+  }
+
+  public MutationStrategies with(final RunJournal runJournal) {
+    return new MutationStrategies(this.factory, this.history, this.coverage,
+        this.listenerFactory, this.resultsInterceptor, this.coverageTransformer, this.output, this.buildVerifier,
+        this.killHistory, this.timeoutCalibration, runJournal);
   }
 
   public CoverageTransformer coverageTransformer() {
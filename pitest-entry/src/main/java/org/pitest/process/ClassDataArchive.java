@@ -0,0 +1,304 @@
+package org.pitest.process;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.ZipFile;
+
+import org.pitest.boot.DirectoryClassLoader;
+import org.pitest.util.Log;
+
+/**
+ * Shares the classes loaded by minions between jvms using a dynamic class
+ * data sharing archive.
+ *
+ * The first minion launched for a classpath writes an archive of the classes
+ * it loaded as it exits, and minions launched once the archive exists map it
+ * rather than loading and verifying those classes again. The archive is
+ * written under a temporary name and only moved into place once the minion
+ * writing it has exited, so no minion maps a partly written archive. Archives
+ * are named after the java executable, jvm arguments and launch classpath
+ * (including the size and modification time of each archive on it), so a
+ * change to any of these results in a new archive being written. Archives for
+ * other classpaths, and archives left partly written, are deleted as new ones
+ * are written.
+ *
+ * The jvm refuses to write an archive while a non empty directory is on the
+ * classpath, so minions are launched with only the archives on their
+ * classpath, and the directories holding the project's classes are loaded by
+ * a {@link DirectoryClassLoader}. Only the classes of pitest and the
+ * project's libraries are therefore shared. If pitest itself is not loaded
+ * from an archive the directories are left on the classpath and class data
+ * is not shared.
+ *
+ * Jvms that do not support dynamic archives are launched unchanged. The jvm
+ * itself falls back to loading classes normally if an archive cannot be
+ * used.
+ *
+ * As every minion runs with the pitest agent, archives must be written and
+ * read with the diagnostic AllowArchivingWithJavaAgent option.
+ */
+public class ClassDataArchive {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final String PREFIX = "pitest-cds-";
+  private static final String SUFFIX = ".jsa";
+  private static final String PART   = ".part";
+  private static final String WRITE  = "-XX:ArchiveClassesAtExit=";
+
+  private static final List<String> ALLOW_AGENT = Arrays.asList(
+      "-XX:+UnlockDiagnosticVMOptions", "-XX:+AllowArchivingWithJavaAgent");
+
+  private static final Map<String, Boolean> SUPPORTED = new ConcurrentHashMap<>();
+
+  private static final String LAUNCHER = DirectoryClassLoader.class.getName()
+      .replace('.', '/') + ".class";
+
+  private final Map<String, String> launchClassPaths = new ConcurrentHashMap<>();
+
+  private final File        dir;
+  private final Set<String> claimed = ConcurrentHashMap.newKeySet();
+  private final Set<String> used    = ConcurrentHashMap.newKeySet();
+  private final Set<String> writing = ConcurrentHashMap.newKeySet();
+
+  /**
+   * @param dir
+   *          directory holding the archives, or null to disable sharing
+   */
+  public ClassDataArchive(File dir) {
+    this.dir = dir;
+  }
+
+  public static ClassDataArchive disabled() {
+    return new ClassDataArchive(null);
+  }
+
+  /**
+   * Returns the classpath a minion should be launched with. This is the
+   * archives on the given classpath if its directories must be loaded by a
+   * {@link DirectoryClassLoader} for class data to be shared, or the given
+   * classpath unchanged.
+   */
+  public String launchClassPath(String javaExecutable, String classPath) {
+    if (this.dir == null || !isSupported(javaExecutable)) {
+      return classPath;
+    }
+    return this.launchClassPaths.computeIfAbsent(classPath,
+        ClassDataArchive::withoutDirectories);
+  }
+
+  /**
+   * Returns the jvm arguments a minion launched with the given classpath
+   * should be given to create or use an archive.
+   */
+  public List<String> launchArgs(String javaExecutable, String launchClassPath,
+      List<String> jvmArgs) {
+    if (this.dir == null || !isSupported(javaExecutable)
+        || hasDirectories(launchClassPath)) {
+      return Collections.emptyList();
+    }
+
+    final String key = key(javaExecutable, launchClassPath, jvmArgs);
+    this.used.add(key);
+    // an archive is only present under its final name once fully written
+    final File archive = new File(this.dir, PREFIX + key + SUFFIX);
+    if (archive.length() != 0) {
+      return withAgentAllowed("-XX:SharedArchiveFile=" + archive.getAbsolutePath());
+    }
+
+    // only one minion writes each archive, the others launch as normal
+    if (this.claimed.add(key)) {
+      this.dir.mkdirs();
+      deleteStaleArchives();
+      final File temp = new File(this.dir, PREFIX + key + "-" + UUID.randomUUID() + PART);
+      this.writing.add(temp.getName());
+      return withAgentAllowed(WRITE + temp.getAbsolutePath());
+    }
+    return Collections.emptyList();
+  }
+
+  /**
+   * Moves the archive written by a minion launched with the given arguments
+   * into place, so later minions use it. Must only be called once the minion
+   * has exited, as the archive is written while the jvm shuts down.
+   */
+  public void publish(List<String> launchArgs) {
+    for (final String each : launchArgs) {
+      if (each.startsWith(WRITE)) {
+        publish(new File(each.substring(WRITE.length())));
+      }
+    }
+  }
+
+  private void publish(File temp) {
+    this.writing.remove(temp.getName());
+    final String name = temp.getName();
+    final File archive = new File(temp.getParentFile(),
+        name.substring(0, name.indexOf('-', PREFIX.length())) + SUFFIX);
+    try {
+      if (temp.length() == 0) {
+        Files.deleteIfExists(temp.toPath());
+        return;
+      }
+      try {
+        Files.move(temp.toPath(), archive.toPath(), StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (final AtomicMoveNotSupportedException ex) {
+        Files.move(temp.toPath(), archive.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (final IOException ex) {
+      LOG.fine("Could not publish class data archive " + temp + " " + ex.getMessage());
+    }
+  }
+
+  public static boolean writesArchive(List<String> launchArgs) {
+    return launchArgs.stream().anyMatch(a -> a.startsWith(WRITE));
+  }
+
+  private static List<String> withAgentAllowed(String arg) {
+    final List<String> args = new ArrayList<>(ALLOW_AGENT);
+    args.add(arg);
+    return args;
+  }
+
+  private static String withoutDirectories(String classPath) {
+    final List<String> archives = new ArrayList<>();
+    boolean launcherFound = false;
+    for (final String each : classPath.split(File.pathSeparator)) {
+      if (!new File(each).isDirectory()) {
+        archives.add(each);
+        launcherFound = launcherFound || contains(new File(each), LAUNCHER);
+      }
+    }
+    if (!launcherFound) {
+      LOG.fine("Not sharing class data as pitest is not loaded from an archive");
+      return classPath;
+    }
+    return String.join(File.pathSeparator, archives);
+  }
+
+  private static boolean contains(File archive, String entry) {
+    if (!archive.isFile()) {
+      return false;
+    }
+    try (ZipFile zip = new ZipFile(archive)) {
+      return zip.getEntry(entry) != null;
+    } catch (final IOException ex) {
+      return false;
+    }
+  }
+
+  private static boolean hasDirectories(String classPath) {
+    for (final String each : classPath.split(File.pathSeparator)) {
+      final String[] contents = new File(each).list();
+      if (contents != null && contents.length != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void deleteStaleArchives() {
+    final File[] existing = this.dir.listFiles((d, name) -> isStale(name));
+    if (existing == null) {
+      return;
+    }
+    for (final File each : existing) {
+      if (!each.delete()) {
+        LOG.fine("Could not delete class data archive " + each);
+      }
+    }
+  }
+
+  // archives for classpaths not used in this run, and partly written
+  // archives other than those being written now
+  private boolean isStale(String name) {
+    if (!name.startsWith(PREFIX)) {
+      return false;
+    }
+    if (name.endsWith(PART)) {
+      return !this.writing.contains(name);
+    }
+    return name.endsWith(SUFFIX) && !this.used.contains(
+        name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+  }
+
+  private static String key(String javaExecutable, String classPath,
+      List<String> jvmArgs) {
+    final StringBuilder sb = new StringBuilder(javaExecutable).append('\n');
+    for (final String each : jvmArgs) {
+      sb.append(each).append('\n');
+    }
+    for (final String each : classPath.split(File.pathSeparator)) {
+      final File root = new File(each);
+      sb.append(each);
+      if (root.isFile()) {
+        sb.append(':').append(root.length()).append(':').append(root.lastModified());
+      }
+      sb.append('\n');
+    }
+
+    final byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+    final CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length);
+    return Long.toHexString((crc.getValue() << 32) | bytes.length);
+  }
+
+  private static boolean isSupported(String javaExecutable) {
+    return SUPPORTED.computeIfAbsent(javaExecutable, ClassDataArchive::probe);
+  }
+
+  // dynamic archives were added in java 13
+  private static boolean probe(String javaExecutable) {
+    try {
+      final Process process = new ProcessBuilder(javaExecutable,
+          "-XX:+UnlockDiagnosticVMOptions", "-XX:+PrintFlagsFinal", "-version")
+          .redirectErrorStream(true).start();
+      boolean dynamic = false;
+      boolean agent = false;
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+          process.getInputStream(), StandardCharsets.UTF_8))) {
+        String line = reader.readLine();
+        while (line != null) {
+          dynamic = dynamic || line.contains(" ArchiveClassesAtExit ");
+          agent = agent || line.contains(" AllowArchivingWithJavaAgent ");
+          line = reader.readLine();
+        }
+      }
+      final boolean found = dynamic && agent;
+      if (!process.waitFor(30, TimeUnit.SECONDS)) {
+        process.destroy();
+        return false;
+      }
+      if (!found) {
+        LOG.fine(javaExecutable + " does not support class data archives");
+      }
+      return found && process.exitValue() == 0;
+    } catch (final IOException ex) {
+      LOG.log(Level.FINE, "Could not check class data sharing support", ex);
+      return false;
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+}
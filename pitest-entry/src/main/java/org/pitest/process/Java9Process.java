@@ -8,6 +8,7 @@ import java.lang.management.RuntimeMXBean;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -15,17 +16,23 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.pitest.boot.DirectoryClassLoader;
+
 /**
  * Process for java 9+, using file to pass all parameters
  */
 public class Java9Process implements WrappingProcess {
 
-    private static final Map<Optional<String>, Path> CACHE = new ConcurrentHashMap<>();
+    private static final Map<List<String>, Path> CACHE = new ConcurrentHashMap<>();
+
+    // time allowed for the one minion writing a class data archive to finish
+    private static final long ARCHIVE_WRITE_MILLIS = 3000;
 
     private final int         port;
     private final ProcessArgs processArgs;
     private final Class<?>    minionClass;
     private JavaProcess       process;
+    private List<String>      archiveArgs = Collections.emptyList();
 
     public Java9Process(int port, ProcessArgs args, Class<?> minionClass) {
         this.port = port;
@@ -65,9 +72,25 @@ public class Java9Process implements WrappingProcess {
     }
 
     public void destroy() {
+        if (ClassDataArchive.writesArchive(this.archiveArgs)) {
+            awaitArchive();
+            if (!this.process.isAlive()) {
+                this.processArgs.getClassDataArchive().publish(this.archiveArgs);
+            }
+        }
         this.process.destroy();
     }
 
+    // the archive is written as the jvm exits, so would be lost if the
+    // process were killed
+    private void awaitArchive() {
+        try {
+            this.process.waitToExit(ARCHIVE_WRITE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public JavaProcess getProcess() {
         return this.process;
     }
@@ -76,18 +99,33 @@ public class Java9Process implements WrappingProcess {
                                                 List<String> unsanitisedArgs, Class<?> mainClass, String programArgs,
                                                 JavaAgent javaAgent, String classPath) {
 
-        List<String> fileArgs = createLaunchArgs(javaAgent, unsanitisedArgs, classPath);
+        final ClassDataArchive archive = this.processArgs.getClassDataArchive();
+        final String launchClassPath = archive.launchClassPath(javaProc, classPath);
+        final boolean loadDirectoriesSeparately = !launchClassPath.equals(classPath);
+
+        List<String> fileArgs = createLaunchArgs(javaAgent, unsanitisedArgs, launchClassPath);
+        if (loadDirectoriesSeparately) {
+            fileArgs.add("-D" + DirectoryClassLoader.CLASS_PATH + "="
+                    + classPath.replace(" ", "\" \""));
+        }
 
         removeJacocoAgent(fileArgs);
 
         // All arguments are passed via a temporary file, thereby avoiding command line length limits
-        Path argsFile = CACHE.computeIfAbsent(javaAgent.getJarLocation(), j -> createArgsFile(fileArgs));
+        Path argsFile = CACHE.computeIfAbsent(fileArgs, this::createArgsFile);
 
         List<String> cmd = new ArrayList<>();
         cmd.add(javaProc);
         addLaunchJavaAgentsAndEnvironmentVariables(cmd);
         cmd.add("@" + argsFile.toFile().getAbsolutePath());
 
+        // added outside the cached args file as they differ between minions
+        this.archiveArgs = archive.launchArgs(javaProc, launchClassPath, unsanitisedArgs);
+        cmd.addAll(this.archiveArgs);
+
+        if (loadDirectoriesSeparately) {
+            cmd.add(DirectoryClassLoader.class.getName());
+        }
         cmd.add(mainClass.getName());
         cmd.add(programArgs);
 
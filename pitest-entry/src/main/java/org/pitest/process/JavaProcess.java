@@ -17,6 +17,7 @@ package org.pitest.process;
 import org.pitest.util.Monitor;
 import org.pitest.util.StreamMonitor;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class JavaProcess {
@@ -49,6 +50,15 @@ public class JavaProcess {
     return exitVal;
   }
 
+  /**
+   * Waits for the process to exit of its own accord.
+   *
+   * @return true if the process exited within the time allowed
+   */
+  public boolean waitToExit(long millis) throws InterruptedException {
+    return this.process.waitFor(millis, TimeUnit.MILLISECONDS);
+  }
+
   public boolean isAlive() {
     try {
       this.process.exitValue();
@@ -25,6 +25,7 @@ public class LaunchOptions {
   private final List<String>          childJVMArgs;
   private final JavaExecutableLocator javaExecutable;
   private final Map<String, String>   environmentVariables;
+  private final ClassDataArchive      classDataArchive;
 
   public LaunchOptions(JavaAgent javaAgentFinder) {
     this(javaAgentFinder, new DefaultJavaExecutableLocator(), Collections
@@ -35,10 +36,20 @@ public class LaunchOptions {
                        JavaExecutableLocator javaExecutable,
                        List<String> childJVMArgs,
                        Map<String, String> environmentVariables) {
+    this(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables,
+        ClassDataArchive.disabled());
+  }
+
+  public LaunchOptions(JavaAgent javaAgentFinder,
+                       JavaExecutableLocator javaExecutable,
+                       List<String> childJVMArgs,
+                       Map<String, String> environmentVariables,
+                       ClassDataArchive classDataArchive) {
     this.javaAgentFinder = javaAgentFinder;
     this.childJVMArgs = childJVMArgs;
     this.javaExecutable = javaExecutable;
     this.environmentVariables = environmentVariables;
+    this.classDataArchive = classDataArchive;
   }
 
   public JavaAgent getJavaAgentFinder() {
@@ -57,4 +68,8 @@ public class LaunchOptions {
     return this.environmentVariables;
   }
 
+  public ClassDataArchive getClassDataArchive() {
+    return this.classDataArchive;
+  }
+
 }
@@ -35,6 +35,7 @@ public final class ProcessArgs {
   private File                workingDir = null;
   private String              javaExecutable;
   private Map<String, String> environmentVariables;
+  private ClassDataArchive    classDataArchive = ClassDataArchive.disabled();
 
   private ProcessArgs(final String launchClassPath) {
     this.launchClassPath = launchClassPath;
@@ -97,9 +98,14 @@ public final class ProcessArgs {
     this.javaAgentFinder = launchOptions.getJavaAgentFinder();
     this.javaExecutable = launchOptions.getJavaExecutable();
     this.environmentVariables = launchOptions.getEnvironmentVariables();
+    this.classDataArchive = launchOptions.getClassDataArchive();
     return this;
   }
 
+  public ClassDataArchive getClassDataArchive() {
+    return this.classDataArchive;
+  }
+
   public Map<String, String> getEnvironmentVariables() {
     return this.environmentVariables;
   }
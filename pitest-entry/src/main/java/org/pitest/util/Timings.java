@@ -17,6 +17,7 @@ package org.pitest.util;
 import org.pitest.coverage.TestStatListener;
 
 import java.io.PrintStream;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -48,8 +49,30 @@ public class Timings {
     }
   }
 
+  public enum Counter {
+    RECOVERED_TIMEOUTS("timed out tests abandoned without restarting minion"),
+    CLASS_TREE_CACHE_HITS("parsed classes reused from cache"),
+    CLASS_TREE_CACHE_MISSES("classes parsed"),
+    CLASS_TREE_CACHE_EVICTIONS("parsed classes evicted from cache"),
+    ARCHIVE_OPENS("archives opened"),
+    MINIONS_STARTED("minions started"),
+    MINION_STARTUP_MILLIS("total minion startup ms");
+
+    private final String description;
+
+    Counter(final String desc) {
+      this.description = desc;
+    }
+
+    @Override
+    public String toString() {
+      return this.description;
+    }
+  }
+
   private final TestStatListener testStats;
   private final Map<Stage, TimeSpan> timings = new LinkedHashMap<>();
+  private final Map<Counter, Long> counters = new EnumMap<>(Counter.class);
 
   public void registerStart(final Stage stage) {
     this.timings.put(stage, new TimeSpan(System.nanoTime(), 0));
@@ -60,6 +83,26 @@ public class Timings {
     this.timings.get(stage).setEnd(end);
   }
 
+  public void increment(final Counter counter, final long amount) {
+    synchronized (this.counters) {
+      this.counters.merge(counter, amount, Long::sum);
+    }
+  }
+
+  /**
+   * Records the time a minion took from launch until it was ready for work.
+   */
+  public void recordMinionStartup(final long millis) {
+    increment(Counter.MINIONS_STARTED, 1);
+    increment(Counter.MINION_STARTUP_MILLIS, millis);
+  }
+
+  public long count(final Counter counter) {
+    synchronized (this.counters) {
+      return this.counters.getOrDefault(counter, 0L);
+    }
+  }
+
   public void report(final PrintStream ps) {
     long total = 0;
     for (final Entry<Stage, TimeSpan> each : this.timings.entrySet()) {
@@ -73,6 +116,19 @@ public class Timings {
     for (String each : testStats.messages()) {
       ps.println("> " + each);
     }
+
+    for (final Counter each : Counter.values()) {
+      final long value = count(each);
+      if (value != 0) {
+        ps.println("> " + each + " : " + value);
+      }
+    }
+
+    final long started = count(Counter.MINIONS_STARTED);
+    if (started != 0) {
+      ps.println("> mean minion startup : "
+          + (count(Counter.MINION_STARTUP_MILLIS) / started) + " ms");
+    }
   }
 
 }
@@ -0,0 +1,98 @@
+package org.pitest.bytecode.analysis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.coverage.NoTestStats;
+import org.pitest.coverage.codeassist.samples.HasDefaultConstructor;
+import org.pitest.coverage.codeassist.samples.NoDefaultConstructor;
+import org.pitest.util.Timings;
+
+public class ClassTreeCacheTest {
+
+  private final ClassByteArraySource source = ClassloaderByteArraySource.fromContext();
+
+  private final ClassTreeCache testee = new ClassTreeCache(Long.MAX_VALUE);
+
+  @Test
+  public void shouldReuseTreesParsedFromSameBytes() {
+    final ClassTree first = get(NoDefaultConstructor.class);
+    final ClassTree second = get(NoDefaultConstructor.class);
+
+    assertThat(second).isSameAs(first);
+    assertThat(this.testee.hits()).isEqualTo(1);
+    assertThat(this.testee.misses()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldParseAgainWhenBytesChange() {
+    final ClassName name = ClassName.fromClass(NoDefaultConstructor.class);
+    final ClassTree first = this.testee.get(name, bytesFor(NoDefaultConstructor.class));
+    final ClassTree second = this.testee.get(name, bytesFor(HasDefaultConstructor.class));
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.name()).isEqualTo(ClassName.fromClass(HasDefaultConstructor.class));
+    assertThat(this.testee.misses()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedTreesWhenFull() {
+    // room for all three classes, less one byte
+    final int size = bytesFor(NoDefaultConstructor.class).length
+        + bytesFor(HasDefaultConstructor.class).length
+        + bytesFor(ParseMe.class).length;
+    final ClassTreeCache small = new ClassTreeCache(size * 10L - 1);
+
+    final ClassTree a = get(small, NoDefaultConstructor.class);
+    get(small, HasDefaultConstructor.class);
+    get(small, NoDefaultConstructor.class);
+    get(small, ParseMe.class);
+
+    assertThat(small.evictions()).isEqualTo(1);
+    assertThat(get(small, NoDefaultConstructor.class)).isSameAs(a);
+    assertThat(small.hits()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotCacheTreesLargerThanCapacity() {
+    final ClassTreeCache tiny = new ClassTreeCache(1);
+    final ClassTree first = get(tiny, NoDefaultConstructor.class);
+
+    assertThat(get(tiny, NoDefaultConstructor.class)).isNotSameAs(first);
+    assertThat(tiny.hits()).isZero();
+  }
+
+  @Test
+  public void shouldRecordStatisticsInTimings() {
+    get(NoDefaultConstructor.class);
+    get(NoDefaultConstructor.class);
+    get(NoDefaultConstructor.class);
+    final Timings timings = new Timings(new NoTestStats());
+
+    this.testee.recordStatistics(timings);
+
+    assertThat(timings.count(Timings.Counter.CLASS_TREE_CACHE_HITS)).isEqualTo(2);
+    assertThat(timings.count(Timings.Counter.CLASS_TREE_CACHE_MISSES)).isEqualTo(1);
+  }
+
+  private ClassTree get(Class<?> clazz) {
+    return get(this.testee, clazz);
+  }
+
+  private ClassTree get(ClassTreeCache cache, Class<?> clazz) {
+    return cache.get(ClassName.fromClass(clazz), bytesFor(clazz));
+  }
+
+  private byte[] bytesFor(Class<?> clazz) {
+    return this.source.getBytes(clazz.getName()).get();
+  }
+
+  static class ParseMe {
+    void a() {
+    }
+  }
+
+}
@@ -0,0 +1,166 @@
+package org.pitest.classinfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.classpath.ClassloaderByteArraySource;
+
+public class ClassPathIndexTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final ClassByteArraySource bytes = ClassloaderByteArraySource.fromContext();
+
+  private File jar;
+  private File indexFile;
+  private final List<ClassPath> classPaths = new ArrayList<>();
+
+  @Before
+  public void setUp() throws IOException {
+    this.jar = this.folder.newFile("lib.jar");
+    this.indexFile = new File(this.folder.getRoot(), "classpath.index");
+    writeJar(this.jar, Child.class, Parent.class, ClassPathIndexTest.class);
+  }
+
+  @After
+  public void closeArchives() {
+    this.classPaths.forEach(ClassPath::close);
+  }
+
+  @Test
+  public void shouldReuseHashesFromEarlierRunsWithoutReadingClasses() {
+    final ClassInfo original = resolveAndSave(Child.class);
+
+    final Repository repository = new Repository(c -> Optional.empty(),
+        ClassPathIndex.load(this.indexFile, classPath(this.jar)));
+    final ClassInfo indexed = repository.fetchClass(Child.class).get();
+
+    assertThat(indexed.getId()).isEqualTo(original.getId());
+    assertThat(indexed.getDeepHash()).isEqualTo(original.getDeepHash());
+    assertThat(indexed.getSuperClass().get().getName())
+        .isEqualTo(ClassName.fromClass(Parent.class));
+    assertThat(indexed.getOuterClass().get().getName())
+        .isEqualTo(ClassName.fromClass(ClassPathIndexTest.class));
+  }
+
+  @Test
+  public void shouldDiscardEntriesForChangedArchives() throws IOException {
+    resolveAndSave(Child.class);
+    writeJar(this.jar, Child.class);
+
+    final ClassPathIndex index = ClassPathIndex.load(this.indexFile,
+        classPath(this.jar));
+
+    assertThat(index.find(ClassName.fromClass(Child.class))).isEmpty();
+  }
+
+  @Test
+  public void shouldNotIndexClassesFoundInDirectoriesFirst() throws IOException {
+    final File dir = this.folder.newFolder("classes");
+    final File clazz = new File(dir, ClassName.fromClass(Child.class).asInternalName() + ".class");
+    clazz.getParentFile().mkdirs();
+    Files.write(clazz.toPath(), bytesFor(Child.class));
+
+    final ClassPath cp = classPath(dir, this.jar);
+    final ClassPathIndex index = ClassPathIndex.load(this.indexFile, cp);
+    new Repository(new ClassPathByteArraySource(cp), index).fetchClass(Child.class);
+
+    assertThat(index.find(ClassName.fromClass(Child.class))).isEmpty();
+  }
+
+  @Test
+  public void shouldSearchDirectoriesOnlyOncePerClass() throws IOException {
+    final File dir = this.folder.newFolder("classes");
+    final File clazz = new File(dir, ClassName.fromClass(Child.class).asInternalName() + ".class");
+    clazz.getParentFile().mkdirs();
+    Files.write(clazz.toPath(), bytesFor(Child.class));
+
+    final ClassPathIndex index = ClassPathIndex.load(this.indexFile, classPath(dir, this.jar));
+    assertThat(index.find(ClassName.fromClass(Child.class))).isEmpty();
+    Files.delete(clazz.toPath());
+    index.record(builderFor(Child.class));
+
+    assertThat(index.find(ClassName.fromClass(Child.class))).isEmpty();
+  }
+
+  @Test
+  public void shouldIgnoreUnreadableIndex() throws IOException {
+    Files.write(this.indexFile.toPath(), new byte[] { 0, 0, 0, 1, 42 });
+
+    final ClassPathIndex index = ClassPathIndex.load(this.indexFile,
+        classPath(this.jar));
+
+    assertThat(index.find(ClassName.fromClass(Child.class))).isEmpty();
+  }
+
+  @Test
+  public void shouldNotWriteIndexWhenNothingChanged() {
+    final ClassPathIndex index = ClassPathIndex.load(this.indexFile,
+        classPath(this.jar));
+    index.save();
+    assertThat(this.indexFile).doesNotExist();
+  }
+
+  private ClassInfo resolveAndSave(Class<?> clazz) {
+    final ClassPath cp = classPath(this.jar);
+    final ClassPathIndex index = ClassPathIndex.load(this.indexFile, cp);
+    final ClassInfo info = new Repository(new ClassPathByteArraySource(cp), index)
+        .fetchClass(clazz).get();
+    // resolve the hierarchy so it is recorded too
+    info.getDeepHash();
+    index.save();
+    cp.close();
+    return info;
+  }
+
+  private static ClassInfoBuilder builderFor(Class<?> clazz) {
+    final ClassInfoBuilder builder = new ClassInfoBuilder();
+    builder.id = new ClassIdentifier(1, ClassName.fromClass(clazz));
+    return builder;
+  }
+
+  private ClassPath classPath(File... roots) {
+    final ClassPath cp = new ClassPath(Arrays.asList(roots));
+    this.classPaths.add(cp);
+    return cp;
+  }
+
+  private void writeJar(File file, Class<?>... classes) throws IOException {
+    try (JarOutputStream out = new JarOutputStream(new FileOutputStream(file))) {
+      for (final Class<?> each : classes) {
+        out.putNextEntry(new JarEntry(ClassName.fromClass(each).asInternalName() + ".class"));
+        out.write(bytesFor(each));
+        out.closeEntry();
+      }
+    }
+  }
+
+  private byte[] bytesFor(Class<?> clazz) {
+    return this.bytes.getBytes(clazz.getName()).get();
+  }
+
+  static class Parent {
+  }
+
+  static class Child extends Parent {
+  }
+
+}
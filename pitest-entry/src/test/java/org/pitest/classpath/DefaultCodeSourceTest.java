@@ -11,6 +11,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.classinfo.ClassHash;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassInfoMother;
@@ -98,6 +99,18 @@ public class DefaultCodeSourceTest {
     verify(this.repository).querySource(ClassName.fromString("Foo"));
   }
 
+  @Test
+  public void shouldShareParsedClassesBetweenCallers() {
+    final ClassName name = ClassName.fromClass(DefaultCodeSourceTest.class);
+    when(this.repository.querySource(name)).thenReturn(
+        ClassloaderByteArraySource.fromContext().getBytes(name.asJavaName()));
+    when(this.classPath.code()).thenReturn(Arrays.asList(name));
+
+    final ClassTree tree = this.testee.fetchClassTree(name).get();
+
+    assertThat(this.testee.codeTrees()).containsExactly(tree);
+  }
+
   private ClassInfo makeClassInfo(final String name) {
     final ClassInfo ci = ClassInfoMother.make(name);
     when(this.repository.fetchClassHash(ClassName.fromString(name))).thenReturn(
@@ -1,17 +1,28 @@
 package org.pitest.coverage.execute;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.testapi.Description;
+import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
+import org.pitest.util.PitError;
 import org.pitest.util.SafeDataInputStream;
 import sun.pitest.CodeCoverageStore;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.when;
@@ -38,6 +49,11 @@ public class ReceiveTest {
     this.description = new Description("foo", "bar");
   }
 
+  @After
+  public void cleanUp() {
+    CodeCoverageStore.resetAllStaticState();
+  }
+
   private Consumer<CoverageResult> stubHandler() {
     return a -> ReceiveTest.this.result = a;
   }
@@ -50,26 +66,106 @@ public class ReceiveTest {
 
   @Test
   public void shouldReportWhenTestFails() {
-    recordTestCoverage(0, 0, 0, false);
+    recordTestCoverage(0, 0, 1, false);
     assertEquals(false, this.result.isGreenTest());
   }
 
   @Test
   public void shouldReportWhenTestPasses() {
-    recordTestCoverage(0, 0, 0, true);
+    recordTestCoverage(0, 0, 1, true);
     assertEquals(true, this.result.isGreenTest());
   }
 
+  @Test
+  public void shouldIgnoreHitsInClassesWithoutRegisteredProbes() {
+    recordTestCoverage(0, 0, 1, true);
+    assertThat(this.result.getCoverage()).isEmpty();
+  }
+
+  @Test
+  public void shouldPassMinionStartupTimeToListener() {
+    final List<Long> startups = new ArrayList<>();
+    this.testee = new Receive(this.handler, startups::add);
+    when(this.is.readLong()).thenReturn(42L);
+    this.testee.apply(Id.STARTED, this.is);
+    assertThat(startups).containsExactly(42L);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectUnknownProtocolVersion() {
+    when(this.is.readInt()).thenReturn(CoveragePipe.PROTOCOL_VERSION + 1);
+    this.testee.apply(Id.VERSION, this.is);
+  }
+
+  @Test
+  public void shouldDecodeRunsOfProbesSentByCoveragePipe() {
+    final List<CoverageResult> results = roundTrip(pipe -> {
+      final int classId = CodeCoverageStore.registerClass("com/example/Foo");
+      CodeCoverageStore.registerMethod(classId, "foo", "()V", 1, 4);
+      final boolean[] probes = CodeCoverageStore.getOrRegisterClassProbes(classId, 4);
+      CodeCoverageStore.classHit(classId);
+      probes[1] = true;
+      probes[2] = true;
+      probes[4] = true;
+      pipe.recordTestOutcome(this.description, true, 42);
+    });
+
+    final Location foo = Location.location(ClassName.fromString("com/example/Foo"), "foo", "()V");
+    assertThat(results).hasSize(1);
+    assertThat(results.get(0).getTestUnitDescription()).isEqualTo(this.description);
+    assertThat(results.get(0).getExecutionTime()).isEqualTo(42);
+    assertThat(results.get(0).getCoverage()).containsExactlyInAnyOrder(
+        new BlockLocation(foo, 0), new BlockLocation(foo, 1), new BlockLocation(foo, 3));
+  }
+
+  @Test
+  public void shouldDecodeRepeatedDescriptionsSentByCoveragePipe() {
+    final Description other = new Description("other");
+    final List<CoverageResult> results = roundTrip(pipe -> {
+      pipe.recordTestOutcome(this.description, true, 1);
+      pipe.recordTestOutcome(other, false, 2);
+      pipe.recordTestOutcome(this.description, true, 3);
+    });
+
+    assertThat(results).extracting(CoverageResult::getTestUnitDescription)
+        .containsExactly(this.description, other, this.description);
+    assertThat(results).extracting(CoverageResult::getCoverage)
+        .allMatch(c -> c.isEmpty());
+  }
+
+  private List<CoverageResult> roundTrip(Consumer<CoveragePipe> sends) {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    final CoveragePipe pipe = new CoveragePipe(bos);
+    CodeCoverageStore.init(pipe);
+    sends.accept(pipe);
+    pipe.end(ExitCode.OK);
+
+    final List<CoverageResult> results = new ArrayList<>();
+    final Receive receive = new Receive(results::add);
+    final SafeDataInputStream in = new SafeDataInputStream(
+        new ByteArrayInputStream(bos.toByteArray()));
+    byte control = in.readByte();
+    while (control != Id.DONE) {
+      receive.apply(control, in);
+      control = in.readByte();
+    }
+    return results;
+  }
+
   private void recordTestCoverage(final int executionTime, final int classId,
       final int probeNumber, final boolean testPassed) {
-    when(this.is.readInt()).thenReturn(classId, executionTime);
+    when(this.is.readInt()).thenReturn(classId);
     when(this.is.readString()).thenReturn("foo");
     this.testee.apply(Id.CLAZZ, this.is);
 
-    when(this.is.read(Description.class)).thenReturn(this.description);
-    when(this.is.readInt()).thenReturn(1);
-    when(this.is.readLong()).thenReturn(1L,
-        CodeCoverageStore.encode(classId, probeNumber));
+    when(this.is.readInt()).thenReturn(0);
+    when(this.is.readBoolean()).thenReturn(true);
+    when(this.is.readString()).thenReturn(this.description.getFirstTestClass(),
+        this.description.getName());
+    this.testee.apply(Id.DESCRIBE, this.is);
+
+    when(this.is.readInt()).thenReturn(0, classId, 1, probeNumber, 1,
+        CoveragePipe.END_OF_CLASSES, executionTime);
     when(this.is.readBoolean()).thenReturn(testPassed);
     this.testee.apply(Id.OUTCOME, this.is);
   }
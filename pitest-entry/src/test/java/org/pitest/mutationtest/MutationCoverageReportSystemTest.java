@@ -17,6 +17,10 @@ package org.pitest.mutationtest;
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 import static org.pitest.mutationtest.DetectionStatus.KILLED;
 import static org.pitest.mutationtest.DetectionStatus.NO_COVERAGE;
 import static org.pitest.mutationtest.DetectionStatus.RUN_ERROR;
@@ -40,9 +44,12 @@ import com.example.classloaders.MuteeInOtherClassloader;
 import com.example.classloaders.MuteeInOtherClassloaderPooledTest;
 import com.example.classloaders.MuteeInOtherClassloaderTest;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
 import org.pitest.SystemTest;
+import org.pitest.boot.DirectoryClassLoader;
 import org.pitest.classpath.ClassPath;
 import org.pitest.help.PitHelpError;
 import org.pitest.mutationtest.engine.gregor.Generated;
@@ -71,6 +78,9 @@ public class MutationCoverageReportSystemTest extends ReportTestBase {
 
   private static final int ONE_MINUTE = 60000;
 
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
   @Before
   public void excludeTests() {
     this.data.setExcludedClasses(asList("*Test"));
@@ -299,6 +309,270 @@ public class MutationCoverageReportSystemTest extends ReportTestBase {
   }
 
 
+  @Test
+  public void shouldGiveSameResultsWhenMinionsReused() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setMutationUnitSize(1);
+    this.data.setReuseMinions(true);
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldGiveSameResultsWhenMinionsLaunchedAheadOfNeed() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setMutationUnitSize(1);
+    this.data.setWarmMinions(2);
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldGiveSameResultsWhenReusedMinionsLaunchedAheadOfNeed() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setMutationUnitSize(1);
+    this.data.setReuseMinions(true);
+    this.data.setWarmMinions(1);
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldGiveSameResultsWhenSharingClassData() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setMutationUnitSize(1);
+    this.data.setReportDir(this.folder.getRoot().getAbsolutePath());
+    this.data.setClassDataSharing(true);
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+
+    // archives are written by java 13 and later, when pitest is in a jar
+    assumeTrue(Runtime.version().feature() >= 13);
+    assumeTrue(DirectoryClassLoader.class.getProtectionDomain().getCodeSource()
+        .getLocation().getPath().endsWith(".jar"));
+    final String[] archives = new File(this.folder.getRoot(), "cds")
+        .list((dir, name) -> name.endsWith(".jsa"));
+    assertEquals(1, archives.length);
+  }
+
+  @Test
+  public void shouldGiveSameResultsWhenOrderingTestsByKillHistory() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setReportDir(this.folder.getRoot().getAbsolutePath());
+    this.data.setKillHistory(true);
+    createAndRun();
+    assertTrue(new File(this.folder.getRoot(), "kill.history").exists());
+
+    this.metaDataExtractor = new MetaDataExtractor();
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldReuseCachedResultsInLaterRuns() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setResultCacheDir(this.folder.getRoot().getAbsolutePath());
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+    assertTrue(this.metaDataExtractor.getNumberOfTestsRun() > 0);
+
+    this.metaDataExtractor = new MetaDataExtractor();
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+    assertEquals(0, this.metaDataExtractor.getNumberOfTestsRun());
+  }
+
+  @Test
+  public void shouldGiveSameResultsWhenRunningMutantsConcurrently() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setConcurrentMutants(2);
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test(timeout = ONE_MINUTE)
+  public void shouldDetectTimeOutsWhenRunningMutantsConcurrently() {
+    this.data.setTargetClasses(asGlobs(BlockMainThread.class));
+    this.data
+            .setTargetTests(predicateFor(com.example.BlockMainThreadTest.class));
+    this.data.setConcurrentMutants(2);
+    createAndRun();
+    verifyResults(SURVIVED, TIMED_OUT, TIMED_OUT);
+  }
+
+  @Test(timeout = ONE_MINUTE)
+  public void shouldDetectTimeOutsWhenRecoveringFromTimeOuts() {
+    this.data.setTargetClasses(asGlobs(BlockMainThread.class));
+    this.data
+            .setTargetTests(predicateFor(com.example.BlockMainThreadTest.class));
+    this.data.setRecoverTimeouts(true);
+    createAndRun();
+    verifyResults(SURVIVED, TIMED_OUT, TIMED_OUT);
+  }
+
+  @Test
+  public void shouldGiveSameResultsWithAdaptiveTimeouts() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setReportDir(this.folder.getRoot().getAbsolutePath());
+    this.data.setAdaptiveTimeouts(true);
+    createAndRun();
+    assertTrue(new File(this.folder.getRoot(), "timeout.calibration").exists());
+
+    this.metaDataExtractor = new MetaDataExtractor();
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test(timeout = ONE_MINUTE)
+  public void shouldDetectTimeOutsWithAdaptiveTimeouts() {
+    this.data.setTargetClasses(asGlobs(BlockMainThread.class));
+    this.data
+            .setTargetTests(predicateFor(com.example.BlockMainThreadTest.class));
+    this.data.setReportDir(this.folder.getRoot().getAbsolutePath());
+    this.data.setAdaptiveTimeouts(true);
+    createAndRun();
+    verifyResults(SURVIVED, TIMED_OUT, TIMED_OUT);
+  }
+
+  @Test
+  public void shouldResumeRunThatDidNotComplete() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setReportDir(this.folder.getRoot().getAbsolutePath());
+    this.data.setJournal(true);
+    this.metaDataExtractor = new MetaDataExtractor() {
+      @Override
+      public void runEnd() {
+        throw new RuntimeException("interrupted");
+      }
+    };
+    try {
+      createAndRun();
+      fail("Expected run to be interrupted");
+    } catch (final RuntimeException ex) {
+      // expected
+    }
+    final File journal = new File(this.folder.getRoot(), "run.journal");
+    assertTrue(journal.exists());
+
+    this.metaDataExtractor = new MetaDataExtractor();
+    this.data.setResume(true);
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+    assertFalse(journal.exists());
+  }
+
+  @Test
+  public void shouldGiveSameResultsWhenAllShardsAreRun() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setShardCount(2);
+    this.data.setShardIndex(1);
+    createAndRun();
+
+    // results of both runs are collected, so each mutant is in exactly one shard
+    this.data.setShardIndex(2);
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldGiveSameResultsWhenUsingMutantSchemata() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setSchemata(true);
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldGiveSameResultsWhenBalancingUnits() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setBalanceUnits(true);
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldGiveSameResultsWhenShardingCoverage() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setNumberOfThreads(2);
+    this.data.setShardCoverage(true);
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldSkipFailingTestsWhenShardingCoverage() {
+    setMutators("MATH", "PRIMITIVE_RETURNS");
+    this.data
+    .setTargetClasses(asList("com.example.FailsTestWhenEnvVariableSet*", "com.example.FullyCovered*"));
+    this.data.addChildJVMArgs(Arrays.asList("-D"
+        + FailsTestWhenEnvVariableSetTestee.class.getName() + "=true"));
+    this.data.setSkipFailingTests(true);
+    this.data.setNumberOfThreads(2);
+    this.data.setShardCoverage(true);
+    createAndRun();
+    verifyResults(KILLED, NO_COVERAGE);
+  }
+
+  @Test
+  public void shouldGiveSameResultsWhenReusingPrescan() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setReusePrescan(true);
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldGiveSameResultsWhenDiscoveringInParallel() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*", "com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setNumberOfThreads(2);
+    this.data.setParallelDiscovery(true);
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldGiveSameResultsWhenStealingWork() {
+    this.data.setTargetClasses(asGlobs(CoveredByEasyMock.class));
+    this.data.setTargetTests(predicateFor(com.example.EasyMockTest.class));
+    this.data.setNumberOfThreads(2);
+    this.data.setStealWork(true);
+    createAndRun();
+    verifyResults(KILLED, KILLED);
+  }
+
+  @Test
+  public void shouldGiveSameResultsWhenStealingWorkFromReusedMinions() {
+    this.data.setTargetClasses(asGlobs(CoveredByEasyMock.class));
+    this.data.setTargetTests(predicateFor(com.example.EasyMockTest.class));
+    this.data.setNumberOfThreads(2);
+    this.data.setStealWork(true);
+    this.data.setReuseMinions(true);
+    createAndRun();
+    verifyResults(KILLED, KILLED);
+  }
+
+  @Test(timeout = ONE_MINUTE)
+  public void shouldReplaceReusedMinionsThatTimeOut() {
+    this.data.setTargetClasses(asGlobs(BlockMainThread.class));
+    this.data
+            .setTargetTests(predicateFor(com.example.BlockMainThreadTest.class));
+    this.data.setReuseMinions(true);
+    createAndRun();
+    verifyResults(SURVIVED, TIMED_OUT, TIMED_OUT);
+  }
+
+  @Test
+  public void shouldReplaceReusedMinionsThatCrash() {
+    setMutators("NEGATE_CONDITIONALS");
+    this.data.setTargetClasses(asGlobs(CrashesJVMWhenMutated.class));
+    this.data
+    .setTargetTests(predicateFor(com.example.TestCrashesJVMWhenMutated.class));
+    this.data.setReuseMinions(true);
+    createAndRun();
+
+    verifyResults(RUN_ERROR);
+  }
+
   @Test
   public void shouldMarkChildJVMCrashesAsRunErrors() {
     setMutators("NEGATE_CONDITIONALS");
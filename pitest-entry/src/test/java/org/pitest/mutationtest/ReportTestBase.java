@@ -26,6 +26,11 @@ import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.incremental.HistoryResultInterceptor;
+import org.pitest.mutationtest.incremental.KillHistory;
+import org.pitest.mutationtest.incremental.KillHistoryResultInterceptor;
+import org.pitest.mutationtest.incremental.RunJournal;
+import org.pitest.mutationtest.incremental.TimeoutCalibration;
 import org.pitest.mutationtest.incremental.NullHistory;
 import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
 import org.pitest.mutationtest.tooling.MutationCoverage;
@@ -103,12 +108,15 @@ public abstract class ReportTestBase {
 
   protected void createAndRun(SettingsFactory settings) {
     final JavaAgent agent = new JarCreatingJarFinder();
+    final KillHistory killHistory = settings.createKillHistory();
+    final TimeoutCalibration timeoutCalibration = settings.createTimeoutCalibration();
+    RunJournal runJournal = RunJournal.none();
     try {
 
       final CoverageOptions coverageOptions = createCoverageOptions(settings.createCoverageOptions().getPitConfig());
       final LaunchOptions launchOptions = new LaunchOptions(agent,
           new DefaultJavaExecutableLocator(), this.data.getJvmArgs(),
-          new HashMap<>());
+          new HashMap<>(), settings.createClassDataArchive());
 
       final PathFilter pf = new PathFilter(p -> true, p -> true);
       final ProjectClassPaths cps = new ProjectClassPaths(
@@ -119,13 +127,20 @@ public abstract class ReportTestBase {
 
       final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
                 null, coverageOptions, launchOptions, code,
-                new NullCoverageExporter(), new NoTestStats(), timings, Verbosity.DEFAULT);
+                new NullCoverageExporter(), new NoTestStats(), timings, Verbosity.DEFAULT,
+                this.data.isShardCoverage() ? this.data.getNumberOfThreads() : 1);
 
-      final History history = new NullHistory();
+      runJournal = settings.createRunJournal(code);
+      final History history = settings.withResumedResults(
+          settings.withResultCache(new NullHistory(), code), runJournal);
 
       final MutationStrategies strategies = new MutationStrategies(
           new GregorEngineFactory(), history, coverageDatabase,
-          listenerFactory(), result -> result, cov -> cov, null, new NoVerification());
+          listenerFactory(), new CompoundMutationResultInterceptor(Arrays.asList(
+              new HistoryResultInterceptor(history),
+              new KillHistoryResultInterceptor(killHistory))), cov -> cov, null,
+          new NoVerification()).with(killHistory).with(timeoutCalibration)
+          .with(runJournal);
 
       final MutationCoverage testee = new MutationCoverage(strategies, null,
           code, this.data, new SettingsFactory(this.data, this.plugins),
@@ -136,6 +151,9 @@ public abstract class ReportTestBase {
       throw Unchecked.translateCheckedException(e);
     } finally {
       agent.close();
+      killHistory.save();
+      timeoutCalibration.save();
+      runJournal.close();
     }
   }
 
@@ -0,0 +1,46 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.junit.Test;
+import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveTimeoutsTest {
+    AdaptiveTimeouts underTest = new AdaptiveTimeouts();
+
+    @Test
+    public void keepsConfiguredTimeoutConstant() {
+        ReportOptions data = new ReportOptions();
+        data.setTimeoutConstant(2500);
+
+        underTest.updateConfig(null, data);
+        assertThat(data.getTimeoutConstant()).isEqualTo(2500);
+    }
+
+    @Test
+    public void keepsTimeoutConstantConfiguredToTheDefault() {
+        ReportOptions data = new ReportOptions();
+        data.setTimeoutConstant(PercentAndConstantTimeoutStrategy.DEFAULT_CONSTANT);
+
+        underTest.updateConfig(new FeatureSetting("adaptive_timeouts", ToggleStatus.ACTIVATE, new HashMap<>()), data);
+        assertThat(data.getTimeoutConstant()).isEqualTo(PercentAndConstantTimeoutStrategy.DEFAULT_CONSTANT);
+    }
+
+    @Test
+    public void usesSuppliedConstant() {
+        ReportOptions data = new ReportOptions();
+
+        Map<String, List<String>> values = new HashMap<>();
+        values.put("constant", Collections.singletonList("300"));
+        underTest.updateConfig(new FeatureSetting("adaptive_timeouts", ToggleStatus.ACTIVATE, values), data);
+        assertThat(data.getTimeoutConstant()).isEqualTo(300);
+    }
+}
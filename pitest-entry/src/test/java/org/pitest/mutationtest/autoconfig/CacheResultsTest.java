@@ -0,0 +1,38 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CacheResultsTest {
+    CacheResults underTest = new CacheResults();
+
+    @Test
+    public void cachesResultsInHomeDirectoryByDefault() {
+        ReportOptions data = new ReportOptions();
+
+        underTest.updateConfig(null, data);
+        assertThat(data.getResultCacheDir()).startsWith(System.getProperty("user.home"));
+        assertThat(data.getResultCacheMaxMb()).isEqualTo(256);
+    }
+
+    @Test
+    public void usesSuppliedDirectoryAndSize() {
+        ReportOptions data = new ReportOptions();
+
+        Map<String, List<String>> values = new HashMap<>();
+        values.put("dir", Collections.singletonList("/tmp/cache"));
+        values.put("max_mb", Collections.singletonList("10"));
+        underTest.updateConfig(new FeatureSetting("result_cache", ToggleStatus.ACTIVATE, values), data);
+        assertThat(data.getResultCacheDir()).isEqualTo("/tmp/cache");
+        assertThat(data.getResultCacheMaxMb()).isEqualTo(10);
+    }
+}
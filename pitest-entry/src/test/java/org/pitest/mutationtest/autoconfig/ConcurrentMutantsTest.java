@@ -0,0 +1,36 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrentMutantsTest {
+    ConcurrentMutants underTest = new ConcurrentMutants();
+
+    @Test
+    public void runsAtLeastTwoMutantsAtOnceByDefault() {
+        ReportOptions data = new ReportOptions();
+        data.setNumberOfThreads(Integer.MAX_VALUE);
+
+        underTest.updateConfig(null, data);
+        assertThat(data.getConcurrentMutants()).isEqualTo(2);
+    }
+
+    @Test
+    public void usesSuppliedMaximum() {
+        ReportOptions data = new ReportOptions();
+
+        Map<String, List<String>> values = new HashMap<>();
+        values.put("max", Collections.singletonList("5"));
+        underTest.updateConfig(new FeatureSetting("concurrent_mutants", ToggleStatus.ACTIVATE, values), data);
+        assertThat(data.getConcurrentMutants()).isEqualTo(5);
+    }
+}
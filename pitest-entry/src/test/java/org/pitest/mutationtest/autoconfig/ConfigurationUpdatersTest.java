@@ -0,0 +1,88 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.pitest.mutationtest.config.ConfigUpdaterVerifier;
+import org.pitest.mutationtest.config.ConfigurationUpdater;
+import org.pitest.mutationtest.config.ReportOptions;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the features that must be asked for by name are registered and
+ * change the configuration when enabled. What each feature then does is
+ * tested where it is implemented.
+ */
+@RunWith(Parameterized.class)
+public class ConfigurationUpdatersTest {
+
+    private final ConfigurationUpdater underTest;
+    private final String name;
+    private final Predicate<ReportOptions> enabled;
+
+    private final ConfigUpdaterVerifier v;
+
+    public ConfigurationUpdatersTest(ConfigurationUpdater underTest, String name,
+                                     Predicate<ReportOptions> enabled) {
+        this.underTest = underTest;
+        this.name = name;
+        this.enabled = enabled;
+        this.v = ConfigUpdaterVerifier.confirmFactory(underTest);
+    }
+
+    @Parameters(name = "{1}")
+    public static Collection<Object[]> updaters() {
+        return Arrays.asList(
+                updater(new ReuseMinions(), "reuse_minions", ReportOptions::isReuseMinions),
+                updater(new Schemata(), "schemata", ReportOptions::isSchemata),
+                updater(new RecoverTimeouts(), "recover_timeouts", ReportOptions::isRecoverTimeouts),
+                updater(new BalanceUnits(), "balance_units", ReportOptions::isBalanceUnits),
+                updater(new StealWork(), "steal_work", ReportOptions::isStealWork),
+                updater(new ShardCoverage(), "shard_coverage", ReportOptions::isShardCoverage),
+                updater(new ReusePrescan(), "reuse_prescan", ReportOptions::isReusePrescan),
+                updater(new ParallelDiscovery(), "parallel_discovery", ReportOptions::isParallelDiscovery),
+                updater(new ClassPathIndexing(), "classpath_index", ReportOptions::isClassPathIndex),
+                updater(new WarmMinions(), "warm_minions", d -> d.getWarmMinions() > 0),
+                updater(new ShareClassData(), "class_data_sharing", ReportOptions::isClassDataSharing),
+                updater(new OrderTestsByKillHistory(), "kill_history", ReportOptions::isKillHistory),
+                updater(new CacheResults(), "result_cache", d -> d.getResultCacheDir() != null),
+                updater(new ConcurrentMutants(), "concurrent_mutants", d -> d.getConcurrentMutants() > 1),
+                updater(new AdaptiveTimeouts(), "adaptive_timeouts", ReportOptions::isAdaptiveTimeouts),
+                updater(new ShardMutants(), "shard", ReportOptions::shouldExportLineCoverage));
+    }
+
+    @Test
+    public void isOnChain() {
+        v.isOnChain();
+    }
+
+    @Test
+    public void featureIsNamed() {
+        v.featureName().isEqualTo(name);
+    }
+
+    @Test
+    public void featureIsOffByDefault() {
+        v.isOffByDefault();
+    }
+
+    @Test
+    public void enablesFeature() {
+        ReportOptions data = new ReportOptions();
+        assertThat(enabled).rejects(data);
+
+        underTest.updateConfig(null, data);
+        assertThat(enabled).accepts(data);
+    }
+
+    private static Object[] updater(ConfigurationUpdater updater, String name,
+                                    Predicate<ReportOptions> enabled) {
+        return new Object[] {updater, name, enabled};
+    }
+}
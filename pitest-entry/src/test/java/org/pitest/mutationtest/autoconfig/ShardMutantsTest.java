@@ -0,0 +1,60 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+public class ShardMutantsTest {
+    ShardMutants underTest = new ShardMutants();
+
+    @Test
+    public void selectsSuppliedShard() {
+        ReportOptions data = new ReportOptions();
+
+        underTest.updateConfig(shard("3", "8"), data);
+        assertThat(data.getShardIndex()).isEqualTo(3);
+        assertThat(data.getShardCount()).isEqualTo(8);
+    }
+
+    @Test
+    public void writesResultsThatCanBeMerged() {
+        ReportOptions data = new ReportOptions();
+
+        underTest.updateConfig(shard("1", "2"), data);
+        assertThat(data.getOutputFormats()).contains("XML");
+        assertThat(data.shouldExportLineCoverage()).isTrue();
+    }
+
+    @Test
+    public void analysesEverythingWhenNoShardGiven() {
+        ReportOptions data = new ReportOptions();
+
+        underTest.updateConfig(null, data);
+        assertThat(data.getShardIndex()).isEqualTo(1);
+        assertThat(data.getShardCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void rejectsShardsThatDoNotExist() {
+        assertThatCode(() -> underTest.updateConfig(shard("3", "2"), new ReportOptions()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> underTest.updateConfig(shard("0", "2"), new ReportOptions()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static FeatureSetting shard(String index, String count) {
+        Map<String, List<String>> values = new HashMap<>();
+        values.put("index", Collections.singletonList(index));
+        values.put("count", Collections.singletonList(count));
+        return new FeatureSetting("shard", ToggleStatus.ACTIVATE, values);
+    }
+}
@@ -0,0 +1,37 @@
+package org.pitest.mutationtest.autoconfig;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.plugin.ToggleStatus;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WarmMinionsTest {
+    WarmMinions underTest = new WarmMinions();
+
+    @Test
+    public void launchesOneWarmMinionPerThreadByDefault() {
+        ReportOptions data = new ReportOptions();
+        data.setNumberOfThreads(3);
+
+        underTest.updateConfig(null, data);
+        assertThat(data.getWarmMinions()).isEqualTo(3);
+    }
+
+    @Test
+    public void limitsWarmMinionsToSuppliedMaximum() {
+        ReportOptions data = new ReportOptions();
+        data.setNumberOfThreads(3);
+
+        Map<String, List<String>> values = new HashMap<>();
+        values.put("max", Collections.singletonList("1"));
+        underTest.updateConfig(new FeatureSetting("warm_minions", ToggleStatus.ACTIVATE, values), data);
+        assertThat(data.getWarmMinions()).isEqualTo(1);
+    }
+}
@@ -35,6 +35,15 @@ public class AnalyisPriorityComparatorTest {
     assertThat(actual).containsExactly(a, b, c);
   }
 
+  @Test
+  public void shouldNotOverflowWhenPrioritiesFarApart() {
+    final MutationAnalysisUnit a = unit(-10);
+    final MutationAnalysisUnit b = unit(Integer.MAX_VALUE);
+    final List<MutationAnalysisUnit> actual = Arrays.asList(a, b);
+    actual.sort(this.testee);
+    assertThat(actual).containsExactly(b, a);
+  }
+
   private MutationAnalysisUnit unit(final int count) {
     return new MutationAnalysisUnit() {
 
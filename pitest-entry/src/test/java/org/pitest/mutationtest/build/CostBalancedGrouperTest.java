@@ -0,0 +1,127 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class CostBalancedGrouperTest {
+
+  private int index;
+
+  @Test
+  public void shouldNotCombineMutantsFromDifferentClasses() {
+    final CostBalancedGrouper testee = new CostBalancedGrouper(1, 0);
+    final List<List<MutationDetails>> actual = testee.groupMutations(null,
+        Arrays.asList(mutant("foo", 0), mutant("bar", 0), mutant("foo", 0)));
+
+    assertThat(actual).hasSize(2);
+    assertThat(actual).allMatch(unit -> unit.stream()
+        .map(MutationDetails::getClassName).distinct().count() == 1);
+  }
+
+  @Test
+  public void shouldPlaceMostExpensiveUnitsFirst() {
+    final List<MutationDetails> mutants = new ArrayList<>();
+    for (int i = 0; i != 20; i++) {
+      mutants.add(mutant("many_cheap", 1));
+    }
+    mutants.add(mutant("few_expensive", 400));
+    mutants.add(mutant("few_expensive", 400));
+
+    final List<List<MutationDetails>> actual = new CostBalancedGrouper(1, 0)
+        .groupMutations(null, mutants);
+
+    assertThat(actual.get(0)).hasSize(2);
+    assertThat(actual.get(1)).hasSize(20);
+  }
+
+  @Test
+  public void shouldSplitExpensiveClassesAndKeepCheapOnesTogether() {
+    final List<MutationDetails> mutants = new ArrayList<>();
+    for (int i = 0; i != 4; i++) {
+      mutants.add(mutant("expensive", 999));
+      mutants.add(mutant("cheap", 0));
+    }
+
+    final List<List<MutationDetails>> actual = new CostBalancedGrouper(1, 0)
+        .groupMutations(null, mutants);
+
+    assertThat(actual.stream().map(List::size).collect(Collectors.toList()))
+        .containsExactly(1, 1, 1, 1, 4);
+  }
+
+  @Test
+  public void shouldShareMutantsBetweenPartsToBalanceCost() {
+    final List<MutationDetails> mutants = Arrays.asList(mutant("foo", 2999),
+        mutant("foo", 999), mutant("foo", 999), mutant("foo", 999),
+        mutant("bar", 5999));
+
+    final List<List<MutationDetails>> actual = new CostBalancedGrouper(1, 0)
+        .groupMutations(null, mutants);
+
+    assertThat(actual.stream().map(MutationCost::of).collect(Collectors.toList()))
+        .containsExactly(6000L, 3000L, 3000L);
+  }
+
+  @Test
+  public void shouldNotSplitClassesWhenCostBelowMinimum() {
+    final List<List<MutationDetails>> actual = new CostBalancedGrouper(8, 0)
+        .groupMutations(null, Arrays.asList(mutant("foo", 10), mutant("foo", 10),
+            mutant("foo", 10)));
+
+    assertThat(actual).hasSize(1);
+  }
+
+  @Test
+  public void shouldRespectMaximumUnitSize() {
+    final List<MutationDetails> mutants = new ArrayList<>();
+    for (int i = 0; i != 5; i++) {
+      mutants.add(mutant("foo", 0));
+    }
+
+    final List<List<MutationDetails>> actual = new CostBalancedGrouper(1, 2)
+        .groupMutations(null, mutants);
+
+    assertThat(actual.stream().map(List::size).collect(Collectors.toList()))
+        .containsExactlyInAnyOrder(2, 2, 1);
+  }
+
+  @Test
+  public void shouldOrderMutantsWithinUnitsById() {
+    final MutationDetails a = mutant("foo", 100);
+    final MutationDetails b = mutant("foo", 0);
+    final MutationDetails c = mutant("foo", 50);
+
+    final List<List<MutationDetails>> actual = new CostBalancedGrouper(1, 0)
+        .groupMutations(null, Arrays.asList(c, a, b));
+
+    assertThat(actual).containsExactly(Arrays.asList(a, b, c));
+  }
+
+  @Test
+  public void shouldReturnNoUnitsWhenNoMutants() {
+    assertThat(new CostBalancedGrouper(1, 0).groupMutations(null,
+        Collections.emptyList())).isEmpty();
+  }
+
+  private MutationDetails mutant(String clazz, int testTime) {
+    this.index = this.index + 1;
+    final MutationDetails details = new MutationDetails(aMutationId()
+        .withLocation(aLocation(clazz)).withIndex(this.index).build(), "", "desc", 42, 0);
+    details.addTestsInOrder(Collections.singletonList(
+        new TestInfo("test", "test", testTime, Optional.empty(), 1)));
+    return details;
+  }
+
+}
@@ -0,0 +1,103 @@
+package org.pitest.mutationtest.build;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.incremental.KillHistory;
+
+public class KillHistoryPrioritiserTest {
+
+  private final TestInfo fast = new TestInfo(null, "fast", 1, Optional.empty(), 0);
+  private final TestInfo medium = new TestInfo(null, "medium", 10, Optional.empty(), 0);
+  private final TestInfo slow = new TestInfo(null, "slow", 100, Optional.empty(), 0);
+
+  private final List<TestInfo> defaultOrder = asList(this.fast, this.medium, this.slow);
+
+  private final KillHistory history = KillHistory.none();
+
+  @Test
+  public void shouldUseUnderlyingOrderWhenNoHistoryExists() {
+    assertThat(prioritise(mutant())).isEqualTo(this.defaultOrder);
+  }
+
+  @Test
+  public void shouldRunLikelyKillersFirst() {
+    for (int i = 0; i != 10; i++) {
+      this.history.record(killed(mutant(), "medium"));
+    }
+
+    assertThat(prioritise(mutant())).containsExactly(this.medium, this.fast, this.slow);
+  }
+
+  @Test
+  public void shouldPreferFasterTestsWithEqualKillProbability() {
+    this.history.record(killed(mutant(), "slow"));
+
+    // slow has killed, but the tests that did not are far cheaper to run
+    assertThat(prioritise(mutant())).containsExactly(this.fast, this.medium, this.slow);
+  }
+
+  @Test
+  public void shouldKeepUnderlyingOrderForTiedTests() {
+    final TestInfo a = new TestInfo(null, "a", 1, Optional.empty(), 0);
+    final TestInfo b = new TestInfo(null, "b", 1, Optional.empty(), 0);
+    this.history.record(killed(mutant(asList(a, b, this.slow)), "slow"));
+
+    assertThat(prioritise(mutant(asList(b, a, this.slow)), asList(b, a, this.slow)))
+        .containsExactly(b, a, this.slow);
+  }
+
+  private List<TestInfo> prioritise(MutationDetails mutant) {
+    return prioritise(mutant, this.defaultOrder);
+  }
+
+  private List<TestInfo> prioritise(MutationDetails mutant, List<TestInfo> order) {
+    final TestPrioritiserFactory underlying = new TestPrioritiserFactory() {
+      @Override
+      public TestPrioritiser makeTestPrioritiser(Properties props, CodeSource code,
+          CoverageDatabase coverage) {
+        return m -> order;
+      }
+
+      @Override
+      public String description() {
+        return "fixed";
+      }
+    };
+    return new KillHistoryPrioritiser(underlying, this.history)
+        .makeTestPrioritiser(null, null, null).assignTests(mutant);
+  }
+
+  private MutationResult killed(MutationDetails mutant, String killer) {
+    final int index = mutant.getTestsInOrder().stream()
+        .map(TestInfo::getName).collect(Collectors.toList())
+        .indexOf(killer);
+    return new MutationResult(mutant, new MutationStatusTestPair(index + 1,
+        DetectionStatus.KILLED, asList(killer), Collections.emptyList(),
+        Collections.emptyList()));
+  }
+
+  private MutationDetails mutant() {
+    return mutant(this.defaultOrder);
+  }
+
+  private MutationDetails mutant(List<TestInfo> tests) {
+    return aMutationDetail().withTestsInOrder(tests).build();
+  }
+
+}
@@ -0,0 +1,149 @@
+package org.pitest.mutationtest.build;
+
+import static java.util.Comparator.comparing;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class MutationSharderTest {
+
+  private int index;
+
+  @Test
+  public void shouldSelectEveryMutantWhenNotSharded() {
+    final List<MutationDetails> mutants = mutants(10, 1);
+
+    assertThat(MutationSharder.none().select(mutants))
+        .containsExactlyElementsOf(mutants);
+  }
+
+  @Test
+  public void shouldPlaceEachMutantInExactlyOneShard() {
+    final List<MutationDetails> mutants = mutants(100, 3);
+
+    final List<MutationDetails> all = new ArrayList<>();
+    for (int i = 1; i <= 7; i++) {
+      all.addAll(new MutationSharder(i, 7).select(mutants));
+    }
+
+    assertThat(all).containsExactlyInAnyOrderElementsOf(mutants);
+  }
+
+  @Test
+  public void shouldSelectSameMutantsWhateverTheirOrder() {
+    final List<MutationDetails> mutants = mutants(50, 4);
+    final List<MutationDetails> reversed = new ArrayList<>(mutants);
+    Collections.reverse(reversed);
+
+    final MutationSharder testee = new MutationSharder(2, 3);
+    assertThat(testee.select(reversed))
+        .containsExactlyElementsOf(testee.select(mutants));
+  }
+
+  @Test
+  public void shouldSpreadMutantsEvenlyBetweenShards() {
+    final List<MutationDetails> mutants = mutants(1000, 10);
+
+    for (int i = 1; i <= 4; i++) {
+      assertThat(new MutationSharder(i, 4).select(mutants)).hasSizeBetween(200, 300);
+    }
+  }
+
+  @Test
+  public void shouldBalanceShardsByNumberOfCoveringTests() {
+    final List<MutationDetails> mutants = new ArrayList<>();
+    mutants.add(mutant("foo", 7));
+    for (int i = 0; i != 3; i++) {
+      mutants.add(mutant("bar", 1));
+    }
+
+    assertThat(new MutationSharder(1, 2).select(mutants))
+        .containsExactly(mutants.get(0));
+    assertThat(new MutationSharder(2, 2).select(mutants)).hasSize(3);
+  }
+
+  @Test
+  public void shouldNotBalanceOnTestTimesAsTheseVaryBetweenMachines() {
+    final List<MutationDetails> fast = new ArrayList<>();
+    final List<MutationDetails> slow = new ArrayList<>();
+    for (int i = 0; i != 20; i++) {
+      fast.add(mutant("foo", i, 1 + (i % 3), 1));
+      slow.add(mutant("foo", i, 1 + (i % 3), 1000 * i));
+    }
+
+    final MutationSharder testee = new MutationSharder(1, 3);
+    assertThat(ids(testee.select(slow))).isEqualTo(ids(testee.select(fast)));
+  }
+
+  @Test
+  public void shouldSelectSameMutantsWhenCoverageDiffersSlightly() {
+    final List<MutationDetails> some = new ArrayList<>();
+    final List<MutationDetails> more = new ArrayList<>();
+    for (int i = 0; i != 20; i++) {
+      some.add(mutant("foo", i, 4 + (i % 2), 1));
+      more.add(mutant("foo", i, 6 + (i % 2), 1));
+    }
+
+    final MutationSharder testee = new MutationSharder(1, 3);
+    assertThat(ids(testee.select(more))).isEqualTo(ids(testee.select(some)));
+  }
+
+  @Test
+  public void shouldOrderSelectedMutantsById() {
+    final List<MutationDetails> selected = new MutationSharder(1, 2)
+        .select(mutants(20, 2));
+
+    assertThat(selected).isSortedAccordingTo(comparing(MutationDetails::getId));
+  }
+
+  @Test
+  public void shouldRejectShardsThatDoNotExist() {
+    assertThatCode(() -> new MutationSharder(0, 2))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatCode(() -> new MutationSharder(3, 2))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private List<MutationDetails> mutants(int count, int classes) {
+    final List<MutationDetails> mutants = new ArrayList<>();
+    for (int i = 0; i != count; i++) {
+      mutants.add(mutant("class" + (i % classes), 1 + (i % 5)));
+    }
+    return mutants;
+  }
+
+  private MutationDetails mutant(String clazz, int tests) {
+    this.index = this.index + 1;
+    return mutant(clazz, this.index, tests, 1);
+  }
+
+  private static MutationDetails mutant(String clazz, int index, int tests,
+      int testTime) {
+    final MutationDetails details = new MutationDetails(aMutationId()
+        .withLocation(aLocation(clazz)).withIndex(index).build(), "", "desc", 42, 0);
+    final List<TestInfo> covering = new ArrayList<>();
+    for (int i = 0; i != tests; i++) {
+      covering.add(new TestInfo("test", "test" + i, testTime, Optional.empty(), 1));
+    }
+    details.addTestsInOrder(covering);
+    return details;
+  }
+
+  private static List<String> ids(List<MutationDetails> mutants) {
+    return mutants.stream()
+        .map(m -> m.getId().toString())
+        .collect(Collectors.toList());
+  }
+
+}
@@ -27,6 +27,8 @@ import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 
@@ -77,6 +79,61 @@ public class MutationSourceTest {
     assertEquals(expected, actual.getTestsInOrder());
   }
 
+  @Test
+  public void shouldNotScanClassAgainWhenReusingPrescan() {
+    final List<TestInfo> expected = makeTestInfos(0);
+    when(this.prioritiser.assignTests(any(MutationDetails.class))).thenReturn(
+        expected);
+    when(this.mutater.findMutations(any(ClassName.class)))
+    .thenReturn(makeMutations("foo"));
+    this.testee = new MutationSource(this.config, this.prioritiser
+        , this.source, CompoundMutationInterceptor.nullInterceptor(), new PreScanResults());
+
+    final MutationDetails first = this.testee.createMutations(this.foo)
+        .iterator().next();
+    final MutationDetails second = this.testee.createMutations(this.foo)
+        .iterator().next();
+
+    verify(this.mutater, times(1)).findMutations(this.foo);
+    assertEquals(first.getId(), second.getId());
+    assertEquals(expected, second.getTestsInOrder());
+  }
+
+  @Test
+  public void shouldNotScanClassWithoutMutantsAgainWhenReusingPrescan() {
+    this.testee = new MutationSource(this.config, this.prioritiser
+        , this.source, CompoundMutationInterceptor.nullInterceptor(), new PreScanResults());
+
+    this.testee.createMutations(this.foo);
+    assertEquals(Collections.emptyList(), this.testee.createMutations(this.foo));
+    verify(this.mutater, times(1)).findMutations(this.foo);
+  }
+
+  @Test
+  public void shouldReleasePrescannedClassOnceReused() {
+    final PreScanResults preScan = new PreScanResults();
+    this.testee = new MutationSource(this.config, this.prioritiser
+        , this.source, CompoundMutationInterceptor.nullInterceptor(), preScan);
+
+    this.testee.createMutations(this.foo);
+    preScan.stopRecording();
+    this.testee.createMutations(this.foo);
+
+    assertEquals(Optional.empty(), preScan.take(this.foo));
+  }
+
+  @Test
+  public void shouldNotRecordClassesScannedAfterPrescan() {
+    final PreScanResults preScan = new PreScanResults();
+    preScan.stopRecording();
+    this.testee = new MutationSource(this.config, this.prioritiser
+        , this.source, CompoundMutationInterceptor.nullInterceptor(), preScan);
+
+    this.testee.createMutations(this.foo);
+
+    assertEquals(Optional.empty(), preScan.take(this.foo));
+  }
+
   private List<TestInfo> makeTestInfos(final Integer... times) {
     return Arrays.stream(times)
             .map(timeToTestInfo())
@@ -6,14 +6,21 @@ import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.config.ExecutionMode;
@@ -102,6 +109,71 @@ public class MutationTestBuilderTest {
             .isEmpty();
   }
 
+  @Test
+  public void shouldGiveEachDiscoveryThreadItsOwnSource() {
+    final AtomicInteger sources = new AtomicInteger();
+    final Map<ClassName, List<MutationDetails>> mutants = mutantsFor("a", "b", "c", "d", "e");
+    final Supplier<MutationSource> supplier = () -> {
+      sources.incrementAndGet();
+      return sourceMutating(mutants);
+    };
+    this.testee = new MutationTestBuilder(ExecutionMode.NORMAL, this.wf, new NullHistory(),
+        supplier, 3, new DefaultGrouper(0), CompoundProjectMutationInterceptor.passThrough());
+
+    final List<MutationAnalysisUnit> actual = this.testee.createMutationTestUnits(new ArrayList<>(mutants.keySet()));
+
+    assertThat(sources.get()).isEqualTo(3);
+    assertThat(actual).hasSize(5);
+  }
+
+  @Test
+  public void shouldMergeMutantsFoundInParallelInIdOrder() {
+    final List<MutationDetails> seen = new ArrayList<>();
+    final Map<ClassName, List<MutationDetails>> mutants = mutantsFor("e", "c", "a", "d",
+        "b", "f", "h", "g");
+    this.testee = new MutationTestBuilder(ExecutionMode.NORMAL, this.wf, new NullHistory(),
+        () -> sourceMutating(mutants), 4, new DefaultGrouper(0), recordMutants(seen));
+
+    this.testee.createMutationTestUnits(new ArrayList<>(mutants.keySet()));
+
+    assertThat(seen).extracting(MutationDetails::getId)
+        .isSortedAccordingTo(Comparator.naturalOrder())
+        .hasSize(8);
+  }
+
+  // mutants are built up front as the test builders are not thread safe
+  private static Map<ClassName, List<MutationDetails>> mutantsFor(String... classes) {
+    final Map<ClassName, List<MutationDetails>> mutants = new LinkedHashMap<>();
+    for (final String each : classes) {
+      mutants.put(ClassName.fromString(each), List.of(createDetails(each)));
+    }
+    return mutants;
+  }
+
+  private static MutationSource sourceMutating(Map<ClassName, List<MutationDetails>> mutants) {
+    final MutationSource source = Mockito.mock(MutationSource.class);
+    when(source.createMutations(any(ClassName.class)))
+        .thenAnswer(a -> mutants.get(a.<ClassName>getArgument(0)));
+    return source;
+  }
+
+
+  private ProjectMutationInterceptor recordMutants(List<MutationDetails> seen) {
+    return new ProjectMutationInterceptor() {
+
+      @Override
+      public Collection<MutationDetails> intercept(Collection<MutationDetails> mutations) {
+        seen.addAll(mutations);
+        return mutations;
+      }
+
+      @Override
+      public InterceptorType type() {
+        return InterceptorType.FILTER;
+      }
+    };
+  }
+
   private ProjectMutationInterceptor filterAllMutants() {
     return new ProjectMutationInterceptor() {
 
@@ -1,31 +1,44 @@
 package org.pitest.mutationtest.build;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationDetailsMother;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MinionProcess;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
+import org.pitest.util.ExitCode;
 import org.pitest.util.Verbosity;
 
 public class MutationTestUnitTest {
@@ -72,13 +85,133 @@ public class MutationTestUnitTest {
   public void shouldReportPriorityBasedOnNumberOfMutations() {
     this.mutations.add(MutationDetailsMother.aMutationDetail().build());
     this.testee = new MutationTestUnit(MutationDetailsMother.aMutationDetail()
-        .build(42), null);
+        .build(42), Mockito.mock(WorkerFactory.class));
     assertThat(this.testee.priority()).isEqualTo(42);
   }
 
+  @Test
+  public void shouldIncludeTimeOfCoveringTestsInPriority() {
+    final MutationDetails slow = MutationDetailsMother.aMutationDetail().build();
+    slow.addTestsInOrder(Arrays.asList(new TestInfo("foo", "one", 100, Optional.empty(), 1),
+        new TestInfo("foo", "two", 50, Optional.empty(), 1)));
+    final MutationDetails fast = MutationDetailsMother.aMutationDetail().build();
+
+    final WorkerFactory factory = Mockito.mock(WorkerFactory.class);
+    when(factory.prioritisesByCost()).thenReturn(true);
+    this.testee = new MutationTestUnit(Arrays.asList(slow, fast), factory);
+
+    assertThat(this.testee.priority()).isEqualTo(152);
+  }
+
+  @Test
+  public void shouldUseNumberOfMutantsAsPriorityWhenNotPrioritisingByCost() {
+    final MutationDetails slow = MutationDetailsMother.aMutationDetail().build();
+    slow.addTestsInOrder(Arrays.asList(new TestInfo("foo", "one", 100, Optional.empty(), 1)));
+    final MutationDetails fast = MutationDetailsMother.aMutationDetail().build();
+
+    this.testee = new MutationTestUnit(Arrays.asList(slow, fast),
+        Mockito.mock(WorkerFactory.class));
+
+    assertThat(this.testee.priority()).isEqualTo(2);
+  }
+
+  @Test(timeout = 10000)
+  public void shouldIncludeResultsOfHandedOverMutantsInItsOwnResults() throws Exception {
+    final List<MutationDetails> covered = Arrays.asList(coveredMutation(1),
+        coveredMutation(2), coveredMutation(3));
+    final CountDownLatch release = new CountDownLatch(1);
+    final WorkerFactory factory = Mockito.mock(WorkerFactory.class);
+    when(factory.createWorker(any(), any()))
+        .thenAnswer(a -> new FakeMinion(a.getArgument(0), release, 2))
+        .thenAnswer(a -> new FakeMinion(a.getArgument(0), null, -1));
+    this.testee = new MutationTestUnit(covered, factory);
+
+    final Future<MutationMetaData> result = Executors.newSingleThreadExecutor()
+        .submit(this.testee);
+    Optional<MutationAnalysisUnit> taken = this.testee.split();
+    while (!taken.isPresent()) {
+      Thread.sleep(10);
+      taken = this.testee.split();
+    }
+    taken.get().call();
+    release.countDown();
+
+    assertThat(taken.get().mutants()).hasSize(1);
+    assertThat(result.get().getMutations())
+        .extracting(MutationResult::getDetails)
+        .containsExactlyInAnyOrderElementsOf(covered);
+    assertThat(result.get().getMutations())
+        .extracting(MutationResult::getStatus)
+        .containsOnly(DetectionStatus.KILLED);
+  }
+
+  @Test
+  public void shouldNotSplitWhenNotRunning() {
+    assertThat(this.testee.split()).isEmpty();
+  }
+
+  private MutationDetails coveredMutation(int index) {
+    final MutationDetails details = new MutationDetails(aMutationId().withIndex(index).build(),
+        "file", "desc", 0, 0);
+    details.addTestsInOrder(Collections.singletonList(
+        new TestInfo("foo", "test", 0, Optional.empty(), 1)));
+    return details;
+  }
+
   private void addMutation() {
     this.mutations.add(new MutationDetails(aMutationId().build(), "file", "desc",
         0, 0));
   }
 
+  /**
+   * Kills the mutants in its range, stopping at the split point when asked to
+   * split.
+   */
+  private static class FakeMinion implements MinionProcess {
+    private final List<MutationDetails> range;
+    private final CountDownLatch        release;
+    private final int                   splitAt;
+    private int                         end;
+
+    FakeMinion(Collection<MutationDetails> range, CountDownLatch release, int splitAt) {
+      this.range = new ArrayList<>(range);
+      this.release = release;
+      this.splitAt = splitAt;
+      this.end = range.size();
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public ExitCode waitToDie() {
+      try {
+        if (this.release != null) {
+          this.release.await();
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return ExitCode.OK;
+    }
+
+    @Override
+    public void results(MutationStatusMap allmutations) {
+      for (final MutationDetails each : this.range.subList(0, this.end)) {
+        allmutations.setStatusForMutation(each,
+            new MutationStatusTestPair(1, DetectionStatus.KILLED, "test"));
+      }
+    }
+
+    @Override
+    public boolean split(IntConsumer onResponse) {
+      if (this.splitAt > 0) {
+        this.end = this.splitAt;
+      }
+      onResponse.accept(this.splitAt);
+      return true;
+    }
+  }
+
 }
@@ -10,6 +10,7 @@ import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.build.MutationInterceptorFactory;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
 import org.pitest.mutationtest.filter.LimitNumberOfMutationsPerClassFilterFactory;
+import org.pitest.mutationtest.incremental.FileHistoryFactory;
 import org.pitest.mutationtest.report.csv.CSVReportFactory;
 import org.pitest.plugin.Feature;
 
@@ -55,8 +56,9 @@ public class PluginServicesTest {
   }
 
   @Test
-  public void noHistoryStoresProvidedByDefault() {
-    assertThat(testee.findHistory()).isEmpty();
+  public void onlyBuiltInHistoryStoreProvidedByDefault() {
+    assertThat(testee.findHistory()).hasOnlyElementsOfType(FileHistoryFactory.class);
+    assertThat(testee.findHistory().get(0).provides().isOnByDefault()).isFalse();
   }
 
 
@@ -5,10 +5,14 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CompoundTestStatListener;
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.export.NullCoverageExporter;
+import org.pitest.mutationtest.build.CostBalancedGrouperFactory;
+import org.pitest.mutationtest.build.DefaultMutationGrouperFactory;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
 import org.pitest.mutationtest.incremental.ErroringHistoryFactory;
 import org.pitest.plugin.Feature;
@@ -205,6 +209,53 @@ public class SettingsFactoryTest {
       assertThat(this.testee.createTestFilter().include(unused(), unused())).isTrue();
   }
 
+  @Test
+  public void usesDefaultGrouperByDefault() {
+    assertThat(this.testee.getMutationGrouper()).isInstanceOf(DefaultMutationGrouperFactory.class);
+  }
+
+  @Test
+  public void usesCostBalancedGrouperWhenBalancingUnits() {
+    this.options.setBalanceUnits(true);
+    assertThat(this.testee.getMutationGrouper()).isInstanceOf(CostBalancedGrouperFactory.class);
+  }
+
+  @Test
+  public void doesNotJournalResultsByDefault() {
+    this.options.setReportDir(reportDir.getRoot().getAbsolutePath());
+    this.testee.createRunJournal(Mockito.mock(CodeSource.class)).start();
+    assertFalse(new File(reportDir.getRoot(), "run.journal").exists());
+  }
+
+  @Test
+  public void journalsResultsWhenRequested() {
+    this.options.setReportDir(reportDir.getRoot().getAbsolutePath());
+    this.options.setJournal(true);
+    this.testee.createRunJournal(Mockito.mock(CodeSource.class)).start();
+    assertTrue(new File(reportDir.getRoot(), "run.journal").exists());
+  }
+
+  @Test
+  public void journalsResumedRuns() {
+    this.options.setReportDir(reportDir.getRoot().getAbsolutePath());
+    this.options.setResume(true);
+    this.testee.createRunJournal(Mockito.mock(CodeSource.class)).start();
+    assertTrue(new File(reportDir.getRoot(), "run.journal").exists());
+  }
+
+  @Test
+  public void doesNotIndexClassPathByDefault() {
+    this.options.setReportDir(reportDir.getRoot().getAbsolutePath());
+    assertTrue(this.testee.createClassPathIndex(new ClassPath()).isNone());
+  }
+
+  @Test
+  public void indexesClassPathWhenRequested() {
+    this.options.setReportDir(reportDir.getRoot().getAbsolutePath());
+    this.options.setClassPathIndex(true);
+    assertFalse(this.testee.createClassPathIndex(new ClassPath()).isNone());
+  }
+
   private <T>T unused() {
     return null;
   }
@@ -0,0 +1,152 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Test;
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.ExitCode;
+
+public class MinionPoolTest {
+
+  private final List<PooledMinion> launched = new CopyOnWriteArrayList<>();
+  private final ProcessArgs        args = ProcessArgs.withClassPath("");
+
+  private MinionPool               testee;
+
+  @After
+  public void close() {
+    if (this.testee != null) {
+      this.testee.close();
+    }
+  }
+
+  @Test
+  public void shouldLaunchMinionsAheadOfNeedUpToLimit() throws Exception {
+    this.testee = makePool(true, 2);
+
+    this.testee.borrow(this.args, true);
+    awaitWarmMinions(2);
+
+    assertThat(this.launched).hasSize(3);
+  }
+
+  @Test
+  public void shouldNotLaunchMoreMinionsAheadOfNeedThanThereAreUnitsLeft() throws Exception {
+    this.testee = makePool(false, 3);
+    this.testee.expectUnits(2);
+
+    this.testee.borrow(this.args, false);
+    awaitWarmMinions(1);
+    this.testee.borrow(this.args, false);
+
+    assertThat(this.launched).hasSize(2);
+    assertThat(this.testee.warmMinions()).isZero();
+  }
+
+  @Test
+  public void shouldNotLaunchAheadOfNeedWhenLimitIsZero() throws Exception {
+    this.testee = makePool(true, 0);
+
+    this.testee.borrow(this.args, true);
+    this.testee.borrow(this.args, true);
+
+    assertThat(this.launched).hasSize(2);
+    assertThat(this.testee.warmMinions()).isZero();
+  }
+
+  @Test
+  public void shouldHandOutWarmMinionsBeforeLaunchingNewOnes() throws Exception {
+    this.testee = makePool(false, 1);
+
+    final PooledMinion first = this.testee.borrow(this.args, false);
+    awaitWarmMinions(1);
+    final PooledMinion warm = this.launched.get(1);
+
+    assertThat(this.testee.borrow(this.args, false)).isSameAs(warm);
+    assertThat(first).isNotSameAs(warm);
+  }
+
+  @Test
+  public void shouldReuseReleasedMinions() throws Exception {
+    this.testee = makePool(true, 0);
+
+    final PooledMinion minion = this.testee.borrow(this.args, true);
+    this.testee.release(minion, ExitCode.OK, true);
+
+    assertThat(this.testee.borrow(this.args, true)).isSameAs(minion);
+  }
+
+  @Test
+  public void shouldNotGiveUsedMinionsToUnitsThatCannotShareThem() throws Exception {
+    this.testee = makePool(true, 0);
+
+    final PooledMinion minion = this.testee.borrow(this.args, true);
+    this.testee.release(minion, ExitCode.OK, true);
+
+    assertThat(this.testee.borrow(this.args, false)).isNotSameAs(minion);
+  }
+
+  @Test
+  public void shouldDestroyMinionsThatMayNotBeReused() throws Exception {
+    this.testee = makePool(true, 0);
+
+    final PooledMinion minion = this.testee.borrow(this.args, false);
+    this.testee.release(minion, ExitCode.OK, false);
+
+    verify(minion).destroy();
+  }
+
+  @Test
+  public void shouldDestroyWarmMinionsWhenClosed() throws Exception {
+    this.testee = makePool(true, 1);
+
+    this.testee.borrow(this.args, true);
+    awaitWarmMinions(1);
+    this.testee.close();
+
+    verify(this.launched.get(1)).destroy();
+    verify(this.launched.get(1), never()).shutdown();
+  }
+
+  @Test
+  public void shouldReplaceWarmMinionsThatHaveDied() throws Exception {
+    this.testee = makePool(true, 1);
+
+    this.testee.borrow(this.args, true);
+    awaitWarmMinions(1);
+    final PooledMinion dead = this.launched.get(1);
+    when(dead.isAlive()).thenReturn(false);
+
+    assertThat(this.testee.borrow(this.args, true)).isNotSameAs(dead);
+    verify(dead).destroy();
+  }
+
+  private MinionPool makePool(boolean reuse, int maxWarm) {
+    return new MinionPool(reuse, maxWarm, this::launch);
+  }
+
+  private PooledMinion launch(ProcessArgs unused) throws IOException {
+    final PooledMinion minion = mock(PooledMinion.class);
+    when(minion.isAlive()).thenReturn(true);
+    this.launched.add(minion);
+    return minion;
+  }
+
+  private void awaitWarmMinions(int expected) throws InterruptedException {
+    final long end = System.currentTimeMillis() + 5000;
+    while (this.testee.warmMinions() < expected && System.currentTimeMillis() < end) {
+      Thread.sleep(10);
+    }
+    assertThat(this.testee.warmMinions()).isEqualTo(expected);
+  }
+
+}
@@ -0,0 +1,155 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultInterceptor;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationDetailsMother;
+import org.pitest.mutationtest.incremental.RunJournal;
+
+public class MutationAnalysisExecutorTest {
+
+  private final RecordingListener listener = new RecordingListener();
+
+  @Test(timeout = 10000)
+  public void shouldReportResultsInOrderUnitsComplete() {
+    final CountDownLatch fastReported = new CountDownLatch(1);
+    this.listener.onResult = fastReported::countDown;
+
+    final MutationAnalysisUnit slow = unit("slow", () -> {
+      // only completes once the fast unit's results have been reported
+      fastReported.await(5, TimeUnit.SECONDS);
+    });
+    final MutationAnalysisUnit fast = unit("fast", () -> { });
+
+    new MutationAnalysisExecutor(2, r -> r, Collections.singletonList(this.listener))
+        .run(Arrays.asList(slow, fast));
+
+    assertThat(this.listener.classes).containsExactly("fast", "slow");
+  }
+
+  @Test
+  public void shouldReportResultsHeldBackByInterceptorAtEndOfRun() {
+    final List<ClassMutationResults> heldBack = new ArrayList<>();
+    final MutationResultInterceptor holdsEverythingBack = new MutationResultInterceptor() {
+      @Override
+      public Collection<ClassMutationResults> modify(Collection<ClassMutationResults> results) {
+        heldBack.addAll(results);
+        return Collections.emptyList();
+      }
+
+      @Override
+      public Collection<ClassMutationResults> remaining() {
+        return heldBack;
+      }
+    };
+
+    new MutationAnalysisExecutor(1, holdsEverythingBack, Collections.singletonList(this.listener))
+        .run(Arrays.asList(unit("a", () -> { }), unit("b", () -> { })));
+
+    assertThat(this.listener.classes).containsExactlyInAnyOrder("a", "b");
+    assertThat(this.listener.ended).isTrue();
+  }
+
+  @Test
+  public void shouldJournalResultsBeforeInterceptionAndCompleteJournalAtEndOfRun() {
+    final RunJournal journal = mock(RunJournal.class);
+
+    new MutationAnalysisExecutor(1, r -> Collections.emptyList(),
+        Collections.singletonList(this.listener), false, journal)
+        .run(Arrays.asList(unit("a", () -> { }), unit("b", () -> { })));
+
+    final InOrder order = inOrder(journal);
+    order.verify(journal).start();
+    order.verify(journal, times(2)).record(any(ClassMutationResults.class));
+    order.verify(journal).complete();
+    verify(journal, never()).close();
+  }
+
+  @Test
+  public void shouldKeepJournalWhenRunDoesNotComplete() {
+    final RunJournal journal = mock(RunJournal.class);
+
+    assertThatThrownBy(() -> new MutationAnalysisExecutor(1, r -> r,
+        Collections.singletonList(this.listener), false, journal)
+        .run(Arrays.asList(unit("a", () -> { }), unit("b", () -> {
+          throw new IllegalStateException();
+        })))).isInstanceOf(RuntimeException.class);
+
+    verify(journal).close();
+    verify(journal, never()).complete();
+  }
+
+  private static MutationAnalysisUnit unit(String clazz, Work work) {
+    final MutationDetails details = MutationDetailsMother.makeMutation(ClassName.fromString(clazz));
+    return new MutationAnalysisUnit() {
+      @Override
+      public MutationMetaData call() throws Exception {
+        work.run();
+        return new MutationMetaData(Collections.singletonList(new MutationResult(details,
+            MutationStatusTestPair.notAnalysed(0, DetectionStatus.KILLED, Collections.emptyList()))));
+      }
+
+      @Override
+      public int priority() {
+        return 1;
+      }
+
+      @Override
+      public Collection<MutationDetails> mutants() {
+        return Collections.singletonList(details);
+      }
+    };
+  }
+
+  private interface Work {
+    void run() throws Exception;
+  }
+
+  private static class RecordingListener implements MutationResultListener {
+    private final List<String> classes = new ArrayList<>();
+    private Runnable           onResult = () -> { };
+    private boolean            ended;
+
+    @Override
+    public void runStart() {
+    }
+
+    @Override
+    public void handleMutationResult(ClassMutationResults results) {
+      this.classes.add(results.getMutatedClass().asJavaName());
+      this.onResult.run();
+    }
+
+    @Override
+    public void runEnd() {
+      this.ended = true;
+    }
+  }
+
+}
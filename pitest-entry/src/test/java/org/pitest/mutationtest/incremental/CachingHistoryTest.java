@@ -0,0 +1,91 @@
+package org.pitest.mutationtest.incremental;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassName;
+
+public class CachingHistoryTest {
+
+  private static final Set<ClassName> HASHED = Collections.singleton(
+      ClassName.fromString("com.example.Foo"));
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldDescribeSameClassPathAtDifferentLocationsTheSame()
+      throws IOException {
+    final File first = this.folder.newFolder("first");
+    final File second = this.folder.newFolder("second", "elsewhere");
+    write(first, "lib/dependency.jar", "jar", 1000);
+    write(first, "classes/settings.properties", "a=1", 2000);
+    write(second, "lib/dependency.jar", "jar", 3000);
+    write(second, "classes/settings.properties", "a=1", 4000);
+
+    assertThat(describe(second)).isEqualTo(describe(first));
+  }
+
+  @Test
+  public void shouldDescribeClassPathDifferentlyWhenResourceChanges()
+      throws IOException {
+    final File first = this.folder.newFolder("first");
+    final File second = this.folder.newFolder("second");
+    write(first, "lib/dependency.jar", "jar", 1000);
+    write(first, "classes/settings.properties", "a=1", 1000);
+    write(second, "lib/dependency.jar", "jar", 1000);
+    write(second, "classes/settings.properties", "a=2", 1000);
+
+    assertThat(describe(second)).isNotEqualTo(describe(first));
+  }
+
+  @Test
+  public void shouldDescribeClassPathDifferentlyWhenLibraryChanges()
+      throws IOException {
+    final File first = this.folder.newFolder("first");
+    final File second = this.folder.newFolder("second");
+    write(first, "lib/dependency.jar", "jar", 1000);
+    write(first, "classes/settings.properties", "a=1", 1000);
+    write(second, "lib/dependency.jar", "other jar", 1000);
+    write(second, "classes/settings.properties", "a=1", 1000);
+
+    assertThat(describe(second)).isNotEqualTo(describe(first));
+  }
+
+  @Test
+  public void shouldIgnoreHashedClassesWhenDescribingClassPath()
+      throws IOException {
+    final File first = this.folder.newFolder("first");
+    final File second = this.folder.newFolder("second");
+    write(first, "lib/dependency.jar", "jar", 1000);
+    write(first, "classes/com/example/Foo.class", "code", 1000);
+    write(second, "lib/dependency.jar", "jar", 1000);
+    write(second, "classes/com/example/Foo.class", "changed code", 1000);
+
+    assertThat(describe(second)).isEqualTo(describe(first));
+  }
+
+  private static String describe(File tree) {
+    return CachingHistory.describeClassPath(asList(new File(tree, "lib/dependency.jar"),
+        new File(tree, "classes")), HASHED);
+  }
+
+  private static void write(File root, String name, String content,
+      long lastModified) throws IOException {
+    final File file = new File(root, name);
+    file.getParentFile().mkdirs();
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    file.setLastModified(lastModified);
+  }
+
+}
@@ -0,0 +1,90 @@
+package org.pitest.mutationtest.incremental;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.incremental.HistoryFile.Contents;
+import org.pitest.mutationtest.incremental.HistoryFile.Killer;
+
+public class HistoryFileTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final ClassName          clazz = ClassName.fromString("com.example.Foo");
+  private final ClassName          test  = ClassName.fromString("com.example.FooTest");
+  private final MutationIdentifier mutant = aMutationId().withIndex(3).build();
+
+  private File file;
+
+  @Before
+  public void setUp() {
+    this.file = new File(this.folder.getRoot(), "history");
+  }
+
+  @Test
+  public void shouldReadRecordsThatWereWritten() throws IOException {
+    final HistoryFile testee = new HistoryFile(this.file);
+    testee.writeTest(this.test, new HierarchicalClassId(1, this.test, "ab"));
+    testee.writeClass(this.clazz, new HierarchicalClassId(2, this.clazz, "cd"),
+        BigInteger.valueOf(42), asList(this.test));
+    testee.writeResult(this.mutant, DetectionStatus.KILLED,
+        asList(new Killer("testFoo", this.test)));
+    testee.close();
+
+    final Contents actual = HistoryFile.read(this.file);
+
+    assertThat(actual.tests.get(this.test))
+        .isEqualTo(new HierarchicalClassId(1, this.test, "ab"));
+    assertThat(actual.classes.get(this.clazz).id)
+        .isEqualTo(new HierarchicalClassId(2, this.clazz, "cd"));
+    assertThat(actual.classes.get(this.clazz).coverageId).isEqualTo(BigInteger.valueOf(42));
+    assertThat(actual.classes.get(this.clazz).tests).containsExactly(this.test);
+    assertThat(actual.results.get(this.mutant).status).isEqualTo(DetectionStatus.KILLED);
+    assertThat(actual.results.get(this.mutant).killers.get(0).test).isEqualTo("testFoo");
+    assertThat(actual.results.get(this.mutant).killers.get(0).testClass).isEqualTo(this.test);
+  }
+
+  @Test
+  public void shouldKeepCompleteRecordsWhenLastRecordIsTruncated() throws IOException {
+    final HistoryFile testee = new HistoryFile(this.file);
+    testee.writeResult(this.mutant, DetectionStatus.SURVIVED, Collections.emptyList());
+    testee.writeResult(aMutationId().withIndex(4).build(), DetectionStatus.KILLED,
+        asList(new Killer("testFoo", this.test)));
+    testee.close();
+
+    final byte[] bytes = Files.readAllBytes(this.file.toPath());
+    Files.write(this.file.toPath(), Arrays.copyOf(bytes, bytes.length - 3));
+
+    final Contents actual = HistoryFile.read(this.file);
+    assertThat(actual.results).containsOnlyKeys(this.mutant);
+  }
+
+  @Test
+  public void shouldIgnoreFilesInOtherFormats() throws IOException {
+    Files.write(this.file.toPath(), "<xml>".getBytes("UTF-8"));
+    assertThat(HistoryFile.read(this.file).results).isEmpty();
+  }
+
+  @Test
+  public void shouldTreatMissingFileAsEmpty() {
+    assertThat(HistoryFile.read(this.file).isEmpty()).isTrue();
+  }
+
+}
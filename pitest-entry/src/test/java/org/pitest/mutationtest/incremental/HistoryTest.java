@@ -2,6 +2,7 @@ package org.pitest.mutationtest.incremental;
 
 import com.example.history.ClassA;
 import com.example.history.ClassATest;
+import com.example.history.ClassBTest;
 import com.example.history.SlowKillingTest;
 import com.example.history.UselessTest1;
 import com.example.history.UselessTest2;
@@ -12,6 +13,7 @@ import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.classinfo.ClassHash;
 import org.pitest.classinfo.ClassIdentifier;
 import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.ClassPathIndex;
 import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.classinfo.Repository;
 import org.pitest.classpath.ClassPath;
@@ -22,18 +24,22 @@ import org.pitest.functional.Streams;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.statistics.MutationStatistics;
 import org.pitest.mutationtest.tooling.AnalysisResult;
 import org.pitest.mutationtest.tooling.EntryPoint;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.Verbosity;
 
+import java.io.File;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -55,8 +61,135 @@ public class HistoryTest {
         assertThatCode(() ->runPitest(project)).hasMessageContaining("no history plugin");
     }
 
+    @Test
+    public void reusesResultsWhenNothingHasChanged() throws Exception {
+        Project project = createProject(root, ClassA.class, ClassATest.class, UselessTest1.class);
+        MutationStatistics first = runWithFileHistory(project);
+        MutationStatistics second = runWithFileHistory(project);
+
+        assertThat(first.getNumberOfTestsRun()).isNotZero();
+        assertThat(second.getNumberOfTestsRun()).isZero();
+        assertSameResults(second, first);
+    }
+
+    @Test
+    public void reanalysesModifiedClasses() throws Exception {
+        Project project = createProject(root, ClassA.class, ClassATest.class, UselessTest1.class);
+        MutationStatistics first = runWithFileHistory(project);
+        project.modifyClass(ClassA.class);
+        MutationStatistics second = runWithFileHistory(project);
+
+        assertThat(second.getNumberOfTestsRun()).isEqualTo(first.getNumberOfTestsRun());
+        assertSameResults(second, first);
+    }
+
+    @Test
+    public void reanalysesSurvivorsWhenTestsAreAdded() throws Exception {
+        Project project = createProject(root, ClassA.class, UselessTest1.class);
+        MutationStatistics first = runWithFileHistory(project);
+        project.addTest(ClassATest.class);
+        MutationStatistics second = runWithFileHistory(project);
+
+        assertThat(second.getTotalDetectedMutations()).isGreaterThan(first.getTotalDetectedMutations());
+        assertSameResults(second, runPitestWithoutHistory(project));
+    }
+
+    @Test
+    public void keepsKillsByUnchangedTestsWhenOtherTestsAreRemoved() throws Exception {
+        Project project = createProject(root, ClassA.class, ClassATest.class, UselessTest1.class);
+        MutationStatistics first = runWithFileHistory(project);
+        project.removeTest(UselessTest1.class);
+        MutationStatistics second = runWithFileHistory(project);
+
+        assertSameResults(second, first);
+    }
+
+    @Test
+    public void reusesCachedResultsWhenNothingHasChanged() throws Exception {
+        Project project = createProject(root, ClassA.class, ClassATest.class, UselessTest1.class);
+        MutationStatistics first = runWithResultCache(project);
+        MutationStatistics second = runWithResultCache(project);
+
+        assertThat(first.getNumberOfTestsRun()).isNotZero();
+        assertThat(second.getNumberOfTestsRun()).isZero();
+        assertSameResults(second, first);
+    }
+
+    @Test
+    public void doesNotReuseCachedResultsForModifiedClasses() throws Exception {
+        Project project = createProject(root, ClassA.class, ClassATest.class, UselessTest1.class);
+        MutationStatistics first = runWithResultCache(project);
+        project.modifyClass(ClassA.class);
+        MutationStatistics second = runWithResultCache(project);
+
+        assertThat(second.getNumberOfTestsRun()).isEqualTo(first.getNumberOfTestsRun());
+        assertSameResults(second, first);
+    }
+
+    @Test
+    public void doesNotReuseCachedResultsWhenTestsAreAdded() throws Exception {
+        Project project = createProject(root, ClassA.class, UselessTest1.class);
+        MutationStatistics first = runWithResultCache(project);
+        project.addTest(ClassATest.class);
+        MutationStatistics second = runWithResultCache(project);
+
+        assertThat(second.getTotalDetectedMutations()).isGreaterThan(first.getTotalDetectedMutations());
+        assertSameResults(second, runPitestWithoutHistory(project));
+    }
+
+    @Test
+    public void reusesCachedResultsWhenTestsThatDoNotCoverTheMutantsChange() throws Exception {
+        Project project = createProject(root, ClassA.class, ClassATest.class, ClassBTest.class);
+        MutationStatistics first = runWithResultCache(project);
+        project.modifyClass(ClassBTest.class);
+        MutationStatistics second = runWithResultCache(project);
+
+        assertThat(second.getNumberOfTestsRun()).isZero();
+        assertSameResults(second, first);
+    }
+
+    @Test
+    public void doesNotReuseCachedResultsWhenResourcesChange() throws Exception {
+        Project project = createProject(root, ClassA.class, ClassATest.class, UselessTest1.class);
+        project.writeResource("settings.properties", "a=1");
+        MutationStatistics first = runWithResultCache(project);
+        project.writeResource("settings.properties", "a=12");
+        MutationStatistics second = runWithResultCache(project);
+
+        assertThat(second.getNumberOfTestsRun()).isEqualTo(first.getNumberOfTestsRun());
+        assertSameResults(second, first);
+    }
+
+    private void assertSameResults(MutationStatistics actual, MutationStatistics expected) {
+        assertThat(actual.getTotalMutations()).isEqualTo(expected.getTotalMutations());
+        assertThat(actual.getTotalDetectedMutations()).isEqualTo(expected.getTotalDetectedMutations());
+        assertThat(actual.getTotalSurvivingMutations()).isEqualTo(expected.getTotalSurvivingMutations());
+    }
+
+    private MutationStatistics runWithFileHistory(Project project) {
+        return statistics(runPitest(project, singletonList("+file_history"), true));
+    }
+
+    private MutationStatistics runWithResultCache(Project project) {
+        String dir = project.root().resolve("cache").toString();
+        return statistics(runPitest(project, singletonList("+result_cache(dir[" + dir + "])"), false));
+    }
+
+    private MutationStatistics runPitestWithoutHistory(Project project) {
+        return statistics(runPitest(project, Collections.emptyList(), false));
+    }
+
+    private MutationStatistics statistics(AnalysisResult result) {
+        assertThat(result.getError()).isEmpty();
+        return result.getStatistics().get().getMutationStatistics();
+    }
+
 
     private AnalysisResult runPitest(Project project) {
+        return runPitest(project, Collections.emptyList(), true);
+    }
+
+    private AnalysisResult runPitest(Project project, List<String> features, boolean withHistory) {
         EntryPoint entryPoint = new EntryPoint();
         ReportOptions data = new ReportOptions();
         data.setReportDir(project.reportsDir());
@@ -66,8 +199,12 @@ public class HistoryTest {
         data.setVerbosity(Verbosity.VERBOSE);
         data.setTargetClasses(singletonList("com.example.*"));
 
-        data.setHistoryInputLocation(project.root().resolve("history.txt").toFile());
-        data.setHistoryOutputLocation(project.root().resolve("history.txt").toFile());
+        data.setFeatures(features);
+
+        if (withHistory) {
+            data.setHistoryInputLocation(project.root().resolve("history.txt").toFile());
+            data.setHistoryOutputLocation(project.root().resolve("history.txt").toFile());
+        }
 
         SettingsFactory settings = settingsFactory(project, data);
         return entryPoint.execute(project.root().toFile(), data, settings, new HashMap<>());
@@ -76,7 +213,8 @@ public class HistoryTest {
 
     private SettingsFactory settingsFactory(Project project, ReportOptions data) {
         return new SettingsFactory(data, PluginServices.makeForContextLoader()) {
-            public CodeSource createCodeSource(ProjectClassPaths classPath) {
+            @Override
+            public CodeSource createCodeSource(ProjectClassPaths classPath, ClassPathIndex index) {
                 ClassloaderByteArraySource bas = ClassloaderByteArraySource.fromContext();
                 Repository r = new Repository(bas);
                 return new CodeSource() {
@@ -111,8 +249,10 @@ public class HistoryTest {
 
                     @Override
                     public ClassPath getClassPath() {
-                        // return our own classpath???
-                        return new ClassPath();
+                        // our own classpath, plus the project's resources
+                        List<File> roots = new ArrayList<>(ClassPath.getClassPathElementsAsFiles());
+                        roots.add(project.resources().toFile());
+                        return new ClassPath(roots);
                     }
 
                     @Override
@@ -182,6 +322,7 @@ public class HistoryTest {
         Path root = tempFolder.getRoot().toPath();
         Path project = Files.createDirectories(root.resolve("project"));
         Files.createDirectory(project.resolve("reports"));
+        Files.createDirectory(project.resolve("resources"));
         return new Project(project, asList(c), asList(tests));
     }
 
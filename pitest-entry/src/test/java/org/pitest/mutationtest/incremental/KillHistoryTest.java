@@ -0,0 +1,158 @@
+package org.pitest.mutationtest.incremental;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class KillHistoryTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final List<TestInfo> tests = asList(test("a"), test("b"), test("c"));
+
+  private File file;
+
+  @Before
+  public void setUp() {
+    this.file = new File(this.folder.getRoot(), "kill.history");
+  }
+
+  @Test
+  public void shouldHaveNoEstimateForTestsWithoutHistory() {
+    final KillHistory testee = KillHistory.load(this.file);
+    assertThat(testee.isEmpty()).isTrue();
+    assertThat(testee.killProbability(mutant("method", "mutator"), "a")).isNegative();
+  }
+
+  @Test
+  public void shouldEstimateHigherProbabilityForTestsThatKilled() {
+    final KillHistory testee = KillHistory.none();
+    testee.record(killed(mutant("method", "mutator"), 2, "b"));
+
+    final MutationDetails next = mutant("method", "mutator");
+    assertThat(testee.killProbability(next, "b"))
+        .isGreaterThan(testee.killProbability(next, "a"));
+  }
+
+  @Test
+  public void shouldOnlyCountTestsThatRanBeforeTheKill() {
+    final KillHistory testee = KillHistory.none();
+    testee.record(killed(mutant("method", "mutator"), 1, "a"));
+
+    assertThat(testee.killProbability(mutant("method", "mutator"), "b")).isNegative();
+  }
+
+  @Test
+  public void shouldFallBackToMutatorHistoryForNewLocations() {
+    final KillHistory testee = KillHistory.none();
+    testee.record(killed(mutant("method", "mutator"), 1, "a"));
+
+    assertThat(testee.killProbability(mutant("other", "mutator"), "a")).isPositive();
+    assertThat(testee.killProbability(mutant("other", "another"), "a")).isNegative();
+  }
+
+  @Test
+  public void shouldCountAllTestsRunAgainstSurvivingMutants() {
+    final KillHistory testee = KillHistory.none();
+    testee.record(new MutationResult(mutant("method", "mutator"),
+        new MutationStatusTestPair(3, DetectionStatus.SURVIVED,
+            Collections.emptyList(), Collections.emptyList(), Collections.emptyList())));
+
+    assertThat(testee.killProbability(mutant("method", "mutator"), "c"))
+        .isBetween(0d, 0.5d);
+  }
+
+  @Test
+  public void shouldNotRecordMutantsWhoseTestsDidNotRun() {
+    final KillHistory testee = KillHistory.none();
+    testee.record(new MutationResult(mutant("method", "mutator"),
+        MutationStatusTestPair.notAnalysed(0, DetectionStatus.TIMED_OUT)));
+    testee.record(killed(mutant("method", "mutator"), 0, "a"));
+
+    assertThat(testee.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldWeightRecentResultsMoreHeavily() {
+    final KillHistory testee = KillHistory.none();
+    for (int i = 0; i != KillHistory.MAX_ATTEMPTS; i++) {
+      testee.record(killed(mutant("method", "mutator"), 1, "a"));
+    }
+    for (int i = 0; i != KillHistory.MAX_ATTEMPTS; i++) {
+      testee.record(survived(mutant("method", "mutator"), 1));
+    }
+
+    assertThat(testee.killProbability(mutant("method", "mutator"), "a"))
+        .isLessThan(0.5d);
+  }
+
+  @Test
+  public void shouldReadHistoryWrittenByEarlierRun() {
+    final KillHistory first = KillHistory.load(this.file);
+    first.record(killed(mutant("method", "mutator"), 2, "b"));
+    first.save();
+
+    final KillHistory second = KillHistory.load(this.file);
+    final MutationDetails next = mutant("method", "mutator");
+    assertThat(second.killProbability(next, "a"))
+        .isEqualTo(first.killProbability(next, "a"));
+    assertThat(second.killProbability(next, "b"))
+        .isEqualTo(first.killProbability(next, "b"));
+  }
+
+  @Test
+  public void shouldNotWriteHistoryWhenNothingRecorded() {
+    KillHistory.load(this.file).save();
+    assertThat(this.file).doesNotExist();
+  }
+
+  @Test
+  public void shouldIgnoreUnreadableHistory() throws IOException {
+    Files.write(this.file.toPath(), new byte[] { 0, 0, 0, 1, 0, 0, 0, 9 });
+    assertThat(KillHistory.load(this.file).isEmpty()).isTrue();
+  }
+
+  private MutationResult killed(MutationDetails mutant, int testsRun, String killer) {
+    return new MutationResult(mutant, new MutationStatusTestPair(testsRun,
+        DetectionStatus.KILLED, asList(killer), Collections.emptyList(),
+        Collections.emptyList()));
+  }
+
+  private MutationResult survived(MutationDetails mutant, int testsRun) {
+    return new MutationResult(mutant, new MutationStatusTestPair(testsRun,
+        DetectionStatus.SURVIVED, Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList()));
+  }
+
+  private MutationDetails mutant(String method, String mutator) {
+    return aMutationDetail()
+        .withId(aMutationId().withLocation(aLocation().withMethod(method))
+            .withMutator(mutator))
+        .withTestsInOrder(this.tests).build();
+  }
+
+  private static TestInfo test(String name) {
+    return new TestInfo(null, name, 1, Optional.empty(), 0);
+  }
+
+}
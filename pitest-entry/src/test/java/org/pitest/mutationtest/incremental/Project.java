@@ -2,6 +2,9 @@ package org.pitest.mutationtest.incremental;
 
 import org.pitest.classinfo.ClassName;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -30,6 +33,14 @@ public class Project {
         return root;
     }
 
+    public Path resources() {
+        return root.resolve("resources");
+    }
+
+    public void writeResource(String name, String content) throws IOException {
+        Files.write(resources().resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
     public List<Class<?>> classes() {
         return code;
     }
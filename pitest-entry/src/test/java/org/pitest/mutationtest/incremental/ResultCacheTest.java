@@ -0,0 +1,139 @@
+package org.pitest.mutationtest.incremental;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+
+public class ResultCacheTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File dir;
+
+  @Before
+  public void setUp() {
+    this.dir = new File(this.folder.getRoot(), "cache");
+  }
+
+  @Test
+  public void shouldMissForUnknownKeys() {
+    final ResultCache testee = new ResultCache(this.dir, 1024);
+    assertThat(testee.lookup("key")).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnStoredResults() {
+    final MutationStatusTestPair result = new MutationStatusTestPair(2,
+        DetectionStatus.KILLED, asList("a"), asList("b"), asList("a", "b"));
+    new ResultCache(this.dir, 1024).store("key", result);
+
+    final Optional<MutationStatusTestPair> actual = new ResultCache(this.dir, 1024)
+        .lookup("key");
+    assertThat(actual).contains(result);
+  }
+
+  @Test
+  public void shouldMissForOtherKeys() {
+    final ResultCache testee = new ResultCache(this.dir, 1024);
+    testee.store("key", survived());
+    assertThat(testee.lookup("other")).isEmpty();
+  }
+
+  @Test
+  public void shouldIgnoreUnreadableEntries() throws IOException {
+    final ResultCache testee = new ResultCache(this.dir, 1024);
+    testee.store("key", survived());
+    for (final Path each : entries()) {
+      Files.write(each, new byte[] { 1, 2 });
+    }
+    assertThat(testee.lookup("key")).isEmpty();
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedEntriesWhenFull() throws IOException {
+    final ResultCache testee = new ResultCache(this.dir, 1024);
+    testee.store("used", survived());
+    final long entrySize = Files.size(entries().get(0));
+    final ResultCache small = new ResultCache(this.dir, entrySize * 3);
+    for (int i = 0; i != 4; i++) {
+      small.store("key" + i, survived());
+    }
+    ageEntries();
+    assertThat(small.lookup("used")).isPresent();
+
+    small.evict();
+
+    assertThat(entries()).hasSizeLessThanOrEqualTo(2);
+    assertThat(small.lookup("used")).isPresent();
+  }
+
+  @Test
+  public void shouldNotEvictWhenBelowMaximumSize() throws IOException {
+    final ResultCache testee = new ResultCache(this.dir, 1024 * 1024);
+    for (int i = 0; i != 4; i++) {
+      testee.store("key" + i, survived());
+    }
+    testee.evict();
+    assertThat(entries()).hasSize(4);
+  }
+
+  @Test
+  public void shouldSupportConcurrentWritersOfTheSameEntry() throws Exception {
+    final ExecutorService pool = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> writes = new ArrayList<>();
+      for (int i = 0; i != 20; i++) {
+        final ResultCache each = new ResultCache(this.dir, 1024);
+        writes.add(pool.submit(() -> each.store("key", survived())));
+      }
+      for (final Future<?> each : writes) {
+        each.get();
+      }
+    } finally {
+      pool.shutdown();
+    }
+
+    assertThat(entries()).hasSize(1);
+    assertThat(new ResultCache(this.dir, 1024).lookup("key")).contains(survived());
+  }
+
+  private void ageEntries() throws IOException {
+    for (final Path each : entries()) {
+      Files.setLastModifiedTime(each, FileTime.fromMillis(0));
+    }
+  }
+
+  private List<Path> entries() throws IOException {
+    try (Stream<Path> files = Files.walk(this.dir.toPath())) {
+      return files.filter(Files::isRegularFile).collect(Collectors.toList());
+    }
+  }
+
+  private static MutationStatusTestPair survived() {
+    return new MutationStatusTestPair(1, DetectionStatus.SURVIVED,
+        Collections.emptyList(), asList("a"), asList("a"));
+  }
+
+}
@@ -0,0 +1,238 @@
+package org.pitest.mutationtest.incremental;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassHash;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.CodeSource;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class RunJournalTest {
+
+  private static final ClassName FOO  = ClassName.fromString("com.example.Foo");
+  private static final ClassName BAR  = ClassName.fromString("com.example.Bar");
+  private static final ClassName TEST = ClassName.fromString("com.example.FooTest");
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final Map<ClassName, String> hashes = new HashMap<>();
+  private final CodeSource             code   = mock(CodeSource.class);
+
+  private File file;
+
+  @Before
+  public void setUp() {
+    this.file = new File(this.folder.getRoot(), "run.journal");
+    this.hashes.put(FOO, "1");
+    this.hashes.put(BAR, "1");
+    this.hashes.put(TEST, "1");
+
+    when(this.code.fetchClassHash(any(ClassName.class)))
+        .thenAnswer(a -> classHash(a.getArgument(0)));
+    when(this.code.getTestClassNames()).thenReturn(singleton(TEST));
+    when(this.code.fetchClassHashes(any())).thenAnswer(a ->
+        ((Collection<ClassName>) a.getArgument(0)).stream()
+            .map(c -> classHash(c).get())
+            .collect(Collectors.toList()));
+  }
+
+  @Test
+  public void shouldResumeResultsOfRunThatDidNotComplete() {
+    interruptedRun(results(FOO, 1, 2));
+
+    final RunJournal testee = journal(true);
+    assertThat(testee.resumedResult(id(FOO, 1))).contains(killed());
+    assertThat(testee.resumedResult(id(FOO, 2))).contains(killed());
+    assertThat(testee.resumedResult(id(FOO, 3))).isEmpty();
+  }
+
+  @Test
+  public void shouldNotResumeUnlessAsked() {
+    interruptedRun(results(FOO, 1));
+
+    assertThat(journal(false).resumedResult(id(FOO, 1))).isEmpty();
+  }
+
+  @Test
+  public void shouldDeleteJournalWhenRunCompletes() {
+    final RunJournal testee = journal(false);
+    testee.start();
+    testee.record(results(FOO, 1));
+    testee.complete();
+
+    assertThat(this.file).doesNotExist();
+  }
+
+  @Test
+  public void shouldNotResumeResultsOfChangedClasses() {
+    interruptedRun(results(FOO, 1), results(BAR, 1));
+    this.hashes.put(FOO, "2");
+
+    final RunJournal testee = journal(true);
+    assertThat(testee.resumedResult(id(FOO, 1))).isEmpty();
+    assertThat(testee.resumedResult(id(BAR, 1))).contains(killed());
+  }
+
+  @Test
+  public void shouldNotResumeWhenTestsHaveChanged() {
+    interruptedRun(results(FOO, 1));
+    this.hashes.put(TEST, "2");
+
+    assertThat(journal(true).resumedResult(id(FOO, 1))).isEmpty();
+  }
+
+  @Test
+  public void shouldNotResumeWhenConfigurationHasChanged() {
+    interruptedRun(results(FOO, 1));
+
+    final RunJournal testee = RunJournal.create(this.file, this.code,
+        "other config", true);
+    assertThat(testee.resumedResult(id(FOO, 1))).isEmpty();
+  }
+
+  @Test
+  public void shouldIgnoreIncompleteFinalRecord() throws IOException {
+    interruptedRun(results(FOO, 1), results(BAR, 1));
+    try (RandomAccessFile raf = new RandomAccessFile(this.file, "rw")) {
+      raf.setLength(raf.length() - 3);
+    }
+
+    final RunJournal testee = journal(true);
+    assertThat(testee.resumedResult(id(FOO, 1))).contains(killed());
+    assertThat(testee.resumedResult(id(BAR, 1))).isEmpty();
+  }
+
+  @Test
+  public void shouldIgnoreFinalRecordWithNegativeLength() throws IOException {
+    interruptedRunWithCorruptLastLength(-1);
+
+    final RunJournal testee = journal(true);
+    assertThat(testee.resumedResult(id(FOO, 1))).contains(killed());
+    assertThat(testee.resumedResult(id(BAR, 1))).isEmpty();
+  }
+
+  @Test
+  public void shouldIgnoreFinalRecordWithLengthBeyondEndOfJournal()
+      throws IOException {
+    interruptedRunWithCorruptLastLength(Integer.MAX_VALUE);
+
+    final RunJournal testee = journal(true);
+    assertThat(testee.resumedResult(id(FOO, 1))).contains(killed());
+    assertThat(testee.resumedResult(id(BAR, 1))).isEmpty();
+  }
+
+  @Test
+  public void shouldKeepResumedResultsWhenResumedRunDoesNotComplete() {
+    interruptedRun(results(FOO, 1));
+
+    final RunJournal resumed = journal(true);
+    resumed.start();
+    // resumed results are reported again, but should not be written twice
+    resumed.record(results(FOO, 1));
+    resumed.record(results(BAR, 1));
+    resumed.close();
+
+    final RunJournal testee = journal(true);
+    assertThat(testee.resumedResult(id(FOO, 1))).contains(killed());
+    assertThat(testee.resumedResult(id(BAR, 1))).contains(killed());
+  }
+
+  @Test
+  public void shouldResumeNothingWhenNoJournalExists() {
+    assertThat(journal(true).resumedResult(id(FOO, 1))).isEmpty();
+  }
+
+  @Test
+  public void shouldWriteNothingWhenDisabled() {
+    final RunJournal testee = RunJournal.none();
+    testee.start();
+    testee.record(results(FOO, 1));
+    testee.close();
+
+    assertThat(this.folder.getRoot().list()).isEmpty();
+  }
+
+  private void interruptedRun(ClassMutationResults... results) {
+    final RunJournal journal = journal(false);
+    journal.start();
+    for (final ClassMutationResults each : results) {
+      journal.record(each);
+    }
+    journal.close();
+  }
+
+  private void interruptedRunWithCorruptLastLength(int length)
+      throws IOException {
+    interruptedRun(results(FOO, 1));
+    final long lastRecord = this.file.length();
+    this.file.delete();
+    interruptedRun(results(FOO, 1), results(BAR, 1));
+    try (RandomAccessFile raf = new RandomAccessFile(this.file, "rw")) {
+      raf.seek(lastRecord);
+      raf.writeInt(length);
+    }
+  }
+
+  private RunJournal journal(boolean resume) {
+    return RunJournal.create(this.file, this.code, "config", resume);
+  }
+
+  private static ClassMutationResults results(ClassName clazz, int... indexes) {
+    final ClassMutationResults results = new ClassMutationResults(asList());
+    for (final int each : indexes) {
+      results.getMutations().add(new MutationResult(
+          aMutationDetail().withId(id(clazz, each)).build(), killed()));
+    }
+    return results;
+  }
+
+  private static MutationIdentifier id(ClassName clazz, int index) {
+    return aMutationId().withLocation(aLocation().withClass(clazz))
+        .withIndex(index).build();
+  }
+
+  private static MutationStatusTestPair killed() {
+    return new MutationStatusTestPair(2, DetectionStatus.KILLED, asList("a"),
+        asList("b"), asList("a", "b"));
+  }
+
+  private Optional<ClassHash> classHash(ClassName name) {
+    final String hash = this.hashes.get(name);
+    if (hash == null) {
+      return Optional.empty();
+    }
+    final ClassHash classHash = mock(ClassHash.class);
+    when(classHash.getName()).thenReturn(name);
+    when(classHash.getHierarchicalId()).thenReturn(
+        new HierarchicalClassId(hash.hashCode(), name, hash));
+    return Optional.of(classHash);
+  }
+
+}
@@ -0,0 +1,84 @@
+package org.pitest.mutationtest.incremental;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class TimeoutCalibrationTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File file;
+
+  @Before
+  public void setUp() {
+    this.file = new File(this.folder.getRoot(), "timeout.calibration");
+  }
+
+  @Test
+  public void shouldNotAskMinionsToMeasureTestsWhenDisabled() {
+    final TimeoutCalibration testee = TimeoutCalibration.none();
+    assertThat(testee.isEnabled()).isFalse();
+    assertThat(testee.forMutants(singletonList(mutantCoveredBy("a")))).isNull();
+  }
+
+  @Test
+  public void shouldSendTimingsOfTestsCoveringMutants() {
+    final TimeoutCalibration testee = TimeoutCalibration.load(this.file);
+    testee.record("a", 10);
+    testee.record("b", 20);
+
+    assertThat(testee.forMutants(singletonList(mutantCoveredBy("a")))
+        .expectedTime("a")).isEqualTo(10);
+    assertThat(testee.forMutants(singletonList(mutantCoveredBy("a")))
+        .expectedTime("b")).isNegative();
+  }
+
+  @Test
+  public void shouldKeepTimingsForLaterRuns() {
+    final TimeoutCalibration first = TimeoutCalibration.load(this.file);
+    first.record("a", 10);
+    first.record("a", 30);
+    first.save();
+
+    final TimeoutCalibration second = TimeoutCalibration.load(this.file);
+    assertThat(second.forMutants(singletonList(mutantCoveredBy("a")))
+        .expectedTime("a")).isEqualTo(30);
+  }
+
+  @Test
+  public void shouldNotWriteFileWhenNothingRecorded() {
+    TimeoutCalibration.load(this.file).save();
+    assertThat(this.file).doesNotExist();
+  }
+
+  @Test
+  public void shouldIgnoreUnreadableFile() throws IOException {
+    Files.write(this.file.toPath(), asList("not", "a", "calibration"));
+    final TimeoutCalibration testee = TimeoutCalibration.load(this.file);
+    assertThat(testee.forMutants(singletonList(mutantCoveredBy("a"))).isEmpty())
+        .isTrue();
+  }
+
+  private static MutationDetails mutantCoveredBy(String test) {
+    return aMutationDetail()
+        .withTestsInOrder(singletonList(new TestInfo(null, test, 1,
+            Optional.empty(), 0)))
+        .build();
+  }
+
+}
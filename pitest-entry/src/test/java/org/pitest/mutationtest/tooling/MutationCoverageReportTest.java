@@ -110,6 +110,7 @@ public class MutationCoverageReportTest {
     MockitoAnnotations.openMocks(this);
     this.data = new ReportOptions();
     this.data.setSourceDirs(Collections.emptyList());
+    when(this.code.getClassPath()).thenReturn(this.data.getClassPath());
     when(this.coverage.calculateCoverage(any(Predicate.class))).thenReturn(this.coverageDb);
     when(
         this.listenerFactory.getListener(any(),
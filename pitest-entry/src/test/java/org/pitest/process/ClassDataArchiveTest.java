@@ -0,0 +1,237 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeFalse;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.boot.DirectoryClassLoader;
+import org.pitest.classpath.ClassPath;
+import org.pitest.util.NullJavaAgent;
+
+public class ClassDataArchiveTest {
+
+  private static final int WRONG_LOADER = 12;
+
+  // launched by the test for the archive used by a real minion
+  public static void main(String[] args) {
+    if (!(ClassDataArchiveTest.class.getClassLoader() instanceof DirectoryClassLoader)) {
+      System.exit(WRONG_LOADER);
+    }
+  }
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final String java = new DefaultJavaExecutableLocator().javaExecutable();
+
+  private File dir;
+
+  @Before
+  public void setUp() {
+    this.dir = new File(this.folder.getRoot(), "cds");
+  }
+
+  @Test
+  public void shouldNotChangeLaunchWhenDisabled() {
+    assertThat(ClassDataArchive.disabled().launchArgs(this.java, "a.jar",
+        Collections.emptyList())).isEmpty();
+  }
+
+  @Test
+  public void shouldWriteArchiveFromFirstMinionOnly() {
+    final ClassDataArchive testee = new ClassDataArchive(this.dir);
+    final List<String> first = launch(testee, "a.jar");
+    assumeSupported(first);
+
+    assertThat(first).last().asString()
+        .startsWith("-XX:ArchiveClassesAtExit=");
+    assertThat(launch(testee, "a.jar")).isEmpty();
+  }
+
+  @Test
+  public void shouldLaunchWithArchiveOnceWritten() throws IOException {
+    final ClassDataArchive testee = new ClassDataArchive(this.dir);
+    final List<String> first = launch(testee, "a.jar");
+    assumeSupported(first);
+    write(archiveIn(first));
+    testee.publish(first);
+
+    final List<String> actual = launch(testee, "a.jar");
+    assertThat(actual).startsWith(
+        "-XX:+UnlockDiagnosticVMOptions", "-XX:+AllowArchivingWithJavaAgent");
+    assertThat(actual).last().asString().startsWith("-XX:SharedArchiveFile=");
+    assertThat(archiveIn(actual)).hasBinaryContent(new byte[] { 1 });
+    assertThat(archiveIn(first)).doesNotExist();
+  }
+
+  @Test
+  public void shouldNotLaunchWithArchiveUntilWriterHasExited() throws IOException {
+    final ClassDataArchive testee = new ClassDataArchive(this.dir);
+    final List<String> first = launch(testee, "a.jar");
+    assumeSupported(first);
+    write(archiveIn(first));
+
+    assertThat(launch(testee, "a.jar")).isEmpty();
+    assertThat(launch(new ClassDataArchive(this.dir), "a.jar")).last().asString()
+        .startsWith("-XX:ArchiveClassesAtExit=");
+  }
+
+  @Test
+  public void shouldWriteNewArchiveWhenClassPathChanges() throws IOException {
+    final ClassDataArchive testee = new ClassDataArchive(this.dir);
+    final List<String> first = launch(testee, "a.jar");
+    assumeSupported(first);
+    write(archiveIn(first));
+    testee.publish(first);
+
+    assertThat(launch(testee, "b.jar")).last().asString()
+        .startsWith("-XX:ArchiveClassesAtExit=");
+  }
+
+  @Test
+  public void shouldDeleteArchivesForOtherClassPaths() throws IOException {
+    final ClassDataArchive writer = new ClassDataArchive(this.dir);
+    final List<String> first = launch(writer, "a.jar");
+    assumeSupported(first);
+    write(archiveIn(first));
+    writer.publish(first);
+    final File archive = archiveIn(launch(writer, "a.jar"));
+
+    launch(new ClassDataArchive(this.dir), "b.jar");
+
+    assertThat(archive).doesNotExist();
+  }
+
+  @Test
+  public void shouldDeletePartlyWrittenArchives() throws IOException {
+    final List<String> first = launch(new ClassDataArchive(this.dir), "a.jar");
+    assumeSupported(first);
+    write(archiveIn(first));
+
+    launch(new ClassDataArchive(this.dir), "a.jar");
+
+    assertThat(archiveIn(first)).doesNotExist();
+  }
+
+  @Test
+  public void shouldNotShareClassDataWhenDirectoriesOnLaunchClassPath() throws IOException {
+    final File classes = this.folder.newFolder("classes");
+    Files.write(new File(classes, "Foo.class").toPath(), new byte[] { 1 });
+    final ClassDataArchive testee = new ClassDataArchive(this.dir);
+
+    assertThat(launch(testee, "a.jar" + File.pathSeparator + classes)).isEmpty();
+  }
+
+  @Test
+  public void shouldLaunchWithOnlyArchivesOnClassPathWhenPitestIsInAnArchive()
+      throws IOException {
+    final File pitest = jarHolding(DirectoryClassLoader.class);
+    final File classes = this.folder.newFolder("classes");
+    final String classPath = classes + File.pathSeparator + pitest
+        + File.pathSeparator + "a.jar";
+    final ClassDataArchive testee = new ClassDataArchive(this.dir);
+    assumeSupported(launch(testee, "a.jar"));
+
+    assertThat(testee.launchClassPath(this.java, classPath))
+        .isEqualTo(pitest + File.pathSeparator + "a.jar");
+  }
+
+  @Test
+  public void shouldLaunchWithFullClassPathWhenPitestIsInADirectory()
+      throws IOException {
+    final File classes = this.folder.newFolder("classes");
+    final String classPath = classes + File.pathSeparator + "a.jar";
+    final ClassDataArchive testee = new ClassDataArchive(this.dir);
+
+    assertThat(testee.launchClassPath(this.java, classPath)).isEqualTo(classPath);
+  }
+
+  @Test
+  public void shouldLaunchWithFullClassPathWhenDisabled() throws IOException {
+    final File pitest = jarHolding(DirectoryClassLoader.class);
+    final String classPath = this.folder.newFolder("classes")
+        + File.pathSeparator + pitest;
+
+    assertThat(ClassDataArchive.disabled().launchClassPath(this.java, classPath))
+        .isEqualTo(classPath);
+  }
+
+  @Test
+  public void shouldWriteArchiveThatLaterMinionsUse() throws Exception {
+    final ClassDataArchive testee = new ClassDataArchive(this.dir);
+    final String classPath = new ClassPath().getLocalClassPath();
+    // the build may supply pitest as a directory of classes
+    assumeFalse(testee.launchClassPath(this.java, classPath).equals(classPath));
+    final File log = new File(this.folder.getRoot(), "classes.log");
+
+    assertThat(run(testee, classPath, log)).isZero();
+    assertThat(this.dir.listFiles((d, name) -> name.endsWith(".jsa"))).hasSize(1);
+
+    assertThat(run(testee, classPath, log)).isZero();
+    assertThat(new String(Files.readAllBytes(log.toPath()), StandardCharsets.UTF_8))
+        .contains(DirectoryClassLoader.class.getName() + " source: shared objects file");
+  }
+
+  private int run(ClassDataArchive archive, String classPath, File log)
+      throws IOException, InterruptedException {
+    final LaunchOptions launchOptions = new LaunchOptions(NullJavaAgent.instance(),
+        new DefaultJavaExecutableLocator(),
+        Collections.singletonList("-Xlog:class+load=info:file=" + log.getAbsolutePath()),
+        new HashMap<>(), archive);
+    final ProcessArgs processArgs = ProcessArgs.withClassPath(classPath)
+        .andBaseDir(this.folder.getRoot())
+        .andLaunchOptions(launchOptions)
+        .andStdout(s -> { })
+        .andStderr(s -> { });
+
+    final WrappingProcess process = WrappingProcess.create(-1, processArgs, getClass());
+    process.start();
+    final int exitCode = process.getProcess().waitToDie();
+    process.destroy();
+    return exitCode;
+  }
+
+  private File jarHolding(Class<?> clazz) throws IOException {
+    final File jar = new File(this.folder.getRoot(), "pitest.jar");
+    final String name = clazz.getName().replace('.', '/') + ".class";
+    try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+      out.putNextEntry(new ZipEntry(name));
+      out.write(new byte[] { 1 });
+      out.closeEntry();
+    }
+    return jar;
+  }
+
+  private List<String> launch(ClassDataArchive testee, String classPath) {
+    return testee.launchArgs(this.java, classPath, Collections.emptyList());
+  }
+
+  private static void assumeSupported(List<String> args) {
+    // jvms before java 13 cannot write dynamic archives
+    assumeFalse(args.isEmpty());
+  }
+
+  private static File archiveIn(List<String> args) {
+    final String arg = args.get(args.size() - 1);
+    return new File(arg.substring(arg.indexOf('=') + 1));
+  }
+
+  private static void write(File archive) throws IOException {
+    Files.write(archive.toPath(), new byte[] { 1 });
+  }
+
+}
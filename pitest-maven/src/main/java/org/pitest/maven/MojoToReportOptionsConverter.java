@@ -312,6 +312,8 @@ public class MojoToReportOptionsConverter {
     setTestGroups(data);
 
     data.setFullMutationMatrix(this.mojo.isFullMutationMatrix());
+    data.setJournal(this.mojo.isJournal());
+    data.setResume(this.mojo.isResume());
 
     data.setMutationUnitSize(this.mojo.getMutationUnitSize());
     data.setShouldCreateTimestampedReports(this.mojo.isTimestampedReports());
@@ -246,6 +246,21 @@ public final class PitMojo extends AbstractMojo {
   @Parameter(property = "fullMutationMatrix", defaultValue = "false")
 
   private boolean                     fullMutationMatrix;
+
+  /**
+   * Whether to journal results as they are found, so that a run that does
+   * not complete can be resumed.
+   */
+  @Parameter(property = "journal", defaultValue = "false")
+  private boolean                     journal;
+
+  /**
+   * Whether to reuse the results journaled by a run that did not complete,
+   * analysing only the mutants it did not.
+   */
+  @Parameter(property = "resume", defaultValue = "false")
+  private boolean                     resume;
+
   /**
    * Maximum number of mutations to include in a single analysis unit.
    * 
@@ -731,6 +746,14 @@ public final class PitMojo extends AbstractMojo {
     return fullMutationMatrix;
   }
 
+  public boolean isJournal() {
+    return journal;
+  }
+
+  public boolean isResume() {
+    return resume;
+  }
+
   public int getMutationUnitSize() {
     return this.mutationUnitSize;
   }
@@ -306,6 +306,16 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertEquals(true, actual.isFullMutationMatrix());
   }
 
+  public void testParsesJournal() {
+    final ReportOptions actual = parseConfig("<journal>true</journal>");
+    assertEquals(true, actual.isJournal());
+  }
+
+  public void testParsesResume() {
+    final ReportOptions actual = parseConfig("<resume>true</resume>");
+    assertEquals(true, actual.isResume());
+  }
+
   public void testParsesMutationUnitSize() {
     final ReportOptions actual = parseConfig("<mutationUnitSize>50</mutationUnitSize>");
     assertEquals(50, actual.getMutationUnitSize());
@@ -0,0 +1,117 @@
+package org.pitest.boot;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Loads the directories on a minion's classpath as a child of the
+ * application class loader, which loads only the archives.
+ *
+ * The jvm will not write a class data sharing archive while a non empty
+ * directory is on its classpath, so minions that share class data are
+ * launched with only the archives on the classpath and with this class as
+ * their main class. It makes a loader for the directories the context class
+ * loader, through which minions load the code under test and the tests, then
+ * runs the minion's own main class. The directories are searched before the
+ * archives, so the project's classes and resources keep their precedence
+ * over those of its libraries.
+ */
+public final class DirectoryClassLoader extends URLClassLoader {
+
+  /**
+   * System property holding the full classpath the minion was launched for.
+   */
+  public static final String CLASS_PATH = "pitest.classpath";
+
+  static {
+    ClassLoader.registerAsParallelCapable();
+  }
+
+  DirectoryClassLoader(URL[] directories, ClassLoader parent) {
+    super(directories, parent);
+  }
+
+  /**
+   * @param args
+   *          the name of the main class to run, followed by its arguments
+   */
+  public static void main(String[] args) throws Throwable {
+    final String classPath = System.getProperty(CLASS_PATH);
+    // code that inspects the classpath sees the classpath of a normal launch
+    System.setProperty("java.class.path", classPath);
+
+    final ClassLoader loader = new DirectoryClassLoader(directories(classPath),
+        DirectoryClassLoader.class.getClassLoader());
+    Thread.currentThread().setContextClassLoader(loader);
+    try {
+      Class.forName(args[0], true, loader).getMethod("main", String[].class)
+          .invoke(null, (Object) Arrays.copyOfRange(args, 1, args.length));
+    } catch (final InvocationTargetException ex) {
+      throw ex.getCause();
+    }
+  }
+
+  static URL[] directories(String classPath) throws MalformedURLException {
+    final List<URL> directories = new ArrayList<>();
+    for (final String each : classPath.split(File.pathSeparator)) {
+      final File root = new File(each);
+      if (root.isDirectory()) {
+        directories.add(root.toURI().toURL());
+      }
+    }
+    return directories.toArray(new URL[0]);
+  }
+
+  @Override
+  protected Class<?> loadClass(String name, boolean resolve)
+      throws ClassNotFoundException {
+    synchronized (getClassLoadingLock(name)) {
+      Class<?> clazz = findLoadedClass(name);
+      if (clazz == null) {
+        clazz = findInDirectoriesOrParent(name);
+      }
+      if (resolve) {
+        resolveClass(clazz);
+      }
+      return clazz;
+    }
+  }
+
+  private Class<?> findInDirectoriesOrParent(String name)
+      throws ClassNotFoundException {
+    if (name.startsWith("java.")) {
+      return getParent().loadClass(name);
+    }
+    try {
+      return findClass(name);
+    } catch (final ClassNotFoundException ex) {
+      return getParent().loadClass(name);
+    }
+  }
+
+  @Override
+  public URL getResource(String name) {
+    final URL url = findResource(name);
+    if (url != null) {
+      return url;
+    }
+    return getParent().getResource(name);
+  }
+
+  @Override
+  public Enumeration<URL> getResources(String name) throws IOException {
+    final List<URL> urls = Collections.list(findResources(name));
+    urls.addAll(Collections.list(getParent().getResources(name)));
+    return Collections.enumeration(urls);
+  }
+
+}
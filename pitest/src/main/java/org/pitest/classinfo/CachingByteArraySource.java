@@ -5,6 +5,11 @@ import java.util.Map;
 
 import java.util.Optional;
 
+/**
+ * Caches the most recently requested classes. Safe for use by several
+ * threads, although the child may be asked for the same class more than once
+ * if it is requested concurrently.
+ */
 public class CachingByteArraySource implements ClassByteArraySource {
 
   private final ClassByteArraySource child;
@@ -17,13 +22,19 @@ public class CachingByteArraySource implements ClassByteArraySource {
 
   @Override
   public Optional<byte[]> getBytes(String clazz) {
-    Optional<byte[]> maybeBytes = this.cache.get(clazz);
+    Optional<byte[]> maybeBytes;
+    synchronized (this.cache) {
+      maybeBytes = this.cache.get(clazz);
+    }
     if (maybeBytes != null) {
       return maybeBytes;
     }
 
+    // read outside of the lock so other threads are not held up
     maybeBytes  = this.child.getBytes(clazz);
-    this.cache.put(clazz, maybeBytes);
+    synchronized (this.cache) {
+      this.cache.put(clazz, maybeBytes);
+    }
     return maybeBytes;
 
   }
@@ -0,0 +1,98 @@
+package org.pitest.classpath;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * Reads entries from an archive on the classpath. Each archive is opened once
+ * and its entries indexed by name, so that lookups do not reopen the file and
+ * parse its central directory again. Readers are held by the
+ * {@link ArchiveReaders} of the classpath that opened them, and are shared by
+ * every root of that classpath for the same file.
+ */
+public final class ArchiveReader {
+
+  private final ZipFile                zip;
+  private final Map<String, ZipEntry>  entries;
+  private final List<String>           classNames;
+
+  private ArchiveReader(ZipFile zip) {
+    this.zip = zip;
+    this.entries = new HashMap<>();
+    final List<String> names = new ArrayList<>();
+    if (zip != null) {
+      final Enumeration<? extends ZipEntry> all = zip.entries();
+      while (all.hasMoreElements()) {
+        final ZipEntry entry = all.nextElement();
+        this.entries.put(entry.getName(), entry);
+        if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
+          names.add(stringToClassName(entry.getName()));
+        }
+      }
+    }
+    this.classNames = Collections.unmodifiableList(names);
+  }
+
+  boolean hasEntry(String name) {
+    return this.entries.containsKey(name);
+  }
+
+  InputStream getInputStream(String name) throws IOException {
+    final ZipEntry entry = this.entries.get(name);
+    if (entry == null) {
+      return null;
+    }
+    return this.zip.getInputStream(entry);
+  }
+
+  String getName() {
+    return this.zip == null ? "" : this.zip.getName();
+  }
+
+  List<String> classNames() {
+    return this.classNames;
+  }
+
+  void close() {
+    if (this.zip != null) {
+      try {
+        this.zip.close();
+      } catch (final IOException ex) {
+        Log.getLogger().fine("Could not close " + this.zip.getName());
+      }
+    }
+  }
+
+  static ArchiveReader open(File file) {
+    try {
+      return new ArchiveReader(new ZipFile(file));
+    } catch (final ZipException ex) {
+      // We might be passed files that are not archives on the classpath
+      // rather than trying to filter these out by naming convention we've opted to
+      // handle the error quietly here
+      return new ArchiveReader(null);
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex.getMessage() + " ("
+          + file + ")", ex);
+    }
+  }
+
+  private static String stringToClassName(final String name) {
+    return name.substring(0, (name.length() - ".class".length())).replace('/',
+        '.');
+  }
+
+}
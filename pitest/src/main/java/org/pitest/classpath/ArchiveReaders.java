@@ -0,0 +1,49 @@
+package org.pitest.classpath;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The archives opened by the roots of a classpath. Each archive is opened
+ * once, on first use, and stays open until the readers are closed by their
+ * owner.
+ */
+public final class ArchiveReaders implements Closeable {
+
+  private final Map<File, ArchiveReader> open  = new ConcurrentHashMap<>();
+  private final AtomicLong               opens = new AtomicLong();
+
+  ArchiveReader forFile(File file) {
+    return this.open.computeIfAbsent(file.getAbsoluteFile(), f -> {
+      final ArchiveReader reader = ArchiveReader.open(f);
+      this.opens.incrementAndGet();
+      return reader;
+    });
+  }
+
+  /**
+   * @return number of archives opened since the readers were last closed
+   */
+  public long opens() {
+    return this.opens.get();
+  }
+
+  /**
+   * Closes all open archives. Archives used again afterwards are reopened.
+   */
+  @Override
+  public void close() {
+    for (final File each : new ArrayList<>(this.open.keySet())) {
+      final ArchiveReader reader = this.open.remove(each);
+      if (reader != null) {
+        reader.close();
+      }
+    }
+    this.opens.set(0);
+  }
+
+}
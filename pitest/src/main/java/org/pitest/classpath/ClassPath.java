@@ -21,6 +21,7 @@ import org.pitest.util.ManifestUtils;
 import org.pitest.util.PitError;
 import org.pitest.util.StreamUtil;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -39,11 +40,12 @@ import java.util.zip.ZipException;
 
 import static org.pitest.util.ManifestUtils.CLASSPATH_JAR_FILE_PREFIX;
 
-public class ClassPath {
+public class ClassPath implements Closeable {
 
   private static final Logger         LOG = Log.getLogger();
 
   private final CompoundClassPathRoot root;
+  private final ArchiveReaders        archives;
 
   public ClassPath() {
     this(ClassPath.getClassPathElementsAsFiles());
@@ -54,11 +56,21 @@ public class ClassPath {
   }
 
   public ClassPath(final Collection<File> files) {
-    this(createRoots(FCollection.filter(files, exists())));
+    this(files, new ArchiveReaders());
+  }
+
+  private ClassPath(final Collection<File> files,
+      final ArchiveReaders archives) {
+    this(createRoots(FCollection.filter(files, exists()), archives), archives);
   }
 
   ClassPath(List<ClassPathRoot> roots) {
+    this(roots, new ArchiveReaders());
+  }
+
+  private ClassPath(List<ClassPathRoot> roots, ArchiveReaders archives) {
     this.root = new CompoundClassPathRoot(roots);
+    this.archives = archives;
   }
 
   public Collection<String> classNames() {
@@ -66,7 +78,8 @@ public class ClassPath {
   }
 
   // fixme should not be determining type here
-  private static List<ClassPathRoot> createRoots(final Collection<File> files) {
+  private static List<ClassPathRoot> createRoots(final Collection<File> files,
+      final ArchiveReaders archives) {
     File lastFile = null;
     try {
       final List<ClassPathRoot> rs = new ArrayList<>();
@@ -76,7 +89,7 @@ public class ClassPath {
         if (f.isDirectory()) {
           rs.add(new DirectoryClassPathRoot(f));
         } else {
-          handleArchive(rs, f);
+          handleArchive(rs, f, archives);
         }
       }
       return rs;
@@ -85,13 +98,13 @@ public class ClassPath {
     }
   }
 
-  private static void handleArchive(final List<ClassPathRoot> rs, final File f)
-      throws IOException {
+  private static void handleArchive(final List<ClassPathRoot> rs, final File f,
+      final ArchiveReaders archives) throws IOException {
     try {
       if (!f.canRead()) {
         throw new IOException("Can't read the file " + f);
       }
-      rs.add(new ArchiveClassPathRoot(f));
+      rs.add(new ArchiveClassPathRoot(f, archives));
     } catch (final ZipException ex) {
       LOG.warning("Can't open the archive " + f);
     }
@@ -150,8 +163,25 @@ public class ClassPath {
   }
 
   public ClassPath getComponent(final Predicate<ClassPathRoot> predicate) {
-    return new ClassPath(FCollection.filter(this.root, predicate).toArray(
-        new ClassPathRoot[0]));
+    return new ClassPath(FCollection.filter(this.root, predicate),
+        this.archives);
+  }
+
+  /**
+   * @return number of archives this classpath has opened since it was last
+   *         closed
+   */
+  public long archiveOpens() {
+    return this.archives.opens();
+  }
+
+  /**
+   * Closes the archives opened by this classpath and its components. Archives
+   * used again afterwards are reopened.
+   */
+  @Override
+  public void close() {
+    this.archives.close();
   }
 
   private static Predicate<File> exists() {
@@ -54,7 +54,9 @@ import java.util.List;
  *     if (localRefToProbes == null) {
  *         localRefToProbes = $$pitCoverageProbes = CodeCoverageStore.getOrRegisterClassProbes(thisClassID, $$pitCoverageProbeSize);
  *     }
- *     localRefToProbes[0] = true; //record class was hit
+ *     if (!localRefToProbes[0]) {
+ *         CodeCoverageStore.classHit(thisClassID); //record class was hit
+ *     }
  *     //line of code
  *     localRefToProbes[1] = true; //assuming above line was probe 1
  *   }
@@ -62,7 +64,8 @@ import java.util.List;
  * </pre>
  *
  * <p>{@code CodeCoverageStore} maintains a reference to all of these {@code $$pitCoverageProbes} arrays
- * and empties them out between each test.
+ * and empties out those of the classes hit by each test when it ends. The unsynchronized
+ * read of the first probe may race with this, see {@code CodeCoverageStore.classHit}.
  */
 public class ArrayProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
 
@@ -125,10 +128,16 @@ public class ArrayProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
     this.mv.visitLabel(notnull);
 
     //Make sure that we recorded that the class was hit
+    Label alreadyHit = new Label();
     this.mv.visitInsn(DUP);
     this.mv.visitInsn(ICONST_0);
-    this.mv.visitInsn(ICONST_1);
-    this.mv.visitInsn(BASTORE);
+    this.mv.visitInsn(BALOAD);
+    this.mv.visitJumpInsn(Opcodes.IFNE, alreadyHit);
+    pushConstant(this.classId);
+    this.mv
+            .visitMethodInsn(Opcodes.INVOKESTATIC, CodeCoverageStore.CLASS_NAME,
+                    "classHit", "(I)V", false);
+    this.mv.visitLabel(alreadyHit);
     this.mv.visitVarInsn(ASTORE, this.probeHitArrayLocal);
   }
 
@@ -35,6 +35,7 @@ import sun.pitest.CodeCoverageStore;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.lang.instrument.ClassFileTransformer;
+import java.lang.management.ManagementFactory;
 import java.net.Socket;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -73,6 +74,7 @@ public class CoverageMinion {
 
       invokeQueue = new CoveragePipe(new BufferedOutputStream(
           s.getOutputStream()));
+      invokeQueue.started(ManagementFactory.getRuntimeMXBean().getUptime());
 
       CodeCoverageStore.init(invokeQueue);
 
@@ -1,7 +1,8 @@
 package org.pitest.coverage.execute;
 
 import java.io.OutputStream;
-import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.pitest.coverage.CoverageReceiver;
 import org.pitest.testapi.Description;
@@ -11,32 +12,103 @@ import org.pitest.util.SafeDataOutputStream;
 
 import sun.pitest.CodeCoverageStore;
 
+/**
+ * Sends coverage to the parent process.
+ *
+ * Each test description is sent once, and afterwards referred to by an int
+ * id. The probes hit by a test are sent per class as runs of consecutive
+ * probe ids, terminated by a class id of -1.
+ */
 public class CoveragePipe implements CoverageReceiver {
 
-  private final SafeDataOutputStream dos;
+  public static final int PROTOCOL_VERSION = 2;
+
+  public static final int END_OF_CLASSES = -1;
+
+  private final SafeDataOutputStream     dos;
+  private final Map<Description, Integer> descriptions = new HashMap<>();
 
   public CoveragePipe(final OutputStream dos) {
     this.dos = new SafeDataOutputStream(dos);
+    this.dos.writeByte(Id.VERSION);
+    this.dos.writeInt(PROTOCOL_VERSION);
+  }
+
+  /**
+   * Reports how long the minion took to become ready for work.
+   */
+  public synchronized void started(final long millis) {
+    this.dos.writeByte(Id.STARTED);
+    this.dos.writeLong(millis);
   }
 
   @Override
   public synchronized void recordTestOutcome(final Description description,
       final boolean wasGreen, final int executionTime) {
-    final Collection<Long> hits = CodeCoverageStore.getHits();
+    final int descriptionId = describe(description);
 
     this.dos.writeByte(Id.OUTCOME);
-    this.dos.write(description);
-    this.dos.writeInt(hits.size());
-    for (final Long each : hits) {
-      this.dos.writeLong(each);
-    }
+    this.dos.writeInt(descriptionId);
+    CodeCoverageStore.visitHits(this::writeHits);
+    this.dos.writeInt(END_OF_CLASSES);
     this.dos.writeBoolean(wasGreen);
     this.dos.writeInt(executionTime);
-    
+
     CodeCoverageStore.reset();
 
   }
 
+  private int describe(final Description description) {
+    final Integer known = this.descriptions.get(description);
+    if (known != null) {
+      return known;
+    }
+    final int id = this.descriptions.size();
+    this.descriptions.put(description, id);
+
+    this.dos.writeByte(Id.DESCRIBE);
+    this.dos.writeInt(id);
+    this.dos.writeBoolean(description.getFirstTestClass() != null);
+    if (description.getFirstTestClass() != null) {
+      this.dos.writeString(description.getFirstTestClass());
+    }
+    this.dos.writeString(description.getName());
+    return id;
+  }
+
+  private void writeHits(final boolean[] probes, final int classId) {
+    // probe 0 only records that the class was visited
+    final int runs = countRuns(probes);
+    if (runs == 0) {
+      return;
+    }
+    this.dos.writeInt(classId);
+    this.dos.writeInt(runs);
+    int i = 1;
+    while (i < probes.length) {
+      if (probes[i]) {
+        final int start = i;
+        while (i < probes.length && probes[i]) {
+          i++;
+        }
+        this.dos.writeInt(start);
+        this.dos.writeInt(i - start);
+      } else {
+        i++;
+      }
+    }
+  }
+
+  private static int countRuns(final boolean[] probes) {
+    int runs = 0;
+    for (int i = 1; i < probes.length; i++) {
+      if (probes[i] && (i == 1 || !probes[i - 1])) {
+        runs++;
+      }
+    }
+    return runs;
+  }
+
   public synchronized void end(final ExitCode exitCode) {
     this.dos.writeByte(Id.DONE);
     this.dos.writeInt(exitCode.getCode());
@@ -63,6 +63,13 @@ public class JUnitCompatibleConfiguration implements Configuration {
   }
 
 
+  @Override
+  public boolean supportsIsolatedLoaders() {
+    // junit 4 finds and runs tests through the classes it is given and the
+    // context classloader
+    return true;
+  }
+
   @Override
   public Optional<PitHelpError> verifyEnvironment() {
     try {
@@ -10,10 +10,17 @@ public class EngineArguments implements Serializable {
 
   private final Collection<String> mutators;
   private final Collection<String> excludedMethods;
+  private final boolean schemata;
 
   public EngineArguments(Collection<String> mutators, Collection<String> excludedMethods) {
+    this(mutators, excludedMethods, false);
+  }
+
+  public EngineArguments(Collection<String> mutators, Collection<String> excludedMethods,
+      boolean schemata) {
     this.mutators = mutators;
     this.excludedMethods = excludedMethods;
+    this.schemata = schemata;
   }
 
   public static EngineArguments arguments() {
@@ -21,11 +28,15 @@ public class EngineArguments implements Serializable {
   }
 
   public EngineArguments withMutators(Collection<String> mutators) {
-    return new EngineArguments(mutators, this.excludedMethods);
+    return new EngineArguments(mutators, this.excludedMethods, this.schemata);
   }
 
   public EngineArguments withExcludedMethods(Collection<String> excludedMethods) {
-    return new EngineArguments(this.mutators, excludedMethods);
+    return new EngineArguments(this.mutators, excludedMethods, this.schemata);
+  }
+
+  public EngineArguments withSchemata(boolean schemata) {
+    return new EngineArguments(this.mutators, this.excludedMethods, schemata);
   }
 
   public Collection<String> mutators() {
@@ -36,5 +47,13 @@ public class EngineArguments implements Serializable {
     return this.excludedMethods;
   }
 
+  /**
+   * If true, mutants of the same class are compiled into a single schema class
+   * where the engine supports it, so the class need only be redefined once.
+   */
+  public boolean schemata() {
+    return this.schemata;
+  }
+
 }
 
@@ -17,8 +17,29 @@ package org.pitest.mutationtest;
 
 import java.io.Serializable;
 
+/**
+ * Decides how long a test may run against a mutant, given how long it took
+ * to run against the unmutated code. Time limits are measured against the
+ * cpu time used by the thread running the test where the jvm supports it,
+ * so tests slowed by contention for the cpu are not reported as timed out.
+ */
 public interface TimeoutLengthStrategy extends Serializable {
 
+  /**
+   * @return cpu time, in milliseconds, the thread running the test may use.
+   *         Treated as wall clock time if cpu time cannot be measured.
+   */
   long getAllowedTime(long normalDuration);
 
+  /**
+   * @param normalDuration
+   *          wall clock time the test took against the unmutated code
+   * @return wall clock time, in milliseconds, after which the test is timed
+   *         out however little cpu it has used, so that tests blocked on
+   *         io or on other threads are still detected
+   */
+  default long getAllowedWallTime(long normalDuration) {
+    return getAllowedTime(normalDuration) * 2;
+  }
+
 }
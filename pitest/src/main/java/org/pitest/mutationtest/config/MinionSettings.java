@@ -8,8 +8,10 @@ import org.pitest.mutationtest.environment.EnvironmentResetPlugin;
 import org.pitest.mutationtest.MutationEngineFactory;
 import org.pitest.mutationtest.environment.ResetEnvironment;
 import org.pitest.testapi.Configuration;
+import org.pitest.testapi.TestPluginFactory;
 import org.pitest.util.PitError;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,18 +21,33 @@ public class MinionSettings {
 
   private final ClientPluginServices plugins;
 
+  // plugins are found once, as loading them scans the classpath
+  private Collection<? extends TestPluginFactory>      testPlugins;
+  private Collection<? extends MutationEngineFactory>  engines;
+  private Collection<? extends EnvironmentResetPlugin> resets;
+
   public MinionSettings(final ClientPluginServices plugins) {
     this.plugins = plugins;
   }
 
+  /**
+   * Finds and loads the plugins, so that a minion launched ahead of need can
+   * do so while it waits to be given work.
+   */
+  public void initialise() {
+    testPlugins();
+    engines();
+    resets();
+  }
+
   public ResetEnvironment createReset() {
-    List<ResetEnvironment> resets = this.plugins.findResets().stream()
+    List<ResetEnvironment> resets = resets().stream()
             .map(EnvironmentResetPlugin::make).collect(Collectors.toList());
     return new CompositeReset(resets);
   }
 
   public MutationEngineFactory createEngine(String engine) {
-    for (final MutationEngineFactory each : this.plugins.findMutationEngines()) {
+    for (final MutationEngineFactory each : engines()) {
       if (each.name().equals(engine)) {
         return each;
       }
@@ -41,7 +58,7 @@ public class MinionSettings {
 
 
   public Configuration getTestFrameworkPlugin(TestPluginArguments options, ClassByteArraySource source) {
-    List<Configuration> configurations = this.plugins.findTestFrameworkPlugins().stream()
+    List<Configuration> configurations = testPlugins().stream()
             .map(p -> p.createTestFrameworkConfiguration(options.getGroupConfig(),
                     source,
                     options.getExcludedRunners(),
@@ -58,5 +75,25 @@ public class MinionSettings {
 
   }
 
+  private synchronized Collection<? extends TestPluginFactory> testPlugins() {
+    if (this.testPlugins == null) {
+      this.testPlugins = this.plugins.findTestFrameworkPlugins();
+    }
+    return this.testPlugins;
+  }
+
+  private synchronized Collection<? extends MutationEngineFactory> engines() {
+    if (this.engines == null) {
+      this.engines = this.plugins.findMutationEngines();
+    }
+    return this.engines;
+  }
+
+  private synchronized Collection<? extends EnvironmentResetPlugin> resets() {
+    if (this.resets == null) {
+      this.resets = this.plugins.findResets();
+    }
+    return this.resets;
+  }
 
 }
@@ -39,6 +39,11 @@ class PrioritisingTestConfiguration implements Configuration {
                 .get();
     }
 
+    @Override
+    public boolean supportsIsolatedLoaders() {
+        return children.stream().allMatch(Configuration::supportsIsolatedLoaders);
+    }
+
     private static List<Configuration> pickChildren(List<Configuration> configs) {
         List<Configuration> working = configs.stream()
                 .filter(c -> c.verifyEnvironment().isEmpty())
@@ -0,0 +1,83 @@
+package org.pitest.mutationtest.engine;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+
+import sun.pitest.ActiveMutant;
+
+/**
+ * A single class into which many mutants have been compiled. Only the mutant
+ * that has been activated is executed, all others behave as the unmutated
+ * code. Once the schema has been loaded, mutants can be switched between
+ * without redefining the class.
+ */
+public final class MutantSchema {
+
+  private static final MutantSchema NONE = new MutantSchema(null, new byte[0],
+      Collections.emptyMap());
+
+  private final ClassName                        clazz;
+  private final byte[]                           bytes;
+  private final Map<MutationIdentifier, Integer> switchValues;
+
+  public MutantSchema(ClassName clazz, byte[] bytes,
+      Map<MutationIdentifier, Integer> switchValues) {
+    this.clazz = clazz;
+    this.bytes = bytes;
+    this.switchValues = switchValues;
+  }
+
+  public static MutantSchema none() {
+    return NONE;
+  }
+
+  public ClassName getClassName() {
+    return this.clazz;
+  }
+
+  /**
+   * Returns a byte array containing the schema class
+   *
+   * @return A byte array
+   */
+  public byte[] getBytes() {
+    return this.bytes;
+  }
+
+  public boolean isEmpty() {
+    return this.switchValues.isEmpty();
+  }
+
+  public int size() {
+    return this.switchValues.size();
+  }
+
+  public boolean contains(MutationIdentifier id) {
+    return this.switchValues.containsKey(id);
+  }
+
+  /**
+   * Enables the given mutant. Any previously active mutant is disabled.
+   *
+   * @param id
+   *          a mutant contained in this schema
+   */
+  public void activate(MutationIdentifier id) {
+    final Integer value = this.switchValues.get(id);
+    if (value == null) {
+      throw new IllegalArgumentException(id + " is not part of schema for "
+          + this.clazz);
+    }
+    ActiveMutant.set(value);
+  }
+
+  /**
+   * Disables all mutants, so all schemata behave as unmutated code.
+   */
+  public static void deactivate() {
+    ActiveMutant.set(ActiveMutant.NONE);
+  }
+
+}
@@ -14,7 +14,9 @@
  */
 package org.pitest.mutationtest.engine;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassName;
 
@@ -32,6 +34,24 @@ public interface Mutater {
    */
   Mutant getMutation(MutationIdentifier id);
 
+  /**
+   * Creates mutants matching each of the given MutationIdentifiers, all of
+   * which must belong to the same class. Engines may override this to avoid
+   * reading the class again for each mutant.
+   *
+   * @param clazz
+   *          the class the mutants belong to
+   * @param ids
+   *          the mutants to create
+   * @return the mutants, in the order requested
+   */
+  default List<Mutant> getMutations(ClassName clazz,
+      Collection<MutationIdentifier> ids) {
+    return ids.stream()
+        .map(this::getMutation)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Scans for possible mutants in the given class
    *
@@ -41,4 +61,22 @@ public interface Mutater {
    */
   List<MutationDetails> findMutations(ClassName classToMutate);
 
+  /**
+   * Compiles as many of the given mutants as possible into a single schema
+   * class. Mutants that cannot be combined are left out of the schema and must
+   * be created individually with {@link #getMutation(MutationIdentifier)}.
+   *
+   * Engines that do not support schemata return an empty schema.
+   *
+   * @param clazz
+   *          the class the mutants belong to
+   * @param ids
+   *          the mutants to combine
+   * @return a schema containing zero or more of the mutants
+   */
+  default MutantSchema createSchema(ClassName clazz,
+      Collection<MutationIdentifier> ids) {
+    return MutantSchema.none();
+  }
+
 }
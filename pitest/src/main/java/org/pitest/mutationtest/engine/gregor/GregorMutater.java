@@ -29,14 +29,19 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.pitest.bytecode.ASMVersion;
 import org.pitest.bytecode.FrameOptions;
 import org.pitest.bytecode.NullVisitor;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.ComputeClassWriter;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutantSchema;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
@@ -48,6 +53,9 @@ public class GregorMutater implements Mutater {
   private final ClassByteArraySource      byteSource;
   private final List<MethodMutatorFactory> mutators;
 
+  // switch values must be unique across every schema loaded into a jvm
+  private int                             nextSwitchValue = 1;
+
   public GregorMutater(final ClassByteArraySource byteSource,
       final Predicate<MethodInfo> filter,
       final Collection<MethodMutatorFactory> mutators) {
@@ -112,6 +120,85 @@ public class GregorMutater implements Mutater {
 
   }
 
+  /**
+   * Reads the class once for all the mutants. Only the mutated method of each
+   * mutant is passed through the mutators and has its frames computed, the
+   * others are copied as they are.
+   */
+  @Override
+  public List<Mutant> getMutations(final ClassName clazz,
+      final Collection<MutationIdentifier> ids) {
+    final Optional<byte[]> bytes = this.byteSource.getBytes(clazz.asJavaName());
+    if (!bytes.isPresent()) {
+      return Collections.emptyList();
+    }
+
+    final ClassReader reader = new ClassReader(bytes.get());
+    final int flags = FrameOptions.pickFlags(bytes.get());
+    return ids.stream()
+        .map(id -> mutateMethod(reader, flags, id))
+        .collect(Collectors.toList());
+  }
+
+  private Mutant mutateMethod(final ClassReader reader, final int flags,
+      final MutationIdentifier id) {
+    final ClassContext context = new ClassContext();
+    context.setTargetMutation(Optional.of(id));
+
+    final ClassWriter w = new ComputeClassWriter(reader, this.byteSource,
+        this.computeCache, flags);
+    final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
+        filterMethods(), FCollection.filter(this.mutators,
+            m -> m.isMutatorFor(id)));
+    reader.accept(new CopyOtherMethods(mca, w, id.getLocation()),
+        ClassReader.EXPAND_FRAMES);
+
+    final List<MutationDetails> details = context.getMutationDetails(id);
+    return new Mutant(details.get(0), w.toByteArray());
+  }
+
+  @Override
+  public MutantSchema createSchema(final ClassName clazz,
+      final Collection<MutationIdentifier> ids) {
+    final Optional<byte[]> bytes = this.byteSource.getBytes(clazz.asJavaName());
+    if (!bytes.isPresent()) {
+      return MutantSchema.none();
+    }
+
+    final List<Mutant> mutants = ids.stream()
+        .map(this::getMutation)
+        .collect(Collectors.toList());
+    final MutantSchema schema = new MutantSchemaBuilder(this.byteSource,
+        this.computeCache).build(clazz, bytes.get(), mutants, this.nextSwitchValue);
+    this.nextSwitchValue = this.nextSwitchValue + mutants.size();
+    return schema;
+  }
+
+  /**
+   * Hands methods other than the one being mutated straight to the writer,
+   * so that their bytecode is copied rather than rebuilt.
+   */
+  private static class CopyOtherMethods extends ClassVisitor {
+    private final ClassWriter writer;
+    private final Location    target;
+
+    CopyOtherMethods(ClassVisitor mutating, ClassWriter writer, Location target) {
+      super(ASMVersion.ASM_VERSION, mutating);
+      this.writer = writer;
+      this.target = target;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name,
+        String descriptor, String signature, String[] exceptions) {
+      if (name.equals(this.target.getMethodName())
+          && descriptor.equals(this.target.getMethodDesc())) {
+        return super.visitMethod(access, name, descriptor, signature, exceptions);
+      }
+      return this.writer.visitMethod(access, name, descriptor, signature, exceptions);
+    }
+  }
+
   private Predicate<MethodInfo> filterMethods() {
     return and(this.filter, filterSyntheticMethods());
   }
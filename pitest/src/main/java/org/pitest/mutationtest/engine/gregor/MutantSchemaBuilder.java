@@ -0,0 +1,232 @@
+package org.pitest.mutationtest.engine.gregor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassTooLargeException;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodTooLargeException;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.pitest.bytecode.FrameOptions;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutantSchema;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import sun.pitest.ActiveMutant;
+
+/**
+ * Combines mutants of a single class into one schema class. The body of each
+ * mutated method is replaced with a switch on the active mutant, which jumps
+ * to a copy of the method body for each mutant, or to the original body if
+ * none of them is active.
+ *
+ * Only mutants that change nothing but the body of a single method can be
+ * combined. Mutants in constructors and static initializers are always
+ * rejected, as are any that add or alter members of the class.
+ */
+class MutantSchemaBuilder {
+
+  private final ClassByteArraySource byteSource;
+  private final Map<String, String>  computeCache;
+
+  MutantSchemaBuilder(ClassByteArraySource byteSource,
+      Map<String, String> computeCache) {
+    this.byteSource = byteSource;
+    this.computeCache = computeCache;
+  }
+
+  /**
+   * @param clazz
+   *          class being mutated
+   * @param original
+   *          unmutated bytes of the class
+   * @param mutants
+   *          mutants of the class
+   * @param firstSwitchValue
+   *          the value used to activate the first mutant. Subsequent mutants
+   *          are assigned increasing values.
+   * @return a schema containing the mutants that could be combined
+   */
+  MutantSchema build(ClassName clazz, byte[] original,
+      Collection<Mutant> mutants, int firstSwitchValue) {
+    final ClassNode unmutated = read(original);
+    final Set<String> members = members(unmutated);
+
+    final Map<String, List<Variant>> variants = new LinkedHashMap<>();
+    int switchValue = firstSwitchValue;
+    for (final Mutant each : mutants) {
+      final Optional<MethodNode> method = findSchematisableMethod(each, members);
+      if (method.isPresent()) {
+        final String key = key(method.get().name, method.get().desc);
+        variants.computeIfAbsent(key, k -> new ArrayList<>())
+            .add(new Variant(each.getDetails().getId(), switchValue, method.get()));
+      }
+      switchValue = switchValue + 1;
+    }
+
+    while (!variants.isEmpty()) {
+      try {
+        return new MutantSchema(clazz, write(original, variants),
+            switchValues(variants));
+      } catch (final MethodTooLargeException ex) {
+        // leave the method's mutants to be run individually and try again
+        variants.remove(key(ex.getMethodName(), ex.getDescriptor()));
+      } catch (final ClassTooLargeException ex) {
+        return MutantSchema.none();
+      }
+    }
+    return MutantSchema.none();
+  }
+
+  private Optional<MethodNode> findSchematisableMethod(Mutant mutant,
+      Set<String> members) {
+    final Location location = mutant.getDetails().getId().getLocation();
+    final String name = location.getMethodName();
+    if (name.equals("<init>") || name.equals("<clinit>")) {
+      return Optional.empty();
+    }
+
+    final ClassNode mutated = read(mutant.getBytes());
+    if (!members(mutated).equals(members)) {
+      return Optional.empty();
+    }
+
+    return mutated.methods.stream()
+        .filter(m -> m.name.equals(name) && m.desc.equals(location.getMethodDesc()))
+        .filter(m -> m.instructions.size() != 0)
+        .findFirst();
+  }
+
+  private byte[] write(byte[] original, Map<String, List<Variant>> variants) {
+    final ClassNode node = read(original);
+    for (final MethodNode each : node.methods) {
+      final List<Variant> forMethod = variants.get(key(each.name, each.desc));
+      if (forMethod != null) {
+        combine(each, forMethod);
+      }
+    }
+
+    final ClassWriter w = new ComputeClassWriter(this.byteSource,
+        this.computeCache, FrameOptions.pickFlags(original));
+    node.accept(w);
+    return w.toByteArray();
+  }
+
+  private static void combine(MethodNode method, List<Variant> variants) {
+    final InsnList body = new InsnList();
+    final List<TryCatchBlockNode> handlers = new ArrayList<>();
+
+    final LabelNode unmutated = new LabelNode();
+    final int[] keys = new int[variants.size()];
+    final LabelNode[] starts = new LabelNode[variants.size()];
+    for (int i = 0; i != variants.size(); i++) {
+      keys[i] = variants.get(i).switchValue;
+      starts[i] = new LabelNode();
+    }
+
+    body.add(new MethodInsnNode(Opcodes.INVOKESTATIC, ActiveMutant.CLASS_NAME,
+        ActiveMutant.METHOD_NAME, "()I", false));
+    body.add(new LookupSwitchInsnNode(unmutated, keys, starts));
+
+    // every method body ends in a return, throw or goto, so control
+    // cannot fall from one copy into the next
+    for (int i = 0; i != variants.size(); i++) {
+      final MethodNode mutated = variants.get(i).method;
+      final Map<LabelNode, LabelNode> labels = cloneLabels(mutated.instructions);
+      body.add(starts[i]);
+      for (final AbstractInsnNode insn : mutated.instructions) {
+        body.add(insn.clone(labels));
+      }
+      for (final TryCatchBlockNode each : mutated.tryCatchBlocks) {
+        handlers.add(new TryCatchBlockNode(labels.get(each.start),
+            labels.get(each.end), labels.get(each.handler), each.type));
+      }
+      method.maxLocals = Math.max(method.maxLocals, mutated.maxLocals);
+      method.maxStack = Math.max(method.maxStack, mutated.maxStack);
+    }
+
+    body.add(unmutated);
+    body.add(method.instructions);
+    handlers.addAll(method.tryCatchBlocks);
+
+    method.instructions = body;
+    method.tryCatchBlocks = handlers;
+    method.maxStack = Math.max(method.maxStack, 1);
+  }
+
+  private static Map<LabelNode, LabelNode> cloneLabels(InsnList instructions) {
+    final Map<LabelNode, LabelNode> labels = new HashMap<>();
+    for (final AbstractInsnNode each : instructions) {
+      if (each instanceof LabelNode) {
+        labels.put((LabelNode) each, new LabelNode());
+      }
+    }
+    return labels;
+  }
+
+  private static Map<MutationIdentifier, Integer> switchValues(
+      Map<String, List<Variant>> variants) {
+    final Map<MutationIdentifier, Integer> values = new HashMap<>();
+    for (final List<Variant> each : variants.values()) {
+      for (final Variant variant : each) {
+        values.put(variant.id, variant.switchValue);
+      }
+    }
+    return values;
+  }
+
+  private static Set<String> members(ClassNode node) {
+    final Set<String> members = new HashSet<>();
+    for (final MethodNode each : node.methods) {
+      members.add(each.access + " " + key(each.name, each.desc));
+    }
+    for (final FieldNode each : node.fields) {
+      members.add(each.access + " " + each.name + " " + each.desc);
+    }
+    return members;
+  }
+
+  private static ClassNode read(byte[] bytes) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes).accept(node, ClassReader.SKIP_FRAMES);
+    return node;
+  }
+
+  private static String key(String name, String desc) {
+    return name + desc;
+  }
+
+  private static class Variant {
+    private final MutationIdentifier id;
+    private final int                switchValue;
+    private final MethodNode         method;
+
+    Variant(MutationIdentifier id, int switchValue, MethodNode method) {
+      this.id = id;
+      this.switchValue = switchValue;
+      this.method = method;
+    }
+  }
+
+}
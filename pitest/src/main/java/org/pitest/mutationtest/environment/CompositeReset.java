@@ -18,4 +18,9 @@ public class CompositeReset implements ResetEnvironment {
           each.resetFor(mutatedClass);
       }
     }
+
+    @Override
+    public boolean isNoOp() {
+        return children.stream().allMatch(ResetEnvironment::isNoOp);
+    }
 }
@@ -4,4 +4,25 @@ import org.pitest.mutationtest.engine.Mutant;
 
 public interface ResetEnvironment {
     void resetFor(Mutant mutatedClass);
+
+    /**
+     * @return true if resetting has no effect, in which case mutants may be
+     *         run concurrently as there is no shared state to reset between them
+     */
+    default boolean isNoOp() {
+        return false;
+    }
+
+    static ResetEnvironment none() {
+        return new ResetEnvironment() {
+            @Override
+            public void resetFor(Mutant mutatedClass) {
+            }
+
+            @Override
+            public boolean isNoOp() {
+                return true;
+            }
+        };
+    }
 }
@@ -0,0 +1,157 @@
+package org.pitest.mutationtest.execute;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.execute.containers.ConcreteResultCollector;
+import org.pitest.util.Log;
+
+/**
+ * Measures how long each test takes to run against the unmutated code in
+ * this minion, so that time limits reflect a warm jvm without coverage
+ * instrumentation rather than the coverage run.
+ *
+ * Each test is measured once per minion, using the cpu time of the thread
+ * running it where the jvm supports it. The measurement is added to the
+ * timings of earlier runs, and reported to the parent so it can be kept for
+ * later runs. The wall clock time of each test is also kept by the minion, so
+ * that tests which mostly wait are not given a wall clock limit derived from
+ * the little cpu they use.
+ *
+ * Tests are measured under the same time limits as they are run against
+ * mutants, so that a test which hangs is abandoned rather than stalling the
+ * minion.
+ */
+class BaselineCalibration {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final ThreadMXBean    threads = ManagementFactory.getThreadMXBean();
+  private final BaselineTimings timings = new BaselineTimings();
+  private final BaselineTimings wallTimings = new BaselineTimings();
+  private final Set<String>     measured = new HashSet<>();
+  private final Reporter        reporter;
+  private final TimeoutRecovery recovery;
+
+  BaselineCalibration(Reporter reporter) {
+    this(reporter, new TimeoutRecovery());
+  }
+
+  BaselineCalibration(Reporter reporter, TimeoutRecovery recovery) {
+    this.reporter = reporter;
+    this.recovery = recovery;
+  }
+
+  /**
+   * Adds timings from earlier runs, sent with a unit of work.
+   */
+  void addHistory(BaselineTimings history) {
+    this.timings.addAll(history);
+  }
+
+  /**
+   * Runs each test that covers the mutants, and has not yet been measured,
+   * against the unmutated code. Tests that time out are not measured.
+   *
+   * @param tests
+   *          the tests available to the minion, which must currently see
+   *          unmutated code
+   * @param timeouts
+   *          limits the time each test may take
+   * @param unrecoverable
+   *          applied if a test times out and cannot be safely abandoned
+   */
+  void measure(Collection<MutationDetails> mutants, List<TestUnit> tests,
+      TimeoutLengthStrategy timeouts, SideEffect unrecoverable) {
+    final Map<String, TestUnit> byName = new HashMap<>();
+    for (final TestUnit each : tests) {
+      byName.put(each.getDescription().getQualifiedName(), each);
+    }
+
+    int count = 0;
+    for (final MutationDetails mutant : mutants) {
+      for (final TestInfo test : mutant.getTestsInOrder()) {
+        final TestUnit unit = byName.get(test.getName());
+        if (unit != null && this.measured.add(test.getName())
+            && time(test, unit, timeouts, unrecoverable)) {
+          count = count + 1;
+        }
+      }
+    }
+    LOG.fine("Measured baseline time of " + count + " tests");
+  }
+
+  /**
+   * @return the cpu time the test is expected to take against the unmutated
+   *         code
+   */
+  long expectedTime(TestInfo test) {
+    final int expected = this.timings.expectedTime(test.getName());
+    return expected >= 0 ? expected : test.getTime();
+  }
+
+  /**
+   * @return the wall clock time the test is expected to take against the
+   *         unmutated code
+   */
+  long expectedWallTime(TestInfo test) {
+    final int expected = this.wallTimings.expectedTime(test.getName());
+    return expected >= 0 ? expected : test.getTime();
+  }
+
+  private boolean time(TestInfo test, TestUnit unit,
+      TimeoutLengthStrategy timeouts, SideEffect unrecoverable) {
+    final long[] elapsed = new long[2];
+    // the test runs on the recovery's thread, so is timed there
+    final boolean completed = this.recovery.run(() -> {
+      final long wallStart = System.nanoTime();
+      final long cpuStart = cpuTime();
+      unit.execute(new ConcreteResultCollector(new ConcurrentLinkedDeque<>()));
+      final long wall = System.nanoTime() - wallStart;
+      final long cpuEnd = cpuTime();
+      elapsed[0] = cpuStart < 0 || cpuEnd < 0 ? wall : cpuEnd - cpuStart;
+      elapsed[1] = wall;
+    }, timeouts.getAllowedTime(expectedTime(test)),
+        timeouts.getAllowedWallTime(expectedWallTime(test)), unrecoverable);
+
+    if (!completed) {
+      LOG.fine("Baseline run of " + test.getName() + " timed out");
+      return false;
+    }
+
+    final int millis = toMillis(elapsed[0]);
+    this.timings.record(test.getName(), millis);
+    this.wallTimings.record(test.getName(), toMillis(elapsed[1]));
+    this.reporter.baseline(test.getName(), millis);
+    return true;
+  }
+
+  private long cpuTime() {
+    if (!this.threads.isCurrentThreadCpuTimeSupported()
+        || !this.threads.isThreadCpuTimeEnabled()) {
+      return -1;
+    }
+    return this.threads.getCurrentThreadCpuTime();
+  }
+
+  // round up, so very short tests are not expected to take no time at all
+  private static int toMillis(long nanos) {
+    return (int) Math.min(Integer.MAX_VALUE,
+        TimeUnit.NANOSECONDS.toMillis(nanos) + 1);
+  }
+
+}
@@ -0,0 +1,93 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * The most recent times each test took to run against unmutated code, in
+ * milliseconds. The time expected for a test is a high percentile of its
+ * recent timings, so a single slow run does not inflate its time limit for
+ * long, while a test that is often slow is given the time it needs.
+ */
+public class BaselineTimings implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final int          WINDOW     = 16;
+  private static final int  PERCENTILE = 90;
+
+  // oldest timing first
+  private final Map<String, int[]> timings = new HashMap<>();
+
+  public synchronized void record(String test, int millis) {
+    final int[] existing = this.timings.get(test);
+    final int[] updated;
+    if (existing == null) {
+      updated = new int[] { millis };
+    } else if (existing.length < WINDOW) {
+      updated = Arrays.copyOf(existing, existing.length + 1);
+      updated[existing.length] = millis;
+    } else {
+      updated = Arrays.copyOfRange(existing, 1, WINDOW + 1);
+      updated[WINDOW - 1] = millis;
+    }
+    this.timings.put(test, updated);
+  }
+
+  /**
+   * @return the expected time of the test, or -1 if it has no timings
+   */
+  public synchronized int expectedTime(String test) {
+    final int[] each = this.timings.get(test);
+    if (each == null) {
+      return -1;
+    }
+    final int[] sorted = each.clone();
+    Arrays.sort(sorted);
+    // nearest rank
+    final int rank = (int) Math.ceil((PERCENTILE / 100d) * sorted.length);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+
+  /**
+   * @return the timings of the given tests
+   */
+  public synchronized BaselineTimings forTests(Collection<String> tests) {
+    final BaselineTimings selected = new BaselineTimings();
+    for (final String each : tests) {
+      final int[] values = this.timings.get(each);
+      if (values != null) {
+        selected.timings.put(each, values);
+      }
+    }
+    return selected;
+  }
+
+  public void addAll(BaselineTimings other) {
+    final Map<String, int[]> copy;
+    synchronized (other) {
+      copy = new HashMap<>(other.timings);
+    }
+    synchronized (this) {
+      this.timings.putAll(copy);
+    }
+  }
+
+  /**
+   * Supplies the timings of each test, oldest first.
+   */
+  public synchronized void forEach(BiConsumer<String, int[]> consumer) {
+    for (final Map.Entry<String, int[]> each : this.timings.entrySet()) {
+      consumer.accept(each.getKey(), each.getValue().clone());
+    }
+  }
+
+  public synchronized boolean isEmpty() {
+    return this.timings.isEmpty();
+  }
+
+}
@@ -27,6 +27,7 @@ public class CheckTestHasFailedResultListener implements TestListener {
   private final List<Description>   failingTests = new ArrayList<>();
   private final boolean       recordPassingTests;
   private int                 testsRun        = 0;
+  private boolean             timedOut        = false;
 
   public CheckTestHasFailedResultListener(boolean recordPassingTests) {
     this.recordPassingTests = recordPassingTests;
@@ -34,7 +35,11 @@ public class CheckTestHasFailedResultListener implements TestListener {
 
   @Override
   public void onTestFailure(final TestResult tr) {
-    this.failingTests.add(tr.getDescription());
+    if (tr.getThrowable() instanceof TestTimedOutException) {
+      this.timedOut = true;
+    } else {
+      this.failingTests.add(tr.getDescription());
+    }
   }
 
   @Override
@@ -55,7 +60,9 @@ public class CheckTestHasFailedResultListener implements TestListener {
   }
 
   public DetectionStatus status() {
-    if (!this.failingTests.isEmpty()) {
+    if (this.timedOut) {
+      return DetectionStatus.TIMED_OUT;
+    } else if (!this.failingTests.isEmpty()) {
       return DetectionStatus.KILLED;
     } else {
       return DetectionStatus.SURVIVED;
@@ -0,0 +1,247 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.extension.common.TestUnitDecorator;
+import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.testapi.Configuration;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.execute.FindTestUnits;
+import org.pitest.util.Log;
+
+import static org.pitest.util.Unchecked.translateCheckedException;
+
+/**
+ * Runs several mutants at once. Rather than being hot swapped into the jvm,
+ * each mutant is defined by its own {@link MutantClassLoader}, which also
+ * loads a fresh copy of the tests and the classes they use.
+ *
+ * Each thread abandons tests that time out where it safely can. If a timed
+ * out test cannot be abandoned no further mutants are started, and the caller
+ * is expected to report the time out once the mutants already running have
+ * finished, so they are not reported as timed out too.
+ */
+class ConcurrentMutationTestWorker {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final Mutater                     mutater;
+  private final MutantClassLoader.Classes   classes;
+  private final Configuration               testPlugin;
+  private final boolean                     fullMutationMatrix;
+  private final int                         concurrency;
+  private final ExecutorService             executor;
+
+  // threads live for as long as the worker, so each keeps its own recovery
+  private final ThreadLocal<TimeoutRecovery> recoveries = ThreadLocal
+      .withInitial(TimeoutRecovery::new);
+
+  ConcurrentMutationTestWorker(Mutater mutater, ClassLoader parent,
+      Configuration testPlugin, boolean fullMutationMatrix, int concurrency) {
+    this.mutater = mutater;
+    this.classes = new MutantClassLoader.Classes(parent);
+    this.testPlugin = testPlugin;
+    this.fullMutationMatrix = fullMutationMatrix;
+    this.concurrency = concurrency;
+    final AtomicInteger count = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(concurrency, r -> {
+      final Thread t = new Thread(r, "pit-mutant-" + count.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    });
+  }
+
+  boolean run(final Collection<MutationDetails> range,
+      final Collection<ClassName> testClasses, final Reporter r,
+      final TimeoutLengthStrategy timeouts, final RangeSplitter splitter) {
+    return run(range, testClasses, r, timeouts, splitter, TestInfo::getTime,
+        TestInfo::getTime);
+  }
+
+  /**
+   * @param expectedTime
+   *          time each test is expected to take against unmutated code
+   * @param expectedWallTime
+   *          wall clock time each test is expected to take against unmutated
+   *          code
+   * @return false if a test timed out and could not be abandoned, in which
+   *         case mutants after those already started have not been run
+   */
+  boolean run(final Collection<MutationDetails> range,
+      final Collection<ClassName> testClasses, final Reporter r,
+      final TimeoutLengthStrategy timeouts, final RangeSplitter splitter,
+      final ToLongFunction<TestInfo> expectedTime,
+      final ToLongFunction<TestInfo> expectedWallTime) {
+
+    final List<MutationDetails> mutants = new ArrayList<>(range);
+    final MutantPreparer preparer = new MutantPreparer(this.mutater, mutants,
+        MutantPreparer.DEFAULT_BATCH_SIZE);
+    final Semaphore slots = new Semaphore(this.concurrency);
+    final AtomicBoolean stuck = new AtomicBoolean();
+    final List<Future<?>> running = new ArrayList<>();
+    try {
+      int end = mutants.size();
+      for (int i = 0; i < end; i++) {
+        // only decide whether to start a mutant once there is a thread for it,
+        // so as many as possible remain to be handed over
+        slots.acquire();
+        end = splitter.end(i, end);
+        if (i >= end || stuck.get()) {
+          slots.release();
+          break;
+        }
+        final MutationDetails details = mutants.get(i);
+        final Mutant mutant = preparer.get(details.getId());
+        r.describe(details.getId());
+        running.add(this.executor.submit(() -> {
+          try {
+            r.report(details.getId(), analyse(details, mutant, testClasses,
+                timeouts, expectedTime, expectedWallTime, () -> stuck.set(true)));
+          } finally {
+            slots.release();
+          }
+        }));
+      }
+      for (final Future<?> each : running) {
+        each.get();
+      }
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw translateCheckedException(ex);
+    } catch (final ExecutionException ex) {
+      throw translateCheckedException(ex.getCause());
+    } finally {
+      preparer.shutdown();
+    }
+    return !stuck.get();
+  }
+
+  // the details of the mutant created by the mutater do not hold the tests
+  // that cover it, so those from the range are used
+  private MutationStatusTestPair analyse(final MutationDetails details,
+      final Mutant mutant, final Collection<ClassName> testClasses,
+      final TimeoutLengthStrategy timeouts,
+      final ToLongFunction<TestInfo> expectedTime,
+      final ToLongFunction<TestInfo> expectedWallTime, final Runnable onStuck) {
+    final MutantClassLoader loader = new MutantClassLoader(this.classes,
+        details.getClassName(), mutant.getBytes());
+
+    final Thread current = Thread.currentThread();
+    final ClassLoader previous = current.getContextClassLoader();
+    current.setContextClassLoader(loader);
+    try {
+      final List<TestUnit> tests = new TimeOutDecoratedTestSource(timeouts,
+          findTests(loader, testClasses), onStuck::run, this.recoveries.get(),
+          expectedTime, expectedWallTime)
+          .translateTests(details.getTestsInOrder());
+
+      if (tests.isEmpty()) {
+        LOG.warning("No test coverage for mutation " + details
+            + ". This should have been detected in the outer process so treating as an error");
+        return MutationStatusTestPair.notAnalysed(0, DetectionStatus.RUN_ERROR,
+            Collections.emptyList());
+      }
+
+      if (!isViable(loader, details.getClassName())) {
+        LOG.warning("Mutation " + details.getId() + " was not viable ");
+        return MutationStatusTestPair.notAnalysed(0, DetectionStatus.NON_VIABLE,
+            tests.stream()
+                .map(t -> t.getDescription().getQualifiedName())
+                .collect(Collectors.toList()));
+      }
+
+      return MutationTestWorker.runTests(tests, this.fullMutationMatrix);
+    } finally {
+      current.setContextClassLoader(previous);
+    }
+  }
+
+  /**
+   * Measures the tests covering the mutants against the unmutated code,
+   * loaded by a classloader of their own.
+   *
+   * @param unrecoverable
+   *          applied if a test times out and cannot be safely abandoned
+   */
+  void calibrate(final Collection<MutationDetails> range,
+      final Collection<ClassName> testClasses,
+      final BaselineCalibration calibration,
+      final TimeoutLengthStrategy timeouts, final SideEffect unrecoverable) {
+    final MutantClassLoader loader = new MutantClassLoader(this.classes);
+    final Thread current = Thread.currentThread();
+    final ClassLoader previous = current.getContextClassLoader();
+    current.setContextClassLoader(loader);
+    try {
+      calibration.measure(range, findTests(loader, testClasses), timeouts,
+          unrecoverable);
+    } finally {
+      current.setContextClassLoader(previous);
+    }
+  }
+
+  private List<TestUnit> findTests(final MutantClassLoader loader,
+      final Collection<ClassName> testClasses) {
+    final FindTestUnits finder = new FindTestUnits(this.testPlugin);
+    final List<Class<?>> classes = testClasses.stream()
+        .flatMap(ClassName.nameToClass(loader))
+        .collect(Collectors.toList());
+    return finder.findTestUnitsForAllSuppliedClasses(classes).stream()
+        .map(t -> withContextLoader(t, loader))
+        .collect(Collectors.toList());
+  }
+
+  // reflecting on the declared members of a class links, and so verifies, it
+  // without running its static initializer
+  private static boolean isViable(final ClassLoader loader, final ClassName mutated) {
+    try {
+      Class.forName(mutated.asJavaName(), false, loader).getDeclaredConstructors();
+      return true;
+    } catch (final ClassNotFoundException | LinkageError ex) {
+      LOG.log(Level.FINE, "Could not load mutant of " + mutated, ex);
+      return false;
+    }
+  }
+
+  // tests may be run on a thread used to recover from time outs, which does
+  // not share the context loader of the thread that started them
+  private static TestUnit withContextLoader(final TestUnit test,
+      final ClassLoader loader) {
+    return new TestUnitDecorator(test) {
+      @Override
+      public void execute(final ResultCollector rc) {
+        final Thread current = Thread.currentThread();
+        final ClassLoader previous = current.getContextClassLoader();
+        current.setContextClassLoader(loader);
+        try {
+          child().execute(rc);
+        } finally {
+          current.setContextClassLoader(previous);
+        }
+      }
+    };
+  }
+
+}
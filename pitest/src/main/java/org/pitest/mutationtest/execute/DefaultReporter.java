@@ -30,6 +30,13 @@ public class DefaultReporter implements Reporter {
     this.w = new SafeDataOutputStream(w);
   }
 
+  @Override
+  public synchronized void started(final long millis) {
+    this.w.writeByte(Id.STARTED);
+    this.w.writeLong(millis);
+    this.w.flush();
+  }
+
   @Override
   public synchronized void describe(final MutationIdentifier i) {
     this.w.writeByte(Id.DESCRIBE);
@@ -46,6 +53,21 @@ public class DefaultReporter implements Reporter {
     this.w.flush();
   }
 
+  @Override
+  public synchronized void split(final int at) {
+    this.w.writeByte(Id.SPLIT);
+    this.w.writeInt(at);
+    this.w.flush();
+  }
+
+  @Override
+  public synchronized void baseline(final String test, final int millis) {
+    this.w.writeByte(Id.BASELINE);
+    this.w.writeString(test);
+    this.w.writeInt(millis);
+    this.w.flush();
+  }
+
   @Override
   public synchronized void done(final ExitCode exitCode) {
     this.w.writeByte(Id.DONE);
@@ -0,0 +1,63 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+
+/**
+ * Passes on results only while the generation it was created in is current.
+ * Test threads abandoned after a time out may still report results long
+ * after a later run has started, so their results are dropped.
+ */
+final class GenerationResultCollector implements ResultCollector {
+
+  private final ResultCollector child;
+  private final AtomicLong      current;
+  private final long            generation;
+
+  GenerationResultCollector(final ResultCollector child,
+      final AtomicLong current) {
+    this.child = child;
+    this.current = current;
+    this.generation = current.get();
+  }
+
+  @Override
+  public void notifyStart(final Description description) {
+    if (isCurrent()) {
+      this.child.notifyStart(description);
+    }
+  }
+
+  @Override
+  public void notifySkipped(final Description description) {
+    if (isCurrent()) {
+      this.child.notifySkipped(description);
+    }
+  }
+
+  @Override
+  public void notifyEnd(final Description description, final Throwable t) {
+    if (isCurrent()) {
+      this.child.notifyEnd(description, t);
+    }
+  }
+
+  @Override
+  public void notifyEnd(final Description description) {
+    if (isCurrent()) {
+      this.child.notifyEnd(description);
+    }
+  }
+
+  @Override
+  public boolean shouldExit() {
+    return this.child.shouldExit();
+  }
+
+  private boolean isCurrent() {
+    return this.current.get() == this.generation;
+  }
+
+}
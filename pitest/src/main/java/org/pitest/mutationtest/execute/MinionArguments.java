@@ -19,7 +19,6 @@ import java.util.Collection;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.EngineArguments;
-import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.util.Verbosity;
@@ -32,27 +31,52 @@ public class MinionArguments implements Serializable {
   final Collection<ClassName>       testClasses;
   final String                      engine;
   final EngineArguments             engineArgs;
-  final TimeoutLengthStrategy       timeoutStrategy;
+  final TimeoutSettings             timeouts;
   final Verbosity verbosity;
   final boolean                     fullMutationMatrix;
   final TestPluginArguments         pitConfig;
+  final boolean                     reuse;
+  final int                         concurrentMutants;
 
   public MinionArguments(final Collection<MutationDetails> mutations,
       final Collection<ClassName> tests, final String engine, final EngineArguments engineArgs,
-      final TimeoutLengthStrategy timeoutStrategy, final Verbosity verbosity, final boolean fullMutationMatrix,
-      final TestPluginArguments pitConfig) {
+      final TimeoutSettings timeouts, final Verbosity verbosity, final boolean fullMutationMatrix,
+      final TestPluginArguments pitConfig, final boolean reuse,
+      final int concurrentMutants) {
     this.mutations = mutations;
     this.testClasses = tests;
     this.engine = engine;
     this.engineArgs = engineArgs;
-    this.timeoutStrategy = timeoutStrategy;
+    this.timeouts = timeouts;
     this.verbosity = verbosity;
     this.fullMutationMatrix = fullMutationMatrix;
     this.pitConfig = pitConfig;
+    this.reuse = reuse;
+    this.concurrentMutants = concurrentMutants;
   }
 
   public Verbosity verbosity() {
     return this.verbosity;
   }
 
+  /**
+   * If true the minion will wait for further units of work from the
+   * parent once this one is complete, instead of exiting.
+   */
+  public boolean reuse() {
+    return this.reuse;
+  }
+
+  /**
+   * Number of mutants the minion may run at once, if the test plugin
+   * supports running each in its own classloader.
+   */
+  public int concurrentMutants() {
+    return this.concurrentMutants;
+  }
+
+  public TimeoutSettings timeouts() {
+    return this.timeouts;
+  }
+
 }
@@ -0,0 +1,108 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.util.StreamUtil;
+import org.pitest.util.Unchecked;
+
+/**
+ * A child first classloader that defines a single mutant, together with its
+ * own copy of each class loaded from a directory on the classpath, so that
+ * tests loaded through it see the mutant while other loaders do not.
+ *
+ * The classes of the project under test are expected to be in directories,
+ * and its libraries in archives. Classes from archives, the jdk and pitest
+ * itself are shared with the parent.
+ */
+class MutantClassLoader extends ClassLoader {
+
+  static {
+    registerAsParallelCapable();
+  }
+
+  private final Classes   classes;
+  private final String    mutantName;
+  private final byte[]    mutant;
+
+  MutantClassLoader(Classes classes, ClassName mutantName, byte[] mutant) {
+    super(classes.parent);
+    this.classes = classes;
+    this.mutantName = mutantName.asJavaName();
+    this.mutant = mutant;
+  }
+
+  /**
+   * Creates a loader with its own copy of the unmutated classes.
+   */
+  MutantClassLoader(Classes classes) {
+    super(classes.parent);
+    this.classes = classes;
+    this.mutantName = null;
+    this.mutant = null;
+  }
+
+  @Override
+  protected Class<?> loadClass(String name, boolean resolve)
+      throws ClassNotFoundException {
+    synchronized (getClassLoadingLock(name)) {
+      Class<?> clazz = findLoadedClass(name);
+      if (clazz == null) {
+        final Optional<byte[]> bytes = name.equals(this.mutantName)
+            ? Optional.of(this.mutant) : this.classes.bytesFor(name);
+        if (!bytes.isPresent()) {
+          return super.loadClass(name, resolve);
+        }
+        clazz = defineClass(name, bytes.get(), 0, bytes.get().length);
+      }
+      if (resolve) {
+        resolveClass(clazz);
+      }
+      return clazz;
+    }
+  }
+
+  /**
+   * Bytes of the classes each loader defines for itself, read once from the
+   * parent and shared by all the loaders created for it.
+   */
+  static class Classes {
+    private final ClassLoader parent;
+    private final Map<String, Optional<byte[]>> bytes = new ConcurrentHashMap<>();
+
+    Classes(ClassLoader parent) {
+      this.parent = parent;
+    }
+
+    Optional<byte[]> bytesFor(String name) {
+      return this.bytes.computeIfAbsent(name, this::read);
+    }
+
+    private Optional<byte[]> read(String name) {
+      if (isShared(name)) {
+        return Optional.empty();
+      }
+      final URL url = this.parent.getResource(name.replace('.', '/') + ".class");
+      if (url == null || !"file".equals(url.getProtocol())) {
+        return Optional.empty();
+      }
+      try (InputStream is = url.openStream()) {
+        return Optional.of(StreamUtil.streamToByteArray(is));
+      } catch (final IOException ex) {
+        throw Unchecked.translateCheckedException(ex);
+      }
+    }
+
+    private static boolean isShared(String name) {
+      return name.startsWith("java.") || name.startsWith("javax.")
+          || name.startsWith("jdk.") || name.startsWith("sun.")
+          || name.startsWith("com.sun.") || name.startsWith("org.pitest.");
+    }
+  }
+
+}
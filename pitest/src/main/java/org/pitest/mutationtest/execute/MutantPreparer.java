@@ -0,0 +1,153 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import static org.pitest.util.Unchecked.translateCheckedException;
+
+/**
+ * Creates mutants in batches of consecutive mutants of the same class, so
+ * each class is read once per batch. The next batch is prepared on a
+ * background thread while tests run against the current one.
+ *
+ * All calls to the mutater are made on the background thread, so it need not
+ * be thread safe.
+ */
+class MutantPreparer {
+
+  static final int DEFAULT_BATCH_SIZE = 16;
+
+  private final Mutater                          mutater;
+  private final List<MutationDetails>            mutants;
+  private final Map<MutationIdentifier, Integer> positions = new HashMap<>();
+  private final int                              batchSize;
+
+  private ExecutorService                        executor;
+  private Batch                                  current = new Batch(0, 0,
+      Collections.emptyMap());
+  private Future<Batch>                          next;
+
+  /**
+   * @param mutants
+   *          the mutants to prepare, in the order they will be requested
+   */
+  MutantPreparer(Mutater mutater, List<MutationDetails> mutants, int batchSize) {
+    this.mutater = mutater;
+    this.mutants = mutants;
+    this.batchSize = batchSize;
+    for (int i = 0; i != mutants.size(); i++) {
+      this.positions.put(mutants.get(i).getId(), i);
+    }
+  }
+
+  /**
+   * Returns the requested mutant. Mutants requested out of order, or that
+   * were not passed to the constructor, are created on demand.
+   */
+  Mutant get(MutationIdentifier id) {
+    final Integer index = this.positions.get(id);
+    if (index == null) {
+      return await(executor().submit(() -> this.mutater.getMutation(id)));
+    }
+
+    if (!this.current.contains(index)) {
+      if (this.next != null && await(this.next).contains(index)) {
+        this.current = await(this.next);
+      } else {
+        if (this.next != null) {
+          this.next.cancel(false);
+        }
+        this.current = await(executor().submit(() -> createBatch(index)));
+      }
+      final int nextStart = this.current.end;
+      this.next = nextStart < this.mutants.size()
+          ? executor().submit(() -> createBatch(nextStart)) : null;
+    }
+
+    final Mutant mutant = this.current.mutants.get(id);
+    if (mutant != null) {
+      return mutant;
+    }
+    return await(executor().submit(() -> this.mutater.getMutation(id)));
+  }
+
+  void shutdown() {
+    if (this.executor != null) {
+      this.executor.shutdownNow();
+      this.executor = null;
+    }
+  }
+
+  private Batch createBatch(int start) {
+    final ClassName clazz = this.mutants.get(start).getClassName();
+    int end = start + 1;
+    while (end < this.mutants.size() && end - start < this.batchSize
+        && this.mutants.get(end).getClassName().equals(clazz)) {
+      end = end + 1;
+    }
+
+    final List<MutationIdentifier> ids = this.mutants.subList(start, end).stream()
+        .map(MutationDetails::getId)
+        .collect(Collectors.toList());
+    final Map<MutationIdentifier, Mutant> created = new HashMap<>();
+    for (final Mutant each : this.mutater.getMutations(clazz, ids)) {
+      created.put(each.getDetails().getId(), each);
+    }
+    return new Batch(start, end, created);
+  }
+
+  private ExecutorService executor() {
+    if (this.executor == null) {
+      this.executor = Executors.newSingleThreadExecutor(r -> {
+        final Thread t = new Thread(r, "pit-mutant-preparer");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+    return this.executor;
+  }
+
+  private static <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw translateCheckedException(ex);
+    } catch (final ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw translateCheckedException(ex.getCause());
+    }
+  }
+
+  private static class Batch {
+    private final int                              start;
+    private final int                              end;
+    private final Map<MutationIdentifier, Mutant>  mutants;
+
+    Batch(int start, int end, Map<MutationIdentifier, Mutant> mutants) {
+      this.start = start;
+      this.end = end;
+      this.mutants = mutants;
+    }
+
+    boolean contains(int index) {
+      return index >= this.start && index < this.end;
+    }
+  }
+
+}
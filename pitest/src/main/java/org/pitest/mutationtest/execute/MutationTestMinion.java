@@ -19,6 +19,7 @@ import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.environment.ResetEnvironment;
 import org.pitest.mutationtest.config.ClientPluginServices;
@@ -30,18 +31,26 @@ import org.pitest.testapi.Configuration;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.FindTestUnits;
 import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
 import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.Unchecked;
 
 import javax.management.NotificationListener;
 import javax.management.openmbean.CompositeData;
 import java.io.IOException;
 import java.lang.instrument.ClassFileTransformer;
+import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryNotificationInfo;
 import java.net.Socket;
+import java.net.SocketException;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.function.ToLongFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -54,15 +63,28 @@ public class MutationTestMinion {
   // Size is arbitrary but assumed to be large enough to cover likely max number of inner classes
   private static final int CACHE_SIZE = 12;
 
+  private static final int SOCKET_TIMEOUT = 20000;
+
   private final SafeDataInputStream dis;
   private final Reporter            reporter;
   private final MinionSettings      plugins;
+  private final IntConsumer         readTimeout;
+
+  // test units are cached when the minion is reused, as the same test classes
+  // are likely to be needed for more than one unit
+  private final Map<ClassName, List<TestUnit>> discoveredTests = new HashMap<>();
 
   public MutationTestMinion(MinionSettings plugins, final SafeDataInputStream dis,
       final Reporter reporter) {
+    this(plugins, dis, reporter, timeout -> { });
+  }
+
+  MutationTestMinion(MinionSettings plugins, final SafeDataInputStream dis,
+      final Reporter reporter, IntConsumer readTimeout) {
     this.dis = dis;
     this.reporter = reporter;
     this.plugins = plugins;
+    this.readTimeout = readTimeout;
   }
 
   public void run() {
@@ -75,8 +97,13 @@ public class MutationTestMinion {
       Thread printingHook = new Thread(() -> Runtime.getRuntime().halt(0));
       Runtime.getRuntime().addShutdownHook(printingHook);
 
-      final MinionArguments paramsFromParent = this.dis
+      // the minion may have been launched before it was needed, so loads its
+      // plugins then waits for as long as it takes to be given work
+      this.plugins.initialise();
+      this.readTimeout.accept(0);
+      MinionArguments paramsFromParent = this.dis
           .read(MinionArguments.class);
+      this.readTimeout.accept(SOCKET_TIMEOUT);
 
       configureVerbosity(paramsFromParent);
 
@@ -87,21 +114,78 @@ public class MutationTestMinion {
 
       final HotSwap hotswap = new HotSwap();
 
+      // engine and test plugin settings are the same for every unit sent to a minion
       final MutationEngine engine = createEngine(paramsFromParent.engine, paramsFromParent.engineArgs);
 
       final ResetEnvironment reset = this.plugins.createReset();
 
       final MutationTestWorker worker = new MutationTestWorker(hotswap,
-          engine.createMutator(byteSource), loader, reset, paramsFromParent.fullMutationMatrix);
-
-      final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, createTestPlugin(paramsFromParent.pitConfig));
-
-      worker.run(paramsFromParent.mutations, this.reporter,
-          new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
-              tests, this.reporter));
-
-      this.reporter.done(ExitCode.OK);
+          engine.createMutator(byteSource), loader, reset, paramsFromParent.fullMutationMatrix,
+          paramsFromParent.engineArgs.schemata());
+
+      final Configuration testPlugin = createTestPlugin(paramsFromParent.pitConfig);
+
+      final TimeoutRecovery recovery = new TimeoutRecovery();
+
+      final ConcurrentMutationTestWorker concurrentWorker = createConcurrentWorker(
+          paramsFromParent, engine, byteSource, loader, testPlugin, reset);
+
+      // test timings measured in this minion are kept for every unit it runs
+      final BaselineCalibration calibration = new BaselineCalibration(this.reporter);
+
+      while (paramsFromParent != null) {
+        final TimeoutSettings timeouts = paramsFromParent.timeouts();
+        final boolean calibrate = timeouts.baselines() != null;
+        if (calibrate) {
+          calibration.addHistory(timeouts.baselines());
+        }
+        final ToLongFunction<TestInfo> expectedTime = calibrate
+            ? calibration::expectedTime : TestInfo::getTime;
+        final ToLongFunction<TestInfo> expectedWallTime = calibrate
+            ? calibration::expectedWallTime : TestInfo::getTime;
+
+        if (concurrentWorker != null) {
+          if (calibrate) {
+            concurrentWorker.calibrate(paramsFromParent.mutations,
+                paramsFromParent.testClasses, calibration,
+                timeouts.strategy(),
+                new TimeOutSystemExitSideEffect(this.reporter));
+          }
+          if (!concurrentWorker.run(paramsFromParent.mutations,
+              paramsFromParent.testClasses, this.reporter,
+              timeouts.strategy(), this::acceptSplits, expectedTime,
+              expectedWallTime)) {
+            // a test is still running, so the jvm cannot be reused
+            this.reporter.done(ExitCode.TIMEOUT);
+            break;
+          }
+        } else {
+          final List<TestUnit> tests = findTestsForTestClasses(loader,
+              paramsFromParent.testClasses, testPlugin);
+
+          // no mutant has yet been inserted into this unit's classes
+          if (calibrate) {
+            calibration.measure(paramsFromParent.mutations, tests,
+                timeouts.strategy(),
+                new TimeOutSystemExitSideEffect(this.reporter));
+          }
+
+          worker.run(paramsFromParent.mutations, this.reporter,
+              new TimeOutDecoratedTestSource(timeouts.strategy(),
+                  tests, new TimeOutSystemExitSideEffect(this.reporter),
+                  timeouts.recover() ? recovery : null,
+                  expectedTime, expectedWallTime),
+              this::acceptSplits);
+
+          if (paramsFromParent.reuse()) {
+            worker.restoreUnmutatedClass(byteSource);
+          }
+        }
+
+        this.reporter.done(ExitCode.OK);
+
+        paramsFromParent = paramsFromParent.reuse() ? awaitNextUnit() : null;
+      }
 
       // rudely kill the vm in case it is kept alive
       // by threads launched by client
@@ -115,6 +199,81 @@ public class MutationTestMinion {
 
   }
 
+  private ConcurrentMutationTestWorker createConcurrentWorker(
+      MinionArguments params, MutationEngine engine,
+      ClassByteArraySource byteSource, ClassLoader loader,
+      Configuration testPlugin, ResetEnvironment reset) {
+    if (!canRunConcurrently(params, testPlugin, reset)) {
+      return null;
+    }
+    LOG.fine("Running up to " + params.concurrentMutants() + " mutants at once");
+    return new ConcurrentMutationTestWorker(engine.createMutator(byteSource),
+        loader, testPlugin, params.fullMutationMatrix, params.concurrentMutants());
+  }
+
+  static boolean canRunConcurrently(MinionArguments params,
+      Configuration testPlugin, ResetEnvironment reset) {
+    if (params.concurrentMutants() < 2) {
+      return false;
+    }
+    if (!testPlugin.supportsIsolatedLoaders()) {
+      LOG.fine("Test plugin does not support running mutants concurrently");
+      return false;
+    }
+    // resets act on state shared by every classloader, so cannot be applied
+    // for one mutant without affecting the others
+    if (!reset.isNoOp()) {
+      LOG.fine("Environment resets do not support running mutants concurrently");
+      return false;
+    }
+    // schemata are hot swapped into the shared classes, not defined per mutant
+    if (params.engineArgs.schemata()) {
+      LOG.fine("Mutant schemata do not support running mutants concurrently");
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Handles any requests from the parent to hand over part of the range. The
+   * unstarted mutants are split in half, with this minion keeping the first
+   * half.
+   */
+  private int acceptSplits(int next, int end) {
+    int accepted = end;
+    while (this.dis.available() > 0) {
+      final byte control = this.dis.readByte();
+      if (control != Id.SPLIT) {
+        LOG.warning("Unexpected control byte " + control);
+        continue;
+      }
+      final int unstarted = accepted - next;
+      if (unstarted < 2) {
+        this.reporter.split(-1);
+      } else {
+        accepted = next + ((unstarted + 1) / 2);
+        this.reporter.split(accepted);
+      }
+    }
+    return accepted;
+  }
+
+  private MinionArguments awaitNextUnit() {
+    // the parent may leave a pooled minion idle for some time
+    this.readTimeout.accept(0);
+    byte control = this.dis.readByte();
+    // a request to split the last unit may have arrived after it finished
+    while (control == Id.SPLIT) {
+      control = this.dis.readByte();
+    }
+    if (control != Id.NEXT) {
+      return null;
+    }
+    final MinionArguments next = this.dis.read(MinionArguments.class);
+    this.readTimeout.accept(SOCKET_TIMEOUT);
+    return next;
+  }
+
   private void configureVerbosity(MinionArguments paramsFromParent) {
     Log.setVerbose(paramsFromParent.verbosity());
     if (!paramsFromParent.verbosity().showMinionOutput()) {
@@ -142,7 +301,7 @@ public class MutationTestMinion {
     try {
       s = new Socket("localhost", port);
       // if we can't read/write in 20 seconds, something is badly wrong
-      s.setSoTimeout(20000);
+      s.setSoTimeout(SOCKET_TIMEOUT);
       final SafeDataInputStream dis = new SafeDataInputStream(
           s.getInputStream());
 
@@ -150,7 +309,10 @@ public class MutationTestMinion {
       addMemoryWatchDog(reporter);
       final ClientPluginServices plugins = ClientPluginServices.makeForContextLoader();
       final MinionSettings factory = new MinionSettings(plugins);
-      final MutationTestMinion instance = new MutationTestMinion(factory, dis, reporter);
+      reporter.started(ManagementFactory.getRuntimeMXBean().getUptime());
+      final Socket socket = s;
+      final MutationTestMinion instance = new MutationTestMinion(factory, dis, reporter,
+          timeout -> setReadTimeout(socket, timeout));
       instance.run();
     } catch (final Throwable ex) {
       ex.printStackTrace(System.out);
@@ -163,15 +325,19 @@ public class MutationTestMinion {
 
   }
 
-  private static List<TestUnit> findTestsForTestClasses(
+  private List<TestUnit> findTestsForTestClasses(
       final ClassLoader loader, final Collection<ClassName> testClasses,
       final Configuration pitConfig) {
 
-    final Collection<Class<?>> tcs = testClasses.stream()
-            .flatMap(ClassName.nameToClass(loader))
-            .collect(Collectors.toList());
     final FindTestUnits finder = new FindTestUnits(pitConfig);
-    return finder.findTestUnitsForAllSuppliedClasses(tcs);
+    for (final ClassName each : testClasses) {
+      this.discoveredTests.computeIfAbsent(each, c -> finder.findTestUnitsForAllSuppliedClasses(
+          ClassName.nameToClass(loader).apply(c).collect(Collectors.toList())));
+    }
+
+    return testClasses.stream()
+        .flatMap(c -> this.discoveredTests.get(c).stream())
+        .collect(Collectors.toList());
   }
 
   private static void enableTransformations() {
@@ -184,6 +350,14 @@ public class MutationTestMinion {
     }
   }
 
+  private static void setReadTimeout(final Socket s, int timeout) {
+    try {
+      s.setSoTimeout(timeout);
+    } catch (final SocketException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   private static void safelyCloseSocket(final Socket s) {
     if (s != null) {
       try {
@@ -14,10 +14,13 @@
  */
 package org.pitest.mutationtest.execute;
 
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.environment.ResetEnvironment;
 import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutantSchema;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
@@ -36,7 +39,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -58,45 +64,125 @@ public class MutationTestWorker {
   private final ClassLoader                                 loader;
   private final HotSwap                                     hotswap;
   private final boolean                                     fullMutationMatrix;
+  private final boolean                                     schemata;
 
   private final ResetEnvironment                            reset;
 
+  private Mutant                                            lastMutant;
+  private byte[]                                            installed;
 
   public MutationTestWorker(HotSwap hotswap,
                             Mutater mutater,
                             ClassLoader loader,
                             ResetEnvironment reset,
                             boolean fullMutationMatrix) {
+    this(hotswap, mutater, loader, reset, fullMutationMatrix, false);
+  }
+
+  public MutationTestWorker(HotSwap hotswap,
+                            Mutater mutater,
+                            ClassLoader loader,
+                            ResetEnvironment reset,
+                            boolean fullMutationMatrix,
+                            boolean schemata) {
     this.loader = loader;
     this.reset = reset;
     this.mutater = mutater;
     this.hotswap = hotswap;
     this.fullMutationMatrix = fullMutationMatrix;
+    this.schemata = schemata;
   }
 
   protected void run(final Collection<MutationDetails> range, final Reporter r,
       final TimeOutDecoratedTestSource testSource) throws IOException {
+    run(range, r, testSource, RangeSplitter.NONE);
+  }
 
-    for (final MutationDetails mutation : range) {
-      if (DEBUG) {
-        LOG.fine("Running mutation " + mutation);
+  void run(final Collection<MutationDetails> range, final Reporter r,
+      final TimeOutDecoratedTestSource testSource, final RangeSplitter splitter)
+      throws IOException {
+
+    final Map<ClassName, MutantSchema> schemas = createSchemata(range);
+
+    final List<MutationDetails> mutants = new ArrayList<>(range);
+    final MutantPreparer preparer = new MutantPreparer(this.mutater,
+        mutants.stream()
+            .filter(m -> !inSchema(m, schemas))
+            .collect(Collectors.toList()),
+        MutantPreparer.DEFAULT_BATCH_SIZE);
+    try {
+      int end = mutants.size();
+      for (int i = 0; i < end; i++) {
+        end = splitter.end(i, end);
+        if (i >= end) {
+          break;
+        }
+        final MutationDetails mutation = mutants.get(i);
+        if (DEBUG) {
+          LOG.fine("Running mutation " + mutation);
+        }
+        final long t0 = System.nanoTime();
+        processMutation(r, testSource, mutation, schemas, preparer);
+        if (DEBUG) {
+          LOG.fine("processed mutation in " + NANOSECONDS.toMillis(System.nanoTime() - t0)
+              + " ms.");
+        }
       }
-      final long t0 = System.nanoTime();
-      processMutation(r, testSource, mutation);
-      if (DEBUG) {
-        LOG.fine("processed mutation in " + NANOSECONDS.toMillis(System.nanoTime() - t0)
-            + " ms.");
+    } finally {
+      preparer.shutdown();
+    }
+
+    if (!schemas.isEmpty()) {
+      MutantSchema.deactivate();
+    }
+
+  }
+
+  private Map<ClassName, MutantSchema> createSchemata(
+      Collection<MutationDetails> range) {
+    final Map<ClassName, MutantSchema> schemas = new HashMap<>();
+    if (!this.schemata) {
+      return schemas;
+    }
+
+    final Map<ClassName, List<MutationIdentifier>> byClass = range.stream()
+        .collect(Collectors.groupingBy(MutationDetails::getClassName,
+            Collectors.mapping(MutationDetails::getId, Collectors.toList())));
+    for (final Map.Entry<ClassName, List<MutationIdentifier>> each : byClass.entrySet()) {
+      // nothing to gain from a schema containing a single mutant
+      if (each.getValue().size() < 2) {
+        continue;
+      }
+      try {
+        final MutantSchema schema = this.mutater.createSchema(each.getKey(), each.getValue());
+        if (!schema.isEmpty()) {
+          LOG.fine("Combined " + schema.size() + " of " + each.getValue().size()
+              + " mutants of " + each.getKey() + " into schema");
+          schemas.put(each.getKey(), schema);
+        }
+      } catch (final RuntimeException ex) {
+        LOG.log(Level.WARNING, "Could not create schema for " + each.getKey()
+            + ". Mutants will be inserted individually.", ex);
       }
     }
+    return schemas;
+  }
 
+  private static boolean inSchema(MutationDetails mutation,
+      Map<ClassName, MutantSchema> schemas) {
+    final MutantSchema schema = schemas.get(mutation.getClassName());
+    return schema != null && schema.contains(mutation.getId());
   }
 
   private void processMutation(Reporter r,
                                TimeOutDecoratedTestSource testSource,
-                               MutationDetails mutationDetails) {
+                               MutationDetails mutationDetails,
+                               Map<ClassName, MutantSchema> schemas,
+                               MutantPreparer preparer) {
 
     final MutationIdentifier mutationId = mutationDetails.getId();
-    final Mutant mutatedClass = this.mutater.getMutation(mutationId);
+    final Mutant mutatedClass = createMutant(mutationDetails, schemas, preparer);
+    this.lastMutant = mutatedClass;
 
     reset.resetFor(mutatedClass);
 
@@ -117,6 +203,60 @@ public class MutationTestWorker {
     }
   }
 
+  private Mutant createMutant(MutationDetails mutationDetails,
+      Map<ClassName, MutantSchema> schemas, MutantPreparer preparer) {
+    final MutantSchema schema = schemas.get(mutationDetails.getClassName());
+    if (schema != null && schema.contains(mutationDetails.getId())) {
+      if (installSchema(schema)) {
+        schema.activate(mutationDetails.getId());
+        return new Mutant(mutationDetails, schema.getBytes());
+      }
+      schemas.remove(mutationDetails.getClassName());
+    }
+    if (!schemas.isEmpty()) {
+      MutantSchema.deactivate();
+    }
+    return preparer.get(mutationDetails.getId());
+  }
+
+  private boolean installSchema(MutantSchema schema) {
+    if (this.installed == schema.getBytes()) {
+      return true;
+    }
+    if (this.hotswap.insertClass(schema.getClassName(), this.loader, schema.getBytes())) {
+      this.installed = schema.getBytes();
+      return true;
+    }
+    LOG.warning("Schema for " + schema.getClassName()
+        + " was not viable. Mutants will be inserted individually.");
+    this.installed = null;
+    return false;
+  }
+
+  /**
+   * Swaps the last mutated class back to its original bytes so that the jvm
+   * can be safely used for mutants in a different class.
+   *
+   * @param source source of the unmutated class bytes
+   */
+  void restoreUnmutatedClass(ClassByteArraySource source) {
+    if (this.lastMutant == null) {
+      return;
+    }
+
+    final MutationDetails details = this.lastMutant.getDetails();
+    final Optional<byte[]> original = source.getBytes(details.getClassName().asJavaName());
+    if (original.isPresent()) {
+      if (DEBUG) {
+        LOG.fine("Restoring unmutated " + details.getClassName());
+      }
+      this.hotswap.insertClass(details.getClassName(), this.loader, original.get());
+      this.reset.resetFor(new Mutant(details, original.get()));
+    }
+    this.lastMutant = null;
+    this.installed = null;
+  }
+
   private MutationStatusTestPair handleMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
       final List<TestUnit> relevantTests) {
@@ -145,8 +285,11 @@ public class MutationTestWorker {
     final Container c = createNewContainer();
     final long t0 = System.nanoTime();
 
-    if (this.hotswap.insertClass(mutationId.getClassName(), this.loader,
+    // a schema is installed once, then reused for each mutant it contains
+    if (this.installed == mutatedClass.getBytes()
+        || this.hotswap.insertClass(mutationId.getClassName(), this.loader,
         mutatedClass.getBytes())) {
+      this.installed = mutatedClass.getBytes();
       if (DEBUG) {
         LOG.fine("replaced class with mutant in "
             + NANOSECONDS.toMillis(System.nanoTime() - t0) + " ms");
@@ -154,6 +297,7 @@ public class MutationTestWorker {
 
       mutationDetected = doTestsDetectMutation(c, relevantTests);
     } else {
+      this.installed = null;
       LOG.warning("Mutation " + mutationId + " was not viable ");
       mutationDetected = MutationStatusTestPair.notAnalysed(0,
           DetectionStatus.NON_VIABLE, relevantTests.stream()
@@ -186,12 +330,26 @@ public class MutationTestWorker {
 
   private MutationStatusTestPair doTestsDetectMutation(final Container c,
       final List<TestUnit> tests) {
+    return runTests(c, tests, this.fullMutationMatrix);
+  }
+
+  /**
+   * Runs tests against the currently active mutant, stopping at the first
+   * failure unless the full mutation matrix is required.
+   */
+  static MutationStatusTestPair runTests(final List<TestUnit> tests,
+      final boolean fullMutationMatrix) {
+    return runTests(createNewContainer(), tests, fullMutationMatrix);
+  }
+
+  private static MutationStatusTestPair runTests(final Container c,
+      final List<TestUnit> tests, final boolean fullMutationMatrix) {
     try {
       final CheckTestHasFailedResultListener listener = new CheckTestHasFailedResultListener(fullMutationMatrix);
 
       final Pitest pit = new Pitest(listener);
 
-      if (this.fullMutationMatrix) {
+      if (fullMutationMatrix) {
         pit.run(c, tests);
       } else {
         pit.run(c, createEarlyExitTestGroup(tests));
@@ -204,7 +362,7 @@ public class MutationTestWorker {
 
   }
 
-  private MutationStatusTestPair createStatusTestPair(
+  private static MutationStatusTestPair createStatusTestPair(
       final CheckTestHasFailedResultListener listener, List<TestUnit> relevantTests) {
     List<String> failingTests = listener.getFailingTests().stream()
         .map(Description::getQualifiedName).collect(Collectors.toList());
@@ -217,7 +375,7 @@ public class MutationTestWorker {
         listener.status(), failingTests, succeedingTests, coveredTests);
   }
 
-  private List<TestUnit> createEarlyExitTestGroup(final List<TestUnit> tests) {
+  private static List<TestUnit> createEarlyExitTestGroup(final List<TestUnit> tests) {
     return Collections.singletonList(new MultipleTestGroup(tests));
   }
 
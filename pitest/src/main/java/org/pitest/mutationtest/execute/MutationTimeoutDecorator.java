@@ -20,26 +20,41 @@ import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.FutureTask;
-
 public final class MutationTimeoutDecorator extends TestUnitDecorator {
 
-    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor();
-
+    private final TimeoutWatchdog watchdog;
     private final TimeoutLengthStrategy timeOutStrategy;
     private final SideEffect timeOutSideEffect;
     private final long executionTime;
+    private final long wallTime;
+    private final TimeoutRecovery recovery;
 
     public MutationTimeoutDecorator(final TestUnit child,
                                     final SideEffect timeOutSideEffect,
                                     final TimeoutLengthStrategy timeStrategy, final long executionTime) {
+        this(child, timeOutSideEffect, timeStrategy, executionTime, executionTime, null);
+    }
+
+    /**
+     * @param wallTime
+     *          wall clock time the test took against unmutated code, from
+     *          which its wall clock limit is calculated
+     * @param recovery
+     *          used to run the test so that it can be abandoned if it times
+     *          out, or null if the time out side effect should always be
+     *          applied
+     */
+    public MutationTimeoutDecorator(final TestUnit child,
+                                    final SideEffect timeOutSideEffect,
+                                    final TimeoutLengthStrategy timeStrategy, final long executionTime,
+                                    final long wallTime, final TimeoutRecovery recovery) {
         super(child);
+        this.watchdog = TimeoutWatchdog.instance();
         this.timeOutSideEffect = timeOutSideEffect;
         this.executionTime = executionTime;
+        this.wallTime = wallTime;
         this.timeOutStrategy = timeStrategy;
+        this.recovery = recovery;
     }
 
     @Override
@@ -47,28 +62,38 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
 
         final long maxTime = this.timeOutStrategy
                 .getAllowedTime(this.executionTime);
-        Future<?> timeout = createFuture(maxTime, this.timeOutSideEffect);
+        final long maxWallTime = this.timeOutStrategy
+                .getAllowedWallTime(this.wallTime);
+
+        if (this.recovery != null) {
+            executeRecoverably(rc, maxTime, maxWallTime);
+            return;
+        }
+
+        final TimeoutWatchdog.Watch timeout = this.watchdog.watch(Thread.currentThread(),
+            maxTime, maxWallTime, this.timeOutSideEffect::apply);
         try {
             child().execute(rc);
         } catch (final Throwable ex) {
             rc.notifyEnd(child().getDescription(), ex);
         } finally {
-            timeout.cancel(true);
+            timeout.cancel();
         }
     }
 
-    public Future<?> createFuture(long limit, SideEffect sideEffect) {
-        FutureTask<Void> futureTask = new FutureTask<>(() -> {
+    private void executeRecoverably(final ResultCollector rc, final long maxTime,
+                                    final long maxWallTime) {
+        final ResultCollector current = this.recovery.collectorFor(rc);
+        final boolean completed = this.recovery.run(() -> {
             try {
-                Thread.sleep(limit);
-                sideEffect.apply();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+                child().execute(current);
+            } catch (final Throwable ex) {
+                current.notifyEnd(child().getDescription(), ex);
             }
-            return null;
-        });
+        }, maxTime, maxWallTime, this.timeOutSideEffect);
 
-        return EXECUTOR.submit(futureTask);
+        if (!completed) {
+            rc.notifyEnd(child().getDescription(), new TestTimedOutException(maxTime));
+        }
     }
 }
-
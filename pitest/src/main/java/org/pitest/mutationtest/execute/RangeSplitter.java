@@ -0,0 +1,22 @@
+package org.pitest.mutationtest.execute;
+
+/**
+ * Allows the range of mutants run by a minion to be cut short, so that the
+ * mutants it has not yet started can be run elsewhere.
+ */
+interface RangeSplitter {
+
+  RangeSplitter NONE = (next, end) -> end;
+
+  /**
+   * Called before each mutant in the range is started.
+   *
+   * @param next
+   *          index of the mutant about to be started
+   * @param end
+   *          index one past the last mutant currently in the range
+   * @return the new end of the range
+   */
+  int end(int next, int end);
+
+}
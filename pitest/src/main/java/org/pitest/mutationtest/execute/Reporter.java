@@ -20,10 +20,36 @@ import org.pitest.util.ExitCode;
 
 public interface Reporter {
 
+  /**
+   * Reports how long the minion took to become ready for work.
+   */
+  default void started(long millis) {
+    // not reported by default
+  }
+
   void describe(MutationIdentifier i);
 
   void report(MutationIdentifier i, MutationStatusTestPair mutationDetected);
 
+  /**
+   * Responds to a request from the parent to split the range of mutants
+   * being run.
+   *
+   * @param at
+   *          index of the first mutant that will not be run, or -1 if the
+   *          whole range will still be run
+   */
+  default void split(int at) {
+    // not reported by default
+  }
+
+  /**
+   * Reports the time a test took to run against the unmutated code.
+   */
+  default void baseline(String test, int millis) {
+    // not reported by default
+  }
+
   void done(ExitCode exitCode);
 
 }
@@ -0,0 +1,15 @@
+package org.pitest.mutationtest.execute;
+
+/**
+ * Reported as the failure of a test that exceeded its time limit, but was
+ * abandoned without killing the minion.
+ */
+public final class TestTimedOutException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  public TestTimedOutException(final long allowedMillis) {
+    super("Test did not complete within " + allowedMillis + " ms");
+  }
+
+}
@@ -19,10 +19,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.pitest.coverage.TestInfo;
+import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.testapi.TestUnit;
 
@@ -30,14 +32,42 @@ public class TimeOutDecoratedTestSource {
 
   private final Map<String, TestUnit> allTests = new HashMap<>();
   private final TimeoutLengthStrategy timeoutStrategy;
-  private final Reporter              r;
+  private final SideEffect            timeOutSideEffect;
+  private final TimeoutRecovery       recovery;
+  private final ToLongFunction<TestInfo> expectedTime;
+  private final ToLongFunction<TestInfo> expectedWallTime;
 
   public TimeOutDecoratedTestSource(
       final TimeoutLengthStrategy timeoutStrategy,
       final List<TestUnit> allTests, final Reporter r) {
+    this(timeoutStrategy, allTests, new TimeOutSystemExitSideEffect(r), null,
+        TestInfo::getTime, TestInfo::getTime);
+  }
+
+  /**
+   * @param timeOutSideEffect
+   *          applied when a test times out and cannot be abandoned
+   * @param recovery
+   *          used to abandon timed out tests without killing the minion, or
+   *          null if the time out side effect should always be applied
+   * @param expectedTime
+   *          time each test is expected to take against unmutated code, from
+   *          which its time limit is calculated
+   * @param expectedWallTime
+   *          wall clock time each test is expected to take against unmutated
+   *          code, from which its wall clock limit is calculated
+   */
+  public TimeOutDecoratedTestSource(
+      final TimeoutLengthStrategy timeoutStrategy,
+      final List<TestUnit> allTests, final SideEffect timeOutSideEffect,
+      final TimeoutRecovery recovery, final ToLongFunction<TestInfo> expectedTime,
+      final ToLongFunction<TestInfo> expectedWallTime) {
     this.timeoutStrategy = timeoutStrategy;
     mapTests(allTests);
-    this.r = r;
+    this.timeOutSideEffect = timeOutSideEffect;
+    this.recovery = recovery;
+    this.expectedTime = expectedTime;
+    this.expectedWallTime = expectedWallTime;
   }
 
   private void mapTests(final List<TestUnit> tests) {
@@ -57,9 +87,11 @@ public class TimeOutDecoratedTestSource {
       if (tu != null) {
         return Stream
             .of(new MutationTimeoutDecorator(tu,
-                new TimeOutSystemExitSideEffect(
-                    TimeOutDecoratedTestSource.this.r),
-                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime()));
+                TimeOutDecoratedTestSource.this.timeOutSideEffect,
+                    TimeOutDecoratedTestSource.this.timeoutStrategy,
+                    TimeOutDecoratedTestSource.this.expectedTime.applyAsLong(a),
+                    TimeOutDecoratedTestSource.this.expectedWallTime.applyAsLong(a),
+                    TimeOutDecoratedTestSource.this.recovery));
       }
       return Stream.empty();
     };
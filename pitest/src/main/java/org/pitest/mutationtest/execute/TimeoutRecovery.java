@@ -0,0 +1,198 @@
+package org.pitest.mutationtest.execute;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import org.pitest.functional.SideEffect;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.util.Log;
+
+import static org.pitest.util.Unchecked.translateCheckedException;
+
+/**
+ * Runs tests on a dedicated thread, so that a test which exceeds its time
+ * limit can be abandoned without killing the minion.
+ *
+ * Time limits are enforced by a {@link TimeoutWatchdog}. When a test times
+ * out its thread is interrupted. If it has not finished after a grace period
+ * it is abandoned and later tests are run on a fresh thread. The jvm is only
+ * given up on if the stuck thread is still consuming cpu, or holds locks that
+ * later tests may need.
+ *
+ * Each time out starts a new generation. Collectors obtained from
+ * {@link #collectorFor(ResultCollector)} ignore results reported after their
+ * generation has ended, so an abandoned thread cannot report against a later
+ * mutant.
+ */
+public class TimeoutRecovery {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final long   DEFAULT_GRACE_MILLIS = 1000;
+
+  // proportion of the grace period a thread must spend on cpu to be
+  // considered busy
+  private static final double BUSY_THRESHOLD = 0.25;
+
+  private static final String EXECUTOR_WORKER = "java.util.concurrent.ThreadPoolExecutor$Worker";
+
+  private final ThreadMXBean  threads = ManagementFactory.getThreadMXBean();
+  private final long          graceMillis;
+  private final TimeoutWatchdog watchdog;
+
+  private ExecutorService     executor;
+  private volatile Thread     testThread;
+  private final AtomicLong    generation = new AtomicLong();
+
+  public TimeoutRecovery() {
+    this(DEFAULT_GRACE_MILLIS);
+  }
+
+  TimeoutRecovery(long graceMillis) {
+    this(graceMillis, TimeoutWatchdog.instance());
+  }
+
+  TimeoutRecovery(long graceMillis, TimeoutWatchdog watchdog) {
+    this.graceMillis = graceMillis;
+    this.watchdog = watchdog;
+  }
+
+  /**
+   * Runs the supplied test, waiting at most maxTime milliseconds for it to
+   * complete.
+   *
+   * @param test
+   *          test to run
+   * @param maxTime
+   *          time allowed in milliseconds
+   * @param unrecoverable
+   *          applied if the test times out and cannot be safely abandoned
+   * @return true if the test completed in time, false if it timed out
+   */
+  public boolean run(final Runnable test, final long maxTime,
+      final SideEffect unrecoverable) {
+    return run(test, maxTime, maxTime, unrecoverable);
+  }
+
+  /**
+   * Runs the supplied test until it completes, uses more than maxCpuTime
+   * milliseconds of cpu, or runs for more than maxWallTime milliseconds.
+   *
+   * @param test
+   *          test to run
+   * @param maxCpuTime
+   *          cpu time allowed in milliseconds
+   * @param maxWallTime
+   *          wall clock time allowed in milliseconds
+   * @param unrecoverable
+   *          applied if the test times out and cannot be safely abandoned
+   * @return true if the test completed in time, false if it timed out
+   */
+  public boolean run(final Runnable test, final long maxCpuTime,
+      final long maxWallTime, final SideEffect unrecoverable) {
+    final Future<?> future = executor().submit(test);
+    final TimeoutWatchdog.Watch watch = this.watchdog.watch(this.testThread,
+        maxCpuTime, maxWallTime, () -> future.cancel(true));
+    try {
+      future.get();
+      return true;
+    } catch (final CancellationException ex) {
+      this.generation.incrementAndGet();
+      recover(unrecoverable);
+      return false;
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw translateCheckedException(ex);
+    } catch (final ExecutionException ex) {
+      throw translateCheckedException(ex.getCause());
+    } finally {
+      watch.cancel();
+    }
+  }
+
+  /**
+   * @return a collector passing results to the supplied one until a test
+   *         run by this recovery next times out
+   */
+  public ResultCollector collectorFor(final ResultCollector rc) {
+    return new GenerationResultCollector(rc, this.generation);
+  }
+
+  // the watchdog has already interrupted the test
+  private void recover(final SideEffect unrecoverable) {
+    final Thread stuck = this.testThread;
+    final long cpuAtTimeout = cpuTime(stuck);
+
+    try {
+      stuck.join(this.graceMillis);
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (stuck.isAlive()) {
+      if (isBusy(stuck, cpuAtTimeout) || holdsLocks(stuck)) {
+        LOG.fine("Timed out test cannot be abandoned");
+        unrecoverable.apply();
+        return;
+      }
+      LOG.fine("Abandoning timed out test thread " + stuck.getName());
+      this.executor.shutdownNow();
+      this.executor = null;
+    }
+  }
+
+  private boolean isBusy(final Thread thread, final long cpuAtTimeout) {
+    final long now = cpuTime(thread);
+    if (now < 0 || cpuAtTimeout < 0) {
+      // cannot tell, so assume the worst
+      return true;
+    }
+    final long threshold = (long) (TimeUnit.MILLISECONDS
+        .toNanos(this.graceMillis) * BUSY_THRESHOLD);
+    return (now - cpuAtTimeout) > threshold;
+  }
+
+  private boolean holdsLocks(final Thread thread) {
+    final ThreadInfo[] info = this.threads.getThreadInfo(
+        new long[] { thread.getId() },
+        this.threads.isObjectMonitorUsageSupported(),
+        this.threads.isSynchronizerUsageSupported());
+    if (info.length == 0 || info[0] == null) {
+      return false;
+    }
+    // the executor's own worker lock is always held while a test runs
+    return info[0].getLockedMonitors().length != 0
+        || Arrays.stream(info[0].getLockedSynchronizers())
+            .anyMatch(lock -> !lock.getClassName().equals(EXECUTOR_WORKER));
+  }
+
+  private long cpuTime(final Thread thread) {
+    if (!this.threads.isThreadCpuTimeSupported()) {
+      return -1;
+    }
+    return this.threads.getThreadCpuTime(thread.getId());
+  }
+
+  private ExecutorService executor() {
+    if (this.executor == null) {
+      this.executor = Executors.newSingleThreadExecutor(r -> {
+        final Thread t = new Thread(r, "pit-test-runner");
+        t.setDaemon(true);
+        this.testThread = t;
+        return t;
+      });
+    }
+    return this.executor;
+  }
+
+}
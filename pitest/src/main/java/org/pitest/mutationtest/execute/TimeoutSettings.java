@@ -0,0 +1,70 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.Serializable;
+
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+
+/**
+ * How a minion decides when a test has timed out against a mutant, and what
+ * it does when one has.
+ */
+public final class TimeoutSettings implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final TimeoutLengthStrategy strategy;
+  private final boolean               recover;
+  private final BaselineTimings       baselines;
+
+  private TimeoutSettings(TimeoutLengthStrategy strategy, boolean recover,
+      BaselineTimings baselines) {
+    this.strategy = strategy;
+    this.recover = recover;
+    this.baselines = baselines;
+  }
+
+  /**
+   * Settings that time tests out using the given strategy and the times
+   * recorded when gathering coverage, and that report done on a time out.
+   */
+  public static TimeoutSettings limitedBy(TimeoutLengthStrategy strategy) {
+    return new TimeoutSettings(strategy, false, null);
+  }
+
+  /**
+   * @param recover
+   *          if the minion should try to abandon tests that time out rather
+   *          than reporting a time out and waiting to be killed
+   */
+  public TimeoutSettings withRecovery(boolean recover) {
+    return new TimeoutSettings(this.strategy, recover, this.baselines);
+  }
+
+  /**
+   * @param baselines
+   *          timings of the tests from earlier runs, or null if time limits
+   *          should be calculated from the times recorded when gathering
+   *          coverage
+   */
+  public TimeoutSettings withBaselines(BaselineTimings baselines) {
+    return new TimeoutSettings(this.strategy, this.recover, baselines);
+  }
+
+  public TimeoutLengthStrategy strategy() {
+    return this.strategy;
+  }
+
+  public boolean recover() {
+    return this.recover;
+  }
+
+  /**
+   * Timings of the tests from earlier runs, or null if not calibrating. When
+   * present the minion measures each test against the unmutated code before
+   * running mutants.
+   */
+  public BaselineTimings baselines() {
+    return this.baselines;
+  }
+
+}
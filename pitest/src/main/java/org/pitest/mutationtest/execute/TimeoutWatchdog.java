@@ -0,0 +1,256 @@
+package org.pitest.mutationtest.execute;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.util.Log;
+
+/**
+ * Watches running tests from a single thread, applying an action to those
+ * that exceed their time limits.
+ *
+ * Watches are held in a hashed timer wheel, in a linked list per slot, so
+ * starting and cancelling one is cheap however many are outstanding. A watch
+ * is first checked once its cpu budget has passed on the wall clock, as the
+ * watched thread cannot have used more cpu than that. If the thread has
+ * neither used its cpu budget nor reached its wall clock limit the watch is
+ * checked again once the sooner of the two could next be reached.
+ */
+class TimeoutWatchdog {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final long   DEFAULT_TICK_MILLIS = 10;
+  private static final int    DEFAULT_WHEEL_SIZE  = 512;
+
+  private static final TimeoutWatchdog INSTANCE = new TimeoutWatchdog(
+      DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+
+  private final ThreadMXBean      threads = ManagementFactory.getThreadMXBean();
+  private final boolean           measureCpu;
+  private final long              tickNanos;
+  private final Watch[]           wheel;
+  private final int               mask;
+  private final long              startNanos = System.nanoTime();
+
+  // guarded by this
+  private long                    tick;
+  private Thread                  ticker;
+
+  TimeoutWatchdog(long tickMillis, int wheelSize) {
+    if (Integer.bitCount(wheelSize) != 1) {
+      throw new IllegalArgumentException("Wheel size must be a power of two");
+    }
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+    this.wheel = new Watch[wheelSize];
+    this.mask = wheelSize - 1;
+    this.measureCpu = this.threads.isThreadCpuTimeSupported()
+        && this.threads.isThreadCpuTimeEnabled();
+  }
+
+  /**
+   * @return the watchdog shared by everything running in this jvm
+   */
+  static TimeoutWatchdog instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Starts watching a thread.
+   *
+   * @param thread
+   *          thread running the test
+   * @param cpuMillis
+   *          cpu time the thread may use from now on
+   * @param wallMillis
+   *          wall clock time after which the test is timed out regardless of
+   *          the cpu it has used
+   * @param onTimeout
+   *          applied, on the watchdog's thread, if either limit is reached
+   *          before the watch is cancelled
+   * @return the watch, which must be cancelled once the test completes
+   */
+  Watch watch(Thread thread, long cpuMillis, long wallMillis,
+      Runnable onTimeout) {
+    final long now = System.nanoTime();
+    final long cpu = thread == Thread.currentThread() ? currentCpuTime()
+        : cpuTime(thread.getId());
+    final Watch watch = new Watch(this, thread.getId(), cpu, now,
+        TimeUnit.MILLISECONDS.toNanos(cpuMillis),
+        TimeUnit.MILLISECONDS.toNanos(Math.max(cpuMillis, wallMillis)), onTimeout);
+    schedule(watch, now, Math.min(watch.cpuBudget, watch.wallBudget));
+    return watch;
+  }
+
+  private synchronized void schedule(Watch watch, long now, long delayNanos) {
+    if (watch.cancelled) {
+      return;
+    }
+    // round up so watches never fire early
+    final long ticks = (now - this.startNanos + delayNanos + this.tickNanos - 1)
+        / this.tickNanos;
+    watch.deadline = Math.max(ticks, this.tick + 1);
+    final int slot = (int) (watch.deadline & this.mask);
+    watch.next = this.wheel[slot];
+    if (watch.next != null) {
+      watch.next.previous = watch;
+    }
+    this.wheel[slot] = watch;
+    if (this.ticker == null) {
+      this.ticker = new Thread(this::run, "pit-timeout-watchdog");
+      this.ticker.setDaemon(true);
+      this.ticker.start();
+    }
+  }
+
+  private void run() {
+    while (true) {
+      final List<Watch> due = new ArrayList<>();
+      try {
+        awaitTick(due);
+      } catch (final InterruptedException ex) {
+        return;
+      }
+      for (final Watch each : due) {
+        check(each);
+      }
+    }
+  }
+
+  private void awaitTick(List<Watch> due) throws InterruptedException {
+    final long nextTick;
+    synchronized (this) {
+      nextTick = this.startNanos + ((this.tick + 1) * this.tickNanos);
+    }
+    final long wait = nextTick - System.nanoTime();
+    if (wait > 0) {
+      TimeUnit.NANOSECONDS.sleep(wait);
+    }
+
+    synchronized (this) {
+      // catch up with any ticks missed while descheduled
+      final long now = (System.nanoTime() - this.startNanos) / this.tickNanos;
+      while (this.tick < now) {
+        this.tick = this.tick + 1;
+        Watch each = this.wheel[(int) (this.tick & this.mask)];
+        while (each != null) {
+          final Watch next = each.next;
+          if (each.deadline <= this.tick) {
+            unlink(each);
+            due.add(each);
+          }
+          each = next;
+        }
+      }
+    }
+  }
+
+  private synchronized void cancel(Watch watch) {
+    if (!watch.cancelled) {
+      watch.cancelled = true;
+      unlink(watch);
+    }
+  }
+
+  // guarded by this
+  private void unlink(Watch watch) {
+    final int slot = (int) (watch.deadline & this.mask);
+    if (watch.previous != null) {
+      watch.previous.next = watch.next;
+    } else if (this.wheel[slot] == watch) {
+      this.wheel[slot] = watch.next;
+    }
+    if (watch.next != null) {
+      watch.next.previous = watch.previous;
+    }
+    watch.previous = null;
+    watch.next = null;
+  }
+
+  private void check(Watch watch) {
+    if (watch.cancelled) {
+      return;
+    }
+    final long now = System.nanoTime();
+    final long wallUsed = now - watch.wallStart;
+    final long cpu = cpuTime(watch.threadId);
+    final long cpuUsed = cpu < 0 || watch.cpuStart < 0 ? wallUsed
+        : cpu - watch.cpuStart;
+
+    if (cpuUsed < watch.cpuBudget && wallUsed < watch.wallBudget) {
+      schedule(watch, now, Math.min(watch.cpuBudget - cpuUsed,
+          watch.wallBudget - wallUsed));
+      return;
+    }
+
+    if (fire(watch)) {
+      try {
+        watch.onTimeout.run();
+      } catch (final RuntimeException ex) {
+        LOG.log(Level.WARNING, "Error while handling timed out test", ex);
+      }
+    }
+  }
+
+  private synchronized boolean fire(Watch watch) {
+    if (watch.cancelled) {
+      return false;
+    }
+    watch.cancelled = true;
+    return true;
+  }
+
+  private long currentCpuTime() {
+    if (!this.measureCpu) {
+      return -1;
+    }
+    return this.threads.getCurrentThreadCpuTime();
+  }
+
+  private long cpuTime(long threadId) {
+    if (!this.measureCpu) {
+      return -1;
+    }
+    return this.threads.getThreadCpuTime(threadId);
+  }
+
+  static final class Watch {
+    private final TimeoutWatchdog owner;
+    private final long            threadId;
+    private final long            cpuStart;
+    private final long            wallStart;
+    private final long            cpuBudget;
+    private final long            wallBudget;
+    private final Runnable        onTimeout;
+
+    // guarded by the owner
+    private long                  deadline;
+    private Watch                 previous;
+    private Watch                 next;
+    private volatile boolean      cancelled;
+
+    private Watch(TimeoutWatchdog owner, long threadId, long cpuStart,
+        long wallStart, long cpuBudget, long wallBudget, Runnable onTimeout) {
+      this.owner = owner;
+      this.threadId = threadId;
+      this.cpuStart = cpuStart;
+      this.wallStart = wallStart;
+      this.cpuBudget = cpuBudget;
+      this.wallBudget = wallBudget;
+      this.onTimeout = onTimeout;
+    }
+
+    /**
+     * Stops watching. Has no effect if the watch has already timed out.
+     */
+    void cancel() {
+      this.owner.cancel(this);
+    }
+  }
+
+}
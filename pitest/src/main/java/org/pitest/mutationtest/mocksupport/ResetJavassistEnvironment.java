@@ -2,10 +2,15 @@ package org.pitest.mutationtest.mocksupport;
 
 import org.pitest.mutationtest.environment.EnvironmentResetPlugin;
 import org.pitest.mutationtest.environment.ResetEnvironment;
+import org.pitest.util.IsolationUtils;
 
 public class ResetJavassistEnvironment implements EnvironmentResetPlugin {
     @Override
     public ResetEnvironment make() {
+        // javassist is only redirected to the mutant if it is on the classpath
+        if (IsolationUtils.getContextClassLoader().getResource("javassist/ClassPool.class") == null) {
+            return ResetEnvironment.none();
+        }
         return JavassistInterceptor::setMutant;
     }
 
@@ -32,4 +32,13 @@ public interface Configuration {
 
   Optional<PitHelpError> verifyEnvironment();
 
+  /**
+   * Returns true if the tests this configuration finds can be run against
+   * several mutants at once, each using its own copy of the classes under
+   * test and tests loaded by a separate classloader.
+   */
+  default boolean supportsIsolatedLoaders() {
+    return false;
+  }
+
 }
@@ -17,7 +17,12 @@ package org.pitest.util;
 public abstract class Id {
   public static final byte DESCRIBE = 1;
   public static final byte REPORT   = 2;
+  public static final byte SPLIT    = 3;
   public static final byte PROBES   = 4;
+  public static final byte VERSION  = 5;
+  public static final byte STARTED  = 6;
+  public static final byte BASELINE = 7;
+  public static final byte NEXT     = 8;
   public static final byte OUTCOME  = 16;
   public static final byte CLAZZ    = 32;
   public static final byte DONE     = 64;
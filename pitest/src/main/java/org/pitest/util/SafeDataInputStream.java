@@ -63,6 +63,14 @@ public class SafeDataInputStream {
     }
   }
 
+  public int available() {
+    try {
+      return this.dis.available();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   public void close() {
     try {
       this.dis.close();
@@ -0,0 +1,32 @@
+// placed in a sun package so non delegating classloaders are likely
+// to still delegate it's loading
+package sun.pitest;
+
+/**
+ * Holds the id of the mutant currently enabled within mutant schemata. Code
+ * inserted into schema classes reads this value on entry to each mutated
+ * method to decide which version of the method to execute.
+ */
+public final class ActiveMutant {
+
+  public static final String CLASS_NAME  = ActiveMutant.class.getName()
+                                             .replace('.', '/');
+
+  public static final String METHOD_NAME = "active";
+
+  public static final int    NONE        = 0;
+
+  private static volatile int active = NONE;
+
+  private ActiveMutant() {
+  }
+
+  public static int active() {
+    return active;
+  }
+
+  public static void set(final int id) {
+    active = id;
+  }
+
+}
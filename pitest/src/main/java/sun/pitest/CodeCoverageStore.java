@@ -24,8 +24,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ObjIntConsumer;
 
 /**
  * Store for line visit information.
@@ -54,6 +54,12 @@ public final class CodeCoverageStore {
   // investigated
   private static final Map<Integer, boolean[]> CLASS_HITS        = new ConcurrentHashMap<>();
 
+  // ids of the classes hit since the last reset, so that collecting and
+  // clearing hits costs in proportion to the classes a test ran rather than
+  // to every class instrumented so far
+  private static int[]                         touched           = new int[64];
+  private static int                           touchedCount      = 0;
+
   public static void init(final InvokeReceiver invokeQueue) {
     CodeCoverageStore.invokeQueue = invokeQueue;
   }
@@ -62,32 +68,68 @@ public final class CodeCoverageStore {
   }
 
   public static synchronized void reset() {
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      if (each.getValue()[CLASS_HIT_INDEX]) { //Probe 0 gets covered by any method that runs
-        Arrays.fill(each.getValue(), false);
+    for (int i = 0; i != touchedCount; i++) {
+      final boolean[] bs = CLASS_HITS.get(touched[i]);
+      if (bs != null) {
+        Arrays.fill(bs, false);
       }
     }
+    touchedCount = 0;
+  }
+
+  /**
+   * Called by instrumented code when a class that has not been hit since the
+   * last reset runs. Probe 0 is set here rather than by the instrumented code
+   * so that the class can be recorded as touched.
+   *
+   * <p>The instrumented code reads probe 0 without synchronizing, so a thread
+   * may see a true value cleared by a reset and skip this call. This is
+   * benign. Any thread doing work for the test that follows a reset is
+   * ordered after it, either as the thread that called reset or by however
+   * the work was handed to it, and so sees the cleared value. Only threads
+   * left running by earlier tests can see a stale value, and their probe
+   * writes are not ordered with collection in any case.
+   */
+  public static synchronized void classHit(final int classId) {
+    final boolean[] bs = CLASS_HITS.get(classId);
+    if (bs == null || bs[CLASS_HIT_INDEX]) {
+      return;
+    }
+    bs[CLASS_HIT_INDEX] = true;
+    if (touchedCount == touched.length) {
+      touched = Arrays.copyOf(touched, touchedCount * 2);
+    }
+    touched[touchedCount] = classId;
+    touchedCount++;
   }
 
   public static synchronized Collection<Long> getHits() {
     final Collection<Long> blockHits = new ArrayList<>();
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      final boolean[] bs = each.getValue();
-      // first entry tracks if class has been visited at all
-      if (!bs[CLASS_HIT_INDEX]) {
-        continue;
-      }
-      final int classId = each.getKey();
-
+    visitHits((bs, classId) -> {
       for (int probeId = 1; probeId != bs.length; probeId++) {
         if (bs[probeId]) {
           blockHits.add(encode(classId, probeId));
         }
       }
-    }
+    });
     return blockHits;
   }
 
+  /**
+   * Passes the probe array of each class visited since the last reset to the
+   * supplied visitor, along with the class id. The arrays are live, so must
+   * not be retained or modified.
+   */
+  public static synchronized void visitHits(
+      final ObjIntConsumer<boolean[]> visitor) {
+    for (int i = 0; i != touchedCount; i++) {
+      final boolean[] bs = CLASS_HITS.get(touched[i]);
+      if (bs != null && bs[CLASS_HIT_INDEX]) {
+        visitor.accept(bs, touched[i]);
+      }
+    }
+  }
+
   public static int registerClass(final String className) {
     final int id = nextId();
     invokeQueue.registerClass(id, className);
@@ -135,8 +177,9 @@ public final class CodeCoverageStore {
     });
   }
 
-  public static void resetAllStaticState() {
+  public static synchronized void resetAllStaticState() {
     CLASS_HITS.clear();
+    touchedCount = 0;
   }
 
 }
@@ -0,0 +1,9 @@
+package com.example.isolated;
+
+public class Calculator {
+
+  public int add(int a, int b) {
+    return a + b;
+  }
+
+}
@@ -0,0 +1,9 @@
+package com.example.isolated;
+
+public class CalculatorUser {
+
+  public int sum(int a, int b) {
+    return new Calculator().add(a, b);
+  }
+
+}
@@ -0,0 +1,19 @@
+package com.example.isolated;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class CalculatorUserTest {
+
+  @Test
+  public void addsNumbers() {
+    assertEquals(5, new CalculatorUser().sum(2, 3));
+  }
+
+  @Test
+  public void callsCalculator() {
+    new CalculatorUser().sum(2, 3);
+  }
+
+}
@@ -0,0 +1,62 @@
+package org.pitest.boot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DirectoryClassLoaderTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldOnlyLoadDirectoriesOnClassPath() throws IOException {
+    final File classes = this.folder.newFolder("classes");
+    final String classPath = classes + File.pathSeparator + "a.jar";
+
+    assertThat(DirectoryClassLoader.directories(classPath))
+        .containsExactly(classes.toURI().toURL());
+  }
+
+  @Test
+  public void shouldFindResourcesInDirectoriesBeforeParent() throws IOException {
+    final File project = this.folder.newFolder("project");
+    final File library = this.folder.newFolder("library");
+    write(project, "settings.properties");
+    write(library, "settings.properties");
+
+    final ClassLoader parent = new URLClassLoader(new URL[] { library.toURI().toURL() }, null);
+    final ClassLoader testee = new DirectoryClassLoader(
+        new URL[] { project.toURI().toURL() }, parent);
+
+    assertThat(testee.getResource("settings.properties"))
+        .isEqualTo(new File(project, "settings.properties").toURI().toURL());
+    assertThat(Collections.list(testee.getResources("settings.properties")))
+        .containsExactly(new File(project, "settings.properties").toURI().toURL(),
+            new File(library, "settings.properties").toURI().toURL());
+  }
+
+  @Test
+  public void shouldLoadClassesNotInDirectoriesFromParent() throws Exception {
+    final ClassLoader testee = new DirectoryClassLoader(
+        new URL[] { this.folder.newFolder("classes").toURI().toURL() },
+        getClass().getClassLoader());
+
+    assertThat(testee.loadClass(getClass().getName())).isSameAs(getClass());
+  }
+
+  private static void write(File dir, String name) throws IOException {
+    Files.write(new File(dir, name).toPath(), name.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
@@ -22,11 +22,14 @@ import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 public class ArchiveClassPathRootTest {
 
+  private final ArchiveReaders archives = new ArchiveReaders();
+
   private ArchiveClassPathRoot testee;
 
   @Before
@@ -35,7 +38,13 @@ public class ArchiveClassPathRootTest {
     // http://johanneslink.net/projects/cpsuite.jsp
     // assume GPL licence for this file. We do not link to any code within it
     // however
-    this.testee = new ArchiveClassPathRoot(new File("mytests.jar"));
+    this.testee = new ArchiveClassPathRoot(new File("mytests.jar"),
+        this.archives);
+  }
+
+  @After
+  public void closeArchives() {
+    this.archives.close();
   }
 
   @Test
@@ -78,4 +87,52 @@ public class ArchiveClassPathRootTest {
     assertThat(this.testee.getResource("injar/p1/P1Test.class")).isNotNull();
   }
 
+  @Test
+  public void shouldOpenArchiveOnceForRepeatedLookups() throws Exception {
+    this.testee.classNames();
+    this.testee.getData("injar.p1.P1Test");
+    this.testee.getResource("injar/p1/P1Test.class");
+    new ArchiveClassPathRoot(new File("mytests.jar"), this.archives)
+        .getData("injar.p2.P2Test");
+
+    assertThat(this.archives.opens()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReopenArchiveUsedAfterBeingClosed() throws Exception {
+    this.testee.getData("injar.p1.P1Test");
+    this.archives.close();
+
+    assertThat(this.testee.getData("injar.p1.P1Test")).isNotNull();
+    assertThat(this.archives.opens()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotCloseArchivesOpenedByOtherReaders() throws Exception {
+    final ArchiveReaders others = new ArchiveReaders();
+    final ArchiveClassPathRoot other = new ArchiveClassPathRoot(
+        new File("mytests.jar"), others);
+    other.getData("injar.p1.P1Test");
+    this.testee.getData("injar.p1.P1Test");
+
+    this.archives.close();
+
+    try (InputStream is = other.getData("injar.p2.P2Test")) {
+      assertThat(is).isNotNull();
+    }
+    assertThat(others.opens()).isEqualTo(1);
+    others.close();
+  }
+
+  @Test
+  public void shouldTreatFilesThatAreNotArchivesAsEmpty() throws Exception {
+    final File notAnArchive = File.createTempFile("notazip", ".jar");
+    notAnArchive.deleteOnExit();
+    final ArchiveClassPathRoot root = new ArchiveClassPathRoot(notAnArchive);
+
+    assertThat(root.classNames()).isEmpty();
+    assertThat(root.getData("injar.p1.P1Test")).isNull();
+    assertThat(root.getResource("injar/p1/P1Test.class")).isNull();
+  }
+
 }
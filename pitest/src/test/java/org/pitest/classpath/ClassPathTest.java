@@ -104,6 +104,33 @@ public class ClassPathTest {
     assertThat(underTest.getClassData("")).isNull();
   }
 
+  @Test
+  public void shouldOpenEachArchiveOnceUntilClosed() throws IOException {
+    final ClassPath underTest = new ClassPath(asList(new File("mytests.jar")));
+    underTest.getClassData("injar.p1.P1Test");
+    underTest.getComponent(r -> true).getClassData("injar.p2.P2Test");
+    assertThat(underTest.archiveOpens()).isEqualTo(1);
+
+    underTest.close();
+
+    assertThat(underTest.archiveOpens()).isZero();
+    assertThat(underTest.getClassData("injar.p1.P1Test")).isNotNull();
+    underTest.close();
+  }
+
+  @Test
+  public void shouldNotCloseArchivesOfOtherClassPaths() throws IOException {
+    final ClassPath first = new ClassPath(asList(new File("mytests.jar")));
+    final ClassPath second = new ClassPath(asList(new File("mytests.jar")));
+    second.getClassData("injar.p1.P1Test");
+
+    first.close();
+
+    assertThat(second.archiveOpens()).isEqualTo(1);
+    assertThat(second.getClassData("injar.p2.P2Test")).isNotNull();
+    second.close();
+  }
+
   private Predicate<ClassPathRoot> rootIsEqualTo(final String value) {
     return a -> a.cacheLocation().get().equals(value);
   }
@@ -31,4 +31,11 @@ public class PercentAndConstantTimeoutStrategyTest {
         .isEqualTo((Math.round(1.2f * time) + 666));
 
   }
+
+  @Test
+  public void shouldAllowMoreWallClockTimeThanCpuTime() {
+    this.testee = new PercentAndConstantTimeoutStrategy(1.2f, 666);
+    assertThat(this.testee.getAllowedWallTime(100))
+        .isGreaterThan(this.testee.getAllowedTime(100));
+  }
 }
@@ -0,0 +1,35 @@
+package org.pitest.mutationtest.config;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.pitest.util.PitError;
+
+public class MinionSettingsTest {
+
+  private final ClientPluginServices plugins = Mockito.spy(
+      ClientPluginServices.makeForContextLoader());
+
+  private final MinionSettings testee = new MinionSettings(this.plugins);
+
+  @Test
+  public void shouldFindPluginsOnceWhenInitialised() {
+    this.testee.initialise();
+    this.testee.createReset();
+    this.testee.createEngine("gregor");
+    this.testee.getTestFrameworkPlugin(TestPluginArguments.defaults(), null);
+
+    verify(this.plugins, times(1)).findTestFrameworkPlugins();
+    verify(this.plugins, times(1)).findMutationEngines();
+    verify(this.plugins, times(1)).findResets();
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldReportUnknownEngines() {
+    this.testee.initialise();
+    this.testee.createEngine("unknown");
+  }
+
+}
@@ -0,0 +1,144 @@
+package org.pitest.mutationtest.engine.gregor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.util.CheckClassAdapter;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+public class GregorMutaterBatchTest {
+
+  private static final int[] INPUTS = { -7, 0, 1, 5, 10, 11, 100 };
+
+  private final GregorMutater testee = new GregorMutater(
+      ClassloaderByteArraySource.fromContext(), m -> true, Mutator.all());
+
+  @Test
+  public void shouldCreateMutantsInRequestedOrder() {
+    final List<MutationIdentifier> ids = mutantsOf(HasSeveralMethods.class);
+    final List<Mutant> mutants = batchFor(HasSeveralMethods.class, ids);
+
+    assertThat(mutants.stream().map(m -> m.getDetails().getId()))
+        .containsExactlyElementsOf(ids);
+  }
+
+  @Test
+  public void shouldDescribeMutantsAsWhenCreatedIndividually() {
+    final List<MutationIdentifier> ids = mutantsOf(HasSeveralMethods.class);
+
+    for (final Mutant each : batchFor(HasSeveralMethods.class, ids)) {
+      assertThat(each.getDetails())
+          .isEqualTo(this.testee.getMutation(each.getDetails().getId()).getDetails());
+    }
+  }
+
+  @Test
+  public void shouldBehaveAsMutantsCreatedIndividually() throws Exception {
+    final List<MutationIdentifier> ids = mutantsOf(HasSeveralMethods.class);
+
+    for (final Mutant each : batchFor(HasSeveralMethods.class, ids)) {
+      final MutationIdentifier id = each.getDetails().getId();
+      final IntUnaryOperator batched = load(HasSeveralMethods.class, each.getBytes());
+      final IntUnaryOperator individual = load(HasSeveralMethods.class,
+          this.testee.getMutation(id).getBytes());
+      for (final int input : INPUTS) {
+        assertThat(apply(batched, input)).as(id + " for input " + input)
+            .isEqualTo(apply(individual, input));
+      }
+    }
+  }
+
+  @Test
+  public void shouldCreateVerifiableBytecode() {
+    final List<MutationIdentifier> ids = mutantsOf(HasSeveralMethods.class);
+
+    for (final Mutant each : batchFor(HasSeveralMethods.class, ids)) {
+      final StringWriter sw = new StringWriter();
+      CheckClassAdapter.verify(new ClassReader(each.getBytes()), false, new PrintWriter(sw));
+      assertThat(sw.toString()).as(each.getDetails().toString()).isEmpty();
+    }
+  }
+
+  @Test
+  public void shouldReturnNoMutantsForUnknownClass() {
+    assertThat(this.testee.getMutations(ClassName.fromString("not.Found"),
+        mutantsOf(HasSeveralMethods.class))).isEmpty();
+  }
+
+  private List<Mutant> batchFor(Class<?> clazz, List<MutationIdentifier> ids) {
+    return this.testee.getMutations(ClassName.fromClass(clazz), ids);
+  }
+
+  private List<MutationIdentifier> mutantsOf(Class<?> clazz) {
+    return this.testee.findMutations(ClassName.fromClass(clazz)).stream()
+        .map(MutationDetails::getId)
+        .collect(Collectors.toList());
+  }
+
+  private static String apply(IntUnaryOperator op, int input) {
+    try {
+      return "" + op.applyAsInt(input);
+    } catch (final RuntimeException ex) {
+      return ex.getClass().getName();
+    }
+  }
+
+  private static IntUnaryOperator load(Class<?> clazz, byte[] bytes) throws Exception {
+    final ClassLoader loader = new ClassLoader(GregorMutaterBatchTest.class.getClassLoader()) {
+      @Override
+      protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (name.equals(clazz.getName())) {
+          synchronized (getClassLoadingLock(name)) {
+            final Class<?> loaded = findLoadedClass(name);
+            return loaded != null ? loaded : defineClass(name, bytes, 0, bytes.length);
+          }
+        }
+        return super.loadClass(name, resolve);
+      }
+    };
+    return (IntUnaryOperator) loader.loadClass(clazz.getName())
+        .getDeclaredConstructor().newInstance();
+  }
+
+  public static class HasSeveralMethods implements IntUnaryOperator {
+    private int calls;
+
+    @Override
+    public int applyAsInt(int i) {
+      this.calls++;
+      if (i > 10) {
+        return twice(i) + divide(i);
+      }
+      return i - 3;
+    }
+
+    int twice(int i) {
+      return i * 2;
+    }
+
+    int divide(int i) {
+      int total = 0;
+      try {
+        total = 100 / i;
+      } catch (final ArithmeticException ex) {
+        total = -1;
+      } finally {
+        total += this.calls;
+      }
+      return total > 3 ? total * 2 : total;
+    }
+  }
+
+}
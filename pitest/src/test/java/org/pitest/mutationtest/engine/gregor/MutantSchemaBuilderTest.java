@@ -0,0 +1,208 @@
+package org.pitest.mutationtest.engine.gregor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.util.CheckClassAdapter;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutantSchema;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+public class MutantSchemaBuilderTest {
+
+  private static final int[] INPUTS = { -7, 0, 1, 5, 10, 11, 100 };
+
+  private final GregorMutater testee = new GregorMutater(
+      ClassloaderByteArraySource.fromContext(), m -> true, Mutator.newDefaults());
+
+  @After
+  public void deactivate() {
+    MutantSchema.deactivate();
+  }
+
+  @Test
+  public void shouldCombineAllMutantsOfOrdinaryMethods() {
+    final List<MutationIdentifier> ids = mutantsOf(HasMutableMethods.class);
+    final MutantSchema schema = schemaFor(HasMutableMethods.class, ids);
+
+    assertThat(ids).hasSizeGreaterThan(1);
+    assertThat(schema.size()).isEqualTo(ids.size());
+  }
+
+  @Test
+  public void shouldBehaveAsUnmutatedClassWhenNoMutantActive() throws Exception {
+    final MutantSchema schema = schemaFor(HasMutableMethods.class,
+        mutantsOf(HasMutableMethods.class));
+    final IntUnaryOperator unmutated = new HasMutableMethods();
+    final IntUnaryOperator fromSchema = load(HasMutableMethods.class, schema.getBytes());
+
+    for (final int each : INPUTS) {
+      assertThat(fromSchema.applyAsInt(each)).isEqualTo(unmutated.applyAsInt(each));
+    }
+  }
+
+  @Test
+  public void shouldBehaveAsEachMutantWhenItIsActivated() throws Exception {
+    assertBehavesAsIndividualMutants(HasMutableMethods.class);
+  }
+
+  @Test
+  public void shouldBehaveAsEachMutantInMethodsWithExceptionHandlers() throws Exception {
+    assertBehavesAsIndividualMutants(HasExceptionHandlers.class);
+  }
+
+  @Test
+  public void shouldNotCombineMutantsInConstructors() {
+    final List<MutationIdentifier> ids = mutantsOf(HasMutableConstructor.class);
+    final MutantSchema schema = schemaFor(HasMutableConstructor.class, ids);
+
+    assertThat(ids.stream().filter(id -> id.getLocation().getMethodName().equals("<init>")))
+        .isNotEmpty()
+        .noneMatch(schema::contains);
+    assertThat(ids.stream().filter(id -> !id.getLocation().getMethodName().equals("<init>")))
+        .isNotEmpty()
+        .allMatch(schema::contains);
+  }
+
+  @Test
+  public void shouldCreateVerifiableBytecodeForAllMutators() {
+    final GregorMutater allMutators = new GregorMutater(
+        ClassloaderByteArraySource.fromContext(), m -> true, Mutator.all());
+    final ClassName clazz = ClassName.fromClass(HasExceptionHandlers.class);
+    final List<MutationIdentifier> ids = allMutators.findMutations(clazz).stream()
+        .map(MutationDetails::getId)
+        .collect(Collectors.toList());
+
+    final MutantSchema schema = allMutators.createSchema(clazz, ids);
+
+    assertThat(schema.isEmpty()).isFalse();
+    final StringWriter sw = new StringWriter();
+    CheckClassAdapter.verify(new ClassReader(schema.getBytes()), false, new PrintWriter(sw));
+    assertThat(sw.toString()).isEmpty();
+  }
+
+  @Test
+  public void shouldUseDistinctSwitchValuesForEachSchema() throws Exception {
+    final List<MutationIdentifier> first = mutantsOf(HasMutableMethods.class);
+    final MutantSchema a = schemaFor(HasMutableMethods.class, first);
+    final MutantSchema b = schemaFor(HasMutableMethods.class, first);
+    final IntUnaryOperator fromA = load(HasMutableMethods.class, a.getBytes());
+    final IntUnaryOperator unmutated = new HasMutableMethods();
+
+    b.activate(first.get(0));
+
+    for (final int each : INPUTS) {
+      assertThat(fromA.applyAsInt(each)).isEqualTo(unmutated.applyAsInt(each));
+    }
+  }
+
+  private void assertBehavesAsIndividualMutants(Class<? extends IntUnaryOperator> clazz)
+      throws Exception {
+    final List<MutationIdentifier> ids = mutantsOf(clazz);
+    final MutantSchema schema = schemaFor(clazz, ids);
+    final IntUnaryOperator fromSchema = load(clazz, schema.getBytes());
+
+    for (final MutationIdentifier id : ids) {
+      final Mutant mutant = this.testee.getMutation(id);
+      final IntUnaryOperator individual = load(clazz, mutant.getBytes());
+      schema.activate(id);
+      for (final int each : INPUTS) {
+        assertThat(apply(fromSchema, each)).as(id + " for input " + each)
+            .isEqualTo(apply(individual, each));
+      }
+    }
+  }
+
+  private static String apply(IntUnaryOperator op, int input) {
+    try {
+      return "" + op.applyAsInt(input);
+    } catch (final RuntimeException ex) {
+      return ex.getClass().getName();
+    }
+  }
+
+  private List<MutationIdentifier> mutantsOf(Class<?> clazz) {
+    return this.testee.findMutations(ClassName.fromClass(clazz)).stream()
+        .map(MutationDetails::getId)
+        .collect(Collectors.toList());
+  }
+
+  private MutantSchema schemaFor(Class<?> clazz, List<MutationIdentifier> ids) {
+    return this.testee.createSchema(ClassName.fromClass(clazz), ids);
+  }
+
+  private static IntUnaryOperator load(Class<?> clazz, byte[] bytes) throws Exception {
+    final ClassLoader loader = new ClassLoader(MutantSchemaBuilderTest.class.getClassLoader()) {
+      @Override
+      protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (name.equals(clazz.getName())) {
+          synchronized (getClassLoadingLock(name)) {
+            final Class<?> loaded = findLoadedClass(name);
+            return loaded != null ? loaded : defineClass(name, bytes, 0, bytes.length);
+          }
+        }
+        return super.loadClass(name, resolve);
+      }
+    };
+    return (IntUnaryOperator) loader.loadClass(clazz.getName())
+        .getDeclaredConstructor().newInstance();
+  }
+
+  public static class HasMutableMethods implements IntUnaryOperator {
+    @Override
+    public int applyAsInt(int i) {
+      if (i > 10) {
+        return twice(i) + 1;
+      }
+      return i - 3;
+    }
+
+    public int twice(int i) {
+      return i * 2;
+    }
+  }
+
+  public static class HasExceptionHandlers implements IntUnaryOperator {
+    @Override
+    public int applyAsInt(int i) {
+      int total = 0;
+      try {
+        total = 100 / i;
+      } catch (final ArithmeticException ex) {
+        total = -1;
+      } finally {
+        total++;
+      }
+      if (total > 3) {
+        total = total * 2;
+      }
+      return total;
+    }
+  }
+
+  public static class HasMutableConstructor implements IntUnaryOperator {
+    private final int offset;
+
+    public HasMutableConstructor() {
+      this.offset = Integer.getInteger("not.set", 2) + 1;
+    }
+
+    @Override
+    public int applyAsInt(int i) {
+      return i + this.offset;
+    }
+  }
+
+}
@@ -0,0 +1,149 @@
+package org.pitest.mutationtest.execute;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.testapi.TestUnit;
+
+public class BaselineCalibrationTest {
+
+  private final Reporter            reporter = mock(Reporter.class);
+  private final BaselineCalibration testee   = new BaselineCalibration(this.reporter,
+      new TimeoutRecovery(10));
+  private final AtomicInteger       runs     = new AtomicInteger();
+  private final SideEffect          unrecoverable = mock(SideEffect.class);
+
+  @Test
+  public void shouldRunEachCoveringTestOnce() {
+    final List<MutationDetails> mutants = asList(mutantCoveredBy("one"),
+        mutantCoveredBy("one"));
+    measure(mutants, asList(makeTestUnit("one"), makeTestUnit("two")));
+    measure(mutants, asList(makeTestUnit("one"), makeTestUnit("two")));
+    assertThat(this.runs.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReportMeasuredTimes() {
+    measure(asList(mutantCoveredBy("one")),
+        asList(makeTestUnit("one")));
+    verify(this.reporter).baseline("one", (int) this.testee.expectedTime(test("one")));
+  }
+
+  @Test
+  public void shouldSkipTestsThatAreNotAvailable() {
+    measure(asList(mutantCoveredBy("missing")),
+        asList(makeTestUnit("one")));
+    verify(this.reporter, never()).baseline(anyString(), anyInt());
+  }
+
+  @Test
+  public void shouldExpectMeasuredTime() {
+    measure(asList(mutantCoveredBy("one")),
+        asList(makeTestUnit("one")));
+    // measurements are rounded up
+    assertThat(this.testee.expectedTime(test("one"))).isGreaterThan(0)
+        .isLessThan(1000);
+  }
+
+  @Test
+  public void shouldExpectWallTimeOfTestsThatMostlyWait() {
+    measure(asList(mutantCoveredBy("sleeps")),
+        asList(makeTestUnit("sleeps", () -> sleep(200))));
+    assertThat(this.testee.expectedWallTime(test("sleeps")))
+        .isGreaterThanOrEqualTo(200);
+  }
+
+  @Test
+  public void shouldExpectCoverageTimeForWallTimeWhenNotMeasured() {
+    assertThat(this.testee.expectedWallTime(test("one"))).isEqualTo(1000);
+  }
+
+  @Test
+  public void shouldAbandonTestsThatHangWithoutMeasuringThem() {
+    final TestInfo hangs = new TestInfo(null, "hangs", 10, Optional.empty(), 0);
+    this.testee.measure(asList(aMutationDetail()
+        .withTestsInOrder(Collections.singletonList(hangs)).build()),
+        asList(makeTestUnit("hangs", () -> sleep(Long.MAX_VALUE))),
+        new PercentAndConstantTimeoutStrategy(1, 10), this.unrecoverable);
+
+    verify(this.reporter, never()).baseline(anyString(), anyInt());
+    verify(this.unrecoverable, never()).apply();
+    assertThat(this.testee.expectedTime(hangs)).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldExpectTimeFromHistoryWhenNotMeasured() {
+    final BaselineTimings history = new BaselineTimings();
+    history.record("one", 7);
+    this.testee.addHistory(history);
+    assertThat(this.testee.expectedTime(test("one"))).isEqualTo(7);
+  }
+
+  @Test
+  public void shouldExpectCoverageTimeWhenNoTimingsKnown() {
+    assertThat(this.testee.expectedTime(test("one"))).isEqualTo(1000);
+  }
+
+  private static MutationDetails mutantCoveredBy(String name) {
+    return aMutationDetail()
+        .withTestsInOrder(Collections.singletonList(test(name))).build();
+  }
+
+  private static TestInfo test(String name) {
+    return new TestInfo(null, name, 1000, Optional.empty(), 0);
+  }
+
+  private void measure(List<MutationDetails> mutants, List<TestUnit> tests) {
+    this.testee.measure(mutants, tests,
+        new PercentAndConstantTimeoutStrategy(1.25f, 4000), this.unrecoverable);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private TestUnit makeTestUnit(final String name) {
+    return makeTestUnit(name, () -> { });
+  }
+
+  private TestUnit makeTestUnit(final String name, final Runnable body) {
+    return new TestUnit() {
+      private final Description description = new Description(name);
+
+      @Override
+      public void execute(final ResultCollector rc) {
+        BaselineCalibrationTest.this.runs.incrementAndGet();
+        body.run();
+      }
+
+      @Override
+      public Description getDescription() {
+        return this.description;
+      }
+
+    };
+  }
+
+}
@@ -0,0 +1,60 @@
+package org.pitest.mutationtest.execute;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class BaselineTimingsTest {
+
+  private final BaselineTimings testee = new BaselineTimings();
+
+  @Test
+  public void shouldHaveNoExpectedTimeForUnknownTest() {
+    assertThat(this.testee.expectedTime("foo")).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldExpectOnlyTimingOfTestMeasuredOnce() {
+    this.testee.record("foo", 42);
+    assertThat(this.testee.expectedTime("foo")).isEqualTo(42);
+  }
+
+  @Test
+  public void shouldExpectNinetiethPercentileOfTimings() {
+    for (int i = 1; i <= 10; i++) {
+      this.testee.record("foo", i * 10);
+    }
+    assertThat(this.testee.expectedTime("foo")).isEqualTo(90);
+  }
+
+  @Test
+  public void shouldForgetOldestTimingsOnceWindowIsFull() {
+    this.testee.record("foo", 1000);
+    for (int i = 0; i != BaselineTimings.WINDOW; i++) {
+      this.testee.record("foo", 10);
+    }
+    assertThat(this.testee.expectedTime("foo")).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldSelectTimingsOfRequestedTests() {
+    this.testee.record("foo", 1);
+    this.testee.record("bar", 2);
+    final BaselineTimings actual = this.testee.forTests(asList("bar", "baz"));
+    assertThat(actual.expectedTime("foo")).isEqualTo(-1);
+    assertThat(actual.expectedTime("bar")).isEqualTo(2);
+    assertThat(actual.expectedTime("baz")).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldAddTimingsOfOtherTests() {
+    final BaselineTimings other = new BaselineTimings();
+    other.record("bar", 2);
+    this.testee.record("foo", 1);
+    this.testee.addAll(other);
+    assertThat(this.testee.expectedTime("foo")).isEqualTo(1);
+    assertThat(this.testee.expectedTime("bar")).isEqualTo(2);
+  }
+
+}
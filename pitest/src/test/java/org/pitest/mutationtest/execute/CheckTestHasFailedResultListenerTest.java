@@ -49,6 +49,14 @@ public class CheckTestHasFailedResultListenerTest {
     assertThat(this.testee.status()).isEqualTo(DetectionStatus.KILLED);
   }
 
+  @Test
+  public void shouldReturnDetectionStatusOfTimedOutWhenTestAbandonedAfterTimeOut() {
+    this.testee = new CheckTestHasFailedResultListener(false);
+    this.testee.onTestFailure(new TestResult(this.description, new TestTimedOutException(10)));
+    assertThat(this.testee.status()).isEqualTo(DetectionStatus.TIMED_OUT);
+    assertThat(this.testee.getFailingTests()).isEmpty();
+  }
+
   @Test
   public void shouldRecordDescriptionOfLastFailingTest() {
     this.testee = new CheckTestHasFailedResultListener(false);
@@ -0,0 +1,166 @@
+package org.pitest.mutationtest.execute;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.coverage.TestInfo;
+import org.pitest.junit.JUnitCompatibleConfiguration;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+import org.pitest.testapi.Configuration;
+import org.pitest.testapi.TestGroupConfig;
+import org.pitest.util.ExitCode;
+import org.pitest.util.IsolationUtils;
+
+import com.example.isolated.Calculator;
+import com.example.isolated.CalculatorUser;
+import com.example.isolated.CalculatorUserTest;
+
+public class ConcurrentMutationTestWorkerTest {
+
+  private static final TimeoutLengthStrategy TIMEOUT = time -> 10000;
+
+  private final Configuration testPlugin = new JUnitCompatibleConfiguration(
+      new TestGroupConfig(), Collections.emptyList(), Collections.emptyList());
+
+  private final Mutater mutater = new GregorMutater(
+      ClassloaderByteArraySource.fromContext(), m -> m.getName().equals("add"),
+      Mutator.fromStrings(singletonList("MATH")));
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> results = new ConcurrentHashMap<>();
+  private final Reporter reporter = new Reporter() {
+    @Override
+    public void describe(MutationIdentifier i) {
+    }
+
+    @Override
+    public void report(MutationIdentifier i, MutationStatusTestPair result) {
+      ConcurrentMutationTestWorkerTest.this.results.put(i, result);
+    }
+
+    @Override
+    public void done(ExitCode exitCode) {
+    }
+  };
+
+  private ConcurrentMutationTestWorker testee;
+
+  @Before
+  public void setUp() {
+    this.testee = new ConcurrentMutationTestWorker(this.mutater,
+        IsolationUtils.getContextClassLoader(), this.testPlugin, false, 2);
+  }
+
+  @Test
+  public void shouldKillMutantsCalledThroughOtherClasses() {
+    final List<MutationDetails> mutants = mutantsCoveredBy("addsNumbers");
+
+    assertThat(this.testee.run(mutants, testClass(), this.reporter, TIMEOUT,
+        RangeSplitter.NONE)).isTrue();
+
+    assertThat(this.results).hasSize(mutants.size());
+    assertThat(this.results.values()).extracting(MutationStatusTestPair::getStatus)
+        .containsOnly(DetectionStatus.KILLED);
+  }
+
+  @Test
+  public void shouldReportSurvivingMutants() {
+    final List<MutationDetails> mutants = mutantsCoveredBy("callsCalculator");
+
+    this.testee.run(mutants, testClass(), this.reporter, TIMEOUT, RangeSplitter.NONE);
+
+    assertThat(this.results.values()).extracting(MutationStatusTestPair::getStatus)
+        .containsOnly(DetectionStatus.SURVIVED);
+  }
+
+  @Test
+  public void shouldNotMutateClassesSeenOutsideTheTests() {
+    this.testee.run(mutantsCoveredBy("addsNumbers"), testClass(), this.reporter,
+        TIMEOUT, RangeSplitter.NONE);
+
+    assertThat(new CalculatorUser().sum(2, 3)).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldRunManyMutantsWithFewThreads() {
+    final List<MutationDetails> mutants = new ArrayList<>();
+    for (int i = 0; i != 5; i++) {
+      mutants.addAll(mutantsCoveredBy("addsNumbers"));
+    }
+
+    this.testee.run(mutants, testClass(), this.reporter, TIMEOUT, RangeSplitter.NONE);
+
+    assertThat(this.results.values()).extracting(MutationStatusTestPair::getStatus)
+        .containsOnly(DetectionStatus.KILLED);
+  }
+
+  @Test
+  public void shouldStopAtEndOfRangeSetBySplitter() {
+    final Reporter r = mock(Reporter.class);
+    final List<MutationDetails> mutants = mutantsCoveredBy("addsNumbers");
+    assertThat(mutants).isNotEmpty();
+
+    this.testee.run(mutants, testClass(), r, TIMEOUT, (next, end) -> 0);
+
+    verify(r, never()).describe(any(MutationIdentifier.class));
+  }
+
+  @Test
+  public void shouldReportNonViableMutants() {
+    final MutationDetails details = mutantsCoveredBy("addsNumbers").get(0);
+    final Mutater broken = mock(Mutater.class);
+    when(broken.getMutation(details.getId()))
+        .thenReturn(new Mutant(details, new byte[] { 1, 2, 3 }));
+    final Reporter r = mock(Reporter.class);
+    this.testee = new ConcurrentMutationTestWorker(broken,
+        IsolationUtils.getContextClassLoader(), this.testPlugin, false, 2);
+
+    this.testee.run(singletonList(details), testClass(), r, TIMEOUT, RangeSplitter.NONE);
+
+    verify(r).report(eq(details.getId()),
+        argThat(p -> p.getStatus() == DetectionStatus.NON_VIABLE));
+  }
+
+  private List<ClassName> testClass() {
+    return singletonList(ClassName.fromClass(CalculatorUserTest.class));
+  }
+
+  private List<MutationDetails> mutantsCoveredBy(String testMethod) {
+    final String name = testMethod + "(" + CalculatorUserTest.class.getName() + ")";
+    final TestInfo test = new TestInfo(CalculatorUserTest.class.getName(),
+        CalculatorUserTest.class.getName() + "." + name, 0,
+        Optional.empty(), 0);
+    final List<MutationDetails> mutants = this.mutater
+        .findMutations(ClassName.fromClass(Calculator.class));
+    for (final MutationDetails each : mutants) {
+      each.addTestsInOrder(singletonList(test));
+    }
+    return mutants;
+  }
+
+}
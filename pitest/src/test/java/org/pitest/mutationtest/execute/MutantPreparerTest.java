@@ -0,0 +1,174 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class MutantPreparerTest {
+
+  private final RecordingMutater mutater = new RecordingMutater();
+
+  private MutantPreparer testee;
+
+  @After
+  public void shutdown() {
+    if (this.testee != null) {
+      this.testee.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldReturnRequestedMutants() {
+    final List<MutationDetails> mutants = Arrays.asList(mutant("a", 1),
+        mutant("a", 2), mutant("b", 1));
+    this.testee = new MutantPreparer(this.mutater, mutants, 16);
+
+    for (final MutationDetails each : mutants) {
+      assertThat(this.testee.get(each.getId()).getDetails().getId())
+          .isEqualTo(each.getId());
+    }
+  }
+
+  @Test
+  public void shouldCreateConsecutiveMutantsOfSameClassTogether() {
+    final List<MutationDetails> mutants = Arrays.asList(mutant("a", 1),
+        mutant("a", 2), mutant("a", 3), mutant("b", 1), mutant("a", 4));
+    this.testee = new MutantPreparer(this.mutater, mutants, 16);
+
+    requestAll(mutants);
+
+    assertThat(this.mutater.batches()).containsExactly(
+        ids(mutants.subList(0, 3)), ids(mutants.subList(3, 4)),
+        ids(mutants.subList(4, 5)));
+  }
+
+  @Test
+  public void shouldLimitSizeOfBatches() {
+    final List<MutationDetails> mutants = Arrays.asList(mutant("a", 1),
+        mutant("a", 2), mutant("a", 3));
+    this.testee = new MutantPreparer(this.mutater, mutants, 2);
+
+    requestAll(mutants);
+
+    assertThat(this.mutater.batches()).containsExactly(
+        ids(mutants.subList(0, 2)), ids(mutants.subList(2, 3)));
+  }
+
+  @Test
+  public void shouldPrepareNextBatchBeforeItIsRequested() throws Exception {
+    final List<MutationDetails> mutants = Arrays.asList(mutant("a", 1),
+        mutant("b", 1));
+    this.testee = new MutantPreparer(this.mutater, mutants, 16);
+
+    this.testee.get(mutants.get(0).getId());
+    final long deadline = System.currentTimeMillis() + 5000;
+    while (this.mutater.batchCount() < 2 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+
+    assertThat(this.mutater.batchCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldCreateMutantsRequestedOutOfOrder() {
+    final List<MutationDetails> mutants = Arrays.asList(mutant("a", 1),
+        mutant("b", 1), mutant("c", 1));
+    this.testee = new MutantPreparer(this.mutater, mutants, 16);
+
+    assertThat(this.testee.get(mutants.get(2).getId()).getDetails().getId())
+        .isEqualTo(mutants.get(2).getId());
+    assertThat(this.testee.get(mutants.get(0).getId()).getDetails().getId())
+        .isEqualTo(mutants.get(0).getId());
+  }
+
+  @Test
+  public void shouldCreateUnexpectedMutantsIndividually() {
+    this.testee = new MutantPreparer(this.mutater,
+        Collections.singletonList(mutant("a", 1)), 16);
+    final MutationDetails unexpected = mutant("z", 1);
+
+    assertThat(this.testee.get(unexpected.getId()).getDetails().getId())
+        .isEqualTo(unexpected.getId());
+    assertThat(this.mutater.individual).containsExactly(unexpected.getId());
+  }
+
+  @Test
+  public void shouldPropagateErrorsFromMutater() {
+    this.testee = new MutantPreparer(this.mutater,
+        Collections.singletonList(mutant("fail", 1)), 16);
+
+    assertThatThrownBy(() -> this.testee.get(mutant("fail", 1).getId()))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private void requestAll(List<MutationDetails> mutants) {
+    for (final MutationDetails each : mutants) {
+      this.testee.get(each.getId());
+    }
+  }
+
+  private static List<MutationIdentifier> ids(List<MutationDetails> mutants) {
+    return mutants.stream().map(MutationDetails::getId).collect(Collectors.toList());
+  }
+
+  private static MutationDetails mutant(String clazz, int index) {
+    return new MutationDetails(new MutationIdentifier(Location.location(
+        ClassName.fromString(clazz), "aMethod", "()V"), index, "mutator"),
+        "foo.java", "desc", 42, 0);
+  }
+
+  private static class RecordingMutater implements Mutater {
+    private final List<List<MutationIdentifier>> batches    = new ArrayList<>();
+    private final List<MutationIdentifier>       individual = new ArrayList<>();
+
+    @Override
+    public Mutant getMutation(MutationIdentifier id) {
+      this.individual.add(id);
+      return create(id);
+    }
+
+    @Override
+    public synchronized List<Mutant> getMutations(ClassName clazz,
+        Collection<MutationIdentifier> ids) {
+      this.batches.add(new ArrayList<>(ids));
+      return ids.stream().map(RecordingMutater::create).collect(Collectors.toList());
+    }
+
+    synchronized List<List<MutationIdentifier>> batches() {
+      return new ArrayList<>(this.batches);
+    }
+
+    synchronized int batchCount() {
+      return this.batches.size();
+    }
+
+    @Override
+    public List<MutationDetails> findMutations(ClassName classToMutate) {
+      return Collections.emptyList();
+    }
+
+    private static Mutant create(MutationIdentifier id) {
+      if (id.getClassName().asJavaName().equals("fail")) {
+        throw new IllegalStateException();
+      }
+      return new Mutant(new MutationDetails(id, "foo.java", "desc", 42, 0),
+          new byte[0]);
+    }
+  }
+
+}
@@ -0,0 +1,62 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.pitest.junit.JUnitCompatibleConfiguration;
+import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.environment.CompositeReset;
+import org.pitest.mutationtest.environment.ResetEnvironment;
+import org.pitest.testapi.Configuration;
+import org.pitest.testapi.TestGroupConfig;
+import org.pitest.util.Verbosity;
+
+public class MutationTestMinionTest {
+
+  private final Configuration testPlugin = new JUnitCompatibleConfiguration(
+      new TestGroupConfig(), Collections.emptyList(), Collections.emptyList());
+
+  @Test
+  public void shouldRunMutantsConcurrentlyWhenNothingNeedsResetting() {
+    assertThat(MutationTestMinion.canRunConcurrently(
+        arguments(4, EngineArguments.arguments()), this.testPlugin,
+        new CompositeReset(Collections.singletonList(ResetEnvironment.none()))))
+        .isTrue();
+  }
+
+  @Test
+  public void shouldRunMutantsOneAtATimeWhenOnlyOneAllowed() {
+    assertThat(MutationTestMinion.canRunConcurrently(
+        arguments(1, EngineArguments.arguments()), this.testPlugin,
+        ResetEnvironment.none()))
+        .isFalse();
+  }
+
+  @Test
+  public void shouldRunMutantsOneAtATimeWhenEnvironmentMustBeReset() {
+    final ResetEnvironment reset = new CompositeReset(
+        Collections.singletonList(m -> { }));
+
+    assertThat(MutationTestMinion.canRunConcurrently(
+        arguments(4, EngineArguments.arguments()), this.testPlugin, reset))
+        .isFalse();
+  }
+
+  @Test
+  public void shouldRunMutantsOneAtATimeWhenUsingSchemata() {
+    assertThat(MutationTestMinion.canRunConcurrently(
+        arguments(4, EngineArguments.arguments().withSchemata(true)),
+        this.testPlugin, ResetEnvironment.none()))
+        .isFalse();
+  }
+
+  private static MinionArguments arguments(int concurrentMutants,
+      EngineArguments engineArgs) {
+    return new MinionArguments(Collections.emptyList(), Collections.emptyList(),
+        "gregor", engineArgs, TimeoutSettings.limitedBy(time -> time),
+        Verbosity.DEFAULT, false, null, false, concurrentMutants);
+  }
+
+}
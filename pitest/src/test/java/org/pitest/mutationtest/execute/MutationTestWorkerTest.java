@@ -1,6 +1,9 @@
 package org.pitest.mutationtest.execute;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.DetectionStatus.NON_VIABLE;
@@ -12,7 +15,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -24,6 +30,7 @@ import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.environment.ResetEnvironment;
 import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutantSchema;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
@@ -73,6 +80,22 @@ public class MutationTestWorkerTest {
     verify(this.reporter).describe(mutantTwo.getId());
   }
 
+  @Test
+  public void shouldStopAtEndOfRangeSetBySplitter() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    final MutationDetails mutantThree = makeMutant("foo", 3);
+    final Collection<MutationDetails> range = Arrays.asList(mutantOne,
+        mutantTwo, mutantThree);
+
+    this.testee.run(range, this.reporter, this.testSource,
+        (next, end) -> next == 1 ? 2 : end);
+
+    verify(this.reporter).describe(mutantOne.getId());
+    verify(this.reporter).describe(mutantTwo.getId());
+    verify(this.reporter, never()).describe(mutantThree.getId());
+  }
+
   @Test
   @Ignore("disabled while checking coverage issue")
   public void shouldReportNoCoverageForMutationWithNoTestCoverage()
@@ -131,6 +154,81 @@ public class MutationTestWorkerTest {
             .getDescription().getName()));
   }
 
+  @Test
+  public void shouldRestoreUnmutatedBytesOfLastMutatedClass() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final TestUnit tu = makePassingTest();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(tu));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    final byte[] original = new byte[] { 1, 2, 3 };
+    this.testee.restoreUnmutatedClass(name -> Optional.of(original));
+
+    verify(this.hotswapper).insertClass(ClassName.fromString("foo"), this.loader, original);
+    verify(this.reset).resetFor(argThat(m -> m.getBytes() == original));
+  }
+
+  @Test
+  public void shouldNotRestoreAnythingWhenNoClassMutated() {
+    this.testee.restoreUnmutatedClass(name -> Optional.of(new byte[0]));
+    verify(this.hotswapper, never()).insertClass(any(ClassName.class), any(ClassLoader.class),
+        any(byte[].class));
+  }
+
+  @Test
+  public void shouldInsertSchemaOnceForAllMutantsItContains() throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, this.reset, false, true);
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    final Map<MutationIdentifier, Integer> switchValues = new HashMap<>();
+    switchValues.put(mutantOne.getId(), 1);
+    switchValues.put(mutantTwo.getId(), 2);
+    final byte[] schemaBytes = new byte[] { 1 };
+    when(this.mutater.createSchema(any(ClassName.class), any(Collection.class)))
+        .thenReturn(new MutantSchema(ClassName.fromString("foo"), schemaBytes, switchValues));
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter, this.testSource);
+
+    verify(this.hotswapper, times(1)).insertClass(ClassName.fromString("foo"), this.loader,
+        schemaBytes);
+    verify(this.mutater, never()).getMutation(any(MutationIdentifier.class));
+    verify(this.reporter, times(2)).report(any(MutationIdentifier.class),
+        argThat(r -> r.getStatus() == DetectionStatus.SURVIVED));
+  }
+
+  @Test
+  public void shouldInsertMutantsIndividuallyWhenSchemaNotViable() throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, this.reset, false, true);
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    final Map<MutationIdentifier, Integer> switchValues = new HashMap<>();
+    switchValues.put(mutantOne.getId(), 1);
+    switchValues.put(mutantTwo.getId(), 2);
+    final byte[] schemaBytes = new byte[] { 1 };
+    when(this.mutater.createSchema(any(ClassName.class), any(Collection.class)))
+        .thenReturn(new MutantSchema(ClassName.fromString("foo"), schemaBytes, switchValues));
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(this.hotswapper.insertClass(ClassName.fromString("foo"), this.loader, schemaBytes))
+        .thenReturn(false);
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter, this.testSource);
+
+    verify(this.mutater).getMutation(mutantOne.getId());
+    verify(this.mutater).getMutation(mutantTwo.getId());
+  }
+
   private TestUnit makeFailingTest() {
     return new TestUnit() {
 
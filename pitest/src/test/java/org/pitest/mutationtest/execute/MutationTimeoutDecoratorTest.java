@@ -25,6 +25,7 @@ import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -64,6 +65,34 @@ public class MutationTimeoutDecoratorTest {
     verify(this.sideEffect, never()).apply();
   }
 
+  @Test
+  public void shouldCalculateWallClockLimitFromWallClockTime() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(1000L);
+    when(this.timeoutStrategy.getAllowedWallTime(3000L)).thenReturn(8000L);
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, 3000L, null);
+
+    this.testee.execute(this.rc);
+    verify(this.timeoutStrategy).getAllowedWallTime(3000L);
+    verify(this.sideEffect, never()).apply();
+  }
+
+  @Test
+  public void shouldReportTimedOutTestWhenRecoveredFromTimeOut() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(50L);
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, NORMAL_EXECUTION, new TimeoutRecovery(100));
+
+    doAnswer(invocation -> {
+      Thread.sleep(10000);
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    this.testee.execute(this.rc);
+    verify(this.rc).notifyEnd(any(), isA(TestTimedOutException.class));
+    verify(this.sideEffect, never()).apply();
+  }
+
   @Test
   @Ignore("flakey")
   public void shouldApplySideEffectWhenChildRunsForLongerThanAllowedTime() {
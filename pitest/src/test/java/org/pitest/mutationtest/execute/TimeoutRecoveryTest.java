@@ -0,0 +1,143 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+import org.pitest.functional.SideEffect;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+
+public class TimeoutRecoveryTest {
+
+  private static final long   GRACE   = 100;
+
+  private final TimeoutRecovery testee     = new TimeoutRecovery(GRACE);
+  private final SideEffect      exit       = mock(SideEffect.class);
+  private final AtomicBoolean   stop       = new AtomicBoolean(false);
+  private final Object          lock       = new Object();
+  private final ResultCollector rc         = mock(ResultCollector.class);
+  private final Description     test       = new Description("test");
+
+  @After
+  public void releaseStuckThreads() {
+    this.stop.set(true);
+  }
+
+  @Test
+  public void shouldReturnTrueWhenTestCompletesInTime() {
+    assertThat(this.testee.run(() -> { }, 1000, this.exit)).isTrue();
+    verify(this.exit, never()).apply();
+  }
+
+  @Test
+  public void shouldRecoverWhenTestRespondsToInterrupt() {
+    assertThat(this.testee.run(this::sleepUntilInterrupted, 50, this.exit)).isFalse();
+    verify(this.exit, never()).apply();
+  }
+
+  @Test
+  public void shouldAbandonIdleThreadThatIgnoresInterrupt() {
+    assertThat(this.testee.run(this::sleepIgnoringInterrupts, 50, this.exit)).isFalse();
+    verify(this.exit, never()).apply();
+  }
+
+  @Test
+  public void shouldRunLaterTestsAfterAbandoningThread() {
+    this.testee.run(this::sleepIgnoringInterrupts, 50, this.exit);
+    assertThat(this.testee.run(() -> { }, 1000, this.exit)).isTrue();
+  }
+
+  @Test
+  public void shouldApplySideEffectWhenStuckThreadIsBusy() {
+    assertThat(this.testee.run(this::spin, 50, this.exit)).isFalse();
+    verify(this.exit).apply();
+  }
+
+  @Test
+  public void shouldApplySideEffectWhenStuckThreadHoldsLock() {
+    assertThat(this.testee.run(() -> {
+      synchronized (this.lock) {
+        sleepIgnoringInterrupts();
+      }
+    }, 50, this.exit)).isFalse();
+    verify(this.exit).apply();
+  }
+
+  @Test
+  public void shouldAllowIdleTestToRunPastItsCpuTime() {
+    assertThat(this.testee.run(() -> sleep(200), 50, 5000, this.exit)).isTrue();
+    verify(this.exit, never()).apply();
+  }
+
+  @Test
+  public void shouldTimeOutIdleTestAtWallClockLimit() {
+    assertThat(this.testee.run(this::sleepUntilInterrupted, 50, 100, this.exit)).isFalse();
+  }
+
+  @Test
+  public void shouldPassOnResultsReportedBeforeATimeOut() {
+    final ResultCollector current = this.testee.collectorFor(this.rc);
+    this.testee.run(() -> current.notifyEnd(this.test), 1000, this.exit);
+    verify(this.rc).notifyEnd(this.test);
+  }
+
+  @Test
+  public void shouldIgnoreResultsReportedAfterATimeOut() {
+    final ResultCollector current = this.testee.collectorFor(this.rc);
+    this.testee.run(this::sleepIgnoringInterrupts, 50, this.exit);
+    current.notifyEnd(this.test);
+    current.notifyEnd(this.test, new AssertionError());
+    verify(this.rc, never()).notifyEnd(any(Description.class));
+    verify(this.rc, never()).notifyEnd(any(Description.class), any(Throwable.class));
+  }
+
+  @Test
+  public void shouldPassOnResultsToCollectorsObtainedAfterATimeOut() {
+    this.testee.run(this::sleepIgnoringInterrupts, 50, this.exit);
+    final ResultCollector current = this.testee.collectorFor(this.rc);
+    this.testee.run(() -> current.notifyEnd(this.test), 1000, this.exit);
+    verify(this.rc).notifyEnd(this.test);
+  }
+
+  private void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException e) {
+      // unexpected
+    }
+  }
+
+  private void sleepUntilInterrupted() {
+    try {
+      Thread.sleep(10000);
+    } catch (final InterruptedException e) {
+      // expected
+    }
+  }
+
+  private void sleepIgnoringInterrupts() {
+    while (!this.stop.get()) {
+      try {
+        Thread.sleep(10);
+      } catch (final InterruptedException e) {
+        // ignored
+      }
+    }
+  }
+
+  private void spin() {
+    long i = 0;
+    while (!this.stop.get()) {
+      i++;
+    }
+    assertThat(i).isPositive();
+  }
+
+}
@@ -0,0 +1,90 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class TimeoutWatchdogTest {
+
+  private final TimeoutWatchdog testee  = new TimeoutWatchdog(5, 64);
+  private final CountDownLatch  timeout = new CountDownLatch(1);
+  private final AtomicBoolean   stop    = new AtomicBoolean(false);
+
+  @After
+  public void releaseThreads() {
+    this.stop.set(true);
+  }
+
+  @Test
+  public void shouldNotTimeOutCancelledWatches() throws Exception {
+    this.testee.watch(Thread.currentThread(), 10, 10, this.timeout::countDown)
+        .cancel();
+    assertThat(this.timeout.await(100, TimeUnit.MILLISECONDS)).isFalse();
+  }
+
+  @Test
+  public void shouldTimeOutThreadThatUsesItsCpuTime() throws Exception {
+    final Thread busy = start(this::spin);
+    this.testee.watch(busy, 50, 60000, this.timeout::countDown);
+    assertThat(this.timeout.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void shouldNotTimeOutIdleThreadBeforeWallClockLimit() throws Exception {
+    final Thread idle = start(this::sleepUntilStopped);
+    this.testee.watch(idle, 10, 60000, this.timeout::countDown);
+    assertThat(this.timeout.await(200, TimeUnit.MILLISECONDS)).isFalse();
+  }
+
+  @Test
+  public void shouldTimeOutIdleThreadAtWallClockLimit() throws Exception {
+    final Thread idle = start(this::sleepUntilStopped);
+    final long start = System.nanoTime();
+    this.testee.watch(idle, 10, 100, this.timeout::countDown);
+    assertThat(this.timeout.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(System.nanoTime() - start)
+        .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
+  @Test
+  public void shouldTimeOutWatchesLongerThanOneTurnOfTheWheel() throws Exception {
+    final Thread idle = start(this::sleepUntilStopped);
+    final long start = System.nanoTime();
+    // 64 ticks of 5ms
+    this.testee.watch(idle, 10, 500, this.timeout::countDown);
+    assertThat(this.timeout.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(System.nanoTime() - start)
+        .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+  }
+
+  private Thread start(Runnable r) {
+    final Thread t = new Thread(r);
+    t.setDaemon(true);
+    t.start();
+    return t;
+  }
+
+  private void sleepUntilStopped() {
+    while (!this.stop.get()) {
+      try {
+        Thread.sleep(10);
+      } catch (final InterruptedException e) {
+        return;
+      }
+    }
+  }
+
+  private void spin() {
+    long i = 0;
+    while (!this.stop.get()) {
+      i++;
+    }
+    assertThat(i).isPositive();
+  }
+
+}
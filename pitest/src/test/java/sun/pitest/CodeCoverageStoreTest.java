@@ -17,9 +17,11 @@ package sun.pitest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -95,7 +97,7 @@ public class CodeCoverageStoreTest {
     final int classId = CodeCoverageStore.registerClass("foo");
 
     boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
-    ar[0] = true;
+    CodeCoverageStore.classHit(classId);
     ar[1] = true;
     CodeCoverageStore.reset();
 
@@ -103,13 +105,62 @@ public class CodeCoverageStoreTest {
     assertThat(actual).isEqualTo(Collections.emptyList());
   }
 
+  @Test
+  public void shouldVisitOnlyClassesHitSinceReset() {
+    final int hit = CodeCoverageStore.registerClass("foo");
+    final int notHit = CodeCoverageStore.registerClass("bar");
+    CodeCoverageStore.getOrRegisterClassProbes(hit, 2);
+    CodeCoverageStore.getOrRegisterClassProbes(notHit, 2);
+    CodeCoverageStore.classHit(hit);
+
+    final List<Integer> visited = new ArrayList<>();
+    CodeCoverageStore.visitHits((probes, classId) -> visited.add(classId));
+
+    assertThat(visited).containsExactly(hit);
+  }
+
+  @Test
+  public void shouldRecordClassHitsAgainAfterReset() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    CodeCoverageStore.classHit(classId);
+    CodeCoverageStore.classHit(classId);
+    ar[1] = true;
+    assertThat(CodeCoverageStore.getHits()).containsExactly(CodeCoverageStore.encode(classId, 1));
+
+    CodeCoverageStore.reset();
+    assertThat(ar[0]).isFalse();
+
+    CodeCoverageStore.classHit(classId);
+    ar[2] = true;
+    assertThat(CodeCoverageStore.getHits()).containsExactly(CodeCoverageStore.encode(classId, 2));
+  }
+
+  @Test
+  public void shouldRecordHitsFromThreadsGivenWorkAfterReset() throws Exception {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    final ExecutorService pool = Executors.newSingleThreadExecutor();
+    try {
+      // the pool thread sees probe 0 set by an earlier test
+      pool.submit(() -> hit(classId, ar, 1)).get();
+      CodeCoverageStore.reset();
+
+      pool.submit(() -> hit(classId, ar, 2)).get();
+    } finally {
+      pool.shutdown();
+    }
+
+    assertThat(CodeCoverageStore.getHits()).containsExactly(CodeCoverageStore.encode(classId, 2));
+  }
+
   @Test
   public void shouldBeSafeToAccessAcrossMultipleThreads()
           throws InterruptedException, ExecutionException {
 
     int classId = CodeCoverageStore.registerClass("foo");
     boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
-    ar[0] = true;
+    CodeCoverageStore.classHit(classId);
     ar[1] = true;
 
     final Callable<ConcurrentModificationException> read = makeReader();
@@ -125,6 +176,14 @@ public class CodeCoverageStoreTest {
 
   }
 
+  // what the instrumented code does each time a method runs
+  private static void hit(int classId, boolean[] ar, int probe) {
+    if (!ar[0]) {
+      CodeCoverageStore.classHit(classId);
+    }
+    ar[probe] = true;
+  }
+
   private Callable<ConcurrentModificationException> makeReader() {
     final Callable<ConcurrentModificationException> read = new Callable<ConcurrentModificationException>() {
       @Override